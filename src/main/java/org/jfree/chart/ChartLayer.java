@@ -0,0 +1,69 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * ChartLayer.java
+ * ---------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+/**
+ * The layers that a chart can be drawn in, listed from back to front.
+ * Drawing each layer separately (see
+ * {@link JFreeChart#draw(java.awt.Graphics2D, java.awt.geom.Rectangle2D,
+ * java.awt.geom.Point2D, ChartRenderingInfo, ChartLayer)}) and compositing
+ * the results in this order gives the same output as drawing the chart in a
+ * single pass, which allows a component to cache each layer and redraw only
+ * those that are affected by a change.
+ *
+ * @since 2.0.0
+ */
+public enum ChartLayer {
+
+    /** 
+     * The chart background, border, titles and legends, plus the plot 
+     * background. 
+     */
+    BACKGROUND,
+
+    /** The axes, tick bands, gridlines and background markers/annotations. */
+    AXES,
+
+    /** The data items drawn by the plot's renderers. */
+    DATA,
+
+    /** 
+     * Foreground annotations and markers, crosshairs and the plot outline. 
+     */
+    ANNOTATIONS
+
+}
@@ -44,7 +44,7 @@ import java.io.Serializable;
 import java.util.Objects;
 
 import org.jfree.chart.entity.EntityCollection;
-import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.GridEntityCollection;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.internal.SerialUtils;
@@ -81,12 +81,16 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
      */
     private EntityCollection entities;
 
+    /** A flag that indicates that the drawing has been cancelled. */
+    private transient volatile boolean cancelled;
+
     /**
      * Constructs a new ChartRenderingInfo structure that can be used to
-     * collect information about the dimensions of a rendered chart.
+     * collect information about the dimensions of a rendered chart.  The
+     * entities are collected in a {@link GridEntityCollection}.
      */
     public ChartRenderingInfo() {
-        this(new StandardEntityCollection());
+        this(new GridEntityCollection());
     }
 
     /**
@@ -167,6 +171,31 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
         return this.plotInfo;
     }
 
+    /**
+     * Returns {@code true} if the drawing that this object collects 
+     * information for has been cancelled (see {@link #cancel()}).
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Cancels the drawing that this object collects information for.  This
+     * method can be called from any thread, and the XY and category plots 
+     * then stop drawing data items (the rest of the chart is still drawn). 
+     * The flag is not reset by {@link #clear()}, so a cancelled instance 
+     * should not be used for another drawing.
+     *
+     * @since 2.0.0
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
     /**
      * Tests this object for equality with an arbitrary object.
      *
@@ -66,6 +66,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -79,6 +81,7 @@ import org.jfree.chart.block.LengthConstraintType;
 import org.jfree.chart.block.RectangleConstraint;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.JFreeChartEntity;
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
@@ -90,6 +93,7 @@ import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.PlotState;
 import org.jfree.chart.legend.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
@@ -1022,18 +1026,64 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
              ChartRenderingInfo info) {
+        draw(g2, chartArea, anchor, info, (PlotState) null);
+    }
 
+    /**
+     * Draws a single layer of the chart on a Java 2D graphics device (see
+     * {@link #draw(Map, Rectangle2D, Point2D, Map, PlotState)}).  Drawing 
+     * each layer in turn (in the order defined by {@link ChartLayer}) onto 
+     * the same device produces the same output as drawing the whole chart 
+     * at once, but the layout is calculated for every layer.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart should be drawn.
+     * @param anchor  the anchor point (in Java2D space) for the chart
+     *                ({@code null} permitted).
+     * @param info  records info about the drawing (null means collect no info).
+     * @param layer  the layer to draw ({@code null} for all layers).
+     * 
+     * @since 2.0.0
+     */
+    public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
+             ChartRenderingInfo info, ChartLayer layer) {
+        PlotState plotState = null;
+        if (layer != null) {
+            plotState = new PlotState();
+            plotState.setLayer(layer);
+        }
+        draw(g2, chartArea, anchor, info, plotState);
+    }
+
+    /**
+     * Draws the chart on a Java 2D graphics device, passing the specified
+     * state to the plot.  The state can select a single layer to draw (see 
+     * {@link PlotState#setLayer(ChartLayer)}) and, for the data layer, a 
+     * partial redraw (see {@link PlotState#setDataRedrawRange(Range)}).
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the area within which the chart should be drawn.
+     * @param anchor  the anchor point (in Java2D space) for the chart
+     *                ({@code null} permitted).
+     * @param info  records info about the drawing (null means collect no info).
+     * @param plotState  the state passed to the plot ({@code null} 
+     *                   permitted).
+     * 
+     * @since 2.0.0
+     */
+    public void draw(Graphics2D g2, Rectangle2D chartArea, Point2D anchor,
+             ChartRenderingInfo info, PlotState plotState) {
+
+        ChartLayer layer = (plotState != null) ? plotState.getLayer() : null;
+        if (layer != null) {
+            draw(Collections.singletonMap(layer, g2), chartArea, anchor,
+                    info != null ? Collections.singletonMap(layer, info) 
+                    : null, plotState);
+            return;
+        }
         notifyListeners(new ChartProgressEvent(this, this,
                 ChartProgressEventType.DRAWING_STARTED, 0));
-        
-        if (this.elementHinting) {
-            Map<String, String> m = new HashMap<>();
-            if (this.id != null) {
-                m.put("id", this.id);
-            }
-            m.put("ref", "JFREECHART_TOP_LEVEL");            
-            g2.setRenderingHint(ChartHints.KEY_BEGIN_ELEMENT, m);            
-        }
+        beginElement(g2);
         
         EntityCollection entities = null;
         // record the chart area, if info is requested...
@@ -1053,7 +1103,160 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         g2.addRenderingHints(this.renderingHints);
 
-        // draw the chart background...
+        drawChartBackground(g2, chartArea);
+        Rectangle2D plotArea = drawTitles(g2, chartArea, entities, true);
+
+        // draw the plot (axes and data visualisation)
+        PlotRenderingInfo plotInfo = null;
+        if (info != null) {
+            plotInfo = info.getPlotInfo();
+        }
+        this.plot.draw(g2, plotArea, anchor, plotState, plotInfo);
+        g2.setClip(savedClip);
+        endElement(g2);
+
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEventType.DRAWING_FINISHED, 100));
+    }
+
+    /**
+     * Draws some or all of the layers of the chart, each on its own Java 2D 
+     * graphics device.  The chart is laid out once for all the layers (the 
+     * titles are drawn only in the {@link ChartLayer#BACKGROUND} layer, and 
+     * the axes only in the {@link ChartLayer#AXES} layer), and a single pair
+     * of {@code DRAWING_STARTED} and {@code DRAWING_FINISHED} progress 
+     * events is sent.  If the plot does not support layered drawing (see 
+     * {@link Plot#isLayeredDrawingSupported()}) it is drawn in full in the
+     * {@link ChartLayer#DATA} layer.
+     * <p>
+     * The entities are added to the rendering info for the layer that draws
+     * them (the chart and title entities and the plot entity belong to the 
+     * background layer), so that the entity collections for all the layers,
+     * taken in layer order, contain the same entities as a single pass.
+     *
+     * @param layers  the graphics device for each layer to draw 
+     *     ({@code null} not permitted).
+     * @param chartArea  the area within which the chart should be drawn
+     *     ({@code null} not permitted).
+     * @param anchor  the anchor point (in Java2D space) for the chart
+     *                ({@code null} permitted).
+     * @param info  the rendering info for each layer ({@code null} 
+     *     permitted, and layers without rendering info collect no info).
+     * @param plotState  the state passed to the plot, with the layer set to
+     *     each layer in turn ({@code null} permitted).
+     * 
+     * @since 2.0.0
+     */
+    public void draw(Map<ChartLayer, Graphics2D> layers, Rectangle2D chartArea,
+            Point2D anchor, Map<ChartLayer, ChartRenderingInfo> info, 
+            PlotState plotState) {
+        Args.nullNotPermitted(layers, "layers");
+        Args.nullNotPermitted(chartArea, "chartArea");
+        if (layers.isEmpty()) {
+            return;
+        }
+        PlotState state = (plotState != null) ? plotState : new PlotState();
+        ChartLayer savedLayer = state.getLayer();
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEventType.DRAWING_STARTED, 0));
+
+        Map<ChartLayer, Shape> savedClips = new EnumMap<>(ChartLayer.class);
+        for (Map.Entry<ChartLayer, Graphics2D> entry : layers.entrySet()) {
+            Graphics2D g2 = entry.getValue();
+            beginElement(g2);
+            savedClips.put(entry.getKey(), g2.getClip());
+            g2.clip(chartArea);
+            g2.addRenderingHints(this.renderingHints);
+            ChartRenderingInfo layerInfo = (info != null) 
+                    ? info.get(entry.getKey()) : null;
+            if (layerInfo != null) {
+                layerInfo.clear();
+                layerInfo.setChartArea(chartArea);
+            }
+        }
+
+        // the titles are laid out without drawing them if the background
+        // layer is not drawn
+        Graphics2D background = layers.get(ChartLayer.BACKGROUND);
+        ChartRenderingInfo backgroundInfo = (info != null) 
+                ? info.get(ChartLayer.BACKGROUND) : null;
+        EntityCollection entities = (backgroundInfo != null) 
+                ? backgroundInfo.getEntityCollection() : null;
+        if (background != null) {
+            if (entities != null) {
+                entities.add(new JFreeChartEntity(
+                        (Rectangle2D) chartArea.clone(), this));
+            }
+            drawChartBackground(background, chartArea);
+        }
+        Rectangle2D plotArea = drawTitles(background != null ? background 
+                : layers.values().iterator().next(), chartArea, entities, 
+                background != null);
+
+        // the plot stores the data area in the state for the first layer,
+        // and reuses it for the others
+        boolean layered = this.plot.isLayeredDrawingSupported();
+        state.setDataArea(null);
+        for (ChartLayer layer : ChartLayer.values()) {
+            Graphics2D g2 = layers.get(layer);
+            if (g2 == null || (!layered && layer != ChartLayer.DATA)) {
+                continue;
+            }
+            ChartRenderingInfo layerInfo = (info != null) ? info.get(layer)
+                    : null;
+            state.setLayer(layer);
+            this.plot.draw(g2, (Rectangle2D) plotArea.clone(), anchor, 
+                    layered ? state : null, 
+                    layerInfo != null ? layerInfo.getPlotInfo() : null);
+        }
+        state.setLayer(savedLayer);
+
+        for (Map.Entry<ChartLayer, Graphics2D> entry : layers.entrySet()) {
+            Graphics2D g2 = entry.getValue();
+            g2.setClip(savedClips.get(entry.getKey()));
+            endElement(g2);
+        }
+        notifyListeners(new ChartProgressEvent(this, this,
+                ChartProgressEventType.DRAWING_FINISHED, 100));
+    }
+
+    /**
+     * Adds the {@code KEY_BEGIN_ELEMENT} hint for the chart to the graphics
+     * target, if element hinting is enabled.
+     *
+     * @param g2  the graphics target.
+     */
+    private void beginElement(Graphics2D g2) {
+        if (this.elementHinting) {
+            Map<String, String> m = new HashMap<>();
+            if (this.id != null) {
+                m.put("id", this.id);
+            }
+            m.put("ref", "JFREECHART_TOP_LEVEL");            
+            g2.setRenderingHint(ChartHints.KEY_BEGIN_ELEMENT, m);            
+        }
+    }
+
+    /**
+     * Adds the {@code KEY_END_ELEMENT} hint to the graphics target, if 
+     * element hinting is enabled.
+     *
+     * @param g2  the graphics target.
+     */
+    private void endElement(Graphics2D g2) {
+        if (this.elementHinting) {         
+            g2.setRenderingHint(ChartHints.KEY_END_ELEMENT, Boolean.TRUE);            
+        }
+    }
+
+    /**
+     * Draws the chart background (the background paint and image, and the
+     * border).
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the chart area.
+     */
+    private void drawChartBackground(Graphics2D g2, Rectangle2D chartArea) {
         if (this.backgroundPaint != null) {
             g2.setPaint(this.backgroundPaint);
             g2.fill(chartArea);
@@ -1086,45 +1289,46 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 g2.draw(borderArea);
             }
         }
+    }
 
-        // draw the title and subtitles...
+    /**
+     * Draws (or, if {@code draw} is {@code false}, only arranges) the title
+     * and subtitles, and returns the area that remains for the plot.
+     *
+     * @param g2  the graphics device.
+     * @param chartArea  the chart area.
+     * @param entities  the collection to add the title entities to 
+     *     ({@code null} permitted).
+     * @param draw  draw the titles?
+     *
+     * @return The plot area.
+     */
+    private Rectangle2D drawTitles(Graphics2D g2, Rectangle2D chartArea,
+            EntityCollection entities, boolean draw) {
         Rectangle2D nonTitleArea = new Rectangle2D.Double();
         nonTitleArea.setRect(chartArea);
         this.padding.trim(nonTitleArea);
 
-        if (this.title != null && this.title.isVisible()) {
-            EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
+        List<Title> titles = new ArrayList<>();
+        if (this.title != null) {
+            titles.add(this.title);
+        }
+        titles.addAll(this.subtitles);
+        for (Title t : titles) {
+            if (!t.isVisible()) {
+                continue;
+            }
+            if (!draw) {
+                arrangeTitle(t, g2, nonTitleArea);
+                continue;
+            }
+            EntityCollection e = drawTitle(t, g2, nonTitleArea,
                     (entities != null));
             if (e != null && entities != null) {
                 entities.addAll(e);
             }
         }
-
-        for (Title currentTitle : this.subtitles) {
-            if (currentTitle.isVisible()) {
-                EntityCollection e = drawTitle(currentTitle, g2, nonTitleArea,
-                        (entities != null));
-                if (e != null && entities != null) {
-                    entities.addAll(e);
-                }
-            }
-        }
-
-        Rectangle2D plotArea = nonTitleArea;
-
-        // draw the plot (axes and data visualisation)
-        PlotRenderingInfo plotInfo = null;
-        if (info != null) {
-            plotInfo = info.getPlotInfo();
-        }
-        this.plot.draw(g2, plotArea, anchor, null, plotInfo);
-        g2.setClip(savedClip);
-        if (this.elementHinting) {         
-            g2.setRenderingHint(ChartHints.KEY_END_ELEMENT, Boolean.TRUE);            
-        }
-
-        notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEventType.DRAWING_FINISHED, 100));
+        return nonTitleArea;
     }
 
     /**
@@ -1192,6 +1396,35 @@ public class JFreeChart implements Drawable, TitleChangeListener,
     protected EntityCollection drawTitle(Title t, Graphics2D g2,
                                          Rectangle2D area, boolean entities) {
 
+        Rectangle2D titleArea = arrangeTitle(t, g2, area);
+        if (titleArea == null) {
+            return null;
+        }
+        BlockParams p = new BlockParams();
+        p.setGenerateEntities(entities);
+        Object retValue = t.draw(g2, titleArea, p);
+        EntityCollection result = null;
+        if (retValue instanceof EntityBlockResult) {
+            EntityBlockResult ebr = (EntityBlockResult) retValue;
+            result = ebr.getEntityCollection();
+        }
+        return result;
+    }
+
+    /**
+     * Arranges a title at the top, bottom, left or right of the specified
+     * area, and updates the area to reflect the amount of space used by the
+     * title.
+     *
+     * @param t  the title ({@code null} not permitted).
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param area  the chart area, excluding any existing titles
+     *              ({@code null} not permitted).
+     *
+     * @return The area for the title, or {@code null} if there is no space.
+     */
+    private Rectangle2D arrangeTitle(Title t, Graphics2D g2, 
+            Rectangle2D area) {
         Args.nullNotPermitted(t, "t");
         Args.nullNotPermitted(area, "area");
         Rectangle2D titleArea;
@@ -1207,15 +1440,11 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         RectangleConstraint constraint = new RectangleConstraint(ww,
                 new Range(0.0, ww), LengthConstraintType.RANGE, hh,
                 new Range(0.0, hh), LengthConstraintType.RANGE);
-        Object retValue = null;
-        BlockParams p = new BlockParams();
-        p.setGenerateEntities(entities);
         switch (position) {
             case TOP: {
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         t.getHorizontalAlignment(), VerticalAlignment.TOP);
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX(), Math.min(area.getY() + size.height,
                         area.getMaxY()), area.getWidth(), Math.max(area.getHeight()
                         - size.height, 0));
@@ -1225,7 +1454,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX(), area.getY(), area.getWidth(),
                         area.getHeight() - size.height);
                 break;
@@ -1234,7 +1462,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         HorizontalAlignment.RIGHT, t.getVerticalAlignment());
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX(), area.getY(), area.getWidth()
                         - size.width, area.getHeight());
                 break;
@@ -1243,7 +1470,6 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 Size2D size = t.arrange(g2, constraint);
                 titleArea = createAlignedRectangle2D(size, area,
                         HorizontalAlignment.LEFT, t.getVerticalAlignment());
-                retValue = t.draw(g2, titleArea, p);
                 area.setRect(area.getX() + size.width, area.getY(), area.getWidth()
                         - size.width, area.getHeight());
                 break;
@@ -1252,12 +1478,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 throw new RuntimeException("Unrecognised title position.");
             }
         }
-        EntityCollection result = null;
-        if (retValue instanceof EntityBlockResult) {
-            EntityBlockResult ebr = (EntityBlockResult) retValue;
-            result = ebr.getEntityCollection();
-        }
-        return result;
+        return titleArea;
     }
 
     /**
@@ -1401,6 +1622,10 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     protected void notifyListeners(ChartChangeEvent event) {
         if (this.notify) {
+            if (ChangeBatch.defer(this, ChartChangeListener.class, event,
+                    this::notifyListeners)) {
+                return;
+            }
             Object[] listeners = this.changeListeners.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
                 if (listeners[i] == ChartChangeListener.class) {
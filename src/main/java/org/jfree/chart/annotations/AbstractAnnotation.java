@@ -48,6 +48,7 @@ import javax.swing.event.EventListenerList;
 
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.AnnotationChangeListener;
+import org.jfree.chart.event.ChangeBatch;
 
 /**
  * An abstract implementation of the {@link Annotation} interface, containing a
@@ -137,6 +138,10 @@ public abstract class AbstractAnnotation implements Annotation, Cloneable,
      */
     protected void notifyListeners(AnnotationChangeEvent event) {
 
+        if (ChangeBatch.defer(this, AnnotationChangeListener.class, event,
+                this::notifyListeners)) {
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == AnnotationChangeListener.class) {
@@ -42,6 +42,8 @@ import java.io.Serializable;
 import java.util.Objects;
 
 import org.jfree.chart.internal.Args;
+import org.jfree.chart.labels.CategoryToolTipGenerator;
+import org.jfree.chart.urls.CategoryURLGenerator;
 
 import org.jfree.data.category.CategoryDataset;
 
@@ -63,6 +65,18 @@ public class CategoryItemEntity<R extends Comparable<R>, C extends Comparable<C>
     /** The column key. */
     private C columnKey;
 
+    /**
+     * The generator for the tool tip text, if the text has not been
+     * generated yet.
+     */
+    private transient CategoryToolTipGenerator toolTipGenerator;
+
+    /**
+     * The generator for the URL text, if the text has not been generated
+     * yet.
+     */
+    private transient CategoryURLGenerator urlGenerator;
+
     /**
      * Creates a new entity instance for an item in the specified dataset.
      *
@@ -151,6 +165,89 @@ public class CategoryItemEntity<R extends Comparable<R>, C extends Comparable<C>
         this.columnKey = columnKey;
     }
 
+    /**
+     * Sets the generators for the tool tip and URL text, so that the text is
+     * generated from the dataset when it is first requested rather than when
+     * the entity is created.
+     *
+     * @param toolTipGenerator  the tool tip generator ({@code null}
+     *     permitted).
+     * @param urlGenerator  the URL generator ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setTextGenerators(CategoryToolTipGenerator toolTipGenerator,
+            CategoryURLGenerator urlGenerator) {
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+    }
+
+    /**
+     * Returns the tool tip text, generating it first if a tool tip generator
+     * was set with {@link #setTextGenerators}.
+     *
+     * @return The text (possibly {@code null}).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            CategoryToolTipGenerator generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            int row = this.dataset.getRowIndex(this.rowKey);
+            int column = this.dataset.getColumnIndex(this.columnKey);
+            if (row >= 0 && column >= 0) {
+                super.setToolTipText(generator.generateToolTip(this.dataset,
+                        row, column));
+            }
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any tool tip generator set with
+     * {@link #setTextGenerators}).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text, generating it first if a URL generator was set
+     * with {@link #setTextGenerators}.
+     *
+     * @return The text (possibly {@code null}).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            CategoryURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            int row = this.dataset.getRowIndex(this.rowKey);
+            int column = this.dataset.getColumnIndex(this.columnKey);
+            if (row >= 0 && column >= 0) {
+                super.setURLText(generator.generateURL(this.dataset, row,
+                        column));
+            }
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Sets the URL text (replacing any URL generator set with
+     * {@link #setTextGenerators}).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
     /**
      * Returns a string representing this object (useful for debugging
      * purposes).
@@ -276,20 +276,20 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
         StringBuilder tag = new StringBuilder();
-        boolean hasURL = (this.urlText == null ? false
-                : !this.urlText.equals(""));
-        boolean hasToolTip = (this.toolTipText == null ? false
-                : !this.toolTipText.equals(""));
+        String toolTip = getToolTipText();
+        String url = getURLText();
+        boolean hasURL = (url == null ? false : !url.equals(""));
+        boolean hasToolTip = (toolTip == null ? false : !toolTip.equals(""));
         if (hasURL || hasToolTip) {
             tag.append("<area shape=\"").append(getShapeType()).append("\"")
                     .append(" coords=\"").append(getShapeCoords()).append("\"");
             if (hasToolTip) {
                 tag.append(toolTipTagFragmentGenerator.generateToolTipFragment(
-                        this.toolTipText));
+                        toolTip));
             }
             if (hasURL) {
                 tag.append(urlTagFragmentGenerator.generateURLFragment(
-                        this.urlText));
+                        url));
             }
             else {
                 tag.append(" nohref=\"nohref\"");
@@ -314,7 +314,7 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     public String toString() {
         StringBuilder sb = new StringBuilder("ChartEntity: ");
         sb.append("tooltip = ");
-        sb.append(this.toolTipText);
+        sb.append(getToolTipText());
         return sb.toString();
     }
 
@@ -337,10 +337,10 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
         if (!this.area.equals(that.area)) {
             return false;
         }
-        if (!Objects.equals(this.toolTipText, that.toolTipText)) {
+        if (!Objects.equals(getToolTipText(), that.getToolTipText())) {
             return false;
         }
-        if (!Objects.equals(this.urlText, that.urlText)) {
+        if (!Objects.equals(getURLText(), that.getURLText())) {
             return false;
         }
         return true;
@@ -354,8 +354,8 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
     @Override
     public int hashCode() {
         int result = 37;
-        result = HashUtils.hashCode(result, this.toolTipText);
-        result = HashUtils.hashCode(result, this.urlText);
+        result = HashUtils.hashCode(result, getToolTipText());
+        result = HashUtils.hashCode(result, getURLText());
         return result;
     }
 
@@ -380,6 +380,9 @@ public class ChartEntity implements Cloneable, PublicCloneable, Serializable {
      * @throws IOException  if there is an I/O error.
      */
     private void writeObject(ObjectOutputStream stream) throws IOException {
+        // generate any text that a subclass creates on first access
+        this.toolTipText = getToolTipText();
+        this.urlText = getURLText();
         stream.defaultWriteObject();
         SerialUtils.writeShape(this.area, stream);
      }
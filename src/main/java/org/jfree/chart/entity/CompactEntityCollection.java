@@ -0,0 +1,482 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * CompactEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Ellipse2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An entity collection that stores the entities for data items with a
+ * circular hotspot (the default hotspot used by the XY renderers when no
+ * shape is drawn for an item) as primitive values: the series and item
+ * indices plus the centre and radius of the hotspot.  An
+ * {@link XYItemEntity} is only created for such an item when it is
+ * requested via {@link #getEntity(int)}, {@link #getEntity(double, double)},
+ * {@link #getEntities()} or {@link #iterator()}, and is not retained by the
+ * collection (so repeated requests return equal but distinct entities).
+ * The tool tip and URL text for these entities is generated when it is
+ * first requested.  Other entities are added to the collection in the
+ * usual way, and the order in which all entities were added is preserved.
+ * <p>
+ * To use this collection, pass it to the
+ * {@link org.jfree.chart.ChartRenderingInfo} constructor.
+ *
+ * @since 2.0.0
+ */
+public class CompactEntityCollection implements EntityCollection,
+        Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The number of entities in the collection. */
+    private transient int count;
+
+    /**
+     * For each entity, the index of its source in {@code sources} for a
+     * compact item entity, or {@code -1 - i} for the entity at index
+     * {@code i} in {@code others}.
+     */
+    private transient int[] refs;
+
+    /** The series index for each compact item entity. */
+    private transient int[] series;
+
+    /** The item index for each compact item entity. */
+    private transient int[] items;
+
+    /**
+     * The hotspot centre and radius (x, y, r) for each compact item entity.
+     */
+    private transient double[] hotspots;
+
+    /** The dataset and generators shared by the compact item entities. */
+    private transient List<Source> sources;
+
+    /** The entities that are not stored in compact form. */
+    private transient List<ChartEntity> others;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public CompactEntityCollection() {
+        init(16);
+    }
+
+    /**
+     * Initialises the storage for the collection.
+     *
+     * @param capacity  the initial capacity.
+     */
+    private void init(int capacity) {
+        this.count = 0;
+        this.refs = new int[capacity];
+        this.series = new int[capacity];
+        this.items = new int[capacity];
+        this.hotspots = new double[3 * capacity];
+        this.sources = new ArrayList<>();
+        this.others = new ArrayList<>();
+    }
+
+    /**
+     * Returns the number of entities in the collection.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns a chart entity from the collection.  For an item added with
+     * {@link #addXYItem(XYDataset, int, int, double, double, double,
+     * XYToolTipGenerator, XYURLGenerator)} a new entity is created each
+     * time this method is called.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        Args.requireInRange(index, "index", 0, this.count - 1);
+        int ref = this.refs[index];
+        if (ref < 0) {
+            return this.others.get(-1 - ref);
+        }
+        Source source = this.sources.get(ref);
+        double r = this.hotspots[3 * index + 2];
+        double w = r * 2;
+        XYItemEntity entity = new XYItemEntity(new Ellipse2D.Double(
+                this.hotspots[3 * index] - r, this.hotspots[3 * index + 1] - r,
+                w, w), source.dataset, this.series[index], this.items[index],
+                null, null);
+        entity.setTextGenerators(source.toolTipGenerator, source.urlGenerator);
+        return entity;
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        this.count = 0;
+        this.sources.clear();
+        this.others.clear();
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        Args.nullNotPermitted(entity, "entity");
+        this.others.add(entity);
+        ensureCapacity(this.count + 1);
+        this.refs[this.count++] = -this.others.size();
+    }
+
+    /**
+     * Adds an entity for a data item with a circular hotspot to the
+     * collection, without creating an entity object.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param x  the x-coordinate of the hotspot centre (in Java2D space).
+     * @param y  the y-coordinate of the hotspot centre (in Java2D space).
+     * @param radius  the hotspot radius.
+     * @param toolTipGenerator  the tool tip generator ({@code null}
+     *     permitted).
+     * @param urlGenerator  the URL generator ({@code null} permitted).
+     */
+    public void addXYItem(XYDataset dataset, int series, int item, double x,
+            double y, double radius, XYToolTipGenerator toolTipGenerator,
+            XYURLGenerator urlGenerator) {
+        Args.nullNotPermitted(dataset, "dataset");
+        ensureCapacity(this.count + 1);
+        int i = this.count++;
+        this.refs[i] = sourceIndex(dataset, toolTipGenerator, urlGenerator);
+        this.series[i] = series;
+        this.items[i] = item;
+        this.hotspots[3 * i] = x;
+        this.hotspots[3 * i + 1] = y;
+        this.hotspots[3 * i + 2] = radius;
+    }
+
+    /**
+     * Returns the index of the source for the specified dataset and
+     * generators, adding a new source if necessary.  Items are normally
+     * added in runs that share a source, so only the most recently added
+     * source is checked.
+     *
+     * @param dataset  the dataset.
+     * @param toolTipGenerator  the tool tip generator.
+     * @param urlGenerator  the URL generator.
+     *
+     * @return The source index.
+     */
+    private int sourceIndex(XYDataset dataset,
+            XYToolTipGenerator toolTipGenerator, XYURLGenerator urlGenerator) {
+        int last = this.sources.size() - 1;
+        if (last >= 0) {
+            Source source = this.sources.get(last);
+            if (source.dataset == dataset
+                    && source.toolTipGenerator == toolTipGenerator
+                    && source.urlGenerator == urlGenerator) {
+                return last;
+            }
+        }
+        this.sources.add(new Source(dataset, toolTipGenerator, urlGenerator));
+        return last + 1;
+    }
+
+    /**
+     * Ensures that the arrays can hold the specified number of entities.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.refs.length) {
+            int n = Math.max(capacity, 2 * this.refs.length);
+            this.refs = Arrays.copyOf(this.refs, n);
+            this.series = Arrays.copyOf(this.series, n);
+            this.items = Arrays.copyOf(this.items, n);
+            this.hotspots = Arrays.copyOf(this.hotspots, 3 * n);
+        }
+    }
+
+    /**
+     * Adds all the entities from the specified collection.  Compact item
+     * entities in another {@code CompactEntityCollection} are copied
+     * without being created.
+     *
+     * @param collection  the collection of entities ({@code null} not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        Args.nullNotPermitted(collection, "collection");
+        if (!(collection instanceof CompactEntityCollection)) {
+            for (ChartEntity entity : collection.getEntities()) {
+                add(entity);
+            }
+            return;
+        }
+        CompactEntityCollection that = (CompactEntityCollection) collection;
+        int n = that.count;
+        ensureCapacity(this.count + n);
+        for (int i = 0; i < n; i++) {
+            int ref = that.refs[i];
+            if (ref < 0) {
+                add(that.others.get(-1 - ref));
+            } else {
+                Source source = that.sources.get(ref);
+                addXYItem(source.dataset, that.series[i], that.items[i],
+                        that.hotspots[3 * i], that.hotspots[3 * i + 1],
+                        that.hotspots[3 * i + 2], source.toolTipGenerator,
+                        source.urlGenerator);
+            }
+        }
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or {@code null} if there is no such entity.
+     * The hotspots of the compact item entities are tested without creating
+     * the entities.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        for (int i = this.count - 1; i >= 0; i--) {
+            int ref = this.refs[i];
+            if (ref < 0) {
+                ChartEntity entity = this.others.get(-1 - ref);
+                if (entity.getArea().contains(x, y)) {
+                    return entity;
+                }
+            } else if (hotspotContains(i, x, y)) {
+                return getEntity(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns {@code true} if the hotspot of a compact item entity contains
+     * the specified point.  The calculation is the same as for
+     * {@link Ellipse2D#contains(double, double)}, so the result matches the
+     * area of the entity that would be created.
+     *
+     * @param index  the entity index.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean hotspotContains(int index, double x, double y) {
+        double r = this.hotspots[3 * index + 2];
+        double w = r * 2;
+        if (w <= 0.0) {
+            return false;
+        }
+        double normx = (x - (this.hotspots[3 * index] - r)) / w - 0.5;
+        double normy = (y - (this.hotspots[3 * index + 1] - r)) / w - 0.5;
+        return (normx * normx + normy * normy) < 0.25;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.  The compact item
+     * entities are created as they are accessed.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        return new AbstractList<ChartEntity>() {
+            @Override
+            public ChartEntity get(int index) {
+                return getEntity(index);
+            }
+
+            @Override
+            public int size() {
+                return getEntityCount();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.  The compact
+     * item entities are created as they are accessed.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof CompactEntityCollection)) {
+            return false;
+        }
+        CompactEntityCollection that = (CompactEntityCollection) obj;
+        return getEntities().equals(that.getEntities());
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 29 * hash + this.count;
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        CompactEntityCollection clone
+                = (CompactEntityCollection) super.clone();
+        clone.refs = this.refs.clone();
+        clone.series = this.series.clone();
+        clone.items = this.items.clone();
+        clone.hotspots = this.hotspots.clone();
+        clone.sources = new ArrayList<>(this.sources);
+        clone.others = new ArrayList<>(this.others.size());
+        for (ChartEntity entity : this.others) {
+            clone.others.add((ChartEntity) entity.clone());
+        }
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.  The entities are written as entity
+     * objects (the datasets are not serialized by the item entities).
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        stream.writeInt(this.count);
+        for (int i = 0; i < this.count; i++) {
+            stream.writeObject(getEntity(i));
+        }
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int n = stream.readInt();
+        init(Math.max(n, 16));
+        for (int i = 0; i < n; i++) {
+            add((ChartEntity) stream.readObject());
+        }
+    }
+
+    /**
+     * The dataset and generators for a run of compact item entities.
+     */
+    private static class Source {
+
+        /** The dataset. */
+        final XYDataset dataset;
+
+        /** The tool tip generator. */
+        final XYToolTipGenerator toolTipGenerator;
+
+        /** The URL generator. */
+        final XYURLGenerator urlGenerator;
+
+        Source(XYDataset dataset, XYToolTipGenerator toolTipGenerator,
+                XYURLGenerator urlGenerator) {
+            this.dataset = dataset;
+            this.toolTipGenerator = toolTipGenerator;
+            this.urlGenerator = urlGenerator;
+        }
+    }
+
+}
@@ -0,0 +1,405 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * GridEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+/**
+ * An entity collection that keeps a uniform grid index of the entity
+ * bounds, so that {@link #getEntity(double, double)} only has to test the
+ * entities that overlap the grid cell containing the point, rather than
+ * every entity in the collection.  The result is the same as for a
+ * {@link StandardEntityCollection} (the last entity added with an area
+ * that contains the point), and the area of an entity is only tested
+ * after its bounding box is found to contain the point.
+ * <p>
+ * The index is built when it is first required after entities are added
+ * (typically on the first mouse event after a chart is drawn), and entities
+ * added after that are added to the existing index where possible.  The
+ * index assumes that the area of an entity is not modified after the
+ * entity is added to the collection.
+ *
+ * @since 2.0.0
+ */
+public class GridEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Collections with fewer entities than this are searched without an
+     * index.
+     */
+    private static final int MIN_INDEXED_COUNT = 64;
+
+    /** The maximum number of cells in the grid. */
+    private static final int MAX_CELL_COUNT = 1 << 18;
+
+    /**
+     * Entities that overlap more than this number of cells (for example,
+     * the plot entity) are kept in a separate list rather than in the
+     * cells.
+     */
+    private static final int MAX_ENTITY_CELLS = 64;
+
+    /** The number of entities in the index (0 when there is no index). */
+    private transient int indexedCount;
+
+    /** The bounds (x0, y0, x1, y1) of each indexed entity. */
+    private transient double[] boxes;
+
+    /** The minimum x-coordinate covered by the grid. */
+    private transient double minX;
+
+    /** The minimum y-coordinate covered by the grid. */
+    private transient double minY;
+
+    /** The maximum x-coordinate covered by the grid. */
+    private transient double maxX;
+
+    /** The maximum y-coordinate covered by the grid. */
+    private transient double maxY;
+
+    /** The cell width. */
+    private transient double cellWidth;
+
+    /** The cell height. */
+    private transient double cellHeight;
+
+    /** The number of columns in the grid. */
+    private transient int columns;
+
+    /** The number of rows in the grid. */
+    private transient int rows;
+
+    /**
+     * The indices of the entities that overlap each cell, in ascending
+     * order ({@code null} when there is no index).
+     */
+    private transient int[][] cells;
+
+    /** The number of entities in each cell. */
+    private transient int[] cellCounts;
+
+    /** The indices of the entities that overlap many cells. */
+    private transient int[] large;
+
+    /** The number of entities in {@code large}. */
+    private transient int largeCount;
+
+    /**
+     * Constructs a new entity collection (initially empty).
+     */
+    public GridEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        discardIndex();
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or {@code null} if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        int count = getEntityCount();
+        if (count < MIN_INDEXED_COUNT) {
+            return super.getEntity(x, y);
+        }
+        updateIndex(count);
+        int result = -1;
+        for (int i = this.largeCount - 1; i >= 0; i--) {
+            if (hit(this.large[i], x, y)) {
+                result = this.large[i];
+                break;
+            }
+        }
+        if (x >= this.minX && x <= this.maxX && y >= this.minY
+                && y <= this.maxY) {
+            int cell = row(y) * this.columns + column(x);
+            int[] entities = this.cells[cell];
+            for (int i = this.cellCounts[cell] - 1;
+                    i >= 0 && entities[i] > result; i--) {
+                if (hit(entities[i], x, y)) {
+                    result = entities[i];
+                    break;
+                }
+            }
+        }
+        return result >= 0 ? getEntity(result) : null;
+    }
+
+    /**
+     * Returns {@code true} if the area of an entity contains the specified
+     * point, testing the bounding box first.
+     *
+     * @param entity  the entity index.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean hit(int entity, double x, double y) {
+        int i = 4 * entity;
+        return x >= this.boxes[i] && y >= this.boxes[i + 1]
+                && x <= this.boxes[i + 2] && y <= this.boxes[i + 3]
+                && getEntity(entity).getArea().contains(x, y);
+    }
+
+    /**
+     * Brings the index up to date, either by adding the entities added since
+     * the last update or by rebuilding the index.
+     *
+     * @param count  the current entity count.
+     */
+    private void updateIndex(int count) {
+        if (this.cells != null && count == this.indexedCount) {
+            return;
+        }
+        if (this.cells == null || count < this.indexedCount
+                || count > 2 * this.indexedCount) {
+            buildIndex(count);
+            return;
+        }
+        if (this.boxes.length < 4 * count) {
+            this.boxes = Arrays.copyOf(this.boxes, 8 * count);
+        }
+        for (int e = this.indexedCount; e < count; e++) {
+            storeBox(e);
+            int i = 4 * e;
+            if (isFinite(e) && (this.boxes[i] < this.minX
+                    || this.boxes[i + 1] < this.minY
+                    || this.boxes[i + 2] > this.maxX
+                    || this.boxes[i + 3] > this.maxY)) {
+                buildIndex(count);
+                return;
+            }
+            insert(e);
+        }
+        this.indexedCount = count;
+    }
+
+    /**
+     * Builds the index for the specified number of entities, sizing the grid
+     * so that there are about four entities per cell.
+     *
+     * @param count  the entity count.
+     */
+    private void buildIndex(int count) {
+        this.boxes = new double[4 * count];
+        this.minX = Double.POSITIVE_INFINITY;
+        this.minY = Double.POSITIVE_INFINITY;
+        this.maxX = Double.NEGATIVE_INFINITY;
+        this.maxY = Double.NEGATIVE_INFINITY;
+        for (int e = 0; e < count; e++) {
+            storeBox(e);
+            int i = 4 * e;
+            if (isFinite(e) && this.boxes[i] <= this.boxes[i + 2]
+                    && this.boxes[i + 1] <= this.boxes[i + 3]) {
+                this.minX = Math.min(this.minX, this.boxes[i]);
+                this.minY = Math.min(this.minY, this.boxes[i + 1]);
+                this.maxX = Math.max(this.maxX, this.boxes[i + 2]);
+                this.maxY = Math.max(this.maxY, this.boxes[i + 3]);
+            }
+        }
+        double w = this.maxX - this.minX;
+        double h = this.maxY - this.minY;
+        int target = Math.max(1, Math.min(count / 4, MAX_CELL_COUNT));
+        double size = Math.sqrt(w * h / target);
+        if (!(size > 0.0)) {
+            size = Math.max(w, h) / target;
+        }
+        if (size > 0.0 && size < Double.POSITIVE_INFINITY) {
+            // a NaN ratio casts to 0, so clamp each count before dividing
+            this.columns = Math.max(1, (int) Math.min(target,
+                    Math.ceil(w / size)));
+            this.rows = Math.max(1, (int) Math.min(target / this.columns,
+                    Math.ceil(h / size)));
+        } else {
+            this.columns = 1;
+            this.rows = 1;
+        }
+        this.cellWidth = w > 0.0 ? w / this.columns : 1.0;
+        this.cellHeight = h > 0.0 ? h / this.rows : 1.0;
+        this.cells = new int[this.columns * this.rows][];
+        this.cellCounts = new int[this.cells.length];
+        this.large = new int[16];
+        this.largeCount = 0;
+        for (int e = 0; e < count; e++) {
+            insert(e);
+        }
+        this.indexedCount = count;
+    }
+
+    /**
+     * Records the bounding box for an entity.
+     *
+     * @param entity  the entity index.
+     */
+    private void storeBox(int entity) {
+        Rectangle2D r = getEntity(entity).getArea().getBounds2D();
+        int i = 4 * entity;
+        this.boxes[i] = r.getMinX();
+        this.boxes[i + 1] = r.getMinY();
+        this.boxes[i + 2] = r.getMaxX();
+        this.boxes[i + 3] = r.getMaxY();
+    }
+
+    /**
+     * Returns {@code true} if all four coordinates of an entity's bounding
+     * box are finite.
+     *
+     * @param entity  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isFinite(int entity) {
+        int i = 4 * entity;
+        return Double.isFinite(this.boxes[i])
+                && Double.isFinite(this.boxes[i + 1])
+                && Double.isFinite(this.boxes[i + 2])
+                && Double.isFinite(this.boxes[i + 3]);
+    }
+
+    /**
+     * Adds an entity (with a bounding box inside the grid bounds) to the
+     * cells that it overlaps, or to the list of large entities (this
+     * includes entities with an infinite bounding box).
+     *
+     * @param entity  the entity index.
+     */
+    private void insert(int entity) {
+        int i = 4 * entity;
+        if (!(this.boxes[i] <= this.boxes[i + 2]
+                && this.boxes[i + 1] <= this.boxes[i + 3])) {
+            return;  // NaN coordinates, so it is never hit
+        }
+        int c0 = column(this.boxes[i]);
+        int c1 = column(this.boxes[i + 2]);
+        int r0 = row(this.boxes[i + 1]);
+        int r1 = row(this.boxes[i + 3]);
+        if (!isFinite(entity)
+                || (long) (c1 - c0 + 1) * (r1 - r0 + 1) > MAX_ENTITY_CELLS) {
+            if (this.largeCount == this.large.length) {
+                this.large = Arrays.copyOf(this.large, 2 * this.largeCount);
+            }
+            this.large[this.largeCount++] = entity;
+            return;
+        }
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * this.columns + c;
+                int[] entities = this.cells[cell];
+                int n = this.cellCounts[cell];
+                if (entities == null) {
+                    entities = new int[4];
+                    this.cells[cell] = entities;
+                } else if (n == entities.length) {
+                    entities = Arrays.copyOf(entities, 2 * n);
+                    this.cells[cell] = entities;
+                }
+                entities[n] = entity;
+                this.cellCounts[cell] = n + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate within the grid bounds.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column index.
+     */
+    private int column(double x) {
+        int c = (int) ((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate within the grid bounds.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row index.
+     */
+    private int row(double y) {
+        int r = (int) ((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Discards the index.
+     */
+    private void discardIndex() {
+        this.indexedCount = 0;
+        this.boxes = null;
+        this.cells = null;
+        this.cellCounts = null;
+        this.large = null;
+        this.largeCount = 0;
+    }
+
+    /**
+     * Returns a clone of this entity collection (the index is not copied, it
+     * is rebuilt when required).
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        GridEntityCollection clone = (GridEntityCollection) super.clone();
+        clone.discardIndex();
+        return clone;
+    }
+
+}
@@ -39,6 +39,8 @@ package org.jfree.chart.entity;
 
 import java.awt.Shape;
 
+import org.jfree.chart.labels.XYToolTipGenerator;
+import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.data.xy.XYDataset;
 
 /**
@@ -59,6 +61,18 @@ public class XYItemEntity extends ChartEntity {
     /** The item. */
     private int item;
 
+    /**
+     * The generator for the tool tip text, if the text has not been
+     * generated yet.
+     */
+    private transient XYToolTipGenerator toolTipGenerator;
+
+    /**
+     * The generator for the URL text, if the text has not been generated
+     * yet.
+     */
+    private transient XYURLGenerator urlGenerator;
+
     /**
      * Creates a new entity.
      *
@@ -131,6 +145,98 @@ public class XYItemEntity extends ChartEntity {
         this.item = item;
     }
 
+    /**
+     * Sets the generators for the tool tip and URL text, so that the text is
+     * generated from the dataset when it is first requested rather than when
+     * the entity is created.
+     *
+     * @param toolTipGenerator  the tool tip generator ({@code null}
+     *     permitted).
+     * @param urlGenerator  the URL generator ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setTextGenerators(XYToolTipGenerator toolTipGenerator,
+            XYURLGenerator urlGenerator) {
+        this.toolTipGenerator = toolTipGenerator;
+        this.urlGenerator = urlGenerator;
+    }
+
+    /**
+     * Returns the tool tip text, generating it first if a tool tip generator
+     * was set with {@link #setTextGenerators}.
+     *
+     * @return The text (possibly {@code null}).
+     */
+    @Override
+    public String getToolTipText() {
+        if (this.toolTipGenerator != null) {
+            XYToolTipGenerator generator = this.toolTipGenerator;
+            this.toolTipGenerator = null;
+            if (isItemInDataset()) {
+                super.setToolTipText(generator.generateToolTip(this.dataset,
+                        this.series, this.item));
+            }
+        }
+        return super.getToolTipText();
+    }
+
+    /**
+     * Sets the tool tip text (replacing any tool tip generator set with
+     * {@link #setTextGenerators}).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setToolTipText(String text) {
+        this.toolTipGenerator = null;
+        super.setToolTipText(text);
+    }
+
+    /**
+     * Returns the URL text, generating it first if a URL generator was set
+     * with {@link #setTextGenerators}.
+     *
+     * @return The text (possibly {@code null}).
+     */
+    @Override
+    public String getURLText() {
+        if (this.urlGenerator != null) {
+            XYURLGenerator generator = this.urlGenerator;
+            this.urlGenerator = null;
+            if (isItemInDataset()) {
+                super.setURLText(generator.generateURL(this.dataset,
+                        this.series, this.item));
+            }
+        }
+        return super.getURLText();
+    }
+
+    /**
+     * Returns {@code true} if the series and item indices still refer to an
+     * item in the dataset (it may have changed since the entity was created).
+     *
+     * @return A boolean.
+     */
+    private boolean isItemInDataset() {
+        return this.dataset != null && this.series >= 0
+                && this.series < this.dataset.getSeriesCount()
+                && this.item >= 0
+                && this.item < this.dataset.getItemCount(this.series);
+    }
+
+    /**
+     * Sets the URL text (replacing any URL generator set with
+     * {@link #setTextGenerators}).
+     *
+     * @param text  the text ({@code null} permitted).
+     */
+    @Override
+    public void setURLText(String text) {
+        this.urlGenerator = null;
+        super.setURLText(text);
+    }
+
     /**
      * Tests the entity for equality with an arbitrary object.
      *
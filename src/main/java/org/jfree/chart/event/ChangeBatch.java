@@ -0,0 +1,461 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * ChangeBatch.java
+ * ----------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.event;
+
+import java.util.ArrayDeque;
+import java.util.EventListener;
+import java.util.EventObject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
+import org.jfree.data.general.SeriesChangeEvent;
+
+/**
+ * A scope within which change notifications are held back and then sent,
+ * coalesced, when the scope is committed.  Making many changes to a chart
+ * (for example updating 50 series, then some axes and a renderer) would
+ * otherwise send a chain of series, dataset, plot and chart change events
+ * for each change, each one causing the chart to be redrawn; inside a batch
+ * each event source sends at most one event to its listeners for each
+ * round of notification:
+ * <pre>
+ * try (ChangeBatch batch = ChangeBatch.begin()) {
+ *     series1.add(x, y1);
+ *     series2.add(x, y2);
+ *     plot.getRangeAxis().setLabel("New label");
+ * }</pre>
+ * <p>
+ * When the (outermost) batch is committed, the held events are sent in the
+ * order they were first held.  The notifications that these events cause
+ * further along the chain (from a dataset to a plot, from a plot to a chart
+ * and so on) are held and coalesced in the same way until there are none
+ * left, so a listener at the end of the chain, such as a chart panel,
+ * typically receives one event.  When events from one source are combined,
+ * the result describes all of them: the change details carried by dataset
+ * and series events are merged (see {@link DatasetChangeInfo}), and other
+ * events fall back to a general event (for example a
+ * {@link ChartChangeEvent} of type {@link ChartChangeEventType#GENERAL})
+ * when they differ.  If a listener throws an exception, the remaining
+ * notifications are still delivered and the first exception is rethrown
+ * by {@link #commit()} at the end.
+ * <p>
+ * Batches can be nested, and can be used from any thread, but each batch
+ * belongs to the thread that began it: it holds back the notifications
+ * sent by that thread only, and must be committed on that thread, which is
+ * where the notifications are delivered.  The notifications sent by
+ * {@link org.jfree.data.general.Series},
+ * {@link org.jfree.data.general.AbstractDataset},
+ * {@link org.jfree.chart.plot.Plot},
+ * {@link org.jfree.chart.renderer.AbstractRenderer},
+ * {@link org.jfree.chart.axis.Axis}, {@link org.jfree.chart.title.Title},
+ * {@link org.jfree.chart.annotations.AbstractAnnotation},
+ * {@link org.jfree.chart.plot.Marker} and
+ * {@link org.jfree.chart.JFreeChart} take part in batches.
+ *
+ * @since 2.0.0
+ */
+public final class ChangeBatch implements AutoCloseable {
+
+    /** The batch state for each thread. */
+    private static final ThreadLocal<State> STATE 
+            = ThreadLocal.withInitial(State::new);
+
+    /** The thread that began this batch. */
+    private final Thread owner;
+
+    /** Has this batch been committed? */
+    private boolean committed;
+
+    /**
+     * Creates a new instance owned by the current thread.
+     */
+    private ChangeBatch() {
+        this.owner = Thread.currentThread();
+    }
+
+    /**
+     * Begins a batch on the current thread.  Change notifications sent by
+     * this thread are held back until the batch (and any enclosing batch)
+     * is committed.
+     *
+     * @return The batch (never {@code null}).
+     */
+    public static ChangeBatch begin() {
+        STATE.get().depth++;
+        return new ChangeBatch();
+    }
+
+    /**
+     * Returns {@code true} if a batch is active on the current thread.
+     *
+     * @return A boolean.
+     */
+    public static boolean isActive() {
+        return STATE.get().depth > 0;
+    }
+
+    /**
+     * Commits this batch.  If it is the outermost batch on the current
+     * thread, the change notifications held back are coalesced and sent.
+     * If a listener throws an exception, the remaining notifications are
+     * still sent, and then the first exception is rethrown (with any later
+     * ones added as suppressed exceptions).  Calling this method more than
+     * once has no further effect.
+     *
+     * @throws IllegalStateException if the batch is committed on a thread
+     *     other than the one that began it (the batch is left active, so
+     *     that it can still be committed on its own thread).
+     */
+    public void commit() {
+        if (this.committed) {
+            return;
+        }
+        if (Thread.currentThread() != this.owner) {
+            throw new IllegalStateException(
+                    "A batch must be committed on the thread that began it.");
+        }
+        State state = STATE.get();
+        this.committed = true;
+        if (state.depth > 1) {
+            state.depth--;
+            return;
+        }
+        Throwable failure = null;
+        try {
+            // the depth stays at 1 while delivering, so that the
+            // notifications that follow from each event are held too
+            while (!state.queue.isEmpty()) {
+                Entry<?> entry = state.queue.poll();
+                state.pending.remove(entry.key);
+                state.delivering = entry;
+                try {
+                    entry.deliver();
+                } catch (RuntimeException | Error e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else if (failure != e) {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+        } finally {
+            state.delivering = null;
+            state.queue.clear();
+            state.pending.clear();
+            state.depth = 0;
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure != null) {
+            throw (Error) failure;
+        }
+    }
+
+    /**
+     * Commits this batch (see {@link #commit()}), so that a batch can be
+     * used in a try-with-resources statement.
+     */
+    @Override
+    public void close() {
+        commit();
+    }
+
+    /**
+     * Holds back a change notification if a batch is active on the current
+     * thread.  This method is called by event sources at the start of their
+     * {@code notifyListeners()} method, passing that method as the 
+     * {@code dispatcher}: if it returns {@code true}, the source must not
+     * notify its listeners, because the event (possibly combined with
+     * other events from the same source) will be passed to the dispatcher
+     * when the batch is committed.
+     *
+     * @param <E>  the event type.
+     * @param source  the object notifying its listeners ({@code null} not
+     *     permitted).
+     * @param listenerType  the type of listener being notified 
+     *     ({@code null} not permitted).
+     * @param event  the event ({@code null} not permitted).
+     * @param dispatcher  the function that notifies the listeners 
+     *     ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    public static <E extends EventObject> boolean defer(Object source, 
+            Class<? extends EventListener> listenerType, E event, 
+            Consumer<E> dispatcher) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(listenerType, "listenerType");
+        Args.nullNotPermitted(event, "event");
+        Args.nullNotPermitted(dispatcher, "dispatcher");
+        State state = STATE.get();
+        if (state.depth == 0) {
+            return false;
+        }
+        Key key = new Key(source, listenerType);
+        Entry<?> delivering = state.delivering;
+        if (delivering != null && delivering.event == event 
+                && delivering.key.equals(key)) {
+            return false; // this is the event being delivered
+        }
+        @SuppressWarnings("unchecked")
+        Entry<E> entry = (Entry<E>) state.pending.get(key);
+        if (entry == null) {
+            entry = new Entry<>(key, event, dispatcher);
+            state.pending.put(key, entry);
+            state.queue.add(entry);
+        } else {
+            @SuppressWarnings("unchecked")
+            E combined = (E) combine(source, entry.event, event);
+            entry.event = combined;
+        }
+        return true;
+    }
+
+    /**
+     * Returns an event that describes the changes described by two events
+     * from the same source.
+     *
+     * @param source  the source.
+     * @param first  the first event.
+     * @param second  the second event.
+     *
+     * @return The combined event.
+     */
+    static EventObject combine(Object source, EventObject first, 
+            EventObject second) {
+        if (first instanceof SeriesChangeEvent 
+                && second instanceof SeriesChangeEvent) {
+            SeriesChangeEvent e1 = (SeriesChangeEvent) first;
+            SeriesChangeEvent e2 = (SeriesChangeEvent) second;
+            if (Objects.equals(e1.getInfo(), e2.getInfo())) {
+                return e2;
+            }
+            return new SeriesChangeEvent(e2.getSource(),
+                    combine(e1.getInfo(), e2.getInfo()));
+        }
+        if (first instanceof DatasetChangeEvent
+                && second instanceof DatasetChangeEvent) {
+            DatasetChangeEvent e1 = (DatasetChangeEvent) first;
+            DatasetChangeEvent e2 = (DatasetChangeEvent) second;
+            if (e1.getDataset() != e2.getDataset()) {
+                return new DatasetChangeEvent(e2.getSource(),
+                        e2.getDataset());
+            }
+            if (Objects.equals(e1.getInfo(), e2.getInfo())) {
+                return e2;
+            }
+            return new DatasetChangeEvent(e2.getSource(), e2.getDataset(),
+                    combine(e1.getInfo(), e2.getInfo()));
+        }
+        if (first instanceof RendererChangeEvent 
+                && second instanceof RendererChangeEvent) {
+            RendererChangeEvent e1 = (RendererChangeEvent) first;
+            RendererChangeEvent e2 = (RendererChangeEvent) second;
+            return new RendererChangeEvent(e2.getSource(), 
+                    e1.getSeriesVisibilityChanged() 
+                    || e2.getSeriesVisibilityChanged());
+        }
+        if (first instanceof ChartChangeEvent 
+                && second instanceof ChartChangeEvent) {
+            ChartChangeEvent e1 = (ChartChangeEvent) first;
+            ChartChangeEvent e2 = (ChartChangeEvent) second;
+            ChartChangeEventType type = e1.getType() == e2.getType() 
+                    ? e2.getType() : ChartChangeEventType.GENERAL;
+            if (e1.getClass() != e2.getClass() 
+                    || e1.getSource() != e2.getSource()) {
+                return new ChartChangeEvent(source, e2.getChart(), type);
+            }
+            e2.setType(type);
+            return e2;
+        }
+        return second;
+    }
+
+    /**
+     * Returns the details of a change made up of two successive changes to
+     * the same series or dataset, or {@code null} (meaning "anything may
+     * have changed") if either change has no details.  The value ranges are
+     * the unions of the ranges for the two changes, which is enough for a
+     * listener updating cached bounds: a value added by one change and
+     * removed by the other is covered by both an added and a removed range,
+     * so the listener still rescans if the value could have set the bounds.
+     * The series index is kept if the changes are to the same series (and
+     * is -1 otherwise), the item indices span the items affected by both
+     * changes, and the type is kept if the changes are of the same type
+     * (otherwise it is {@link DatasetChangeType#ITEMS_REMOVED} if either
+     * change removed items, and {@link DatasetChangeType#ITEMS_ADDED} if
+     * not).  When items have been both added and removed, the item indices
+     * refer to different states of the series, so the item span is only
+     * approximate.
+     *
+     * @param info1  the details of the first change ({@code null}
+     *     permitted).
+     * @param info2  the details of the second change ({@code null}
+     *     permitted).
+     *
+     * @return The combined details (possibly {@code null}).
+     */
+    static DatasetChangeInfo combine(DatasetChangeInfo info1,
+            DatasetChangeInfo info2) {
+        if (info1 == null || info2 == null) {
+            return null;
+        }
+        DatasetChangeType type;
+        if (info1.getType() == info2.getType()) {
+            type = info1.getType();
+        } else if (info1.getType() == DatasetChangeType.ITEMS_REMOVED
+                || info2.getType() == DatasetChangeType.ITEMS_REMOVED) {
+            type = DatasetChangeType.ITEMS_REMOVED;
+        } else {
+            type = DatasetChangeType.ITEMS_ADDED;
+        }
+        int series = info1.getSeries() == info2.getSeries()
+                ? info1.getSeries() : -1;
+        return new DatasetChangeInfo(type, series,
+                Math.min(info1.getFirstItem(), info2.getFirstItem()),
+                Math.max(info1.getLastItem(), info2.getLastItem()),
+                Range.combine(info1.getXRange(), info2.getXRange()),
+                Range.combine(info1.getYRange(), info2.getYRange()),
+                Range.combine(info1.getRemovedXRange(),
+                        info2.getRemovedXRange()),
+                Range.combine(info1.getRemovedYRange(),
+                        info2.getRemovedYRange()));
+    }
+
+    /**
+     * The batch state for a thread.
+     */
+    private static final class State {
+
+        /** The number of nested batches. */
+        int depth;
+
+        /** The entries waiting to be delivered, in order. */
+        final ArrayDeque<Entry<?>> queue = new ArrayDeque<>();
+
+        /** The entries waiting to be delivered, by key. */
+        final Map<Key, Entry<?>> pending = new HashMap<>();
+
+        /** The entry being delivered ({@code null} permitted). */
+        Entry<?> delivering;
+
+    }
+
+    /**
+     * Identifies an event source and the type of listener it notifies.
+     */
+    private static final class Key {
+
+        /** The source (compared by identity). */
+        private final Object source;
+
+        /** The listener type. */
+        private final Class<?> listenerType;
+
+        /**
+         * Creates a new key.
+         * 
+         * @param source  the source.
+         * @param listenerType  the listener type.
+         */
+        Key(Object source, Class<?> listenerType) {
+            this.source = source;
+            this.listenerType = listenerType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.source == that.source 
+                    && this.listenerType == that.listenerType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(this.source), 
+                    this.listenerType);
+        }
+    }
+
+    /**
+     * An event waiting to be delivered.
+     * 
+     * @param <E>  the event type.
+     */
+    private static final class Entry<E extends EventObject> {
+
+        /** The key. */
+        final Key key;
+
+        /** The (possibly combined) event. */
+        E event;
+
+        /** The function that notifies the listeners. */
+        final Consumer<E> dispatcher;
+
+        /**
+         * Creates a new entry.
+         * 
+         * @param key  the key.
+         * @param event  the event.
+         * @param dispatcher  the dispatcher.
+         */
+        Entry(Key key, E event, Consumer<E> dispatcher) {
+            this.key = key;
+            this.event = event;
+            this.dispatcher = dispatcher;
+        }
+
+        /**
+         * Passes the event to the dispatcher.
+         */
+        void deliver() {
+            this.dispatcher.accept(this.event);
+        }
+    }
+
+}
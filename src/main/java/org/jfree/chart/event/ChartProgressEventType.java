@@ -45,5 +45,12 @@ public enum ChartProgressEventType {
     DRAWING_STARTED, 
     
     /** Drawing finished. */
-    DRAWING_FINISHED;
+    DRAWING_FINISHED,
+
+    /** 
+     * A frame drawn in the background is ready to be shown.
+     * 
+     * @since 2.0.0
+     */
+    FRAME_READY;
 }
@@ -0,0 +1,224 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * MinMaxIndex.java
+ * ----------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * An index that finds the minimum and maximum of a subrange of a sequence of
+ * values in logarithmic time.  The values are grouped into fixed size blocks
+ * and a segment tree holds the minimum and maximum for each block, so a query
+ * scans at most two partial blocks and visits O(log n) tree nodes.  The
+ * index takes only a small fraction of the memory used by the values.
+ * <p>
+ * The index does not observe the values, it must be discarded and recreated
+ * when the values change.  {@code Double.NaN} values are ignored.
+ */
+public class MinMaxIndex {
+
+    /** The number of values in each block. */
+    private static final int BLOCK_SIZE = 64;
+
+    /** The source of the values. */
+    private final IntToDoubleFunction values;
+
+    /** The number of values. */
+    private final int count;
+
+    /** The number of blocks (the leaves of the segment trees). */
+    private final int blockCount;
+
+    /** A segment tree of block minimums (leaves start at blockCount). */
+    private final double[] minimums;
+
+    /** A segment tree of block maximums (leaves start at blockCount). */
+    private final double[] maximums;
+
+    /**
+     * Creates a new index, reading each of the values once.
+     *
+     * @param values  the function that returns the value for an index
+     *     ({@code null} not permitted).
+     * @param count  the number of values.
+     */
+    public MinMaxIndex(IntToDoubleFunction values, int count) {
+        Args.nullNotPermitted(values, "values");
+        Args.requireNonNegative(count, "count");
+        this.values = values;
+        this.count = count;
+        this.blockCount = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.minimums = new double[2 * this.blockCount];
+        this.maximums = new double[2 * this.blockCount];
+        for (int b = 0; b < this.blockCount; b++) {
+            double min = Double.NaN;
+            double max = Double.NaN;
+            int end = Math.min(count, (b + 1) * BLOCK_SIZE);
+            for (int i = b * BLOCK_SIZE; i < end; i++) {
+                double v = values.applyAsDouble(i);
+                min = minIgnoreNaN(min, v);
+                max = maxIgnoreNaN(max, v);
+            }
+            this.minimums[this.blockCount + b] = min;
+            this.maximums[this.blockCount + b] = max;
+        }
+        for (int n = this.blockCount - 1; n > 0; n--) {
+            this.minimums[n] = minIgnoreNaN(this.minimums[2 * n],
+                    this.minimums[2 * n + 1]);
+            this.maximums[n] = maxIgnoreNaN(this.maximums[2 * n],
+                    this.maximums[2 * n + 1]);
+        }
+    }
+
+    /**
+     * Returns the number of values covered by the index.
+     *
+     * @return The number of values.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the minimum of the values from {@code start} to {@code end}
+     * (inclusive), or {@code Double.NaN} if there are no values in the
+     * subrange (other than {@code Double.NaN}).
+     *
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The minimum value.
+     */
+    public double getMinimum(int start, int end) {
+        return find(start, end, true);
+    }
+
+    /**
+     * Returns the maximum of the values from {@code start} to {@code end}
+     * (inclusive), or {@code Double.NaN} if there are no values in the
+     * subrange (other than {@code Double.NaN}).
+     *
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     *
+     * @return The maximum value.
+     */
+    public double getMaximum(int start, int end) {
+        return find(start, end, false);
+    }
+
+    /**
+     * Finds the minimum or maximum of a subrange of the values.
+     *
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     * @param minimum  find the minimum (otherwise the maximum)?
+     *
+     * @return The minimum or maximum.
+     */
+    private double find(int start, int end, boolean minimum) {
+        if (start < 0 || end >= this.count) {
+            throw new IndexOutOfBoundsException("Range [" + start + ", "
+                    + end + "] is outside [0, " + (this.count - 1) + "].");
+        }
+        if (end < start) {
+            return Double.NaN;
+        }
+        int firstBlock = start / BLOCK_SIZE;
+        int lastBlock = end / BLOCK_SIZE;
+        if (firstBlock == lastBlock) {
+            return scan(start, end, minimum);
+        }
+        double result = combine(scan(start, (firstBlock + 1) * BLOCK_SIZE - 1,
+                minimum), scan(lastBlock * BLOCK_SIZE, end, minimum), minimum);
+        double[] tree = minimum ? this.minimums : this.maximums;
+        int lo = firstBlock + 1 + this.blockCount;
+        int hi = lastBlock + this.blockCount;  // exclusive
+        while (lo < hi) {
+            if ((lo & 1) == 1) {
+                result = combine(result, tree[lo++], minimum);
+            }
+            if ((hi & 1) == 1) {
+                result = combine(result, tree[--hi], minimum);
+            }
+            lo >>= 1;
+            hi >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * Scans the values from {@code start} to {@code end} (inclusive).
+     *
+     * @param start  the index of the first value.
+     * @param end  the index of the last value.
+     * @param minimum  find the minimum (otherwise the maximum)?
+     *
+     * @return The minimum or maximum.
+     */
+    private double scan(int start, int end, boolean minimum) {
+        double result = Double.NaN;
+        for (int i = start; i <= end; i++) {
+            result = combine(result, this.values.applyAsDouble(i), minimum);
+        }
+        return result;
+    }
+
+    private static double combine(double a, double b, boolean minimum) {
+        return minimum ? minIgnoreNaN(a, b) : maxIgnoreNaN(a, b);
+    }
+
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+}
@@ -0,0 +1,430 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * PixelBuffer.java
+ * ----------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.util.Arrays;
+
+/**
+ * An off-screen image covering a region of a target {@link Graphics2D},
+ * that points and small shapes can be written into directly (via the
+ * {@code int[]} pixel array of the image) rather than by filling shapes
+ * with Java2D.  When all the items have been written, the buffer is drawn
+ * onto the target with a single call to {@code drawImage()}.
+ * <p>
+ * Coordinates are given in the user space of the target, and are mapped to
+ * pixels using the transform of the target at the time the buffer was
+ * created (only transforms without rotation or shear are supported, see
+ * {@link #isSupported(Graphics2D)}).  Rectangles cover the pixels with
+ * centres inside them (as for Java2D filling without anti-aliasing), and
+ * stamps created from shapes are placed at the nearest whole pixel.
+ * <p>
+ * By default each pixel written with an opaque colour replaces the existing
+ * pixel, so that overlapping points in the same colour cost no more than a
+ * single point.  When alpha accumulation is enabled, every point is
+ * composited over the existing pixels (as Java2D would do), so that dense
+ * regions of points drawn in a translucent colour appear more opaque.
+ */
+public class PixelBuffer {
+
+    /** The image (with premultiplied alpha). */
+    private final BufferedImage image;
+
+    /** The pixels of the image. */
+    private final int[] pixels;
+
+    /** The bounds of the buffer in device space. */
+    private final Rectangle bounds;
+
+    /** The x-scale of the transform from user space to device space. */
+    private final double scaleX;
+
+    /** The y-scale of the transform from user space to device space. */
+    private final double scaleY;
+
+    /** The x-translation of the transform (relative to the buffer). */
+    private final double translateX;
+
+    /** The y-translation of the transform (relative to the buffer). */
+    private final double translateY;
+
+    /** A flag that controls whether alpha is accumulated. */
+    private boolean alphaAccumulation;
+
+    /** A flag that indicates that nothing has been written. */
+    private boolean empty;
+
+    /**
+     * Returns {@code true} if a buffer can be used for the specified target,
+     * which requires that the target draws to a screen or an image (see
+     * {@link #isRasterDevice(GraphicsConfiguration)}) and that its
+     * transform has no rotation or shear.
+     *
+     * @param g2  the target graphics device ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isSupported(Graphics2D g2) {
+        Args.nullNotPermitted(g2, "g2");
+        if (!isRasterDevice(g2.getDeviceConfiguration())) {
+            return false;
+        }
+        int type = g2.getTransform().getType();
+        return (type & (AffineTransform.TYPE_FLIP
+                | AffineTransform.TYPE_QUADRANT_ROTATION
+                | AffineTransform.TYPE_GENERAL_ROTATION
+                | AffineTransform.TYPE_GENERAL_TRANSFORM)) == 0;
+    }
+
+    /**
+     * Returns {@code true} if the specified configuration is for a raster
+     * screen or an image buffer.  Targets without a configuration (or a
+     * device) are assumed to produce vector output (for example, SVG or PDF)
+     * and are not accepted.
+     *
+     * @param gc  the device configuration ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    static boolean isRasterDevice(GraphicsConfiguration gc) {
+        if (gc == null || gc.getDevice() == null) {
+            return false;
+        }
+        int type = gc.getDevice().getType();
+        return type == GraphicsDevice.TYPE_RASTER_SCREEN
+                || type == GraphicsDevice.TYPE_IMAGE_BUFFER;
+    }
+
+    /**
+     * Creates a new (transparent) buffer that covers the specified area of
+     * the target.
+     *
+     * @param g2  the target graphics device ({@code null} not permitted).
+     * @param area  the area in user space ({@code null} not permitted).
+     *
+     * @throws IllegalArgumentException if the transform of {@code g2} is
+     *     not supported.
+     */
+    public PixelBuffer(Graphics2D g2, Rectangle2D area) {
+        Args.nullNotPermitted(area, "area");
+        if (!isSupported(g2)) {
+            throw new IllegalArgumentException(
+                    "The graphics target is not supported.");
+        }
+        AffineTransform t = g2.getTransform();
+        this.bounds = t.createTransformedShape(area).getBounds();
+        this.image = new BufferedImage(Math.max(this.bounds.width, 1),
+                Math.max(this.bounds.height, 1),
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        this.pixels = ((DataBufferInt) this.image.getRaster()
+                .getDataBuffer()).getData();
+        this.scaleX = t.getScaleX();
+        this.scaleY = t.getScaleY();
+        this.translateX = t.getTranslateX() - this.bounds.x;
+        this.translateY = t.getTranslateY() - this.bounds.y;
+        this.empty = true;
+    }
+
+    /**
+     * Returns the flag that controls whether points are composited over the
+     * existing pixels rather than replacing them.  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     */
+    public boolean isAlphaAccumulation() {
+        return this.alphaAccumulation;
+    }
+
+    /**
+     * Sets the flag that controls whether points are composited over the
+     * existing pixels rather than replacing them.  Pixels that are only
+     * partly covered by a stamp are always composited.
+     *
+     * @param accumulate  the new flag value.
+     */
+    public void setAlphaAccumulation(boolean accumulate) {
+        this.alphaAccumulation = accumulate;
+    }
+
+    /**
+     * Returns {@code true} if nothing has been written to the buffer since
+     * it was created or last cleared.
+     *
+     * @return A boolean.
+     */
+    public boolean isEmpty() {
+        return this.empty;
+    }
+
+    /**
+     * Fills a rectangle in the buffer.
+     *
+     * @param x  the x-coordinate of the rectangle (in user space).
+     * @param y  the y-coordinate of the rectangle (in user space).
+     * @param w  the width of the rectangle (in user space).
+     * @param h  the height of the rectangle (in user space).
+     * @param color  the color ({@code null} not permitted).
+     */
+    public void fillRect(double x, double y, double w, double h, Color color) {
+        int x0 = pixel(this.scaleX * x + this.translateX);
+        int x1 = pixel(this.scaleX * (x + w) + this.translateX);
+        int y0 = pixel(this.scaleY * y + this.translateY);
+        int y1 = pixel(this.scaleY * (y + h) + this.translateY);
+        x0 = Math.max(x0, 0);
+        y0 = Math.max(y0, 0);
+        x1 = Math.min(x1, this.image.getWidth());
+        y1 = Math.min(y1, this.image.getHeight());
+        if (x0 >= x1 || y0 >= y1) {
+            return;
+        }
+        int argb = premultiply(color.getRGB());
+        int stride = this.image.getWidth();
+        for (int row = y0; row < y1; row++) {
+            int offset = row * stride;
+            for (int col = x0; col < x1; col++) {
+                write(offset + col, argb, 255);
+            }
+        }
+        this.empty = false;
+    }
+
+    /**
+     * Returns the index of the first pixel with a centre at or after the
+     * specified device coordinate.
+     *
+     * @param d  the device coordinate (relative to the buffer).
+     *
+     * @return The pixel index.
+     */
+    private static int pixel(double d) {
+        double p = Math.ceil(d - 0.5);
+        if (!(p > -1.0)) {
+            return -1;  // also handles NaN
+        }
+        return p < Integer.MAX_VALUE ? (int) p : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Creates a stamp for a shape (centred on the origin in user space),
+     * that can be used to write the shape into this buffer or into any
+     * other buffer for a target with the same scale.
+     *
+     * @param shape  the shape ({@code null} not permitted).
+     * @param antialias  draw the shape with anti-aliasing?
+     *
+     * @return The stamp.
+     */
+    public Stamp createStamp(Shape shape, boolean antialias) {
+        Args.nullNotPermitted(shape, "shape");
+        Shape s = AffineTransform.getScaleInstance(this.scaleX, this.scaleY)
+                .createTransformedShape(shape);
+        Rectangle r = s.getBounds();
+        int w = Math.max(r.width, 1);
+        int h = Math.max(r.height, 1);
+        BufferedImage mask = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = mask.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialias
+                ? RenderingHints.VALUE_ANTIALIAS_ON
+                : RenderingHints.VALUE_ANTIALIAS_OFF);
+        g2.translate(-r.x, -r.y);
+        g2.setPaint(Color.WHITE);
+        g2.fill(s);
+        g2.dispose();
+        Raster raster = mask.getAlphaRaster();
+        int[] coverage = raster.getPixels(0, 0, w, h, (int[]) null);
+        return new Stamp(r.x, r.y, w, h, coverage);
+    }
+
+    /**
+     * Writes a stamp into the buffer, with the origin of the stamp at the
+     * pixel nearest to the specified point.
+     *
+     * @param stamp  the stamp ({@code null} not permitted).
+     * @param x  the x-coordinate (in user space).
+     * @param y  the y-coordinate (in user space).
+     * @param color  the color ({@code null} not permitted).
+     */
+    public void fillStamp(Stamp stamp, double x, double y, Color color) {
+        double dx = Math.rint(this.scaleX * x + this.translateX);
+        double dy = Math.rint(this.scaleY * y + this.translateY);
+        if (!(Math.abs(dx) < 1.0e7 && Math.abs(dy) < 1.0e7)) {
+            return;  // far outside the buffer, or NaN
+        }
+        int left = (int) dx + stamp.x;
+        int top = (int) dy + stamp.y;
+        int c0 = Math.max(0, -left);
+        int r0 = Math.max(0, -top);
+        int c1 = Math.min(stamp.width, this.image.getWidth() - left);
+        int r1 = Math.min(stamp.height, this.image.getHeight() - top);
+        if (c0 >= c1 || r0 >= r1) {
+            return;
+        }
+        int argb = premultiply(color.getRGB());
+        int stride = this.image.getWidth();
+        for (int row = r0; row < r1; row++) {
+            int offset = (top + row) * stride + left;
+            int m = row * stamp.width;
+            for (int col = c0; col < c1; col++) {
+                int coverage = stamp.coverage[m + col];
+                if (coverage > 0) {
+                    write(offset + col, argb, coverage);
+                }
+            }
+        }
+        this.empty = false;
+    }
+
+    /**
+     * Writes a premultiplied color to a pixel.
+     *
+     * @param index  the pixel index.
+     * @param argb  the premultiplied color.
+     * @param coverage  the coverage (0 to 255).
+     */
+    private void write(int index, int argb, int coverage) {
+        int src = coverage == 255 ? argb : scale(argb, coverage);
+        int alpha = src >>> 24;
+        if (alpha == 0) {
+            return;
+        }
+        if (alpha == 255 || (coverage == 255 && !this.alphaAccumulation)) {
+            this.pixels[index] = src;
+        } else {
+            this.pixels[index] = src + scale(this.pixels[index], 255 - alpha);
+        }
+    }
+
+    /**
+     * Scales all the components of a premultiplied color.
+     *
+     * @param argb  the color.
+     * @param factor  the factor (0 to 255).
+     *
+     * @return The scaled color.
+     */
+    private static int scale(int argb, int factor) {
+        int a = ((argb >>> 24) * factor + 127) / 255;
+        int r = (((argb >> 16) & 0xFF) * factor + 127) / 255;
+        int g = (((argb >> 8) & 0xFF) * factor + 127) / 255;
+        int b = ((argb & 0xFF) * factor + 127) / 255;
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Converts a color to premultiplied form.
+     *
+     * @param argb  the color.
+     *
+     * @return The premultiplied color.
+     */
+    private static int premultiply(int argb) {
+        int a = argb >>> 24;
+        return a == 255 ? argb : scale(argb | 0xFF000000, a);
+    }
+
+    /**
+     * Draws the buffer onto the target, using the composite and clip of the
+     * target, and clears the buffer.  Nothing is drawn if the buffer is
+     * empty.
+     *
+     * @param g2  the target graphics device ({@code null} not permitted).
+     */
+    public void drawTo(Graphics2D g2) {
+        Args.nullNotPermitted(g2, "g2");
+        if (this.empty) {
+            return;
+        }
+        AffineTransform saved = g2.getTransform();
+        g2.setTransform(new AffineTransform());
+        g2.drawImage(this.image, this.bounds.x, this.bounds.y, null);
+        g2.setTransform(saved);
+        clear();
+    }
+
+    /**
+     * Clears the buffer.
+     */
+    public void clear() {
+        if (!this.empty) {
+            Arrays.fill(this.pixels, 0);
+            this.empty = true;
+        }
+    }
+
+    /**
+     * The coverage of a shape, for writing into a {@link PixelBuffer}.
+     */
+    public static final class Stamp {
+
+        /** The x-offset of the stamp (in pixels). */
+        private final int x;
+
+        /** The y-offset of the stamp (in pixels). */
+        private final int y;
+
+        /** The width of the stamp. */
+        private final int width;
+
+        /** The height of the stamp. */
+        private final int height;
+
+        /** The coverage (0 to 255) for each pixel, by row. */
+        private final int[] coverage;
+
+        Stamp(int x, int y, int width, int height, int[] coverage) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+            this.coverage = coverage;
+        }
+    }
+
+}
@@ -0,0 +1,311 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * RingBufferList.java
+ * -------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * A list backed by a circular array.  Adding or removing items at either end
+ * of the list takes constant time, and insertions or removals elsewhere move
+ * the smaller portion of the list only.  The series classes switch to this
+ * list when a maximum item count is set, so that evicting the oldest item in
+ * a rolling window does not shift the whole array.
+ *
+ * @param <E> the element type.
+ */
+public class RingBufferList<E> extends AbstractList<E>
+        implements RandomAccess, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 8469436183457813024L;
+
+    /** The default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the elements. */
+    private Object[] elements;
+
+    /** The array index of the first element. */
+    private int head;
+
+    /** The number of elements in the list. */
+    private int size;
+
+    /**
+     * Creates a new empty list.
+     */
+    public RingBufferList() {
+        this.elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a new list containing the elements of the specified
+     * collection, in iteration order.
+     *
+     * @param c  the collection ({@code null} not permitted).
+     */
+    public RingBufferList(Collection<? extends E> c) {
+        Args.nullNotPermitted(c, "c");
+        this.elements = new Object[Math.max(DEFAULT_CAPACITY, c.size())];
+        for (E e : c) {
+            this.elements[this.size++] = e;
+        }
+    }
+
+    /**
+     * Converts a list index to an index in the backing array.
+     *
+     * @param index  the list index.
+     *
+     * @return The array index.
+     */
+    private int arrayIndex(int index) {
+        int i = this.head + index;
+        return i >= this.elements.length ? i - this.elements.length : i;
+    }
+
+    /**
+     * Checks that an index is in the range {@code 0} to
+     * {@code size() - 1}.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Doubles the capacity of the backing array if it is full, unwrapping
+     * the elements so that the first element is at array index zero.
+     */
+    private void ensureCapacityForAdd() {
+        if (this.size == this.elements.length) {
+            Object[] grown = new Object[this.elements.length * 2];
+            int firstPart = Math.min(this.size,
+                    this.elements.length - this.head);
+            System.arraycopy(this.elements, this.head, grown, 0, firstPart);
+            System.arraycopy(this.elements, 0, grown, firstPart,
+                    this.size - firstPart);
+            this.elements = grown;
+            this.head = 0;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the list.
+     *
+     * @return The number of elements.
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The element.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) this.elements[arrayIndex(index)];
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * @param index  the index.
+     * @param element  the new element.
+     *
+     * @return The element previously at the index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int i = arrayIndex(index);
+        E old = (E) this.elements[i];
+        this.elements[i] = element;
+        return old;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element  the element.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean add(E element) {
+        ensureCapacityForAdd();
+        this.elements[arrayIndex(this.size)] = element;
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts an element at the specified index, moving whichever side of
+     * the list is shorter.
+     *
+     * @param index  the index.
+     * @param element  the element.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.size);
+        }
+        if (index == this.size) {
+            add(element);
+            return;
+        }
+        ensureCapacityForAdd();
+        if (index < this.size / 2) {
+            // move the leading items one place towards the front
+            this.head = this.head == 0 ? this.elements.length - 1
+                    : this.head - 1;
+            for (int i = 0; i < index; i++) {
+                this.elements[arrayIndex(i)] = this.elements[arrayIndex(i + 1)];
+            }
+        }
+        else {
+            // move the trailing items one place towards the back
+            for (int i = this.size; i > index; i--) {
+                this.elements[arrayIndex(i)] = this.elements[arrayIndex(i - 1)];
+            }
+        }
+        this.elements[arrayIndex(index)] = element;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the element at the specified index, moving whichever side of
+     * the list is shorter.
+     *
+     * @param index  the index.
+     *
+     * @return The element removed.
+     */
+    @Override
+    public E remove(int index) {
+        E removed = get(index);
+        if (index < this.size / 2) {
+            // move the leading items one place towards the back
+            for (int i = index; i > 0; i--) {
+                this.elements[arrayIndex(i)] = this.elements[arrayIndex(i - 1)];
+            }
+            this.elements[this.head] = null;
+            this.head = arrayIndex(1);
+        }
+        else {
+            // move the trailing items one place towards the front
+            for (int i = index; i < this.size - 1; i++) {
+                this.elements[arrayIndex(i)] = this.elements[arrayIndex(i + 1)];
+            }
+            this.elements[arrayIndex(this.size - 1)] = null;
+        }
+        this.size--;
+        if (this.size == 0) {
+            this.head = 0;
+        }
+        this.modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to
+     * {@code toIndex} (exclusive).  Removing from the front of the list is a
+     * constant time operation (apart from clearing the references).
+     *
+     * @param fromIndex  the start index.
+     * @param toIndex  the end index.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        int count = toIndex - fromIndex;
+        if (count <= 0) {
+            return;
+        }
+        if (fromIndex == 0) {
+            // nothing to shift, just move the head along
+            for (int i = 0; i < count; i++) {
+                this.elements[arrayIndex(i)] = null;
+            }
+            this.head = this.size == count ? 0 : arrayIndex(count);
+        }
+        else {
+            int tail = this.size - toIndex;
+            for (int i = 0; i < tail; i++) {
+                this.elements[arrayIndex(fromIndex + i)]
+                        = this.elements[arrayIndex(toIndex + i)];
+            }
+            for (int i = this.size - count; i < this.size; i++) {
+                this.elements[arrayIndex(i)] = null;
+            }
+        }
+        this.size -= count;
+        this.modCount++;
+    }
+
+    /**
+     * Removes all elements from the list.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.elements[arrayIndex(i)] = null;
+        }
+        this.head = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+}
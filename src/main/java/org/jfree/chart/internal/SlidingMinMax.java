@@ -0,0 +1,228 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * SlidingMinMax.java
+ * ------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values where values are
+ * only ever added at the end and removed from the front (a sliding window).
+ * Two monotonic deques are maintained, so that adding a value, removing the
+ * first value and querying the extremes are all amortised constant time
+ * operations.  {@code Double.NaN} values occupy a position in the window but
+ * are ignored for the minimum and maximum.
+ */
+public class SlidingMinMax {
+
+    /** The position of the first value in the window. */
+    private long first;
+
+    /** The position that will be assigned to the next value added. */
+    private long next;
+
+    /** Candidate minimum values (increasing from front to back). */
+    private final Deque minimums;
+
+    /** Candidate maximum values (decreasing from front to back). */
+    private final Deque maximums;
+
+    /**
+     * Creates a new empty window.
+     */
+    public SlidingMinMax() {
+        this.minimums = new Deque();
+        this.maximums = new Deque();
+    }
+
+    /**
+     * Returns the number of values in the window.
+     *
+     * @return The number of values.
+     */
+    public int getCount() {
+        return (int) (this.next - this.first);
+    }
+
+    /**
+     * Returns the minimum value in the window, or {@code Double.NaN} if
+     * there are no values (other than {@code Double.NaN}).
+     *
+     * @return The minimum value.
+     */
+    public double getMinimum() {
+        return this.minimums.isEmpty() ? Double.NaN
+                : this.minimums.firstValue();
+    }
+
+    /**
+     * Returns the maximum value in the window, or {@code Double.NaN} if
+     * there are no values (other than {@code Double.NaN}).
+     *
+     * @return The maximum value.
+     */
+    public double getMaximum() {
+        return this.maximums.isEmpty() ? Double.NaN
+                : this.maximums.firstValue();
+    }
+
+    /**
+     * Adds a value to the end of the window.
+     *
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(double value) {
+        long position = this.next++;
+        if (Double.isNaN(value)) {
+            return;
+        }
+        while (!this.minimums.isEmpty() && this.minimums.lastValue() >= value) {
+            this.minimums.removeLast();
+        }
+        this.minimums.addLast(position, value);
+        while (!this.maximums.isEmpty() && this.maximums.lastValue() <= value) {
+            this.maximums.removeLast();
+        }
+        this.maximums.addLast(position, value);
+    }
+
+    /**
+     * Removes the first value from the window.
+     *
+     * @throws IllegalStateException if the window is empty.
+     */
+    public void removeFirst() {
+        if (this.first == this.next) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        long position = this.first++;
+        if (!this.minimums.isEmpty()
+                && this.minimums.firstPosition() == position) {
+            this.minimums.removeFirst();
+        }
+        if (!this.maximums.isEmpty()
+                && this.maximums.firstPosition() == position) {
+            this.maximums.removeFirst();
+        }
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.first = 0;
+        this.next = 0;
+        this.minimums.clear();
+        this.maximums.clear();
+    }
+
+    /**
+     * A double-ended queue of (position, value) pairs stored in circular
+     * primitive arrays.
+     */
+    private static class Deque {
+
+        /** The positions. */
+        private long[] positions = new long[16];
+
+        /** The values. */
+        private double[] values = new double[16];
+
+        /** The array index of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        long firstPosition() {
+            return this.positions[this.head];
+        }
+
+        double firstValue() {
+            return this.values[this.head];
+        }
+
+        double lastValue() {
+            return this.values[index(this.size - 1)];
+        }
+
+        void addLast(long position, double value) {
+            if (this.size == this.positions.length) {
+                grow();
+            }
+            int i = index(this.size);
+            this.positions[i] = position;
+            this.values[i] = value;
+            this.size++;
+        }
+
+        void removeFirst() {
+            this.head = index(1);
+            this.size--;
+        }
+
+        void removeLast() {
+            this.size--;
+        }
+
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        private int index(int offset) {
+            int i = this.head + offset;
+            return i >= this.positions.length ? i - this.positions.length : i;
+        }
+
+        private void grow() {
+            int n = this.positions.length;
+            long[] p = new long[n * 2];
+            double[] v = new double[n * 2];
+            int firstPart = n - this.head;
+            System.arraycopy(this.positions, this.head, p, 0, firstPart);
+            System.arraycopy(this.positions, 0, p, firstPart, this.head);
+            System.arraycopy(this.values, this.head, v, 0, firstPart);
+            System.arraycopy(this.values, 0, v, firstPart, this.head);
+            this.positions = p;
+            this.values = v;
+            this.head = 0;
+        }
+    }
+
+}
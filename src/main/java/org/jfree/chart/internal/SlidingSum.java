@@ -0,0 +1,241 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * SlidingSum.java
+ * ---------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+/**
+ * Maintains the sum and mean of a sequence of values where values are only
+ * ever added at the end and removed from the front (a sliding window), so
+ * that a moving average can be calculated in a single pass.  {@code null}
+ * values occupy a position in the window but are not included in the
+ * mean.  To stop rounding errors building up, the sum is recalculated from
+ * the values in the window after every {@code n} removals (where {@code n}
+ * is the size of the window), so adding and removing values are amortised
+ * constant time operations.
+ */
+public class SlidingSum {
+
+    /** The values in the window, in a circular array. */
+    private double[] values;
+
+    /** Flags the values that are {@code null}. */
+    private boolean[] missing;
+
+    /** The array index of the first value. */
+    private int head;
+
+    /** The number of positions in the window. */
+    private int size;
+
+    /** The number of non-{@code null} values in the window. */
+    private int count;
+
+    /** The sum of the finite values in the window. */
+    private double sum;
+
+    /** The number of {@code Double.NaN} values in the window. */
+    private int nanCount;
+
+    /** The number of positive infinite values in the window. */
+    private int positiveInfinityCount;
+
+    /** The number of negative infinite values in the window. */
+    private int negativeInfinityCount;
+
+    /** The number of removals since the sum was last recalculated. */
+    private int removals;
+
+    /**
+     * Creates a new empty window.
+     */
+    public SlidingSum() {
+        this.values = new double[16];
+        this.missing = new boolean[16];
+    }
+
+    /**
+     * Returns the number of positions in the window (including
+     * {@code null} values).
+     *
+     * @return The size.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of non-{@code null} values in the window.
+     *
+     * @return The count.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the non-{@code null} values in the window, or
+     * {@code Double.NaN} if there are none.
+     *
+     * @return The mean.
+     */
+    public double getMean() {
+        if (this.count == 0 || this.nanCount > 0) {
+            return Double.NaN;
+        }
+        if (this.positiveInfinityCount > 0) {
+            return this.negativeInfinityCount > 0 ? Double.NaN
+                    : Double.POSITIVE_INFINITY;
+        }
+        if (this.negativeInfinityCount > 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return this.sum / this.count;
+    }
+
+    /**
+     * Adds a value to the end of the window.
+     *
+     * @param value  the value ({@code null} permitted).
+     */
+    public void add(Number value) {
+        if (this.size == this.values.length) {
+            grow();
+        }
+        int i = index(this.size);
+        this.size++;
+        if (value == null) {
+            this.missing[i] = true;
+            return;
+        }
+        double v = value.doubleValue();
+        this.values[i] = v;
+        this.missing[i] = false;
+        this.count++;
+        include(v, 1);
+    }
+
+    /**
+     * Removes the first value from the window.
+     *
+     * @throws IllegalStateException if the window is empty.
+     */
+    public void removeFirst() {
+        if (this.size == 0) {
+            throw new IllegalStateException("The window is empty.");
+        }
+        int i = this.head;
+        this.head = index(1);
+        this.size--;
+        if (!this.missing[i]) {
+            this.count--;
+            include(this.values[i], -1);
+        }
+        if (++this.removals >= this.size) {
+            resum();
+        }
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.head = 0;
+        this.size = 0;
+        this.count = 0;
+        this.nanCount = 0;
+        this.positiveInfinityCount = 0;
+        this.negativeInfinityCount = 0;
+        this.sum = 0.0;
+        this.removals = 0;
+    }
+
+    /**
+     * Adds a value to (or, if {@code sign} is -1, removes a value from) the
+     * running totals.
+     *
+     * @param v  the value.
+     * @param sign  1 or -1.
+     */
+    private void include(double v, int sign) {
+        if (Double.isNaN(v)) {
+            this.nanCount += sign;
+        }
+        else if (v == Double.POSITIVE_INFINITY) {
+            this.positiveInfinityCount += sign;
+        }
+        else if (v == Double.NEGATIVE_INFINITY) {
+            this.negativeInfinityCount += sign;
+        }
+        else {
+            this.sum += sign * v;
+        }
+    }
+
+    /**
+     * Recalculates the sum of the finite values in the window.
+     */
+    private void resum() {
+        double total = 0.0;
+        for (int k = 0; k < this.size; k++) {
+            int i = index(k);
+            if (!this.missing[i] && Double.isFinite(this.values[i])) {
+                total += this.values[i];
+            }
+        }
+        this.sum = total;
+        this.removals = 0;
+    }
+
+    private int index(int offset) {
+        int i = this.head + offset;
+        return i >= this.values.length ? i - this.values.length : i;
+    }
+
+    private void grow() {
+        int n = this.values.length;
+        double[] v = new double[n * 2];
+        boolean[] m = new boolean[n * 2];
+        int firstPart = n - this.head;
+        System.arraycopy(this.values, this.head, v, 0, firstPart);
+        System.arraycopy(this.values, 0, v, firstPart, this.head);
+        System.arraycopy(this.missing, this.head, m, 0, firstPart);
+        System.arraycopy(this.missing, 0, m, firstPart, this.head);
+        this.values = v;
+        this.missing = m;
+        this.head = 0;
+    }
+
+}
@@ -0,0 +1,336 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * SpriteCache.java
+ * ----------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of images of filled and/or outlined shapes (sprites) that can be
+ * drawn in place of the shapes themselves.  Drawing an image is much faster
+ * than filling and outlining a shape with anti-aliasing, so renderers that
+ * draw the same marker shape many times can use a cache to rasterise each
+ * distinct marker once only.
+ * <p>
+ * The sprites are keyed by the shape, the fill and outline colors, the
+ * outline stroke, the scale of the target transform, the rendering hints
+ * that affect rasterisation, and the position of the shape within a
+ * device pixel (to within a quarter of a pixel in each direction, see
+ * {@link #SUBPIXEL_STEPS}), so that a sprite is visually the same as the
+ * shape drawn directly.  Sprites are used only for targets accepted by
+ * {@link PixelBuffer#isSupported(Graphics2D)} and for paints that are
+ * instances of {@code Color}.  When the cache is full, the least recently
+ * used sprite is discarded.
+ */
+public class SpriteCache {
+
+    /** The number of sprite positions within a pixel, in each direction. */
+    public static final int SUBPIXEL_STEPS = 4;
+
+    /** The maximum number of sprites. */
+    private final int maxSize;
+
+    /** The sprites, in least recently used order. */
+    private final Map<Key, Sprite> sprites;
+
+    /**
+     * Creates a new cache that holds up to 256 sprites.
+     */
+    public SpriteCache() {
+        this(256);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize  the maximum number of sprites (must be &gt; 0).
+     */
+    public SpriteCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Requires 'maxSize' > 0.");
+        }
+        this.maxSize = maxSize;
+        this.sprites = new LinkedHashMap<Key, Sprite>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Sprite> e) {
+                return size() > SpriteCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of sprites in the cache.
+     *
+     * @return The number of sprites.
+     */
+    public int getSize() {
+        return this.sprites.size();
+    }
+
+    /**
+     * Removes all sprites from the cache.
+     */
+    public void clear() {
+        this.sprites.clear();
+    }
+
+    /**
+     * Draws a shape, translated to {@code (x, y)}, by drawing a sprite
+     * onto the target.  If the target or the paints are not supported,
+     * nothing is drawn and this method returns {@code false} so that the
+     * caller can draw the shape in the usual way.
+     *
+     * @param g2  the target graphics device ({@code null} not permitted).
+     * @param shape  the shape ({@code null} not permitted).
+     * @param x  the x-translation for the shape (in user space).
+     * @param y  the y-translation for the shape (in user space).
+     * @param fillPaint  the fill paint ({@code null} for no fill).
+     * @param outlinePaint  the outline paint ({@code null} for no
+     *     outline).
+     * @param outlineStroke  the outline stroke ({@code null} permitted if
+     *     {@code outlinePaint} is {@code null}).
+     *
+     * @return A boolean indicating whether the shape was drawn.
+     */
+    public boolean draw(Graphics2D g2, Shape shape, double x, double y,
+            Paint fillPaint, Paint outlinePaint, Stroke outlineStroke) {
+        Args.nullNotPermitted(shape, "shape");
+        if (fillPaint != null && !(fillPaint instanceof Color)) {
+            return false;
+        }
+        if (outlinePaint != null && (!(outlinePaint instanceof Color)
+                || outlineStroke == null)) {
+            return false;
+        }
+        if (!PixelBuffer.isSupported(g2)) {
+            return false;
+        }
+        AffineTransform saved = g2.getTransform();
+        double scaleX = saved.getScaleX();
+        double scaleY = saved.getScaleY();
+        double dx = scaleX * x + saved.getTranslateX();
+        double dy = scaleY * y + saved.getTranslateY();
+        if (Double.isNaN(dx) || Double.isNaN(dy)) {
+            return false;
+        }
+        double ix = Math.floor(dx);
+        double iy = Math.floor(dy);
+        int stepX = Math.min((int) ((dx - ix) * SUBPIXEL_STEPS),
+                SUBPIXEL_STEPS - 1);
+        int stepY = Math.min((int) ((dy - iy) * SUBPIXEL_STEPS),
+                SUBPIXEL_STEPS - 1);
+        Key key = new Key(shape, fillPaint, outlinePaint,
+                outlinePaint != null ? outlineStroke : null, scaleX, scaleY,
+                stepX, stepY,
+                g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING),
+                g2.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL),
+                g2.getRenderingHint(RenderingHints.KEY_RENDERING));
+        Sprite sprite = this.sprites.get(key);
+        if (sprite == null) {
+            sprite = createSprite(key);
+            this.sprites.put(key, sprite);
+        }
+        if (sprite.image != null) {
+            g2.setTransform(new AffineTransform());
+            g2.drawImage(sprite.image, (int) ix + sprite.x,
+                    (int) iy + sprite.y, null);
+            g2.setTransform(saved);
+        }
+        return true;
+    }
+
+    /**
+     * Creates a sprite by drawing the shape into a new image.
+     *
+     * @param key  the key.
+     *
+     * @return The sprite.
+     */
+    private Sprite createSprite(Key key) {
+        // the shape is drawn at the centre of its sub-pixel step, with the
+        // offset applied to the shape (in user space) so that the graphics
+        // device is only translated by whole pixels, as for the target
+        double offsetX = (key.stepX + 0.5) / SUBPIXEL_STEPS;
+        double offsetY = (key.stepY + 0.5) / SUBPIXEL_STEPS;
+        Shape shape = ShapeUtils.createTranslatedShape(key.shape,
+                offsetX / key.scaleX, offsetY / key.scaleY);
+        Shape outline = key.outlinePaint != null
+                ? key.outlineStroke.createStrokedShape(shape) : shape;
+        AffineTransform t = AffineTransform.getScaleInstance(key.scaleX,
+                key.scaleY);
+        Rectangle2D bounds = t.createTransformedShape(outline).getBounds2D();
+        if (bounds.isEmpty()) {
+            return new Sprite(null, 0, 0);
+        }
+        // allow a one pixel margin for anti-aliasing and stroke control
+        int x0 = (int) Math.floor(bounds.getMinX()) - 1;
+        int y0 = (int) Math.floor(bounds.getMinY()) - 1;
+        int x1 = (int) Math.ceil(bounds.getMaxX()) + 1;
+        int y1 = (int) Math.ceil(bounds.getMaxY()) + 1;
+        BufferedImage image = new BufferedImage(x1 - x0, y1 - y0,
+                BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = image.createGraphics();
+        setHint(g2, RenderingHints.KEY_ANTIALIASING, key.antialiasing);
+        setHint(g2, RenderingHints.KEY_STROKE_CONTROL, key.strokeControl);
+        setHint(g2, RenderingHints.KEY_RENDERING, key.rendering);
+        g2.translate(-x0, -y0);
+        g2.transform(t);
+        if (key.fillPaint != null) {
+            g2.setPaint(key.fillPaint);
+            g2.fill(shape);
+        }
+        if (key.outlinePaint != null) {
+            g2.setPaint(key.outlinePaint);
+            g2.setStroke(key.outlineStroke);
+            g2.draw(shape);
+        }
+        g2.dispose();
+        return new Sprite(image, x0, y0);
+    }
+
+    /**
+     * Sets a rendering hint, if the value is not {@code null}.
+     *
+     * @param g2  the graphics device.
+     * @param hintKey  the hint key.
+     * @param value  the hint value ({@code null} permitted).
+     */
+    private static void setHint(Graphics2D g2, RenderingHints.Key hintKey,
+            Object value) {
+        if (value != null) {
+            g2.setRenderingHint(hintKey, value);
+        }
+    }
+
+    /**
+     * An image and its offset from the pixel containing the shape origin.
+     */
+    private static final class Sprite {
+
+        /** The image ({@code null} for an empty shape). */
+        final BufferedImage image;
+
+        /** The x-offset of the image. */
+        final int x;
+
+        /** The y-offset of the image. */
+        final int y;
+
+        Sprite(BufferedImage image, int x, int y) {
+            this.image = image;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * The attributes that determine the appearance of a sprite.
+     */
+    private static final class Key {
+
+        final Shape shape;
+        final Paint fillPaint;
+        final Paint outlinePaint;
+        final Stroke outlineStroke;
+        final double scaleX;
+        final double scaleY;
+        final int stepX;
+        final int stepY;
+        final Object antialiasing;
+        final Object strokeControl;
+        final Object rendering;
+
+        Key(Shape shape, Paint fillPaint, Paint outlinePaint,
+                Stroke outlineStroke, double scaleX, double scaleY,
+                int stepX, int stepY, Object antialiasing,
+                Object strokeControl, Object rendering) {
+            this.shape = shape;
+            this.fillPaint = fillPaint;
+            this.outlinePaint = outlinePaint;
+            this.outlineStroke = outlineStroke;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.stepX = stepX;
+            this.stepY = stepY;
+            this.antialiasing = antialiasing;
+            this.strokeControl = strokeControl;
+            this.rendering = rendering;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.stepX == that.stepX && this.stepY == that.stepY
+                    && this.scaleX == that.scaleX
+                    && this.scaleY == that.scaleY
+                    && this.shape.equals(that.shape)
+                    && Objects.equals(this.fillPaint, that.fillPaint)
+                    && Objects.equals(this.outlinePaint, that.outlinePaint)
+                    && Objects.equals(this.outlineStroke, that.outlineStroke)
+                    && Objects.equals(this.antialiasing, that.antialiasing)
+                    && Objects.equals(this.strokeControl, that.strokeControl)
+                    && Objects.equals(this.rendering, that.rendering);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.shape.hashCode();
+            result = 31 * result + Objects.hashCode(this.fillPaint);
+            result = 31 * result + Objects.hashCode(this.outlinePaint);
+            result = 31 * result + this.stepX;
+            result = 31 * result + this.stepY;
+            return result;
+        }
+    }
+
+}
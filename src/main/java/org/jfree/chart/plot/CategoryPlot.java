@@ -63,6 +63,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -71,6 +72,7 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
 import org.jfree.chart.ChartElementVisitor;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
@@ -91,6 +93,7 @@ import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
+import org.jfree.chart.renderer.category.AbstractCategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRendererState;
 import org.jfree.chart.api.Layer;
@@ -107,6 +110,7 @@ import org.jfree.chart.api.SortOrder;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
 import org.jfree.data.general.DatasetUtils;
 
 /**
@@ -383,6 +387,19 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * The data range most recently calculated for each range axis, used to
+     * update the axis ranges from the details carried by a dataset change 
+     * event (cleared whenever the plot changes).
+     */
+    private transient Map<ValueAxis, Range> dataRanges;
+
+    /** 
+     * A flag that makes {@link #getDataRange(ValueAxis)} return the cached
+     * data range while the axes are updated incrementally.
+     */
+    private transient boolean useCachedDataRanges;
+
     /**
      * Default constructor.
      */
@@ -1120,6 +1137,9 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
     public void configureRangeAxes() {
         for (ValueAxis yAxis : this.rangeAxes.values()) {
             if (yAxis != null) {
+                if (this.dataRanges != null) {
+                    this.dataRanges.remove(yAxis);
+                }
                 yAxis.configure();
             }
         }
@@ -2086,19 +2106,126 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         }
     }
 
+    /**
+     * Sends a {@link PlotChangeEvent} to all registered listeners, after 
+     * discarding the cached data ranges (since any change to the plot may
+     * affect them).
+     */
+    @Override
+    protected void fireChangeEvent() {
+        if (this.dataRanges != null) {
+            this.dataRanges.clear();
+        }
+        super.fireChangeEvent();
+    }
+
+    /**
+     * Returns the index of the dataset that a change event refers to, if
+     * the range axes can be updated from the details carried by the event,
+     * and -1 otherwise.  This requires a dataset that appears once in this
+     * plot (not a subplot) and a renderer that supports incremental bounds.
+     *
+     * @param event  the event.
+     *
+     * @return The dataset index, or -1.
+     */
+    private int findIncrementalDatasetIndex(DatasetChangeEvent event) {
+        DatasetChangeInfo info = event.getInfo();
+        if (info == null || info.getSeries() < 0 || getParent() != null
+                || this.dataRanges == null) {
+            return -1;
+        }
+        int result = -1;
+        for (Entry<Integer, CategoryDataset<R, C>> entry 
+                : this.datasets.entrySet()) {
+            if (entry.getValue() == event.getDataset()) {
+                if (result >= 0) {
+                    return -1;
+                }
+                result = entry.getKey();
+            }
+        }
+        if (result < 0) {
+            return -1;
+        }
+        CategoryItemRenderer r = getRendererForDataset(getDataset(result));
+        if (!(r instanceof AbstractCategoryItemRenderer) 
+                || !((AbstractCategoryItemRenderer) r)
+                        .isIncrementalBoundsSupported()) {
+            return -1;
+        }
+        return result;
+    }
+
+    /**
+     * Updates the range axes after a change to the dataset with the 
+     * specified index, widening the cached data bounds using the details of
+     * the change where possible and rescanning the data (for one axis at a
+     * time) where not.  Values that are removed from the data are only
+     * harmless if they lie strictly inside the cached bounds.
+     *
+     * @param index  the dataset index.
+     * @param info  the details of the change.
+     */
+    private void updateRangeAxesIncrementally(int index, 
+            DatasetChangeInfo info) {
+        AbstractCategoryItemRenderer r = (AbstractCategoryItemRenderer) 
+                getRendererForDataset(getDataset(index));
+        if (r.getDataBoundsIncludesVisibleSeriesOnly() 
+                && !r.isSeriesVisible(info.getSeries())) {
+            return; // the data bounds exclude the series
+        }
+        Range removed = info.getRemovedYRange();
+        for (Entry<Integer, ValueAxis> entry : this.rangeAxes.entrySet()) {
+            ValueAxis yAxis = entry.getValue();
+            if (yAxis == null) {
+                continue;
+            }
+            List<Integer> mappedAxes = this.datasetToRangeAxesMap.get(index);
+            if (mappedAxes == null ? entry.getKey() != 0 
+                    : !mappedAxes.contains(entry.getKey())) {
+                continue; // the data for this axis has not changed
+            }
+            if (!this.dataRanges.containsKey(yAxis)) {
+                yAxis.configure();
+                continue;
+            }
+            Range bounds = this.dataRanges.get(yAxis);
+            if (removed != null && (bounds == null 
+                    || removed.getLowerBound() <= bounds.getLowerBound()
+                    || removed.getUpperBound() >= bounds.getUpperBound())) {
+                this.dataRanges.remove(yAxis);
+                yAxis.configure();
+                continue;
+            }
+            this.dataRanges.put(yAxis, Range.combine(bounds, 
+                    info.getYRange()));
+            this.useCachedDataRanges = true;
+            try {
+                yAxis.configure();
+            } finally {
+                this.useCachedDataRanges = false;
+            }
+        }
+    }
+
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The range axis bounds will be recalculated if necessary.
+     * The range axis bounds will be recalculated if necessary.  If the 
+     * event carries the details of the change, the data bounds calculated
+     * for the axes the last time are widened to include the new values
+     * instead of rescanning the data, where it is safe to do so.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        for (ValueAxis yAxis : this.rangeAxes.values()) {
-            if (yAxis != null) {
-                yAxis.configure();
-            }
+        int index = findIncrementalDatasetIndex(event);
+        if (index >= 0) {
+            updateRangeAxesIncrementally(index, event.getInfo());
+        } else {
+            configureRangeAxes();
         }
         if (getParent() != null) {
             getParent().datasetChanged(event);
@@ -3613,7 +3740,8 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
 
     /**
      * Draws a representation of a dataset within the dataArea region using the
-     * appropriate renderer.
+     * appropriate renderer.  Drawing stops early if the drawing is cancelled
+     * (see {@link ChartRenderingInfo#cancel()}).
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3645,6 +3773,9 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
             for (int pass = 0; pass < passCount; pass++) {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
                     for (int column = 0; column < columnCount; column++) {
+                        if (info != null && info.isCancelled()) {
+                            return foundData;
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3663,6 +3794,9 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
                 }
                 else {
                     for (int column = columnCount - 1; column >= 0; column--) {
+                        if (info != null && info.isCancelled()) {
+                            return foundData;
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3981,6 +4115,10 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
      */
     @Override
     public Range getDataRange(ValueAxis axis) {
+        if (this.useCachedDataRanges && this.dataRanges != null
+                && this.dataRanges.containsKey(axis)) {
+            return this.dataRanges.get(axis);
+        }
         Range result = null;
         List<CategoryDataset<R, C>> mappedDatasets = new ArrayList<>();
         int rangeIndex = findRangeAxisIndex(axis);
@@ -3999,6 +4137,12 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
                 result = Range.combine(result, r.findRangeBounds(d));
             }
         }
+        if (rangeIndex >= 0) {
+            if (this.dataRanges == null) {
+                this.dataRanges = new IdentityHashMap<>();
+            }
+            this.dataRanges.put(axis, result);
+        }
         return result;
     }
 
@@ -4825,6 +4969,7 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         if (this.fixedLegendItems != null) {
             clone.fixedLegendItems = CloneUtils.clone(this.fixedLegendItems);
         }
+        clone.dataRanges = null;
         return clone;
     }
 
@@ -409,6 +409,16 @@ public class CombinedDomainXYPlot<S extends Comparable<S>> extends XYPlot<S>
         super.receive(visitor);
     }
 
+    /**
+     * Returns {@code false}, because the subplots are always drawn in full.
+     * 
+     * @return {@code false}.
+     */
+    @Override
+    public boolean isLayeredDrawingSupported() {
+        return false;
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      *
@@ -346,6 +346,16 @@ public class CombinedRangeXYPlot<S extends Comparable<S>> extends XYPlot<S>
 
     }
 
+    /**
+     * Returns {@code false}, because the subplots are always drawn in full.
+     * 
+     * @return {@code false}.
+     */
+    @Override
+    public boolean isLayeredDrawingSupported() {
+        return false;
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      *
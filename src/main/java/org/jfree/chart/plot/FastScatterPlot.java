@@ -68,6 +68,7 @@ import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.internal.ArrayUtils;
 import org.jfree.chart.internal.PaintUtils;
+import org.jfree.chart.internal.PixelBuffer;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.SerialUtils;
 import org.jfree.data.Range;
@@ -137,6 +138,18 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
      */
     private boolean rangePannable;
 
+    /**
+     * A flag that controls whether the points are written directly into an
+     * off-screen image.
+     */
+    private boolean rasterRendering;
+
+    /**
+     * A flag that controls whether alpha is accumulated in raster rendering
+     * mode.
+     */
+    private boolean accumulateAlpha;
+
     /** The resourceBundle for the localization. */
     protected static ResourceBundle localizationResources
             = ResourceBundle.getBundle("org.jfree.chart.plot.LocalizationBundle");
@@ -306,6 +319,76 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the points are written directly
+     * into an off-screen image, which is then drawn onto the target with a
+     * single call to {@code drawImage()}.  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setRasterRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isRasterRendering() {
+        return this.rasterRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the points are written directly
+     * into an off-screen image, and sends a {@link PlotChangeEvent} to all
+     * registered listeners.  This is much faster than filling a rectangle
+     * for each point with Java2D.  It is used only when the paint is a
+     * {@link Color} and the target draws to a screen or an image with a
+     * transform that has no rotation or shear (so vector output is
+     * unchanged).
+     *
+     * @param raster  the new flag value.
+     *
+     * @see #isRasterRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setRasterRendering(boolean raster) {
+        this.rasterRendering = raster;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether points written to the
+     * off-screen image in raster rendering mode are composited over the
+     * points already written (rather than replacing them).  The default
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setAccumulateAlpha(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isAccumulateAlpha() {
+        return this.accumulateAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether points written to the off-screen
+     * image in raster rendering mode are composited over the points already
+     * written, and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  This only makes a difference for a translucent paint, for
+     * which dense regions of points then appear more opaque.
+     *
+     * @param accumulate  the new flag value.
+     *
+     * @see #isAccumulateAlpha()
+     *
+     * @since 2.0.0
+     */
+    public void setAccumulateAlpha(boolean accumulate) {
+        this.accumulateAlpha = accumulate;
+        fireChangeEvent();
+    }
+
     /**
      * Returns {@code true} if the domain gridlines are visible, and
      * {@code false} otherwise.
@@ -569,6 +652,14 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         // double rangeLength = this.rangeAxis.getUpperBound() - rangeMin;
 
         if (this.data != null) {
+            PixelBuffer buffer = null;
+            Color color = null;
+            if (this.rasterRendering && this.paint instanceof Color
+                    && PixelBuffer.isSupported(g2)) {
+                buffer = new PixelBuffer(g2, dataArea);
+                buffer.setAlphaAccumulation(this.accumulateAlpha);
+                color = (Color) this.paint;
+            }
             for (int i = 0; i < this.data[0].length; i++) {
                 float x = this.data[0][i];
                 float y = this.data[1][i];
@@ -579,7 +670,14 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
                         RectangleEdge.BOTTOM);
                 int transY = (int) this.rangeAxis.valueToJava2D(y, dataArea,
                         RectangleEdge.LEFT);
-                g2.fillRect(transX, transY, 1, 1);
+                if (buffer != null) {
+                    buffer.fillRect(transX, transY, 1, 1, color);
+                } else {
+                    g2.fillRect(transX, transY, 1, 1);
+                }
+            }
+            if (buffer != null) {
+                buffer.drawTo(g2);
             }
         }
     }
@@ -973,6 +1071,12 @@ public class FastScatterPlot extends Plot implements ValueAxisPlot, Pannable,
         if (this.rangePannable != that.rangePannable) {
             return false;
         }
+        if (this.rasterRendering != that.rasterRendering) {
+            return false;
+        }
+        if (this.accumulateAlpha != that.accumulateAlpha) {
+            return false;
+        }
         if (!ArrayUtils.equal(this.data, that.data)) {
             return false;
         }
@@ -50,6 +50,7 @@ import java.util.Objects;
 
 import javax.swing.event.EventListenerList;
 
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.event.MarkerChangeEvent;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.api.LengthAdjustmentType;
@@ -526,6 +527,10 @@ public abstract class Marker implements Cloneable, Serializable {
      */
     public void notifyListeners(MarkerChangeEvent event) {
 
+        if (ChangeBatch.defer(this, MarkerChangeListener.class, event,
+                this::notifyListeners)) {
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == MarkerChangeListener.class) {
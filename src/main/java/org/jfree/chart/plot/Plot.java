@@ -67,6 +67,7 @@ import java.util.Objects;
 import javax.swing.event.EventListenerList;
 import org.jfree.chart.ChartElement;
 import org.jfree.chart.ChartElementVisitor;
+import org.jfree.chart.ChartLayer;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItemCollection;
@@ -79,6 +80,7 @@ import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.AnnotationChangeListener;
 import org.jfree.chart.event.AxisChangeEvent;
 import org.jfree.chart.event.AxisChangeListener;
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.MarkerChangeEvent;
 import org.jfree.chart.event.MarkerChangeListener;
@@ -880,6 +882,10 @@ public abstract class Plot implements ChartElement, AxisChangeListener,
         if (!this.notify) {
             return;
         }
+        if (ChangeBatch.defer(this, PlotChangeListener.class, event,
+                this::notifyListeners)) {
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == PlotChangeListener.class) {
@@ -923,6 +929,22 @@ public abstract class Plot implements ChartElement, AxisChangeListener,
     public abstract void draw(Graphics2D g2, Rectangle2D area, Point2D anchor,
             PlotState parentState, PlotRenderingInfo info);
 
+    /**
+     * Returns {@code true} if this plot honours the layer specified by
+     * {@link PlotState#getLayer()} in the parent state passed to the 
+     * {@code draw()} method, drawing only the elements that belong to that
+     * layer.  The default implementation returns {@code false}, in which
+     * case {@link JFreeChart} draws the whole plot in the
+     * {@link ChartLayer#DATA} layer.
+     *
+     * @return A boolean.
+     * 
+     * @since 2.0.0
+     */
+    public boolean isLayeredDrawingSupported() {
+        return false;
+    }
+
     /**
      * Draws the plot background (the background color and/or image).
      * <P>
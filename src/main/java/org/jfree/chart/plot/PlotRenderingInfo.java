@@ -93,6 +93,18 @@ public class PlotRenderingInfo implements Cloneable, Serializable {
         return this.owner;
     }
 
+    /**
+     * Returns {@code true} if the drawing has been cancelled (see 
+     * {@link ChartRenderingInfo#cancel()}).
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isCancelled() {
+        return this.owner != null && this.owner.isCancelled();
+    }
+
     /**
      * Returns the plot area (in Java2D space).
      *
@@ -36,10 +36,13 @@
 
 package org.jfree.chart.plot;
 
+import java.awt.geom.Rectangle2D;
 import java.util.HashMap;
 import java.util.Map;
+import org.jfree.chart.ChartLayer;
 import org.jfree.chart.axis.Axis;
 import org.jfree.chart.axis.AxisState;
+import org.jfree.data.Range;
 
 /**
  * Records information about the state of a plot during the drawing process.
@@ -49,6 +52,15 @@ public class PlotState {
     /** The shared axis states. */
     private final Map<Axis, AxisState> sharedAxisStates;
 
+    /** The layer to draw ({@code null} for all layers). */
+    private ChartLayer layer;
+
+    /** The range of x-values to redraw in the data layer (if any). */
+    private Range dataRedrawRange;
+
+    /** The data area laid out for the layers being drawn (if any). */
+    private Rectangle2D dataArea;
+
     /**
      * Creates a new state object.
      */
@@ -65,4 +77,86 @@ public class PlotState {
         return this.sharedAxisStates;
     }
 
+    /**
+     * Returns the layer that the plot should draw, or {@code null} if all
+     * layers should be drawn.
+     *
+     * @return The layer (possibly {@code null}).
+     * 
+     * @since 2.0.0
+     */
+    public ChartLayer getLayer() {
+        return this.layer;
+    }
+
+    /**
+     * Sets the layer that the plot should draw.  Plots that support layered
+     * drawing (see {@link Plot#isLayeredDrawingSupported()}) skip the 
+     * elements that belong to other layers.
+     *
+     * @param layer  the layer ({@code null} for all layers).
+     * 
+     * @since 2.0.0
+     */
+    public void setLayer(ChartLayer layer) {
+        this.layer = layer;
+    }
+
+    /**
+     * Returns the range of x-values for a partial redraw of the data layer,
+     * or {@code null} if the layer should be drawn in full.
+     *
+     * @return The range (possibly {@code null}).
+     * 
+     * @since 2.0.0
+     */
+    public Range getDataRedrawRange() {
+        return this.dataRedrawRange;
+    }
+
+    /**
+     * Sets the range of x-values for a partial redraw of the data layer.  
+     * This is used to update a data layer that has been scrolled: when the
+     * layer is {@link ChartLayer#DATA}, an {@link XYPlot} (in either 
+     * orientation) clears and redraws only the part of the data area where
+     * items in this range (and the lines joining them to earlier items) 
+     * are drawn, leaving the rest of the layer untouched.  The range is 
+     * expected to extend to the upper bound of the domain axis, so that 
+     * the part that is redrawn reaches the edge of the data area.
+     *
+     * @param range  the range ({@code null} for a full redraw).
+     * 
+     * @since 2.0.0
+     */
+    public void setDataRedrawRange(Range range) {
+        this.dataRedrawRange = range;
+    }
+
+    /**
+     * Returns the data area laid out for the layers being drawn, or
+     * {@code null} if the plot has not been laid out yet.
+     *
+     * @return The data area (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public Rectangle2D getDataArea() {
+        return this.dataArea;
+    }
+
+    /**
+     * Sets the data area laid out for the layers being drawn.  A plot that
+     * supports layered drawing sets this when it draws the first layer, and
+     * reuses it (rather than calculating the space for the axes again) for
+     * the others (see {@link org.jfree.chart.JFreeChart#draw(java.util.Map,
+     * Rectangle2D, java.awt.geom.Point2D, java.util.Map, PlotState)}).
+     *
+     * @param area  the area ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setDataArea(Rectangle2D area) {
+        this.dataArea = area;
+    }
+
 }
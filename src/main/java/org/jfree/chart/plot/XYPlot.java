@@ -60,6 +60,7 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -68,12 +69,15 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -81,7 +85,12 @@ import java.util.Objects;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BooleanSupplier;
 import org.jfree.chart.ChartElementVisitor;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 
 import org.jfree.chart.legend.LegendItem;
@@ -97,6 +106,9 @@ import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.TickType;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.CompactEntityCollection;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
@@ -119,7 +131,9 @@ import org.jfree.chart.renderer.category.CategoryItemRenderer;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
 import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.xy.MultiResolutionXYDataset;
 import org.jfree.data.xy.XYDataset;
 
 /**
@@ -142,6 +156,13 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     /** For serialization. */
     private static final long serialVersionUID = 7044148245716569264L;
 
+    /**
+     * The distance (in Java2D units) along the domain axis beyond a partial
+     * data redraw area within which items are redrawn, so that shapes and 
+     * labels overlapping the area are complete.
+     */
+    private static final double DATA_REDRAW_MARGIN = 16.0;
+
     /** The default grid line stroke. */
     public static final Stroke DEFAULT_GRIDLINE_STROKE = new BasicStroke(0.5f,
             BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0.0f,
@@ -401,6 +422,48 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * A flag that controls whether the datasets (and blocks of series) are
+     * rendered in parallel.
+     */
+    private boolean parallelRendering;
+
+    /**
+     * Copies of the renderers made for parallel rendering, kept between
+     * drawings so that each copy keeps its caches (discarded whenever a
+     * renderer changes).
+     */
+    private transient Map<XYItemRenderer, Deque<RendererCopy>> rendererCopies;
+
+    /** Counts the changes that discard the renderer copies. */
+    private transient int rendererCopiesVersion;
+
+    /**
+     * The index of the dataset that the crosshairs were locked to the last
+     * time the data was drawn, used when drawing the annotations layer on 
+     * its own.
+     */
+    private transient int crosshairDatasetIndex;
+
+    /** 
+     * The area of the data layer being redrawn (only set during a partial
+     * redraw of the data layer).
+     */
+    private transient Rectangle2D dataRedrawArea;
+
+    /**
+     * The data range most recently calculated for each axis, used to update
+     * the axis ranges from the details carried by a dataset change event
+     * (cleared whenever the plot changes).
+     */
+    private transient Map<ValueAxis, DataRange> dataRanges;
+
+    /** 
+     * A flag that makes {@link #getDataRange(ValueAxis)} return the cached
+     * data range while the axes are updated incrementally.
+     */
+    private transient boolean useCachedDataRanges;
+
     /**
      * Creates a new {@code XYPlot} instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -782,6 +845,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     public void configureDomainAxes() {
         for (ValueAxis axis: this.domainAxes.values()) {
             if (axis != null) {
+                removeDataRange(axis);
                 axis.configure();
             }
         }
@@ -1077,6 +1141,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     public void configureRangeAxes() {
         for (ValueAxis axis: this.rangeAxes.values()) {
             if (axis != null) {
+                removeDataRange(axis);
                 axis.configure();
             }
         }
@@ -1240,7 +1305,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
     /**
      * Returns the index of the specified dataset, or {@code -1} if the
-     * dataset does not belong to the plot.
+     * dataset does not belong to the plot.  The renderers draw the items
+     * of a {@link MultiResolutionXYDataset} from a view of the dataset (see
+     * {@link MultiResolutionXYDataset#getDataset(Range, int)}), so a view
+     * has the index of the dataset it belongs to.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      *
@@ -1252,6 +1320,13 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                 return entry.getKey();
             }
         }
+        for (Map.Entry<Integer, XYDataset<S>> entry: this.datasets.entrySet()) {
+            if (entry.getValue() instanceof MultiResolutionXYDataset
+                    && ((MultiResolutionXYDataset<S>) entry.getValue())
+                            .isView(dataset)) {
+                return entry.getKey();
+            }
+        }
         return -1;
     }
 
@@ -2710,6 +2785,53 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the datasets are rendered in
+     * parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the datasets are rendered in
+     * parallel, and sends a {@link PlotChangeEvent} to all registered
+     * listeners.
+     * <p>
+     * When this flag is set, each dataset (or, where the renderer state
+     * reports that the series are independent, each block of series within a
+     * pass) is drawn by a separate task in the common fork-join pool, using
+     * its own copy of the renderer and its own renderer state, into an
+     * off-screen image that covers the data area.  The images are then drawn
+     * in the dataset and series rendering order, and the entities and
+     * crosshair values collected by the tasks are merged in the same order.
+     * The data items are therefore drawn as a raster image even on a vector
+     * graphics device, and the datasets must support concurrent reads.
+     * <p>
+     * The copies of the renderers are kept for later drawings, and replaced
+     * after a renderer sends a {@link RendererChangeEvent} (so changes made
+     * to a renderer without notification are not seen by its copies).  If
+     * the drawing is cancelled (see {@link ChartRenderingInfo#cancel()}),
+     * the tasks stop drawing items.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        discardRendererCopies();
+        fireChangeEvent();
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -2861,6 +2983,20 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         visitor.visit(this);
     }
 
+    /**
+     * Returns {@code true} if this plot can be drawn one layer at a time.
+     * This is not possible when a shadow generator is set, because the
+     * shadow is generated from everything that is drawn in the data area.
+     * 
+     * @return A boolean.
+     * 
+     * @since 2.0.0
+     */
+    @Override
+    public boolean isLayeredDrawingSupported() {
+        return this.shadowGenerator == null;
+    }
+
     /**
      * Draws the plot within the specified area on a graphics device.
      *
@@ -2893,22 +3029,47 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         RectangleInsets insets = getInsets();
         insets.trim(area);
 
-        AxisSpace space = calculateAxisSpace(g2, area);
-        Rectangle2D dataArea = space.shrink(area, null);
-        this.axisOffset.trim(dataArea);
-
-        dataArea = integerise(dataArea);
+        // when drawing a single layer, elements that belong to other layers
+        // are skipped, and the data area calculated for the first layer is
+        // stored in the state and reused for the others
+        ChartLayer layer = (parentState != null) ? parentState.getLayer() 
+                : null;
+        boolean backgroundLayer = (layer == null 
+                || layer == ChartLayer.BACKGROUND);
+        boolean axesLayer = (layer == null || layer == ChartLayer.AXES);
+        boolean dataLayer = (layer == null || layer == ChartLayer.DATA);
+        boolean annotationsLayer = (layer == null 
+                || layer == ChartLayer.ANNOTATIONS);
+
+        Rectangle2D dataArea = null;
+        if (layer != null && parentState.getDataArea() != null) {
+            dataArea = (Rectangle2D) parentState.getDataArea().clone();
+        } else {
+            AxisSpace space = calculateAxisSpace(g2, area);
+            dataArea = space.shrink(area, null);
+            this.axisOffset.trim(dataArea);
+            dataArea = integerise(dataArea);
+            if (layer != null) {
+                parentState.setDataArea((Rectangle2D) dataArea.clone());
+            }
+        }
         if (dataArea.isEmpty()) {
             return;
         }
-        createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+        if (backgroundLayer) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, 
+                    null);
+        }
         if (info != null) {
             info.setDataArea(dataArea);
         }
 
         // draw the plot background and axes...
-        drawBackground(g2, dataArea);
-        Map<Axis, AxisState> axisStateMap = drawAxes(g2, area, dataArea, info);
+        if (backgroundLayer) {
+            drawBackground(g2, dataArea);
+        }
+        Map<Axis, AxisState> axisStateMap = axesLayer 
+                ? drawAxes(g2, area, dataArea, info) : new HashMap<>();
 
         PlotOrientation orient = getOrientation();
 
@@ -2975,17 +3136,17 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                         .get(getRangeAxis());
             }
         }
-        if (domainAxisState != null) {
+        if (domainAxisState != null && axesLayer) {
             drawDomainTickBands(g2, dataArea, domainAxisState.getTicks());
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && axesLayer) {
             drawRangeTickBands(g2, dataArea, rangeAxisState.getTicks());
         }
-        if (domainAxisState != null) {
+        if (domainAxisState != null && axesLayer) {
             drawDomainGridlines(g2, dataArea, domainAxisState.getTicks());
             drawZeroDomainBaseline(g2, dataArea);
         }
-        if (rangeAxisState != null) {
+        if (rangeAxisState != null && axesLayer) {
             drawRangeGridlines(g2, dataArea, rangeAxisState.getTicks());
             drawZeroRangeBaseline(g2, dataArea);
         }
@@ -3003,13 +3164,17 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
 
         // draw the markers that are associated with a specific dataset...
-        for (XYDataset<S> dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawDomainMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
-        }
-        for (XYDataset<S> dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawRangeMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+        if (axesLayer) {
+            for (XYDataset<S> dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawDomainMarkers(g2, dataArea, datasetIndex, 
+                        Layer.BACKGROUND);
+            }
+            for (XYDataset<S> dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawRangeMarkers(g2, dataArea, datasetIndex, 
+                        Layer.BACKGROUND);
+            }
         }
 
         // now draw annotations and render data items...
@@ -3021,7 +3186,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         // draw background annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && axesLayer) {
                 ValueAxis domainAxis = getDomainAxisForDataset(i);
                 ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
@@ -3029,16 +3194,43 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             }
         }
 
+        // a partial redraw of the data layer (for example after the layer
+        // has been scrolled) clears and redraws part of the data area only
+        Shape dataClip = g2.getClip();
+        Range redrawRange = (parentState != null && layer == ChartLayer.DATA)
+                ? parentState.getDataRedrawRange() : null;
+        if (redrawRange != null) {
+            this.dataRedrawArea = calculateDataRedrawArea(redrawRange, 
+                    dataArea);
+            g2.clip(this.dataRedrawArea);
+            Composite savedComposite = g2.getComposite();
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fill(this.dataRedrawArea);
+            g2.setComposite(savedComposite);
+        }
+
         // render data items...
-        for (int datasetIndex : datasetIndices) {
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+        if (!dataLayer) {
+            // the crosshair values were updated when the data layer was
+            // drawn, but the dataset index (which determines the axes) was
+            // not stored with them
+            crosshairState.setDatasetIndex(this.crosshairDatasetIndex);
+        } else if (this.parallelRendering) {
+            foundData = renderParallel(g2, dataArea, datasetIndices, info,
+                    crosshairState);
+        } else {
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
+            }
         }
+        this.dataRedrawArea = null;
+        g2.setClip(dataClip);
 
         // draw foreground annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && annotationsLayer) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
@@ -3048,6 +3240,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
         // draw domain crosshair if required...
         int datasetIndex = crosshairState.getDatasetIndex();
+        this.crosshairDatasetIndex = datasetIndex;
         ValueAxis xAxis = getDomainAxisForDataset(datasetIndex);
         RectangleEdge xAxisEdge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
         if (!this.domainCrosshairLockedOnData && anchor != null) {
@@ -3061,7 +3254,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             crosshairState.setCrosshairX(xx);
         }
         setDomainCrosshairValue(crosshairState.getCrosshairX(), false);
-        if (isDomainCrosshairVisible()) {
+        if (isDomainCrosshairVisible() && annotationsLayer) {
             double x = getDomainCrosshairValue();
             Paint paint = getDomainCrosshairPaint();
             Stroke stroke = getDomainCrosshairStroke();
@@ -3081,25 +3274,26 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             crosshairState.setCrosshairY(yy);
         }
         setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
-        if (isRangeCrosshairVisible()) {
+        if (isRangeCrosshairVisible() && annotationsLayer) {
             double y = getRangeCrosshairValue();
             Paint paint = getRangeCrosshairPaint();
             Stroke stroke = getRangeCrosshairStroke();
             drawRangeCrosshair(g2, dataArea, orient, y, yAxis, stroke, paint);
         }
 
-        if (!foundData) {
+        if (!foundData && dataLayer) {
             drawNoDataMessage(g2, dataArea);
         }
 
-        for (int i : rendererIndices) { 
-            drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
-        }
-        for (int i : rendererIndices) {
-            drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+        if (annotationsLayer) {
+            for (int i : rendererIndices) { 
+                drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
+            for (int i : rendererIndices) {
+                drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
+            drawAnnotations(g2, dataArea, info);
         }
-
-        drawAnnotations(g2, dataArea, info);
         if (this.shadowGenerator != null && !suppressShadow) {
             BufferedImage shadowImage
                     = this.shadowGenerator.createDropShadow(dataImage);
@@ -3114,10 +3308,90 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         g2.setClip(originalClip);
         g2.setComposite(originalComposite);
 
-        drawOutline(g2, dataArea);
+        if (annotationsLayer) {
+            drawOutline(g2, dataArea);
+        }
 
     }
 
+    /**
+     * Calculates the part of the data area that must be redrawn to show
+     * the items with x-values in the specified range, assuming that the 
+     * items with lower x-values are already drawn.  The area extends from 
+     * the last item before the range in each series (so that the lines
+     * joining it to the new items are complete) to the edge of the data 
+     * area where the domain axis reaches its upper bound (the right edge 
+     * for a vertical plot with a domain axis that is not inverted, the top
+     * edge for a horizontal plot).
+     * 
+     * @param range  the range of x-values ({@code null} not permitted).
+     * @param dataArea  the data area.
+     * 
+     * @return The area to redraw.
+     */
+    private Rectangle2D calculateDataRedrawArea(Range range, 
+            Rectangle2D dataArea) {
+        Rectangle2D result = null;
+        for (Entry<Integer, XYDataset<S>> entry : this.datasets.entrySet()) {
+            XYDataset<S> dataset = entry.getValue();
+            if (dataset == null) {
+                continue;
+            }
+            ValueAxis xAxis = getDomainAxisForDataset(entry.getKey());
+            if (xAxis == null) {
+                continue;
+            }
+            RectangleEdge edge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
+            double x = range.getLowerBound();
+            for (int series = 0; series < dataset.getSeriesCount(); series++) {
+                if (dataset.getItemCount(series) == 0) {
+                    continue;
+                }
+                int[] bounds = RendererUtils.findLiveItems(dataset, series,
+                        range.getLowerBound(), range.getUpperBound());
+                int previous = Math.max(bounds[0] - 1, 0);
+                x = Math.min(x, dataset.getXValue(series, previous));
+            }
+            double c = xAxis.valueToJava2D(x, dataArea, edge);
+            Rectangle2D area;
+            if (RectangleEdge.isTopOrBottom(edge)) {
+                // the x-coordinate increases with the value unless the 
+                // axis is inverted
+                double x0 = dataArea.getMinX();
+                double x1 = dataArea.getMaxX();
+                if (xAxis.isInverted()) {
+                    x1 = Math.min(Math.ceil(c), x1);
+                } else {
+                    x0 = Math.max(Math.floor(c), x0);
+                }
+                area = new Rectangle2D.Double(x0, dataArea.getMinY(), 
+                        Math.max(x1 - x0, 0.0), dataArea.getHeight());
+            } else {
+                // the y-coordinate decreases with the value unless the 
+                // axis is inverted
+                double y0 = dataArea.getMinY();
+                double y1 = dataArea.getMaxY();
+                if (xAxis.isInverted()) {
+                    y0 = Math.max(Math.floor(c), y0);
+                } else {
+                    y1 = Math.min(Math.ceil(c), y1);
+                }
+                area = new Rectangle2D.Double(dataArea.getMinX(), y0, 
+                        dataArea.getWidth(), Math.max(y1 - y0, 0.0));
+            }
+            if (result == null) {
+                result = area;
+            } else {
+                result.add(area);
+            }
+        }
+        if (result == null) {
+            result = new Rectangle2D.Double(dataArea.getMaxX(), 
+                    dataArea.getMinY(), 0.0, dataArea.getHeight());
+        }
+        return result;
+    }
+
     /**
      * Returns the indices of the non-null datasets in the specified order.
      * 
@@ -3431,6 +3705,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      * <P>
      * The {@code info} and {@code crosshairState} arguments may be
      * {@code null}.
+     * <P>
+     * For a {@link MultiResolutionXYDataset}, the items are taken from the
+     * coarsest summary level that has at least one block per pixel across
+     * the current range of the domain axis.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3460,71 +3738,323 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                     return foundData;
                 }
             }
+            dataset = getDatasetToRender(dataset, xAxis, dataArea);
 
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
-
-            SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
-            if (seriesOrder == SeriesRenderingOrder.REVERSE) {
-                //render series in reverse order
-                for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
-                    for (int series = seriesCount - 1; series >= 0; series--) {
-                        int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
-                        if (lastItem == -1) {
-                            continue;
-                        }
-                        if (state.getProcessVisibleItemsOnly()) {
-                            int[] itemBounds = RendererUtils.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
-                            firstItem = Math.max(itemBounds[0] - 1, 0);
-                            lastItem = Math.min(itemBounds[1] + 1, lastItem);
-                        }
-                        state.startSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
-                        }
-                        state.endSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                    }
+            int[] seriesOrder = getSeriesOrder(dataset);
+            for (int pass = 0; pass < passCount; pass++) {
+                for (int series : seriesOrder) {
+                    renderSeriesPass(g2, dataArea, info, crosshairState,
+                            renderer, state, dataset, series, xAxis, yAxis,
+                            pass, passCount, 
+                            () -> info != null && info.isCancelled());
                 }
             }
-            else {
-                //render series in forward order
+        }
+        return foundData;
+    }
+
+    /**
+     * Returns the dataset that is passed to the renderer for a dataset in
+     * the plot.  For a {@link MultiResolutionXYDataset} this is the coarsest
+     * summary level that still has at least one block per pixel across the
+     * current range of the domain axis, otherwise it is the dataset itself.
+     *
+     * @param dataset  the dataset.
+     * @param xAxis  the domain axis for the dataset.
+     * @param dataArea  the data area.
+     *
+     * @return The dataset to render.
+     */
+    private XYDataset<S> getDatasetToRender(XYDataset<S> dataset,
+            ValueAxis xAxis, Rectangle2D dataArea) {
+        if (dataset instanceof MultiResolutionXYDataset) {
+            RectangleEdge xEdge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
+            double pixels = RectangleEdge.isTopOrBottom(xEdge)
+                    ? dataArea.getWidth() : dataArea.getHeight();
+            return ((MultiResolutionXYDataset<S>) dataset).getDataset(
+                    xAxis.getRange(), (int) Math.ceil(pixels));
+        }
+        return dataset;
+    }
+
+    /**
+     * Returns the series indices for a dataset in the order given by the
+     * series rendering order.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The series indices.
+     */
+    private int[] getSeriesOrder(XYDataset<S> dataset) {
+        int seriesCount = dataset.getSeriesCount();
+        int[] result = new int[seriesCount];
+        boolean reverse = getSeriesRenderingOrder()
+                == SeriesRenderingOrder.REVERSE;
+        for (int i = 0; i < seriesCount; i++) {
+            result[i] = reverse ? seriesCount - 1 - i : i;
+        }
+        return result;
+    }
+
+    /**
+     * Renders the datasets in parallel (see
+     * {@link #setParallelRendering(boolean)}).  If the renderer for any
+     * dataset cannot be cloned, the datasets are rendered one after the
+     * other in the usual way.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param datasetIndices  the dataset indices in rendering order.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        ({@code null} permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderParallel(Graphics2D g2, Rectangle2D dataArea,
+            List<Integer> datasetIndices, PlotRenderingInfo info,
+            CrosshairState crosshairState) {
+        boolean foundData = false;
+        List<RenderLayer> layers = new ArrayList<>();
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        BooleanSupplier cancelled = () -> info != null && info.isCancelled();
+        int version;
+        Map<XYItemRenderer, Deque<RendererCopy>> copies;
+        synchronized (this) {
+            version = this.rendererCopiesVersion;
+            copies = this.rendererCopies;
+            this.rendererCopies = null;
+        }
+        if (copies == null) {
+            copies = new IdentityHashMap<>();
+        }
+        try {
+            for (int index : datasetIndices) {
+                XYDataset<S> dataset = getDataset(index);
+                if (DatasetUtils.isEmptyOrNull(dataset)) {
+                    continue;
+                }
+                foundData = true;
+                ValueAxis xAxis = getDomainAxisForDataset(index);
+                ValueAxis yAxis = getRangeAxisForDataset(index);
+                XYItemRenderer renderer = getRenderer(index);
+                if (renderer == null) {
+                    renderer = getRenderer();
+                }
+                if (xAxis == null || yAxis == null || renderer == null) {
+                    continue;
+                }
+                dataset = getDatasetToRender(dataset, xAxis, dataArea);
+                int[] seriesOrder = getSeriesOrder(dataset);
+                // look up the series attributes once here, so that any that
+                // are auto-populated are taken from the drawing supplier in
+                // order before the renderer is copied
+                for (int series : seriesOrder) {
+                    renderer.getItemPaint(series, 0);
+                    renderer.getItemFillPaint(series, 0);
+                    renderer.getItemOutlinePaint(series, 0);
+                    renderer.getItemStroke(series, 0);
+                    renderer.getItemOutlineStroke(series, 0);
+                    renderer.getItemShape(series, 0);
+                }
+                int passCount = renderer.getPassCount();
+                if (renderer instanceof AbstractXYItemRenderer
+                        && !((AbstractXYItemRenderer) renderer)
+                                .isSeriesIndependent()) {
+                    layers.add(new RenderLayer(g2, dataArea, info,
+                            crosshairState, copyRenderer(renderer,
+                            seriesOrder.length, copies), dataset,
+                            seriesOrder, xAxis, yAxis, -1, passCount,
+                            cancelled));
+                    continue;
+                }
+                int blockCount = Math.max(1, Math.min(seriesOrder.length,
+                        parallelism));
                 for (int pass = 0; pass < passCount; pass++) {
-                    int seriesCount = dataset.getSeriesCount();
-                    for (int series = 0; series < seriesCount; series++) {
-                        int firstItem = 0;
-                        int lastItem = dataset.getItemCount(series) - 1;
-                        if (state.getProcessVisibleItemsOnly()) {
-                            int[] itemBounds = RendererUtils.findLiveItems(
-                                    dataset, series, xAxis.getLowerBound(),
-                                    xAxis.getUpperBound());
-                            firstItem = Math.max(itemBounds[0] - 1, 0);
-                            lastItem = Math.min(itemBounds[1] + 1, lastItem);
-                        }
-                        state.startSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
-                        }
-                        state.endSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
+                    for (int b = 0; b < blockCount; b++) {
+                        int[] block = Arrays.copyOfRange(seriesOrder,
+                                b * seriesOrder.length / blockCount,
+                                (b + 1) * seriesOrder.length / blockCount);
+                        layers.add(new RenderLayer(g2, dataArea, info,
+                                crosshairState, copyRenderer(renderer,
+                                seriesOrder.length, copies), dataset, block,
+                                xAxis, yAxis, pass, passCount,
+                                cancelled));
                     }
                 }
             }
+        } catch (CloneNotSupportedException e) {
+            foundData = false;
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
+            }
+            return foundData;
+        }
+        for (RenderLayer layer : layers) {
+            layer.fork();
+        }
+        for (RenderLayer layer : layers) {
+            layer.join();
+        }
+        Map<XYItemRenderer, Deque<RendererCopy>> kept
+                = new IdentityHashMap<>();
+        for (RenderLayer layer : layers) {
+            layer.merge(g2, info, crosshairState);
+            kept.computeIfAbsent(layer.copy.original,
+                    r -> new ArrayDeque<>()).add(layer.copy);
+        }
+        synchronized (this) {
+            if (version == this.rendererCopiesVersion) {
+                this.rendererCopies = kept;
+            }
         }
         return foundData;
     }
 
+    /**
+     * Returns a copy of a renderer for a parallel rendering task, reusing a
+     * copy from an earlier rendering if there is one that has the attributes
+     * for enough series.
+     *
+     * @param renderer  the renderer.
+     * @param seriesCount  the number of series with attributes that have
+     *     been looked up in the renderer.
+     * @param copies  the unused copies from earlier renderings.
+     *
+     * @return The copy.
+     *
+     * @throws CloneNotSupportedException if the renderer cannot be cloned.
+     */
+    private RendererCopy copyRenderer(XYItemRenderer renderer,
+            int seriesCount, Map<XYItemRenderer, Deque<RendererCopy>> copies)
+            throws CloneNotSupportedException {
+        Deque<RendererCopy> unused = copies.get(renderer);
+        while (unused != null && !unused.isEmpty()) {
+            RendererCopy copy = unused.poll();
+            if (copy.seriesCount >= seriesCount) {
+                return copy;
+            }
+        }
+        return new RendererCopy(renderer, CloneUtils.clone(renderer),
+                seriesCount);
+    }
+
+    /**
+     * Discards the copies of the renderers kept for parallel rendering.
+     */
+    private void discardRendererCopies() {
+        synchronized (this) {
+            this.rendererCopies = null;
+            this.rendererCopiesVersion++;
+        }
+    }
+
+    /**
+     * Returns the number of device pixels per Java2D unit along an axis,
+     * from the current transform of a graphics device (for example 2.0 for
+     * a chart panel on a HiDPI screen with a scale factor of 200%).
+     *
+     * @param g2  the graphics device.
+     * @param edge  the axis edge.
+     *
+     * @return The scale (always positive).
+     */
+    private static double getDeviceScale(Graphics2D g2, RectangleEdge edge) {
+        AffineTransform t = g2.getTransform();
+        double scale = RectangleEdge.isTopOrBottom(edge)
+                ? Math.hypot(t.getScaleX(), t.getShearY())
+                : Math.hypot(t.getShearX(), t.getScaleY());
+        return (scale > 0.0 && !Double.isInfinite(scale)) ? scale : 1.0;
+    }
+
+    /**
+     * Draws the items in one series for one pass of the renderer.  Only the
+     * visible items are drawn if the renderer state requests this, and if
+     * the renderer state selects the series for decimation, only the items
+     * returned by {@link XYItemRendererState#decimateItems} are drawn.
+     * Drawing stops early if the rendering is cancelled (see
+     * {@link ChartRenderingInfo#cancel()}).
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        ({@code null} permitted).
+     * @param renderer  the renderer.
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param pass  the pass index.
+     * @param passCount  the number of passes.
+     * @param cancelled  returns {@code true} if the rendering has been
+     *     cancelled.
+     */
+    private void renderSeriesPass(Graphics2D g2, Rectangle2D dataArea,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            XYItemRenderer renderer, XYItemRendererState state,
+            XYDataset<S> dataset, int series, ValueAxis xAxis,
+            ValueAxis yAxis, int pass, int passCount,
+            BooleanSupplier cancelled) {
+        int firstItem = 0;
+        int lastItem = dataset.getItemCount(series) - 1;
+        if (lastItem == -1) {
+            return;
+        }
+        RectangleEdge xEdge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
+        if (state.getProcessVisibleItemsOnly()) {
+            double xLow = xAxis.getLowerBound();
+            if (this.dataRedrawArea != null) {
+                // items that lie clear of the redraw area are not drawn 
+                Rectangle2D r = this.dataRedrawArea;
+                boolean horizontal = RectangleEdge.isTopOrBottom(xEdge);
+                double c0 = (horizontal ? r.getMinX() : r.getMinY()) 
+                        - DATA_REDRAW_MARGIN;
+                double c1 = (horizontal ? r.getMaxX() : r.getMaxY()) 
+                        + DATA_REDRAW_MARGIN;
+                xLow = Math.max(xLow, Math.min(
+                        xAxis.java2DToValue(c0, dataArea, xEdge),
+                        xAxis.java2DToValue(c1, dataArea, xEdge)));
+            }
+            int[] itemBounds = RendererUtils.findLiveItems(dataset, series,
+                    xLow, xAxis.getUpperBound());
+            firstItem = Math.max(itemBounds[0] - 1, 0);
+            lastItem = Math.min(itemBounds[1] + 1, lastItem);
+        }
+        state.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                passCount);
+        int[] items = null;
+        if (state.isSeriesDecimated(series)) {
+            items = state.decimateItems(dataset, series, xAxis, dataArea,
+                    xEdge, getDeviceScale(g2, xEdge));
+        }
+        if (items == null) {
+            for (int item = firstItem; item <= lastItem; item++) {
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+                renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+                        yAxis, dataset, series, item, crosshairState, pass);
+            }
+        }
+        else {
+            for (int item : items) {
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+                renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+                        yAxis, dataset, series, item, crosshairState, pass);
+            }
+        }
+        state.endSeriesPass(dataset, series, firstItem, lastItem, pass,
+                passCount);
+    }
+
     /**
      * Returns the domain axis for a dataset.
      *
@@ -4138,6 +4668,12 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     @Override
     public Range getDataRange(ValueAxis axis) {
 
+        if (this.useCachedDataRanges && this.dataRanges != null) {
+            DataRange cached = this.dataRanges.get(axis);
+            if (cached != null) {
+                return cached.bounds;
+            }
+        }
         Range result = null;
         List<XYDataset<S>> mappedDatasets = new ArrayList<>();
         List<XYAnnotation> includedAnnotations = new ArrayList<>();
@@ -4216,9 +4752,330 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                 }
             }
         }
+        if (domainIndex >= 0 || rangeIndex >= 0) {
+            if (this.dataRanges == null) {
+                this.dataRanges = new IdentityHashMap<>();
+            }
+            this.dataRanges.put(axis, new DataRange(result,
+                    isDomainAxis ? null : getDomainAxisRanges()));
+        }
+        return result;
+    }
+
+    /**
+     * The bounds of the data for an axis, as returned by 
+     * {@link XYPlot#getDataRange(ValueAxis)}, plus (for a range axis) the 
+     * ranges of the domain axes at the time, since renderers only count the
+     * items within the range of the domain axis.
+     */
+    private static final class DataRange {
+
+        /** The bounds of the data ({@code null} if there is no data). */
+        private final Range bounds;
+
+        /** The domain axis ranges (for a range axis only). */
+        private final Map<ValueAxis, Range> domainAxisRanges;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param bounds  the bounds of the data ({@code null} permitted).
+         * @param domainAxisRanges  the domain axis ranges ({@code null} 
+         *     permitted).
+         */
+        DataRange(Range bounds, Map<ValueAxis, Range> domainAxisRanges) {
+            this.bounds = bounds;
+            this.domainAxisRanges = domainAxisRanges;
+        }
+    }
+
+    /**
+     * Returns the current range of each domain axis.
+     *
+     * @return A map from axis to range.
+     */
+    private Map<ValueAxis, Range> getDomainAxisRanges() {
+        Map<ValueAxis, Range> result = new IdentityHashMap<>();
+        for (ValueAxis axis : this.domainAxes.values()) {
+            if (axis != null) {
+                result.put(axis, axis.getRange());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Discards the cached data range for an axis.
+     *
+     * @param axis  the axis.
+     */
+    private void removeDataRange(ValueAxis axis) {
+        if (this.dataRanges != null) {
+            this.dataRanges.remove(axis);
+        }
+    }
+
+    /**
+     * Returns the index of the dataset that a change event refers to, if
+     * the axes can be updated from the details carried by the event, and
+     * -1 otherwise.  This requires a dataset that appears once in this
+     * plot (not a subplot) with its own renderer, and a renderer that
+     * supports incremental bounds.
+     *
+     * @param event  the event.
+     *
+     * @return The dataset index, or -1.
+     */
+    private int findIncrementalDatasetIndex(DatasetChangeEvent event) {
+        DatasetChangeInfo info = event.getInfo();
+        if (info == null || info.getSeries() < 0 || getParent() != null
+                || this.dataRanges == null) {
+            return -1;
+        }
+        int result = -1;
+        for (Map.Entry<Integer, XYDataset<S>> entry 
+                : this.datasets.entrySet()) {
+            if (entry.getValue() == event.getDataset()) {
+                if (result >= 0) {
+                    return -1;
+                }
+                result = entry.getKey();
+            }
+        }
+        if (result < 0 || !isIncrementalBoundsSupported(result)) {
+            return -1;
+        }
         return result;
     }
 
+    /**
+     * Returns {@code true} if the renderer for the specified dataset 
+     * calculates the bounds of the data in a way that can be updated 
+     * incrementally.
+     *
+     * @param index  the dataset index.
+     *
+     * @return A boolean.
+     */
+    private boolean isIncrementalBoundsSupported(int index) {
+        XYItemRenderer r = this.renderers.get(index);
+        if (!(r instanceof AbstractXYItemRenderer)) {
+            return false;
+        }
+        AbstractXYItemRenderer ar = (AbstractXYItemRenderer) r;
+        return ar.getPlot() == this && getIndexOf(r) == index
+                && ar.isIncrementalBoundsSupported();
+    }
+
+    /**
+     * Returns {@code true} if the dataset with the specified index is mapped
+     * to an axis.
+     *
+     * @param index  the dataset index.
+     * @param axisIndex  the axis index.
+     * @param map  the dataset to axes map.
+     *
+     * @return A boolean.
+     */
+    private static boolean isMappedToAxis(int index, int axisIndex,
+            Map<Integer, List<Integer>> map) {
+        List<Integer> mappedAxes = map.get(index);
+        if (mappedAxes == null) {
+            return axisIndex == 0;
+        }
+        return mappedAxes.contains(axisIndex);
+    }
+
+    /**
+     * Returns {@code true} if a change to data with the specified bounds,
+     * where values within {@code removed} are no longer present, leaves 
+     * the bounds unchanged apart from widening to include new values.
+     * This is the case if the removed values lie strictly inside the 
+     * bounds.
+     *
+     * @param bounds  the bounds ({@code null} permitted).
+     * @param removed  the removed values ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean canWiden(Range bounds, Range removed) {
+        return removed == null || (bounds != null 
+                && removed.getLowerBound() > bounds.getLowerBound()
+                && removed.getUpperBound() < bounds.getUpperBound());
+    }
+
+    /**
+     * Configures an axis after a change to the data, either from new data
+     * bounds (when {@code incremental} is {@code true}) or by recalculating
+     * the data bounds.
+     *
+     * @param axis  the axis.
+     * @param incremental  use the supplied bounds?
+     * @param bounds  the new bounds ({@code null} permitted).
+     * @param domainAxisRanges  the domain axis ranges, for a range axis.
+     */
+    private void configureAxis(ValueAxis axis, boolean incremental,
+            Range bounds, Map<ValueAxis, Range> domainAxisRanges) {
+        if (!incremental) {
+            this.dataRanges.remove(axis);
+            axis.configure();
+            return;
+        }
+        this.dataRanges.put(axis, new DataRange(bounds, domainAxisRanges));
+        this.useCachedDataRanges = true;
+        try {
+            axis.configure();
+        } finally {
+            this.useCachedDataRanges = false;
+        }
+    }
+
+    /**
+     * Updates the axes after a change to the dataset with the specified 
+     * index, widening the cached data bounds using the details of the 
+     * change where possible and rescanning the data (for one axis at a 
+     * time) where not.  Values that are removed from the data are only
+     * harmless if they lie strictly inside the cached bounds, and since the
+     * renderers only count the items within the range of the domain axis
+     * when finding the bounds for a range axis, a change to the range of a
+     * domain axis means rescanning unless the domain axis shows all the 
+     * data both before and after the change.
+     *
+     * @param index  the dataset index.
+     * @param info  the details of the change.
+     */
+    private void updateAxesIncrementally(int index, DatasetChangeInfo info) {
+        AbstractXYItemRenderer r = (AbstractXYItemRenderer) getRenderer(index);
+        boolean visibleOnly = r.getDataBoundsIncludesVisibleSeriesOnly();
+        if (visibleOnly && !r.isSeriesVisible(info.getSeries())) {
+            return; // the data bounds exclude the series
+        }
+
+        // update the domain axes, keeping the old data bounds...
+        Map<ValueAxis, DataRange> before = new IdentityHashMap<>();
+        for (Map.Entry<Integer, ValueAxis> entry : this.domainAxes.entrySet()) {
+            ValueAxis axis = entry.getValue();
+            if (axis == null) {
+                continue;
+            }
+            DataRange cached = this.dataRanges.get(axis);
+            if (cached != null) {
+                before.put(axis, cached);
+            }
+            if (isMappedToAxis(index, entry.getKey(), 
+                    this.datasetToDomainAxesMap)) {
+                boolean ok = cached != null && canWiden(cached.bounds,
+                        info.getRemovedXRange());
+                configureAxis(axis, ok, ok ? Range.combine(cached.bounds,
+                        info.getXRange()) : null, null);
+            }
+        }
+
+        // a renderer that looks only at the visible series only counts the
+        // items within the range of the domain axis...
+        Map<ValueAxis, Range> domainAxisRanges = getDomainAxisRanges();
+        Range addedY = info.getYRange();
+        boolean addedOK = true;
+        ValueAxis xAxis = getDomainAxisForDataset(index);
+        if (visibleOnly && addedY != null && xAxis != null) {
+            Range window = xAxis.getRange();
+            Range x = info.getXRange();
+            if (x == null) {
+                addedOK = false;
+            } else if (x.getLowerBound() > window.getUpperBound()
+                    || x.getUpperBound() < window.getLowerBound()) {
+                addedY = null;
+            } else {
+                addedOK = window.contains(x.getLowerBound())
+                        && window.contains(x.getUpperBound());
+            }
+        }
+
+        for (Map.Entry<Integer, ValueAxis> entry : this.rangeAxes.entrySet()) {
+            ValueAxis axis = entry.getValue();
+            if (axis == null) {
+                continue;
+            }
+            DataRange cached = this.dataRanges.get(axis);
+            boolean valid = cached != null && cached.domainAxisRanges != null
+                    && isDataRangeValid(entry.getKey(), cached, before);
+            if (isMappedToAxis(index, entry.getKey(), 
+                    this.datasetToRangeAxesMap)) {
+                boolean ok = valid && addedOK && canWiden(cached.bounds, 
+                        info.getRemovedYRange());
+                configureAxis(axis, ok, ok ? Range.combine(cached.bounds,
+                        addedY) : null, domainAxisRanges);
+            } else if (!valid) {
+                configureAxis(axis, false, null, null);
+            } else {
+                this.dataRanges.put(axis, new DataRange(cached.bounds,
+                        domainAxisRanges));
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the cached data range for a range axis is 
+     * still valid for the data that was present before a change, given 
+     * that the ranges of the domain axes may have changed since it was
+     * calculated.  This is the case if, for each dataset mapped to the 
+     * axis, either the domain axis range is unchanged or the renderer
+     * counts all the items both before and after the change.
+     *
+     * @param axisIndex  the range axis index.
+     * @param cached  the cached data range.
+     * @param before  the domain axis data ranges before the change.
+     *
+     * @return A boolean.
+     */
+    private boolean isDataRangeValid(int axisIndex, DataRange cached,
+            Map<ValueAxis, DataRange> before) {
+        for (Integer index : this.datasets.keySet()) {
+            if (!isMappedToAxis(index, axisIndex, 
+                    this.datasetToRangeAxesMap)) {
+                continue;
+            }
+            ValueAxis xAxis = getDomainAxisForDataset(index);
+            if (xAxis == null) {
+                continue;
+            }
+            Range windowBefore = cached.domainAxisRanges.get(xAxis);
+            if (xAxis.getRange().equals(windowBefore)) {
+                continue;
+            }
+            if (!isIncrementalBoundsSupported(index)) {
+                return false;
+            }
+            AbstractXYItemRenderer r 
+                    = (AbstractXYItemRenderer) getRenderer(index);
+            if (!r.getDataBoundsIncludesVisibleSeriesOnly()) {
+                continue;
+            }
+            DataRange boundsBefore = before.get(xAxis);
+            DataRange boundsAfter = this.dataRanges.get(xAxis);
+            if (windowBefore == null || boundsBefore == null 
+                    || boundsAfter == null
+                    || !contains(windowBefore, boundsBefore.bounds)
+                    || !contains(xAxis.getRange(), boundsAfter.bounds)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code true} if {@code range} contains {@code bounds}.
+     *
+     * @param range  the range ({@code null} not permitted).
+     * @param bounds  the bounds ({@code null} permitted, meaning no data).
+     *
+     * @return A boolean.
+     */
+    private static boolean contains(Range range, Range bounds) {
+        return bounds == null || (range.contains(bounds.getLowerBound()) 
+                && range.contains(bounds.getUpperBound()));
+    }
+
     /**
      * Receives notification of a change to an {@link Annotation} added to
      * this plot.
@@ -4236,17 +5093,38 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
     }
 
+    /**
+     * Sends a {@link PlotChangeEvent} to all registered listeners, after 
+     * discarding the cached data ranges (since any change to the plot may
+     * affect them).
+     */
+    @Override
+    protected void fireChangeEvent() {
+        if (this.dataRanges != null) {
+            this.dataRanges.clear();
+        }
+        super.fireChangeEvent();
+    }
+
     /**
      * Receives notification of a change to the plot's dataset.
      * <P>
-     * The axis ranges are updated if necessary.
+     * The axis ranges are updated if necessary.  If the event carries the
+     * details of the change, the data bounds calculated for the axes the 
+     * last time are widened to include the new values instead of 
+     * rescanning the data, where it is safe to do so.
      *
-     * @param event  information about the event (not used here).
+     * @param event  information about the event.
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
-        configureDomainAxes();
-        configureRangeAxes();
+        int index = findIncrementalDatasetIndex(event);
+        if (index >= 0) {
+            updateAxesIncrementally(index, event.getInfo());
+        } else {
+            configureDomainAxes();
+            configureRangeAxes();
+        }
         if (getParent() != null) {
             getParent().datasetChanged(event);
         }
@@ -4270,6 +5148,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             configureDomainAxes();
             configureRangeAxes();
         }
+        discardRendererCopies();
         fireChangeEvent();
     }
 
@@ -5186,6 +6065,9 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (!Objects.equals(this.shadowGenerator, that.shadowGenerator)) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -5246,6 +6128,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         hash = 43 * hash + this.weight;
         hash = 43 * hash + Objects.hashCode(this.fixedLegendItems);
         hash = 43 * hash + Objects.hashCode(this.shadowGenerator);
+        hash = 43 * hash + (this.parallelRendering ? 1 : 0);
         return hash;
     }
 
@@ -5321,6 +6204,8 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
         clone.quadrantOrigin = CloneUtils.clone(this.quadrantOrigin);
         clone.quadrantPaint = this.quadrantPaint.clone();
+        clone.dataRanges = null;
+        clone.rendererCopies = null;
         return clone;
 
     }
@@ -5422,4 +6307,251 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
     }
 
+
+    /**
+     * A copy of a renderer used by the parallel rendering tasks.
+     */
+    private static class RendererCopy {
+
+        /** The renderer that was copied. */
+        final XYItemRenderer original;
+
+        /** The copy. */
+        final XYItemRenderer renderer;
+
+        /**
+         * The number of series with attributes that had been looked up in
+         * the original renderer when it was copied.
+         */
+        final int seriesCount;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param original  the renderer that was copied.
+         * @param renderer  the copy.
+         * @param seriesCount  the number of series with attributes that had
+         *     been looked up.
+         */
+        RendererCopy(XYItemRenderer original, XYItemRenderer renderer,
+                int seriesCount) {
+            this.original = original;
+            this.renderer = renderer;
+            this.seriesCount = seriesCount;
+        }
+
+    }
+
+    /**
+     * A task that draws some of the data items for one dataset into an
+     * off-screen image, using its own copy of the renderer, its own renderer
+     * state and its own entity collection and crosshair state, all of which
+     * are merged into the plot's output by {@link #merge}.
+     */
+    private class RenderLayer extends RecursiveAction {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1L;
+
+        /** The copy of the renderer (used only by this task). */
+        private final RendererCopy copy;
+
+        /** The dataset. */
+        private final XYDataset<S> dataset;
+
+        /** The series to draw, in rendering order. */
+        private final int[] series;
+
+        /** The pass to draw, or -1 for all passes. */
+        private final int pass;
+
+        /** The number of passes for the renderer. */
+        private final int passCount;
+
+        /** The domain axis. */
+        private final ValueAxis xAxis;
+
+        /** The range axis. */
+        private final ValueAxis yAxis;
+
+        /** The data area. */
+        private final Rectangle2D dataArea;
+
+        /** The bounds of the data area in device space. */
+        private final Rectangle bounds;
+
+        /** The transform of the target graphics device. */
+        private final AffineTransform transform;
+
+        /** The clip of the target graphics device. */
+        private final Shape clip;
+
+        /** The rendering hints of the target graphics device. */
+        private final RenderingHints hints;
+
+        /** The composite of the target graphics device. */
+        private final Composite composite;
+
+        /** The rendering info for this task ({@code null} permitted). */
+        private final PlotRenderingInfo info;
+
+        /** The crosshair state for this task ({@code null} permitted). */
+        private final CrosshairState crosshairState;
+
+        /** Returns {@code true} if the rendering has been cancelled. */
+        private final BooleanSupplier cancelled;
+
+        /** The image that the items are drawn into. */
+        private BufferedImage image;
+
+        /**
+         * Creates a new task.
+         *
+         * @param g2  the target graphics device.
+         * @param dataArea  the data area.
+         * @param info  the plot rendering info ({@code null} permitted).
+         * @param crosshairState  the crosshair state ({@code null}
+         *     permitted).
+         * @param copy  the copy of the renderer (used only by this task).
+         * @param dataset  the dataset.
+         * @param series  the series to draw, in rendering order.
+         * @param xAxis  the domain axis.
+         * @param yAxis  the range axis.
+         * @param pass  the pass to draw, or -1 for all passes.
+         * @param passCount  the number of passes.
+         * @param cancelled  returns {@code true} if the rendering has been
+         *     cancelled.
+         */
+        RenderLayer(Graphics2D g2, Rectangle2D dataArea,
+                PlotRenderingInfo info, CrosshairState crosshairState,
+                RendererCopy copy, XYDataset<S> dataset, int[] series,
+                ValueAxis xAxis, ValueAxis yAxis, int pass, int passCount,
+                BooleanSupplier cancelled) {
+            this.copy = copy;
+            this.cancelled = cancelled;
+            this.dataset = dataset;
+            this.series = series;
+            this.pass = pass;
+            this.passCount = passCount;
+            this.xAxis = xAxis;
+            this.yAxis = yAxis;
+            this.dataArea = dataArea;
+            this.transform = g2.getTransform();
+            this.bounds = this.transform.createTransformedShape(dataArea)
+                    .getBounds();
+            this.clip = g2.getClip();
+            this.hints = g2.getRenderingHints();
+            this.composite = g2.getComposite();
+            if (info != null) {
+                EntityCollection entities = null;
+                if (info.getOwner() != null
+                        && info.getOwner().getEntityCollection() != null) {
+                    entities = info.getOwner().getEntityCollection()
+                            instanceof CompactEntityCollection
+                            ? new CompactEntityCollection()
+                            : new StandardEntityCollection();
+                }
+                this.info = new ChartRenderingInfo(entities).getPlotInfo();
+                this.info.setPlotArea(info.getPlotArea());
+                this.info.setDataArea(info.getDataArea());
+            } else {
+                this.info = null;
+            }
+            if (crosshairState != null) {
+                this.crosshairState = new CrosshairState();
+                this.crosshairState.setAnchor(crosshairState.getAnchor());
+                this.crosshairState.setAnchorX(crosshairState.getAnchorX());
+                this.crosshairState.setAnchorY(crosshairState.getAnchorY());
+                this.crosshairState.setCrosshairX(
+                        crosshairState.getCrosshairX());
+                this.crosshairState.setCrosshairY(
+                        crosshairState.getCrosshairY());
+                this.crosshairState.setDatasetIndex(
+                        crosshairState.getDatasetIndex());
+                this.crosshairState.setCrosshairDistance(
+                        crosshairState.getCrosshairDistance());
+            } else {
+                this.crosshairState = null;
+            }
+        }
+
+        /**
+         * Draws the items.
+         */
+        @Override
+        protected void compute() {
+            if (this.cancelled.getAsBoolean()) {
+                return;
+            }
+            this.image = new BufferedImage(Math.max(this.bounds.width, 1),
+                    Math.max(this.bounds.height, 1),
+                    BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2 = this.image.createGraphics();
+            try {
+                g2.translate(-this.bounds.x, -this.bounds.y);
+                g2.transform(this.transform);
+                g2.setRenderingHints(this.hints);
+                g2.setComposite(this.composite);
+                g2.setClip(this.clip);
+                XYItemRenderer renderer = this.copy.renderer;
+                XYItemRendererState state = renderer.initialise(g2,
+                        this.dataArea, XYPlot.this, this.dataset, this.info);
+                int first = this.pass < 0 ? 0 : this.pass;
+                int last = this.pass < 0 ? this.passCount - 1 : this.pass;
+                for (int p = first; p <= last; p++) {
+                    for (int s : this.series) {
+                        renderSeriesPass(g2, this.dataArea, this.info,
+                                this.crosshairState, renderer, state,
+                                this.dataset, s, this.xAxis, this.yAxis, p,
+                                this.passCount, this.cancelled);
+                    }
+                }
+            } finally {
+                g2.dispose();
+            }
+        }
+
+        /**
+         * Draws the image for this task and adds the entities and crosshair
+         * values collected by the task to the plot's output.
+         *
+         * @param g2  the target graphics device.
+         * @param info  the plot rendering info ({@code null} permitted).
+         * @param crosshairState  the crosshair state ({@code null}
+         *     permitted).
+         */
+        void merge(Graphics2D g2, PlotRenderingInfo info,
+                CrosshairState crosshairState) {
+            if (this.image == null) {
+                return;  // the rendering was cancelled
+            }
+            AffineTransform savedTransform = g2.getTransform();
+            Composite savedComposite = g2.getComposite();
+            g2.setTransform(new AffineTransform());
+            g2.setComposite(AlphaComposite.SrcOver);
+            g2.drawImage(this.image, this.bounds.x, this.bounds.y, null);
+            g2.setComposite(savedComposite);
+            g2.setTransform(savedTransform);
+            this.image = null;
+            if (this.info != null
+                    && this.info.getOwner().getEntityCollection() != null) {
+                info.getOwner().getEntityCollection().addAll(
+                        this.info.getOwner().getEntityCollection());
+            }
+            if (this.crosshairState != null
+                    && this.crosshairState.getCrosshairDistance()
+                    < crosshairState.getCrosshairDistance()) {
+                crosshairState.setCrosshairX(
+                        this.crosshairState.getCrosshairX());
+                crosshairState.setCrosshairY(
+                        this.crosshairState.getCrosshairY());
+                crosshairState.setDatasetIndex(
+                        this.crosshairState.getDatasetIndex());
+                crosshairState.setCrosshairDistance(
+                        this.crosshairState.getCrosshairDistance());
+            }
+        }
+
+    }
+
 }
@@ -63,6 +63,7 @@ import org.jfree.chart.ChartElementVisitor;
 import org.jfree.chart.ChartHints;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.event.RendererChangeListener;
 import org.jfree.chart.labels.ItemLabelAnchor;
@@ -74,6 +75,7 @@ import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.internal.HashUtils;
 import org.jfree.chart.internal.SerialUtils;
+import org.jfree.chart.internal.SpriteCache;
 import org.jfree.chart.text.TextAnchor;
 import org.jfree.chart.internal.PaintUtils;
 import org.jfree.chart.internal.ShapeUtils;
@@ -298,6 +300,21 @@ public abstract class AbstractRenderer implements ChartElement, Cloneable, Seria
     /** The default radius for the entity 'hotspot' */
     private int defaultEntityRadius;
 
+    /**
+     * A flag that controls whether the tool tip and URL text for item
+     * entities is generated only when it is first requested.
+     */
+    private boolean lazyEntityText;
+
+    /**
+     * A flag that controls whether item shapes are drawn as cached images
+     * when the target is a raster device.
+     */
+    private boolean spriteRendering;
+
+    /** The cache of item shape images (created when first required). */
+    private transient SpriteCache spriteCache;
+
     /** Storage for registered change listeners. */
     private transient EventListenerList listenerList;
 
@@ -2277,6 +2294,159 @@ public abstract class AbstractRenderer implements ChartElement, Cloneable, Seria
         this.defaultEntityRadius = radius;
     }
 
+    /**
+     * Returns the flag that controls whether the tool tip and URL text for
+     * item entities is generated only when it is first requested.  When
+     * this flag is set, the item entities keep a reference to the dataset
+     * and the tool tip and URL generators instead of the text, which saves
+     * time and memory when drawing charts with many entities (the text is
+     * usually only displayed for a few of them).  The text is then
+     * generated from the dataset as it is when the text is requested.  The
+     * default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setLazyEntityText(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getLazyEntityText() {
+        return this.lazyEntityText;
+    }
+
+    /**
+     * Sets the flag that controls whether the tool tip and URL text for item
+     * entities is generated only when it is first requested, and sends a
+     * {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param lazy  the new flag value.
+     *
+     * @see #getLazyEntityText()
+     *
+     * @since 2.0.0
+     */
+    public void setLazyEntityText(boolean lazy) {
+        this.lazyEntityText = lazy;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether item shapes are drawn as
+     * cached images (sprites) when the target is a raster device.  Each
+     * distinct combination of shape, paint, outline stroke and position
+     * within a pixel is then rasterised only once, which is much faster
+     * when many items are drawn with the same shape.  The result is very
+     * close to, but not always identical with, drawing the shapes directly.
+     * Only renderers that draw a marker shape for each item make use of
+     * this flag.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setSpriteRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getSpriteRendering() {
+        return this.spriteRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether item shapes are drawn as cached
+     * images (sprites) when the target is a raster device, and sends a
+     * {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param sprites  the new flag value.
+     *
+     * @see #getSpriteRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setSpriteRendering(boolean sprites) {
+        this.spriteRendering = sprites;
+        this.spriteCache = null;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the style for a series, looking it up with
+     * {@link #createSeriesStyle(int)} the first time it is requested for
+     * the specified state (that is, once per series for each drawing).  If
+     * the renderer class overrides any of the methods that return the
+     * attributes for an individual item (see
+     * {@link SeriesStyle#isSupported(Class)}), this method returns
+     * {@code null} and the item attributes should be looked up for each
+     * item in the usual way.
+     *
+     * @param state  the renderer state ({@code null} not permitted).
+     * @param series  the series index (zero-based).
+     *
+     * @return The style (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    protected SeriesStyle lookupSeriesStyle(RendererState state, int series) {
+        if (!SeriesStyle.isSupported(getClass())) {
+            return null;
+        }
+        SeriesStyle style = state.getSeriesStyle(series);
+        if (style == null) {
+            style = createSeriesStyle(series);
+            state.setSeriesStyle(series, style);
+        }
+        return style;
+    }
+
+    /**
+     * Creates the style for a series.  Subclasses that have flags for the
+     * visibility of lines and shapes override this method to include them.
+     * By overriding this method, a subclass also indicates that its item
+     * attribute methods return the same values for all items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The style (never {@code null}).
+     *
+     * @since 2.0.0
+     */
+    protected SeriesStyle createSeriesStyle(int series) {
+        return new SeriesStyle(this, series, true, true, true);
+    }
+
+    /**
+     * Draws an item shape, translated to {@code (x, y)}, as a cached image
+     * if the sprite rendering flag is set and the target and paints are
+     * supported by {@link SpriteCache}.  If this method returns
+     * {@code false}, nothing has been drawn and the caller should draw the
+     * shape in the usual way.
+     *
+     * @param g2  the graphics device.
+     * @param shape  the shape (centered on the origin).
+     * @param x  the x-coordinate for the shape (in Java2D space).
+     * @param y  the y-coordinate for the shape (in Java2D space).
+     * @param fillPaint  the fill paint ({@code null} for no fill).
+     * @param outlinePaint  the outline paint ({@code null} for no
+     *     outline).
+     * @param outlineStroke  the outline stroke.
+     *
+     * @return A boolean indicating whether the shape was drawn.
+     *
+     * @see #getSpriteRendering()
+     *
+     * @since 2.0.0
+     */
+    protected boolean drawItemShapeSprite(Graphics2D g2, Shape shape,
+            double x, double y, Paint fillPaint, Paint outlinePaint,
+            Stroke outlineStroke) {
+        if (!this.spriteRendering) {
+            return false;
+        }
+        if (this.spriteCache == null) {
+            this.spriteCache = new SpriteCache();
+        }
+        return this.spriteCache.draw(g2, shape, x, y, fillPaint,
+                outlinePaint, outlineStroke);
+    }
+
     /**
      * Performs a lookup for the legend shape.
      *
@@ -2691,6 +2861,10 @@ public abstract class AbstractRenderer implements ChartElement, Cloneable, Seria
      * @param event  information about the change event.
      */
     public void notifyListeners(RendererChangeEvent event) {
+        if (ChangeBatch.defer(this, RendererChangeListener.class, event,
+                this::notifyListeners)) {
+            return;
+        }
         Object[] ls = this.listenerList.getListenerList();
         for (int i = ls.length - 2; i >= 0; i -= 2) {
             if (ls[i] == RendererChangeListener.class) {
@@ -2835,6 +3009,12 @@ public abstract class AbstractRenderer implements ChartElement, Cloneable, Seria
         if (this.defaultCreateEntities != that.defaultCreateEntities) {
             return false;
         }
+        if (this.lazyEntityText != that.lazyEntityText) {
+            return false;
+        }
+        if (this.spriteRendering != that.spriteRendering) {
+            return false;
+        }
         if (!ShapeUtils.equal(this.seriesLegendShapes, that.seriesLegendShapes)) {
             return false;
         }
@@ -2994,6 +3174,7 @@ public abstract class AbstractRenderer implements ChartElement, Cloneable, Seria
         }
         clone.listenerList = new EventListenerList();
         clone.event = null;
+        clone.spriteCache = null;
         return clone;
     }
 
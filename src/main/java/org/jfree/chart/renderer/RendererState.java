@@ -36,6 +36,8 @@
 
 package org.jfree.chart.renderer;
 
+import java.util.Arrays;
+
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.plot.PlotRenderingInfo;
@@ -55,6 +57,9 @@ public class RendererState {
      */
     private boolean elementHinting;
 
+    /** The series styles looked up so far, by series index. */
+    private SeriesStyle[] seriesStyles;
+
     /**
      * Creates a new state object.
      *
@@ -111,4 +116,42 @@ public class RendererState {
         return result;
     }
 
+    /**
+     * Returns the style that has been stored for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The style (possibly {@code null}).
+     *
+     * @see AbstractRenderer#lookupSeriesStyle(RendererState, int)
+     *
+     * @since 2.0.0
+     */
+    public SeriesStyle getSeriesStyle(int series) {
+        if (this.seriesStyles == null || series >= this.seriesStyles.length) {
+            return null;
+        }
+        return this.seriesStyles[series];
+    }
+
+    /**
+     * Stores the style for a series, so that it is looked up only once
+     * while the renderer draws with this state.
+     *
+     * @param series  the series index (zero-based).
+     * @param style  the style ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setSeriesStyle(int series, SeriesStyle style) {
+        if (this.seriesStyles == null) {
+            this.seriesStyles = new SeriesStyle[Math.max(series + 1, 8)];
+        }
+        else if (series >= this.seriesStyles.length) {
+            this.seriesStyles = Arrays.copyOf(this.seriesStyles,
+                    Math.max(series + 1, this.seriesStyles.length * 2));
+        }
+        this.seriesStyles[series] = style;
+    }
+
 }
@@ -36,8 +36,13 @@
 
 package org.jfree.chart.renderer;
 
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
 
 /**
@@ -251,4 +256,211 @@ public class RendererUtils {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Finds the items in a range that must be drawn so that a line through
+     * the items looks the same as a line through all the items in the
+     * range, when many items share the same pixel column (M4 decimation).
+     * For each pixel column (on the domain axis) the first, last, minimum
+     * and maximum items are kept (for an {@link IntervalXYDataset}, the
+     * items with the minimum start y-value and the maximum end y-value are
+     * kept too).  An item with a y-value of {@code Double.NaN} (a gap in
+     * the line) is always kept and ends a column.  The line between the
+     * last item in one column and the first item in the next is an original
+     * segment, and the line through the items kept for a column covers the
+     * same pixels in that column as the original line (apart from the odd
+     * pixel where the rasterizer rounds the shorter segments differently).
+     * <p>
+     * If the x-values are not in ascending order, or there are not many
+     * more items than pixel columns, this method returns {@code null}
+     * (meaning that all items should be drawn).
+     * <p>
+     * The pixel columns are one unit wide in Java2D space.  When drawing to
+     * a device where a unit covers more than one pixel (for example a HiDPI
+     * screen), use
+     * {@link #findDecimatedItems(XYDataset, int, int, int, ValueAxis, Rectangle2D, RectangleEdge, double)}
+     * instead.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item in the range.
+     * @param lastItem  the index of the last item in the range.
+     * @param xAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param xEdge  the domain axis edge ({@code null} not permitted).
+     *
+     * @return The indices of the items to draw, in ascending order (or
+     *     {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis xAxis,
+            Rectangle2D dataArea, RectangleEdge xEdge) {
+        return findDecimatedItems(dataset, series, firstItem, lastItem,
+                xAxis, dataArea, xEdge, 1.0);
+    }
+
+    /**
+     * Finds the items in a range that must be drawn so that a line through
+     * the items looks the same as a line through all the items in the
+     * range (see
+     * {@link #findDecimatedItems(XYDataset, int, int, int, ValueAxis, Rectangle2D, RectangleEdge)}),
+     * for a device with {@code scale} pixels per Java2D unit along the
+     * domain axis (for example 2.0 for a chart drawn on a HiDPI screen with
+     * a scale factor of 200%).
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item in the range.
+     * @param lastItem  the index of the last item in the range.
+     * @param xAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param xEdge  the domain axis edge ({@code null} not permitted).
+     * @param scale  the number of device pixels per Java2D unit along the
+     *     domain axis (must be positive).
+     *
+     * @return The indices of the items to draw, in ascending order (or
+     *     {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis xAxis,
+            Rectangle2D dataArea, RectangleEdge xEdge, double scale) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(xAxis, "xAxis");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        if (!(scale > 0.0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException(
+                    "Requires 'scale' to be positive and finite.");
+        }
+        double columns = scale * (RectangleEdge.isTopOrBottom(xEdge)
+                ? dataArea.getWidth() : dataArea.getHeight());
+        if (lastItem - firstItem + 1 <= 4 * (columns + 2)) {
+            return null;
+        }
+        IntervalXYDataset intervals = dataset instanceof IntervalXYDataset
+                ? (IntervalXYDataset) dataset : null;
+        int[] result = new int[(int) Math.min(lastItem - firstItem + 1,
+                8 * (columns + 2))];
+        int count = 0;
+        int[] kept = new int[8];  // first, last, min, max, ... for a column
+        double[] extremes = new double[6];
+        long column = Long.MIN_VALUE;
+        int size = 0;  // the number of entries in 'kept' (0 = no column)
+        double previousX = Double.NEGATIVE_INFINITY;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            if (!(x >= previousX)) {
+                return null;  // not in ascending order (or NaN)
+            }
+            previousX = x;
+            double y = dataset.getYValue(series, item);
+            double yLow = y;
+            double yHigh = y;
+            if (intervals != null) {
+                yLow = intervals.getStartYValue(series, item);
+                yHigh = intervals.getEndYValue(series, item);
+            }
+            long c = (long) Math.floor(scale * xAxis.valueToJava2D(x,
+                    dataArea, xEdge));
+            if (Double.isNaN(y) || c != column) {
+                // end the current column
+                int n = distinct(kept, size);
+                result = ensureCapacity(result, count + n + 1);
+                System.arraycopy(kept, 0, result, count, n);
+                count += n;
+                size = 0;
+            }
+            if (Double.isNaN(y)) {
+                result[count++] = item;
+                column = Long.MIN_VALUE;
+                continue;
+            }
+            if (size == 0) {
+                column = c;
+                Arrays.fill(kept, item);
+                extremes[0] = y;
+                extremes[1] = y;
+                extremes[2] = yLow;
+                extremes[3] = yLow;
+                extremes[4] = yHigh;
+                extremes[5] = yHigh;
+                size = 8;
+                continue;
+            }
+            kept[1] = item;
+            updateExtremes(kept, extremes, 0, y, item);
+            updateExtremes(kept, extremes, 1, yLow, item);
+            updateExtremes(kept, extremes, 2, yHigh, item);
+        }
+        int n = distinct(kept, size);
+        result = ensureCapacity(result, count + n);
+        System.arraycopy(kept, 0, result, count, n);
+        return Arrays.copyOf(result, count + n);
+    }
+
+    /**
+     * Updates the minimum and maximum for one of the values tracked in a
+     * pixel column.
+     *
+     * @param kept  the items kept for the column.
+     * @param extremes  the minimum and maximum values.
+     * @param v  the index of the value (0 for y, 1 for the start y-value and
+     *     2 for the end y-value).
+     * @param value  the value for the item.
+     * @param item  the item index.
+     */
+    private static void updateExtremes(int[] kept, double[] extremes, int v,
+            double value, int item) {
+        if (value < extremes[2 * v]) {
+            extremes[2 * v] = value;
+            kept[2 + 2 * v] = item;
+        }
+        if (value > extremes[2 * v + 1]) {
+            extremes[2 * v + 1] = value;
+            kept[3 + 2 * v] = item;
+        }
+    }
+
+    /**
+     * Sorts the first {@code size} entries in {@code items}, removes
+     * duplicates and returns the number of distinct entries (which are
+     * moved to the start of the array).
+     *
+     * @param items  the items.
+     * @param size  the number of entries.
+     *
+     * @return The number of distinct entries.
+     */
+    private static int distinct(int[] items, int size) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(items, 0, size);
+        int n = 1;
+        for (int i = 1; i < size; i++) {
+            if (items[i] != items[n - 1]) {
+                items[n++] = items[i];
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Returns an array with at least the specified length, containing the
+     * values from {@code array}.
+     *
+     * @param array  the array.
+     * @param length  the required length.
+     *
+     * @return The array (possibly a new array).
+     */
+    private static int[] ensureCapacity(int[] array, int length) {
+        if (length <= array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(length, array.length * 2));
+    }
+
 }
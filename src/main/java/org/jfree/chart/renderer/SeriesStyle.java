@@ -0,0 +1,291 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------
+ * SeriesStyle.java
+ * ----------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Paint;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The drawing attributes for all the items in one series, looked up once
+ * from a renderer so that they don't have to be looked up again for each
+ * item.  A style is only used by a renderer if none of the methods that
+ * return the attributes for an individual item (such as
+ * {@link AbstractRenderer#getItemPaint(int, int)}) are overridden, since
+ * a subclass could then return different attributes for each item (see
+ * {@link #isSupported(Class)}).
+ *
+ * @see AbstractRenderer#lookupSeriesStyle(RendererState, int)
+ *
+ * @since 2.0.0
+ */
+public class SeriesStyle {
+
+    /**
+     * The names of the methods that, if declared by a renderer class that
+     * does not also declare
+     * {@link AbstractRenderer#createSeriesStyle(int)}, disable the use of
+     * series styles.  These are the item attribute methods plus the
+     * methods of the line and shape renderers that the series style
+     * replaces.
+     */
+    private static final Set<String> ITEM_METHODS = new HashSet<>(
+            Arrays.asList("getItemVisible", "getItemPaint",
+            "getItemFillPaint", "getItemOutlinePaint", "getItemStroke",
+            "getItemOutlineStroke", "getItemShape", "isItemLabelVisible",
+            "getItemLineVisible", "getItemShapeVisible",
+            "getItemShapeFilled", "drawFirstPassShape", "drawSecondaryPass"));
+
+    /** The result of {@link #isSupported(Class)} for each class. */
+    private static final ClassValue<Boolean> SUPPORTED
+            = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+                if (k == AbstractRenderer.class
+                        || declaresCreateSeriesStyle(k)) {
+                    continue;
+                }
+                for (Method m : k.getDeclaredMethods()) {
+                    if (ITEM_METHODS.contains(m.getName())) {
+                        return Boolean.FALSE;
+                    }
+                }
+            }
+            return Boolean.TRUE;
+        }
+    };
+
+    /**
+     * Returns {@code true} if the specified class declares the
+     * {@code createSeriesStyle(int)} method.
+     *
+     * @param c  the class.
+     *
+     * @return A boolean.
+     */
+    private static boolean declaresCreateSeriesStyle(Class<?> c) {
+        try {
+            c.getDeclaredMethod("createSeriesStyle", int.class);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code true} if series styles can be used for renderers of
+     * the specified class, which is the case when neither the class nor
+     * any of its superclasses declare any of the methods that return the
+     * attributes for an item.  A class that overrides
+     * {@link AbstractRenderer#createSeriesStyle(int)} is taken to return
+     * the same attributes for every item in a series, so the methods that
+     * it declares are not counted.
+     *
+     * @param rendererClass  the renderer class ({@code null} not
+     *     permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isSupported(Class<?> rendererClass) {
+        return SUPPORTED.get(rendererClass);
+    }
+
+    /** Is the series visible? */
+    private final boolean visible;
+
+    /** The paint. */
+    private final Paint paint;
+
+    /** The fill paint. */
+    private final Paint fillPaint;
+
+    /** The outline paint. */
+    private final Paint outlinePaint;
+
+    /** The stroke. */
+    private final Stroke stroke;
+
+    /** The outline stroke. */
+    private final Stroke outlineStroke;
+
+    /** The shape ({@code null} if shapes are not visible). */
+    private final Shape shape;
+
+    /** Are item labels visible? */
+    private final boolean itemLabelVisible;
+
+    /** Are lines visible? */
+    private final boolean lineVisible;
+
+    /** Are shapes visible? */
+    private final boolean shapeVisible;
+
+    /** Are shapes filled? */
+    private final boolean shapeFilled;
+
+    /**
+     * Creates a new style by looking up the attributes of the first item in
+     * a series.  The shape is only looked up if shapes are visible (so that
+     * a shape is not taken from the drawing supplier for a series that
+     * never uses one).
+     *
+     * @param renderer  the renderer ({@code null} not permitted).
+     * @param series  the series index (zero-based).
+     * @param lineVisible  are lines visible for the series?
+     * @param shapeVisible  are shapes visible for the series?
+     * @param shapeFilled  are shapes filled for the series?
+     */
+    public SeriesStyle(AbstractRenderer renderer, int series,
+            boolean lineVisible, boolean shapeVisible, boolean shapeFilled) {
+        this.visible = renderer.getItemVisible(series, 0);
+        this.paint = renderer.getItemPaint(series, 0);
+        this.fillPaint = renderer.getItemFillPaint(series, 0);
+        this.outlinePaint = renderer.getItemOutlinePaint(series, 0);
+        this.stroke = renderer.getItemStroke(series, 0);
+        this.outlineStroke = renderer.getItemOutlineStroke(series, 0);
+        this.shape = shapeVisible ? renderer.getItemShape(series, 0) : null;
+        this.itemLabelVisible = renderer.isItemLabelVisible(series, 0);
+        this.lineVisible = lineVisible;
+        this.shapeVisible = shapeVisible;
+        this.shapeFilled = shapeFilled;
+    }
+
+    /**
+     * Returns {@code true} if the series is visible.
+     *
+     * @return A boolean.
+     */
+    public boolean isVisible() {
+        return this.visible;
+    }
+
+    /**
+     * Returns the paint.
+     *
+     * @return The paint.
+     */
+    public Paint getPaint() {
+        return this.paint;
+    }
+
+    /**
+     * Returns the fill paint.
+     *
+     * @return The fill paint.
+     */
+    public Paint getFillPaint() {
+        return this.fillPaint;
+    }
+
+    /**
+     * Returns the outline paint.
+     *
+     * @return The outline paint.
+     */
+    public Paint getOutlinePaint() {
+        return this.outlinePaint;
+    }
+
+    /**
+     * Returns the stroke.
+     *
+     * @return The stroke.
+     */
+    public Stroke getStroke() {
+        return this.stroke;
+    }
+
+    /**
+     * Returns the outline stroke.
+     *
+     * @return The outline stroke.
+     */
+    public Stroke getOutlineStroke() {
+        return this.outlineStroke;
+    }
+
+    /**
+     * Returns the shape.
+     *
+     * @return The shape ({@code null} if shapes are not visible).
+     */
+    public Shape getShape() {
+        return this.shape;
+    }
+
+    /**
+     * Returns {@code true} if item labels are visible.
+     *
+     * @return A boolean.
+     */
+    public boolean isItemLabelVisible() {
+        return this.itemLabelVisible;
+    }
+
+    /**
+     * Returns {@code true} if lines are visible.
+     *
+     * @return A boolean.
+     */
+    public boolean isLineVisible() {
+        return this.lineVisible;
+    }
+
+    /**
+     * Returns {@code true} if shapes are visible.
+     *
+     * @return A boolean.
+     */
+    public boolean isShapeVisible() {
+        return this.shapeVisible;
+    }
+
+    /**
+     * Returns {@code true} if shapes are filled.
+     *
+     * @return A boolean.
+     */
+    public boolean isShapeFilled() {
+        return this.shapeFilled;
+    }
+
+}
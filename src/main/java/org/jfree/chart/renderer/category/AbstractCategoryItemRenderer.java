@@ -51,6 +51,7 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.lang.reflect.Method;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -109,6 +110,24 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
     /** For serialization. */
     private static final long serialVersionUID = 1247553218442497391L;
 
+    /** The result of {@link #isIncrementalBoundsSupported()} by class. */
+    private static final ClassValue<Boolean> INCREMENTAL_BOUNDS
+            = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            for (Class<?> k = c; k != null
+                    && k != AbstractCategoryItemRenderer.class;
+                    k = k.getSuperclass()) {
+                for (Method m : k.getDeclaredMethods()) {
+                    if (m.getName().equals("findRangeBounds")) {
+                        return Boolean.FALSE;
+                    }
+                }
+            }
+            return Boolean.TRUE;
+        }
+    };
+
     /** The plot that the renderer is assigned to. */
     private CategoryPlot plot;
 
@@ -686,6 +705,26 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
         }
     }
 
+    /**
+     * Returns {@code true} if the bounds returned by
+     * {@link #findRangeBounds(CategoryDataset)} are simply the bounds of the
+     * values in the dataset (as calculated by this class), so that a plot
+     * can update them from the details carried by a
+     * {@link org.jfree.data.general.DatasetChangeEvent} instead of
+     * rescanning the dataset.  This is the case unless the renderer class
+     * (or a superclass) overrides {@code findRangeBounds()}, for example to
+     * include the bar base or stacked totals.  A subclass that overrides it
+     * in a way that still meets this requirement can override this method
+     * to say so.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isIncrementalBoundsSupported() {
+        return INCREMENTAL_BOUNDS.get(getClass());
+    }
+
     /**
      * Returns the Java2D coordinate for the middle of the specified data item.
      *
@@ -1604,17 +1643,22 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
             return;
         }
         String tip = null;
-        CategoryToolTipGenerator tipster = getToolTipGenerator(row, column);
-        if (tipster != null) {
-            tip = tipster.generateToolTip(dataset, row, column);
-        }
         String url = null;
+        CategoryToolTipGenerator tipster = getToolTipGenerator(row, column);
         CategoryURLGenerator urlster = getItemURLGenerator(row, column);
-        if (urlster != null) {
-            url = urlster.generateURL(dataset, row, column);
+        if (!getLazyEntityText()) {
+            if (tipster != null) {
+                tip = tipster.generateToolTip(dataset, row, column);
+            }
+            if (urlster != null) {
+                url = urlster.generateURL(dataset, row, column);
+            }
         }
         CategoryItemEntity entity = new CategoryItemEntity(hotspot, tip, url,
                 dataset, dataset.getRowKey(row), dataset.getColumnKey(column));
+        if (getLazyEntityText()) {
+            entity.setTextGenerators(tipster, urlster);
+        }
         entities.add(entity);
     }
 
@@ -1650,17 +1694,22 @@ public abstract class AbstractCategoryItemRenderer extends AbstractRenderer
             }
         }
         String tip = null;
-        CategoryToolTipGenerator generator = getToolTipGenerator(row, column);
-        if (generator != null) {
-            tip = generator.generateToolTip(dataset, row, column);
-        }
         String url = null;
+        CategoryToolTipGenerator generator = getToolTipGenerator(row, column);
         CategoryURLGenerator urlster = getItemURLGenerator(row, column);
-        if (urlster != null) {
-            url = urlster.generateURL(dataset, row, column);
+        if (!getLazyEntityText()) {
+            if (generator != null) {
+                tip = generator.generateToolTip(dataset, row, column);
+            }
+            if (urlster != null) {
+                url = urlster.generateURL(dataset, row, column);
+            }
         }
         CategoryItemEntity entity = new CategoryItemEntity(s, tip, url,
                 dataset, dataset.getRowKey(row), dataset.getColumnKey(column));
+        if (getLazyEntityText()) {
+            entity.setTextGenerators(generator, urlster);
+        }
         entities.add(entity);
     }
 
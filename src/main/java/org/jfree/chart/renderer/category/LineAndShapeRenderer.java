@@ -58,6 +58,7 @@ import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.RendererChangeEvent;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.renderer.SeriesStyle;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.internal.ShapeUtils;
 import org.jfree.data.category.CategoryDataset;
@@ -647,14 +648,20 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
             ValueAxis rangeAxis, CategoryDataset dataset, int row, int column,
             int pass) {
 
+        SeriesStyle style = lookupSeriesStyle(state, row);
+
         // do nothing if item is not visible
-        if (!getItemVisible(row, column)) {
+        if (style != null ? !style.isVisible()
+                : !getItemVisible(row, column)) {
             return;
         }
 
         // do nothing if both the line and shape are not visible
-        if (!getItemLineVisible(row, column)
-                && !getItemShapeVisible(row, column)) {
+        boolean lineVisible = style != null ? style.isLineVisible()
+                : getItemLineVisible(row, column);
+        boolean shapeVisible = style != null ? style.isShapeVisible()
+                : getItemShapeVisible(row, column);
+        if (!lineVisible && !shapeVisible) {
             return;
         }
 
@@ -687,7 +694,7 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
         double y1 = rangeAxis.valueToJava2D(value, dataArea,
                 plot.getRangeAxisEdge());
 
-        if (pass == 0 && getItemLineVisible(row, column)) {
+        if (pass == 0 && lineVisible) {
             if (column != 0) {
                 Number previousValue = dataset.getValue(row, column - 1);
                 if (previousValue != null) {
@@ -716,46 +723,87 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
                     else if (orientation == PlotOrientation.VERTICAL) {
                         line = new Line2D.Double(x0, y0, x1, y1);
                     }
-                    g2.setPaint(getItemPaint(row, column));
-                    g2.setStroke(getItemStroke(row, column));
+                    if (style != null) {
+                        g2.setPaint(style.getPaint());
+                        g2.setStroke(style.getStroke());
+                    }
+                    else {
+                        g2.setPaint(getItemPaint(row, column));
+                        g2.setStroke(getItemStroke(row, column));
+                    }
                     g2.draw(line);
                 }
             }
         }
 
         if (pass == 1) {
-            Shape shape = getItemShape(row, column);
-            if (orientation == PlotOrientation.HORIZONTAL) {
-                shape = ShapeUtils.createTranslatedShape(shape, y1, x1);
+            // the shape is also needed for the entity when it isn't visible
+            Shape shape = style != null ? style.getShape() : null;
+            if (shape == null) {
+                shape = getItemShape(row, column);
             }
-            else if (orientation == PlotOrientation.VERTICAL) {
-                shape = ShapeUtils.createTranslatedShape(shape, x1, y1);
+            Paint fillPaint = null;
+            Paint outlinePaint = null;
+            Stroke outlineStroke = null;
+            if (shapeVisible && style != null) {
+                if (style.isShapeFilled()) {
+                    fillPaint = this.useFillPaint ? style.getFillPaint()
+                            : style.getPaint();
+                }
+                if (this.drawOutlines) {
+                    outlinePaint = this.useOutlinePaint
+                            ? style.getOutlinePaint() : style.getPaint();
+                    outlineStroke = style.getOutlineStroke();
+                }
             }
-
-            if (getItemShapeVisible(row, column)) {
+            else if (shapeVisible) {
                 if (getItemShapeFilled(row, column)) {
-                    if (this.useFillPaint) {
-                        g2.setPaint(getItemFillPaint(row, column));
-                    }
-                    else {
-                        g2.setPaint(getItemPaint(row, column));
-                    }
-                    g2.fill(shape);
+                    fillPaint = this.useFillPaint
+                            ? getItemFillPaint(row, column)
+                            : getItemPaint(row, column);
                 }
                 if (this.drawOutlines) {
-                    if (this.useOutlinePaint) {
-                        g2.setPaint(getItemOutlinePaint(row, column));
-                    }
-                    else {
-                        g2.setPaint(getItemPaint(row, column));
-                    }
-                    g2.setStroke(getItemOutlineStroke(row, column));
+                    outlinePaint = this.useOutlinePaint
+                            ? getItemOutlinePaint(row, column)
+                            : getItemPaint(row, column);
+                    outlineStroke = getItemOutlineStroke(row, column);
+                }
+            }
+            EntityCollection entities = state.getEntityCollection();
+            boolean sprite = false;
+            if (shapeVisible && getSpriteRendering()) {
+                sprite = orientation == PlotOrientation.HORIZONTAL
+                        ? drawItemShapeSprite(g2, shape, y1, x1, fillPaint,
+                        outlinePaint, outlineStroke)
+                        : drawItemShapeSprite(g2, shape, x1, y1, fillPaint,
+                        outlinePaint, outlineStroke);
+            }
+            // when a sprite was drawn, the translated shape is only needed
+            // for the entity
+            if (!sprite || entities != null) {
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    shape = ShapeUtils.createTranslatedShape(shape, y1, x1);
+                }
+                else if (orientation == PlotOrientation.VERTICAL) {
+                    shape = ShapeUtils.createTranslatedShape(shape, x1, y1);
+                }
+            }
+
+            if (!sprite && shapeVisible) {
+                if (fillPaint != null) {
+                    g2.setPaint(fillPaint);
+                    g2.fill(shape);
+                }
+                if (outlinePaint != null) {
+                    g2.setPaint(outlinePaint);
+                    g2.setStroke(outlineStroke);
                     g2.draw(shape);
                 }
             }
 
             // draw the item label if there is one...
-            if (isItemLabelVisible(row, column)) {
+            if (style != null ? style.isItemLabelVisible()
+                    : isItemLabelVisible(row, column)) {
                 if (orientation == PlotOrientation.HORIZONTAL) {
                     drawItemLabel(g2, orientation, dataset, row, column, y1,
                             x1, (value < 0.0));
@@ -773,7 +821,6 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
                     value, datasetIndex, x1, y1, orientation);
 
             // add an item entity, if this information is being collected
-            EntityCollection entities = state.getEntityCollection();
             if (entities != null) {
                 addItemEntity(entities, dataset, row, column, shape);
             }
@@ -781,6 +828,20 @@ public class LineAndShapeRenderer extends AbstractCategoryItemRenderer
 
     }
 
+    /**
+     * Creates the style for a series, including the flags that control
+     * whether lines and shapes are visible and whether shapes are filled.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The style.
+     */
+    @Override
+    protected SeriesStyle createSeriesStyle(int series) {
+        return new SeriesStyle(this, series, getItemLineVisible(series, 0),
+                getItemShapeVisible(series, 0), getItemShapeFilled(series, 0));
+    }
+
     /**
      * Tests this renderer for equality with an arbitrary object.
      *
@@ -55,6 +55,7 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -67,6 +68,7 @@ import org.jfree.chart.legend.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.CompactEntityCollection;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.AnnotationChangeEvent;
@@ -116,6 +118,25 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     /** For serialization. */
     private static final long serialVersionUID = 8019124836026607990L;
 
+    /** The result of {@link #isIncrementalBoundsSupported()} by class. */
+    private static final ClassValue<Boolean> INCREMENTAL_BOUNDS
+            = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> c) {
+            for (Class<?> k = c; k != null
+                    && k != AbstractXYItemRenderer.class;
+                    k = k.getSuperclass()) {
+                for (Method m : k.getDeclaredMethods()) {
+                    if (m.getName().equals("findDomainBounds")
+                            || m.getName().equals("findRangeBounds")) {
+                        return Boolean.FALSE;
+                    }
+                }
+            }
+            return Boolean.TRUE;
+        }
+    };
+
     /** The plot. */
     private XYPlot plot;
 
@@ -224,6 +245,23 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         return new XYItemRendererState(info);
     }
 
+    /**
+     * Returns {@code true} if each series can be drawn without the state
+     * built up while drawing the other series (for example, the previous
+     * series in a stacked chart).  When this is {@code true} the plot may
+     * draw blocks of series in parallel, each with its own copy of the
+     * renderer and its own state (see
+     * {@link XYPlot#setParallelRendering(boolean)}).  This implementation
+     * returns {@code true}, subclasses override it as required.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isSeriesIndependent() {
+        return true;
+    }
+
     /**
      * Adds a {@code KEY_BEGIN_ELEMENT} hint to the graphics target.  This
      * hint is recognised by <b>JFreeSVG</b> (in theory it could be used by 
@@ -698,6 +736,27 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         return DatasetUtils.findRangeBounds(dataset, includeInterval);
     }
 
+    /**
+     * Returns {@code true} if the bounds returned by
+     * {@link #findDomainBounds(XYDataset)} and
+     * {@link #findRangeBounds(XYDataset)} are simply the bounds of the x-
+     * and y-values in the dataset (as calculated by this class), so that
+     * a plot can update them from the details carried by a
+     * {@link org.jfree.data.general.DatasetChangeEvent} instead of
+     * rescanning the dataset.  This is the case unless the renderer class
+     * (or a superclass) overrides one of those methods, for example to
+     * include intervals or stacked totals.  A subclass that overrides them
+     * in a way that still meets this requirement can override this method
+     * to say so.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isIncrementalBoundsSupported() {
+        return INCREMENTAL_BOUNDS.get(getClass());
+    }
+
     /**
      * Returns a (possibly empty) collection of legend items for the series
      * that this renderer is responsible for drawing.
@@ -1560,7 +1619,9 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
      * Adds an entity to the collection.  Note the the {@code entityX} and
      * {@code entityY} coordinates are in Java2D space, should already be 
      * adjusted for the plot orientation, and will only be used if 
-     * {@code hotspot} is {@code null}.
+     * {@code hotspot} is {@code null}.  If {@code hotspot} is {@code null}
+     * and the collection is a {@link CompactEntityCollection}, the item is
+     * added to the collection without creating an entity.
      *
      * @param entities  the entity collection being populated.
      * @param hotspot  the entity area (if {@code null} a default will be
@@ -1583,22 +1644,33 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
 
         // if not hotspot is provided, we create a default based on the 
         // provided data coordinates (which are already in Java2D space)
+        if (hotspot == null && entities instanceof CompactEntityCollection) {
+            ((CompactEntityCollection) entities).addXYItem(dataset, series,
+                    item, entityX, entityY, getDefaultEntityRadius(),
+                    getToolTipGenerator(series, item), getURLGenerator());
+            return;
+        }
         if (hotspot == null) {
             double r = getDefaultEntityRadius();
             double w = r * 2;
             hotspot = new Ellipse2D.Double(entityX - r, entityY - r, w, w);
         }
         String tip = null;
-        XYToolTipGenerator generator = getToolTipGenerator(series, item);
-        if (generator != null) {
-            tip = generator.generateToolTip(dataset, series, item);
-        }
         String url = null;
-        if (getURLGenerator() != null) {
-            url = getURLGenerator().generateURL(dataset, series, item);
+        XYToolTipGenerator generator = getToolTipGenerator(series, item);
+        if (!getLazyEntityText()) {
+            if (generator != null) {
+                tip = generator.generateToolTip(dataset, series, item);
+            }
+            if (getURLGenerator() != null) {
+                url = getURLGenerator().generateURL(dataset, series, item);
+            }
         }
         XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
                 tip, url);
+        if (getLazyEntityText()) {
+            entity.setTextGenerators(generator, getURLGenerator());
+        }
         entities.add(entity);
     }
 
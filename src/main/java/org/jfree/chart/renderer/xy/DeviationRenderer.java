@@ -191,6 +191,9 @@ public class DeviationRenderer extends XYLineAndShapeRenderer {
         State state = new State(info);
         state.seriesPath = new GeneralPath();
         state.setProcessVisibleItemsOnly(false);
+        if (getItemDecimation()) {
+            state.setDecimatedSeries(this::isSeriesDecimatable);
+        }
         return state;
     }
 
@@ -128,8 +128,11 @@ public class DeviationStepRenderer extends DeviationRenderer {
 
             PlotOrientation orientation = plot.getOrientation();
             if (item > 0 && !Double.isNaN(xx)) {
-                double yLowPrev = intervalDataset.getStartYValue(series, item-1);
-                double yHighPrev  = intervalDataset.getEndYValue(series, item-1);
+                int previous = state.getPreviousItemIndex(item);
+                double yLowPrev = intervalDataset.getStartYValue(series,
+                        previous);
+                double yHighPrev  = intervalDataset.getEndYValue(series,
+                        previous);
                 double yyLowPrev = rangeAxis.valueToJava2D(yLowPrev, dataArea,
                         yAxisLocation);
                 double yyHighPrev = rangeAxis.valueToJava2D(yHighPrev, dataArea,
@@ -0,0 +1,140 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * RasterRendererState.java
+ * ------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jfree.chart.internal.PixelBuffer;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * The state for a renderer that writes items directly into a
+ * {@link PixelBuffer} covering the data area.  The buffer is drawn onto the
+ * target at the end of each series pass, so that the series are layered in
+ * the same order as when the items are drawn with Java2D.
+ */
+class RasterRendererState extends XYItemRendererState {
+
+    /** The target graphics device. */
+    private final Graphics2D g2;
+
+    /** The buffer. */
+    private final PixelBuffer buffer;
+
+    /** A flag that controls whether stamps are anti-aliased. */
+    private final boolean antialias;
+
+    /** The stamps created so far, by shape. */
+    private final Map<Shape, PixelBuffer.Stamp> stamps;
+
+    /**
+     * Creates a new state.
+     *
+     * @param info  the plot rendering info ({@code null} permitted).
+     * @param g2  the target graphics device (must be supported by
+     *     {@link PixelBuffer}).
+     * @param dataArea  the data area.
+     * @param accumulateAlpha  accumulate alpha in the buffer?
+     */
+    RasterRendererState(PlotRenderingInfo info, Graphics2D g2,
+            Rectangle2D dataArea, boolean accumulateAlpha) {
+        super(info);
+        this.g2 = g2;
+        this.buffer = new PixelBuffer(g2, dataArea);
+        this.buffer.setAlphaAccumulation(accumulateAlpha);
+        this.antialias = RenderingHints.VALUE_ANTIALIAS_ON.equals(
+                g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING));
+        this.stamps = new HashMap<>();
+    }
+
+    /**
+     * Returns the buffer.
+     *
+     * @return The buffer.
+     */
+    PixelBuffer getBuffer() {
+        return this.buffer;
+    }
+
+    /**
+     * Returns the stamp for a shape, creating it if necessary.
+     *
+     * @param shape  the shape (centred on the origin).
+     *
+     * @return The stamp.
+     */
+    PixelBuffer.Stamp getStamp(Shape shape) {
+        PixelBuffer.Stamp stamp = this.stamps.get(shape);
+        if (stamp == null) {
+            stamp = this.buffer.createStamp(shape, this.antialias);
+            this.stamps.put(shape, stamp);
+        }
+        return stamp;
+    }
+
+    /**
+     * Draws the buffer onto the target (if anything has been written to
+     * it) and clears it.  This should be called before anything is drawn
+     * onto the target directly, to preserve the drawing order.
+     */
+    void flush() {
+        this.buffer.drawTo(this.g2);
+    }
+
+    /**
+     * Draws the items written during the series pass onto the target.
+     *
+     * @param dataset  the dataset.
+     * @param series  the index of the series.
+     * @param firstItem  the index of the first item in the series.
+     * @param lastItem  the index of the last item in the series.
+     * @param pass  the pass index.
+     * @param passCount  the number of passes.
+     */
+    @Override
+    public void endSeriesPass(XYDataset dataset, int series, int firstItem,
+            int lastItem, int pass, int passCount) {
+        flush();
+    }
+
+}
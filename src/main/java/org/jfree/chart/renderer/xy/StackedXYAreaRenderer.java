@@ -305,6 +305,17 @@ public class StackedXYAreaRenderer extends XYAreaRenderer
         return state;
     }
 
+    /**
+     * Returns {@code false}, because each series is stacked on the points
+     * recorded while drawing the previous series.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    public boolean isSeriesIndependent() {
+        return false;
+    }
+
     /**
      * Returns the number of passes required by the renderer.
      *
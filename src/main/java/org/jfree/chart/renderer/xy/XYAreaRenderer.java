@@ -162,6 +162,13 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
      */
     private GradientPaintTransformer gradientTransformer;
 
+    /**
+     * A flag that controls whether or not the plot passes only the first,
+     * last, minimum and maximum items in each pixel column to the renderer,
+     * for series that have no visible shapes or item labels.
+     */
+    private boolean itemDecimation;
+
     /**
      * Constructs a new renderer.
      */
@@ -319,6 +326,43 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not series are decimated
+     * before rendering.  When this flag is set, for each series that has no
+     * visible shapes or item labels the plot passes only the first, last,
+     * minimum and maximum item in each pixel column to the renderer (see
+     * {@link org.jfree.chart.renderer.RendererUtils#findDecimatedItems}).
+     * Entities are only generated for the items drawn.  The default value
+     * is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setItemDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getItemDecimation() {
+        return this.itemDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not series are decimated before
+     * rendering and sends a {@link RendererChangeEvent} to all registered
+     * listeners.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getItemDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setItemDecimation(boolean flag) {
+        if (this.itemDecimation != flag) {
+            this.itemDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the gradient paint transformer.
      *
@@ -361,6 +405,9 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         // in the rendering process, there is special handling for item
         // zero, so we can't support processing of visible data items only
         state.setProcessVisibleItemsOnly(false);
+        if (this.itemDecimation && !this.plotShapes) {
+            state.setDecimatedSeries(series -> !isItemLabelVisible(series, 0));
+        }
         return state;
     }
 
@@ -453,8 +500,10 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         // get the previous point and the next point so we can calculate a
         // "hot spot" for the area (used by the chart entity)...
         int itemCount = dataset.getItemCount(series);
-        double x0 = dataset.getXValue(series, Math.max(item - 1, 0));
-        double y0 = dataset.getYValue(series, Math.max(item - 1, 0));
+        int previous = Math.max(state.getPreviousItemIndex(item), 0);
+        int next = Math.min(state.getNextItemIndex(item), itemCount - 1);
+        double x0 = dataset.getXValue(series, previous);
+        double y0 = dataset.getYValue(series, previous);
         if (Double.isNaN(y0)) {
             y0 = 0.0;
         }
@@ -463,10 +512,8 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         double transY0 = rangeAxis.valueToJava2D(y0, dataArea,
                 plot.getRangeAxisEdge());
 
-        double x2 = dataset.getXValue(series, Math.min(item + 1,
-                itemCount - 1));
-        double y2 = dataset.getYValue(series, Math.min(item + 1,
-                itemCount - 1));
+        double x2 = dataset.getXValue(series, next);
+        double y2 = dataset.getYValue(series, next);
         if (Double.isNaN(y2)) {
             y2 = 0.0;
         }
@@ -665,6 +712,9 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         if (this.useFillPaint != that.useFillPaint) {
             return false;
         }
+        if (this.itemDecimation != that.itemDecimation) {
+            return false;
+        }
         if (!this.gradientTransformer.equals(that.gradientTransformer)) {
             return false;
         }
@@ -686,6 +736,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         result = HashUtils.hashCode(result, this.plotLines);
         result = HashUtils.hashCode(result, this.plotShapes);
         result = HashUtils.hashCode(result, this.useFillPaint);
+        result = HashUtils.hashCode(result, this.itemDecimation);
         return result;
     }
 
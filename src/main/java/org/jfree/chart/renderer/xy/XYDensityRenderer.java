@@ -0,0 +1,536 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYDensityRenderer.java
+ * ----------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.io.Serializable;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.RendererChangeEvent;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.SeriesRenderingOrder;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.PaintScale;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A renderer that summarises large numbers of (x, y) points by counting the
+ * points that fall in each cell of a grid laid over the data area (in
+ * Java2D space), then filling each non-empty cell with a color from a
+ * {@link PaintScale} according to its count.  The cells can be rectangles
+ * or hexagons.  All the series in a dataset contribute to the same grid,
+ * which is filled once the last series has been processed, so the cost of
+ * drawing is proportional to the number of items plus the number of cells.
+ * <br><br>
+ * A {@code PaintScaleLegend} created with the renderer's paint scale can be
+ * added to the chart to show the meaning of the colors.  No entities are
+ * created for the individual data items.
+ *
+ * @since 2.0.0
+ */
+public class XYDensityRenderer extends AbstractXYItemRenderer
+        implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The shapes available for the cells of the grid.
+     */
+    public static enum CellShape {
+
+        /** Rectangular (square) cells. */
+        RECTANGLE,
+
+        /** Hexagonal cells, pointing up and down. */
+        HEXAGON
+    }
+
+    /** The cell size, in Java2D units (defaults to 4.0). */
+    private double cellSize;
+
+    /** The cell shape (defaults to {@code CellShape.RECTANGLE}). */
+    private CellShape cellShape;
+
+    /** The paint scale (maps cell counts to colors). */
+    private PaintScale paintScale;
+
+    /**
+     * Creates a new renderer with square cells of size 4.0 and a
+     * {@link GrayPaintScale} for counts from 0 to 100.
+     */
+    public XYDensityRenderer() {
+        this.cellSize = 4.0;
+        this.cellShape = CellShape.RECTANGLE;
+        this.paintScale = new GrayPaintScale(0.0, 100.0);
+    }
+
+    /**
+     * Returns the cell size in Java2D units.  For hexagonal cells this is
+     * the width of each cell.
+     *
+     * @return The cell size.
+     *
+     * @see #setCellSize(double)
+     */
+    public double getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * Sets the cell size and sends a {@link RendererChangeEvent} to all
+     * registered listeners.
+     *
+     * @param size  the size, in Java2D units (must be &gt; 0.0).
+     *
+     * @see #getCellSize()
+     */
+    public void setCellSize(double size) {
+        if (!(size > 0.0)) {
+            throw new IllegalArgumentException("The 'size' must be > 0.0");
+        }
+        this.cellSize = size;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the cell shape.
+     *
+     * @return The cell shape (never {@code null}).
+     *
+     * @see #setCellShape(CellShape)
+     */
+    public CellShape getCellShape() {
+        return this.cellShape;
+    }
+
+    /**
+     * Sets the cell shape and sends a {@link RendererChangeEvent} to all
+     * registered listeners.
+     *
+     * @param shape  the shape ({@code null} not permitted).
+     *
+     * @see #getCellShape()
+     */
+    public void setCellShape(CellShape shape) {
+        Args.nullNotPermitted(shape, "shape");
+        this.cellShape = shape;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the paint scale used to convert cell counts to colors.
+     *
+     * @return The paint scale (never {@code null}).
+     *
+     * @see #setPaintScale(PaintScale)
+     */
+    public PaintScale getPaintScale() {
+        return this.paintScale;
+    }
+
+    /**
+     * Sets the paint scale used to convert cell counts to colors and sends
+     * a {@link RendererChangeEvent} to all registered listeners.
+     *
+     * @param scale  the scale ({@code null} not permitted).
+     *
+     * @see #getPaintScale()
+     */
+    public void setPaintScale(PaintScale scale) {
+        Args.nullNotPermitted(scale, "scale");
+        this.paintScale = scale;
+        fireChangeEvent();
+    }
+
+    /**
+     * Initialises the renderer and returns a state object that holds the
+     * cell counts for one drawing of the plot.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        int lastSeries = -1;
+        if (dataset != null) {
+            int seriesCount = dataset.getSeriesCount();
+            boolean reverse = plot.getSeriesRenderingOrder()
+                    == SeriesRenderingOrder.REVERSE;
+            for (int i = 0; i < seriesCount; i++) {
+                int series = reverse ? i : seriesCount - 1 - i;
+                if (dataset.getItemCount(series) > 0) {
+                    lastSeries = series;
+                    break;
+                }
+            }
+        }
+        DensityState state = new DensityState(info, g2, dataArea,
+                this.cellSize, this.cellShape, this.paintScale, lastSeries);
+        return state;
+    }
+
+    /**
+     * Returns {@code false}, because the cells are filled once the counts
+     * for all series have been added.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    public boolean isSeriesIndependent() {
+        return false;
+    }
+
+    /**
+     * Adds a single data item to the count for the cell it falls in.  Items
+     * that are not visible, or that lie outside the data area, are ignored.
+     *
+     * @param g2  the graphics device.
+     * @param state  the renderer state.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param info  collects information about the drawing.
+     * @param plot  the plot (can be used to obtain standard color
+     *              information etc).
+     * @param domainAxis  the domain (horizontal) axis.
+     * @param rangeAxis  the range (vertical) axis.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param crosshairState  crosshair information for the plot
+     *                        ({@code null} permitted).
+     * @param pass  the pass index.
+     */
+    @Override
+    public void drawItem(Graphics2D g2, XYItemRendererState state,
+            Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+            ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+            int series, int item, CrosshairState crosshairState, int pass) {
+
+        if (!getItemVisible(series, item)) {
+            return;
+        }
+        double x = dataset.getXValue(series, item);
+        double y = dataset.getYValue(series, item);
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            return;
+        }
+        RectangleEdge xAxisLocation = plot.getDomainAxisEdge();
+        RectangleEdge yAxisLocation = plot.getRangeAxisEdge();
+        double transX = domainAxis.valueToJava2D(x, dataArea, xAxisLocation);
+        double transY = rangeAxis.valueToJava2D(y, dataArea, yAxisLocation);
+        PlotOrientation orientation = plot.getOrientation();
+        boolean added;
+        if (orientation == PlotOrientation.HORIZONTAL) {
+            added = ((DensityState) state).add(transY, transX);
+        }
+        else {
+            added = ((DensityState) state).add(transX, transY);
+        }
+        if (added) {
+            int datasetIndex = plot.indexOf(dataset);
+            updateCrosshairValues(crosshairState, x, y, datasetIndex,
+                    transX, transY, orientation);
+        }
+    }
+
+    /**
+     * Tests this renderer for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof XYDensityRenderer)) {
+            return false;
+        }
+        XYDensityRenderer that = (XYDensityRenderer) obj;
+        if (this.cellSize != that.cellSize) {
+            return false;
+        }
+        if (this.cellShape != that.cellShape) {
+            return false;
+        }
+        if (!this.paintScale.equals(that.paintScale)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a clone of this renderer.
+     *
+     * @return A clone of this renderer.
+     *
+     * @throws CloneNotSupportedException if there is a problem creating the
+     *     clone.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        XYDensityRenderer clone = (XYDensityRenderer) super.clone();
+        if (this.paintScale instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.paintScale;
+            clone.paintScale = (PaintScale) pc.clone();
+        }
+        return clone;
+    }
+
+    /**
+     * The state for one drawing of the renderer.  The counts are held in a
+     * single array with one entry per cell, so the memory used depends only
+     * on the size of the data area and the cell size.
+     */
+    private static class DensityState extends XYItemRendererState {
+
+        /** The square root of 3. */
+        private static final double SQRT3 = Math.sqrt(3.0);
+
+        /** The target graphics device. */
+        private final Graphics2D g2;
+
+        /** The data area. */
+        private final Rectangle2D dataArea;
+
+        /** The cell size. */
+        private final double cellSize;
+
+        /** The cell shape. */
+        private final CellShape cellShape;
+
+        /** The paint scale. */
+        private final PaintScale paintScale;
+
+        /** The series after which the cells are filled. */
+        private final int lastSeries;
+
+        /** The distance from the center to each corner of a hexagon. */
+        private final double radius;
+
+        /** The number of columns in the grid. */
+        private final int columns;
+
+        /** The number of rows in the grid. */
+        private final int rows;
+
+        /**
+         * The offset added to column and row indices (hexagons along the
+         * edges of the data area can have their centers outside it).
+         */
+        private final int margin;
+
+        /** The counts, by row then column. */
+        private final int[] counts;
+
+        /**
+         * Creates a new state.
+         *
+         * @param info  the plot rendering info ({@code null} permitted).
+         * @param g2  the graphics device.
+         * @param dataArea  the data area.
+         * @param cellSize  the cell size.
+         * @param cellShape  the cell shape.
+         * @param paintScale  the paint scale.
+         * @param lastSeries  the index of the last series that will be
+         *     passed to the renderer.
+         */
+        DensityState(PlotRenderingInfo info, Graphics2D g2,
+                Rectangle2D dataArea, double cellSize, CellShape cellShape,
+                PaintScale paintScale, int lastSeries) {
+            super(info);
+            this.g2 = g2;
+            this.dataArea = dataArea;
+            this.cellSize = cellSize;
+            this.cellShape = cellShape;
+            this.paintScale = paintScale;
+            this.lastSeries = lastSeries;
+            this.radius = cellSize / SQRT3;
+            double w = Math.max(dataArea.getWidth(), 0.0);
+            double h = Math.max(dataArea.getHeight(), 0.0);
+            if (cellShape == CellShape.HEXAGON) {
+                this.margin = 1;
+                this.columns = (int) Math.ceil(w / cellSize) + 3;
+                this.rows = (int) Math.ceil(h / (1.5 * this.radius)) + 3;
+            }
+            else {
+                this.margin = 0;
+                this.columns = Math.max((int) Math.ceil(w / cellSize), 1);
+                this.rows = Math.max((int) Math.ceil(h / cellSize), 1);
+            }
+            this.counts = new int[this.columns * this.rows];
+        }
+
+        /**
+         * Adds one to the count for the cell containing a point.
+         *
+         * @param x  the x-coordinate (in Java2D space).
+         * @param y  the y-coordinate (in Java2D space).
+         *
+         * @return A boolean indicating whether the point lies inside the
+         *     data area.
+         */
+        boolean add(double x, double y) {
+            if (!this.dataArea.contains(x, y)) {
+                return false;
+            }
+            double dx = x - this.dataArea.getMinX();
+            double dy = y - this.dataArea.getMinY();
+            int column;
+            int row;
+            if (this.cellShape == CellShape.HEXAGON) {
+                // find the nearest hexagon center using cube coordinates
+                double fq = (SQRT3 / 3.0 * dx - dy / 3.0) / this.radius;
+                double fr = (2.0 / 3.0 * dy) / this.radius;
+                double fs = -fq - fr;
+                long q = Math.round(fq);
+                long r = Math.round(fr);
+                long s = Math.round(fs);
+                double qd = Math.abs(q - fq);
+                double rd = Math.abs(r - fr);
+                double sd = Math.abs(s - fs);
+                if (qd > rd && qd > sd) {
+                    q = -r - s;
+                }
+                else if (rd > sd) {
+                    r = -q - s;
+                }
+                column = (int) (q + (r - (r & 1)) / 2);
+                row = (int) r;
+            }
+            else {
+                column = (int) (dx / this.cellSize);
+                row = (int) (dy / this.cellSize);
+            }
+            column = Math.min(Math.max(column + this.margin, 0),
+                    this.columns - 1);
+            row = Math.min(Math.max(row + this.margin, 0), this.rows - 1);
+            this.counts[row * this.columns + column]++;
+            return true;
+        }
+
+        /**
+         * Fills the cells once the last series has been processed.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param firstItem  the index of the first item in the series.
+         * @param lastItem  the index of the last item in the series.
+         * @param pass  the pass index.
+         * @param passCount  the number of passes.
+         */
+        @Override
+        public void endSeriesPass(XYDataset dataset, int series,
+                int firstItem, int lastItem, int pass, int passCount) {
+            if (series == this.lastSeries && pass == passCount - 1) {
+                fillCells();
+            }
+        }
+
+        /**
+         * Fills each cell that has a non-zero count.
+         */
+        private void fillCells() {
+            double x0 = this.dataArea.getMinX();
+            double y0 = this.dataArea.getMinY();
+            Rectangle2D rect = new Rectangle2D.Double();
+            for (int row = 0; row < this.rows; row++) {
+                for (int column = 0; column < this.columns; column++) {
+                    int count = this.counts[row * this.columns + column];
+                    if (count == 0) {
+                        continue;
+                    }
+                    this.g2.setPaint(this.paintScale.getPaint(count));
+                    if (this.cellShape == CellShape.HEXAGON) {
+                        int r = row - this.margin;
+                        int c = column - this.margin;
+                        double cx = x0 + this.cellSize * (c + 0.5 * (r & 1));
+                        double cy = y0 + 1.5 * this.radius * r;
+                        this.g2.fill(createHexagon(cx, cy));
+                    }
+                    else {
+                        rect.setRect(x0 + column * this.cellSize,
+                                y0 + row * this.cellSize, this.cellSize,
+                                this.cellSize);
+                        this.g2.fill(rect);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Creates a hexagon (pointing up and down) with the specified
+         * center.
+         *
+         * @param cx  the x-coordinate of the center.
+         * @param cy  the y-coordinate of the center.
+         *
+         * @return The hexagon.
+         */
+        private Path2D createHexagon(double cx, double cy) {
+            double hw = this.cellSize / 2.0;
+            double hr = this.radius / 2.0;
+            Path2D path = new Path2D.Double();
+            path.moveTo(cx, cy - this.radius);
+            path.lineTo(cx + hw, cy - hr);
+            path.lineTo(cx + hw, cy + hr);
+            path.lineTo(cx, cy + this.radius);
+            path.lineTo(cx - hw, cy + hr);
+            path.lineTo(cx - hw, cy - hr);
+            path.closePath();
+            return path;
+        }
+    }
+
+}
@@ -36,6 +36,7 @@
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
@@ -53,6 +54,7 @@ import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.PixelBuffer;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.internal.SerialUtils;
 import org.jfree.chart.internal.ShapeUtils;
@@ -83,6 +85,18 @@ public class XYDotRenderer extends AbstractXYItemRenderer
      */
     private transient Shape legendShape;
 
+    /**
+     * A flag that controls whether the dots are written directly into an
+     * off-screen image.
+     */
+    private boolean rasterRendering;
+
+    /**
+     * A flag that controls whether alpha is accumulated in raster rendering
+     * mode.
+     */
+    private boolean accumulateAlpha;
+
     /**
      * Constructs a new renderer.
      */
@@ -176,6 +190,101 @@ public class XYDotRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the dots are written directly
+     * into an off-screen image, which is then drawn onto the target with a
+     * single call to {@code drawImage()} at the end of each series.  The
+     * default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setRasterRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getRasterRendering() {
+        return this.rasterRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the dots are written directly into
+     * an off-screen image and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  This is much faster than filling each dot with
+     * Java2D when there are very many items.  It is only used for items with
+     * a {@link Color} paint, and only when the target draws to a screen or
+     * an image with a transform that has no rotation or shear (so vector
+     * output is unchanged).
+     *
+     * @param raster  the new flag value.
+     *
+     * @see #getRasterRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setRasterRendering(boolean raster) {
+        this.rasterRendering = raster;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether dots written to the off-screen
+     * image in raster rendering mode are composited over the dots already
+     * written (rather than replacing them).  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setAccumulateAlpha(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getAccumulateAlpha() {
+        return this.accumulateAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether dots written to the off-screen
+     * image in raster rendering mode are composited over the dots already
+     * written, and sends a {@link RendererChangeEvent} to all registered
+     * listeners.  This only makes a difference for translucent colors, for
+     * which dense regions of dots then appear more opaque, as they do when
+     * the dots are drawn with Java2D.
+     *
+     * @param accumulate  the new flag value.
+     *
+     * @see #getAccumulateAlpha()
+     *
+     * @since 2.0.0
+     */
+    public void setAccumulateAlpha(boolean accumulate) {
+        this.accumulateAlpha = accumulate;
+        fireChangeEvent();
+    }
+
+    /**
+     * Initialises the renderer and returns a state object that should be
+     * passed to subsequent calls to the drawItem() method.  In raster
+     * rendering mode, the state holds the off-screen image for the dots.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        if (this.rasterRendering && PixelBuffer.isSupported(g2)) {
+            return new RasterRendererState(info, g2, dataArea,
+                    this.accumulateAlpha);
+        }
+        return super.initialise(g2, dataArea, plot, dataset, info);
+    }
+
     /**
      * Draws the visual representation of a single data item.
      *
@@ -218,15 +327,33 @@ public class XYDotRenderer extends AbstractXYItemRenderer
             double transY = rangeAxis.valueToJava2D(y, dataArea, yAxisLocation)
                     - adjy;
 
-            g2.setPaint(getItemPaint(series, item));
+            Paint paint = getItemPaint(series, item);
             PlotOrientation orientation = plot.getOrientation();
-            if (orientation == PlotOrientation.HORIZONTAL) {
-                g2.fillRect((int) transY, (int) transX, this.dotHeight,
-                        this.dotWidth);
+            if (state instanceof RasterRendererState
+                    && paint instanceof Color) {
+                PixelBuffer buffer = ((RasterRendererState) state).getBuffer();
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    buffer.fillRect((int) transY, (int) transX,
+                            this.dotHeight, this.dotWidth, (Color) paint);
+                }
+                else if (orientation == PlotOrientation.VERTICAL) {
+                    buffer.fillRect((int) transX, (int) transY,
+                            this.dotWidth, this.dotHeight, (Color) paint);
+                }
             }
-            else if (orientation == PlotOrientation.VERTICAL) {
-                g2.fillRect((int) transX, (int) transY, this.dotWidth,
-                        this.dotHeight);
+            else {
+                if (state instanceof RasterRendererState) {
+                    ((RasterRendererState) state).flush();
+                }
+                g2.setPaint(paint);
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    g2.fillRect((int) transY, (int) transX, this.dotHeight,
+                            this.dotWidth);
+                }
+                else if (orientation == PlotOrientation.VERTICAL) {
+                    g2.fillRect((int) transX, (int) transY, this.dotWidth,
+                            this.dotHeight);
+                }
             }
 
             int datasetIndex = plot.indexOf(dataset);
@@ -324,6 +451,12 @@ public class XYDotRenderer extends AbstractXYItemRenderer
         if (!ShapeUtils.equal(this.legendShape, that.legendShape)) {
             return false;
         }
+        if (this.rasterRendering != that.rasterRendering) {
+            return false;
+        }
+        if (this.accumulateAlpha != that.accumulateAlpha) {
+            return false;
+        }
         return super.equals(obj);
     }
 
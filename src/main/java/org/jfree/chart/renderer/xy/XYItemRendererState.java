@@ -49,10 +49,16 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.function.IntPredicate;
 
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.renderer.RendererState;
+import org.jfree.chart.renderer.RendererUtils;
 import org.jfree.data.xy.XYDataset;
 
 /**
@@ -88,6 +94,22 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * Selects the series for which the plot passes only the items returned
+     * by {@link RendererUtils#findDecimatedItems} to the renderer
+     * ({@code null} for no series).
+     */
+    private IntPredicate decimatedSeries;
+
+    /**
+     * The items that are drawn in the current series pass, or {@code null}
+     * if all items are drawn.
+     */
+    private int[] decimatedItems;
+
+    /** The decimated items for each series, reused for later passes. */
+    private int[][] decimatedItemsBySeries;
+
     /**
      * Creates a new state.
      *
@@ -126,6 +148,145 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns {@code true} if the plot should pass only the first, last,
+     * minimum and maximum items in each pixel column of a series to the
+     * renderer (see {@link RendererUtils#findDecimatedItems}).  The default
+     * is {@code false} for all series.
+     *
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    public boolean isSeriesDecimated(int series) {
+        return this.decimatedSeries != null
+                && this.decimatedSeries.test(series);
+    }
+
+    /**
+     * Sets the filter that selects the series that are decimated.  A
+     * renderer that supports decimation sets this in its
+     * {@code initialise()} method, selecting only the series where drawing
+     * a subset of the items does not change the output (for example, series
+     * where no shapes or item labels are drawn).
+     *
+     * @param filter  the filter ({@code null} for no series).
+     *
+     * @since 2.0.0
+     */
+    public void setDecimatedSeries(IntPredicate filter) {
+        this.decimatedSeries = filter;
+    }
+
+    /**
+     * Finds the items to draw for the current series pass (the result is
+     * reused for later passes through the same series), records them for
+     * {@link #getPreviousItemIndex(int)} and {@link #getNextItemIndex(int)}
+     * and returns them.  This is called by the {@link XYPlot} after
+     * {@link #startSeriesPass(XYDataset, int, int, int, int, int)} for
+     * series where {@link #isSeriesDecimated(int)} returns {@code true}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param xEdge  the domain axis edge.
+     *
+     * @return The indices of the items to draw, in ascending order, or
+     *     {@code null} if all items should be drawn.
+     *
+     * @since 2.0.0
+     */
+    public int[] decimateItems(XYDataset dataset, int series,
+            ValueAxis xAxis, Rectangle2D dataArea, RectangleEdge xEdge) {
+        return decimateItems(dataset, series, xAxis, dataArea, xEdge, 1.0);
+    }
+
+    /**
+     * Finds the items to draw for the current series pass, as for
+     * {@link #decimateItems(XYDataset, int, ValueAxis, Rectangle2D, RectangleEdge)},
+     * with pixel columns that are one device pixel wide on a device with
+     * {@code scale} pixels per Java2D unit along the domain axis.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param xEdge  the domain axis edge.
+     * @param scale  the number of device pixels per Java2D unit along the
+     *     domain axis.
+     *
+     * @return The indices of the items to draw, in ascending order, or
+     *     {@code null} if all items should be drawn.
+     *
+     * @since 2.0.0
+     */
+    public int[] decimateItems(XYDataset dataset, int series,
+            ValueAxis xAxis, Rectangle2D dataArea, RectangleEdge xEdge,
+            double scale) {
+        int seriesCount = dataset.getSeriesCount();
+        if (this.decimatedItemsBySeries == null
+                || this.decimatedItemsBySeries.length != seriesCount) {
+            this.decimatedItemsBySeries = new int[seriesCount][];
+        }
+        int[] items = this.decimatedItemsBySeries[series];
+        if (items == null || items.length < 2
+                || items[0] != this.firstItemIndex
+                || items[items.length - 1] != this.lastItemIndex) {
+            items = RendererUtils.findDecimatedItems(dataset, series,
+                    this.firstItemIndex, this.lastItemIndex, xAxis, dataArea,
+                    xEdge, scale);
+            this.decimatedItemsBySeries[series] = items;
+        }
+        this.decimatedItems = items;
+        return items;
+    }
+
+    /**
+     * Returns the index of the item drawn before the specified item in the
+     * current series pass.  This is {@code item - 1} unless the items have
+     * been decimated.  Renderers that connect each item to the previous
+     * item should use this method rather than {@code item - 1}.
+     *
+     * @param item  the item index.
+     *
+     * @return The index of the previous item (-1 if there is none).
+     *
+     * @since 2.0.0
+     */
+    public int getPreviousItemIndex(int item) {
+        if (this.decimatedItems != null) {
+            int i = Arrays.binarySearch(this.decimatedItems, item);
+            if (i > 0) {
+                return this.decimatedItems[i - 1];
+            }
+        }
+        return item - 1;
+    }
+
+    /**
+     * Returns the index of the item drawn after the specified item in the
+     * current series pass.  This is {@code item + 1} unless the items have
+     * been decimated.
+     *
+     * @param item  the item index.
+     *
+     * @return The index of the next item.
+     *
+     * @since 2.0.0
+     */
+    public int getNextItemIndex(int item) {
+        if (this.decimatedItems != null) {
+            int i = Arrays.binarySearch(this.decimatedItems, item);
+            if (i >= 0 && i < this.decimatedItems.length - 1) {
+                return this.decimatedItems[i + 1];
+            }
+        }
+        return item + 1;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
@@ -171,6 +332,7 @@ public class XYItemRendererState extends RendererState {
             int lastItem, int pass, int passCount) {
         this.firstItemIndex = firstItem;
         this.lastItemIndex = lastItem;
+        this.decimatedItems = null;
     }
 
     /**
@@ -59,6 +59,7 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.SeriesStyle;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.internal.LineUtils;
 import org.jfree.chart.internal.Args;
@@ -136,6 +137,13 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the plot passes only the first,
+     * last, minimum and maximum items in each pixel column to the renderer,
+     * for series that have no visible shapes or item labels.
+     */
+    private boolean itemDecimation;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -166,6 +174,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.itemDecimation = false;
     }
 
     /**
@@ -196,6 +205,63 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns the flag that controls whether or not series are decimated
+     * before rendering.  When this flag is set, for each series that has no
+     * visible shapes or item labels the plot passes only the first, last,
+     * minimum and maximum item in each pixel column to the renderer (see
+     * {@link org.jfree.chart.renderer.RendererUtils#findDecimatedItems}).
+     * For large datasets this is much faster and the lines drawn cover the
+     * same pixels, except that where the line rasterizer rounds the end of 
+     * a (shorter) segment differently an isolated pixel can move to a 
+     * neighbouring position.  Entities and crosshair values are only 
+     * generated for the items drawn.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setItemDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getItemDecimation() {
+        return this.itemDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not series are decimated before
+     * rendering and sends a {@link RendererChangeEvent} to all registered
+     * listeners.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getItemDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setItemDecimation(boolean flag) {
+        if (this.itemDecimation != flag) {
+            this.itemDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
+    /**
+     * Returns {@code true} if a series can be decimated without changing
+     * what is drawn, which is the case when no shapes or item labels are
+     * drawn for the series.  This is used by {@link #initialise} when the
+     * {@code itemDecimation} flag is set.
+     *
+     * @param series  the series index.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     */
+    protected boolean isSeriesDecimatable(int series) {
+        return !getItemShapeVisible(series, 0)
+                && !isItemLabelVisible(series, 0);
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -672,7 +738,11 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
     @Override
     public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
             XYPlot plot, XYDataset data, PlotRenderingInfo info) {
-        return new State(info);
+        State state = new State(info);
+        if (this.itemDecimation) {
+            state.setDecimatedSeries(this::isSeriesDecimatable);
+        }
+        return state;
     }
 
     /**
@@ -699,14 +769,18 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        SeriesStyle style = lookupSeriesStyle(state, series);
+
         // do nothing if item is not visible
-        if (!getItemVisible(series, item)) {
+        if (style != null ? !style.isVisible()
+                : !getItemVisible(series, item)) {
             return;
         }
 
         // first pass draws the background (lines, for instance)
         if (isLinePass(pass)) {
-            if (getItemLineVisible(series, item)) {
+            if (style != null ? style.isLineVisible()
+                    : getItemLineVisible(series, item)) {
                 if (this.drawSeriesLineAsPath) {
                     drawPrimaryLineAsPath(state, g2, plot, dataset, pass,
                             series, item, domainAxis, rangeAxis, dataArea);
@@ -726,8 +800,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                 entities = info.getOwner().getEntityCollection();
             }
 
-            drawSecondaryPass(g2, plot, dataset, pass, series, item,
-                    domainAxis, dataArea, rangeAxis, crosshairState, entities);
+            if (style != null) {
+                drawSecondaryPass(g2, plot, dataset, series, item, domainAxis,
+                        dataArea, rangeAxis, crosshairState, entities, style);
+            }
+            else {
+                drawSecondaryPass(g2, plot, dataset, pass, series, item,
+                        domainAxis, dataArea, rangeAxis, crosshairState,
+                        entities);
+            }
         }
     }
 
@@ -792,8 +873,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             return;
         }
 
-        double x0 = dataset.getXValue(series, item - 1);
-        double y0 = dataset.getYValue(series, item - 1);
+        int previous = state.getPreviousItemIndex(item);
+        double x0 = dataset.getXValue(series, previous);
+        double y0 = dataset.getYValue(series, previous);
         if (Double.isNaN(y0) || Double.isNaN(x0)) {
             return;
         }
@@ -823,7 +905,16 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
         visible = LineUtils.clipLine(state.workingLine, dataArea);
         if (visible) {
-            drawFirstPassShape(g2, pass, series, item, state.workingLine);
+            SeriesStyle style = lookupSeriesStyle(state, series);
+            if (style != null) {
+                g2.setStroke(style.getStroke());
+                g2.setPaint(style.getPaint());
+                g2.draw(state.workingLine);
+            }
+            else {
+                drawFirstPassShape(g2, pass, series, item,
+                        state.workingLine);
+            }
         }
     }
 
@@ -926,6 +1017,32 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             XYDataset dataset, int pass, int series, int item,
             ValueAxis domainAxis, Rectangle2D dataArea, ValueAxis rangeAxis,
             CrosshairState crosshairState, EntityCollection entities) {
+        drawSecondaryPass(g2, plot, dataset, series, item, domainAxis,
+                dataArea, rangeAxis, crosshairState, entities, null);
+    }
+
+    /**
+     * Draws the item shapes and adds chart entities (second pass), taking
+     * the attributes from a series style if one is supplied.
+     *
+     * @param g2  the graphics device.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param domainAxis  the domain axis.
+     * @param dataArea  the area within which the data is being drawn.
+     * @param rangeAxis  the range axis.
+     * @param crosshairState  the crosshair state.
+     * @param entities the entity collection.
+     * @param style  the series style ({@code null} to look up the
+     *     attributes for the item).
+     */
+    private void drawSecondaryPass(Graphics2D g2, XYPlot plot,
+            XYDataset dataset, int series, int item, ValueAxis domainAxis,
+            Rectangle2D dataArea, ValueAxis rangeAxis,
+            CrosshairState crosshairState, EntityCollection entities,
+            SeriesStyle style) {
 
         Shape entityArea = null;
 
@@ -942,49 +1059,82 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         double transX1 = domainAxis.valueToJava2D(x1, dataArea, xAxisLocation);
         double transY1 = rangeAxis.valueToJava2D(y1, dataArea, yAxisLocation);
 
-        if (getItemShapeVisible(series, item)) {
-            Shape shape = getItemShape(series, item);
-            if (orientation == PlotOrientation.HORIZONTAL) {
-                shape = ShapeUtils.createTranslatedShape(shape, transY1,
-                        transX1);
-            }
-            else if (orientation == PlotOrientation.VERTICAL) {
-                shape = ShapeUtils.createTranslatedShape(shape, transX1,
-                        transY1);
+        double xx = transX1;
+        double yy = transY1;
+        if (orientation == PlotOrientation.HORIZONTAL) {
+            xx = transY1;
+            yy = transX1;
+        }
+
+        boolean shapeVisible = style != null ? style.isShapeVisible()
+                : getItemShapeVisible(series, item);
+        if (shapeVisible) {
+            Shape shape;
+            Paint fillPaint = null;
+            Paint outlinePaint = null;
+            Stroke outlineStroke = null;
+            if (style != null) {
+                shape = style.getShape();
+                if (style.isShapeFilled()) {
+                    fillPaint = this.useFillPaint ? style.getFillPaint()
+                            : style.getPaint();
+                }
+                if (this.drawOutlines) {
+                    outlinePaint = getUseOutlinePaint()
+                            ? style.getOutlinePaint() : style.getPaint();
+                    outlineStroke = style.getOutlineStroke();
+                }
             }
-            entityArea = shape;
-            if (shape.intersects(dataArea)) {
+            else {
+                shape = getItemShape(series, item);
                 if (getItemShapeFilled(series, item)) {
-                    if (this.useFillPaint) {
-                        g2.setPaint(getItemFillPaint(series, item));
-                    }
-                    else {
-                        g2.setPaint(getItemPaint(series, item));
-                    }
-                    g2.fill(shape);
+                    fillPaint = this.useFillPaint
+                            ? getItemFillPaint(series, item)
+                            : getItemPaint(series, item);
                 }
                 if (this.drawOutlines) {
-                    if (getUseOutlinePaint()) {
-                        g2.setPaint(getItemOutlinePaint(series, item));
+                    outlinePaint = getUseOutlinePaint()
+                            ? getItemOutlinePaint(series, item)
+                            : getItemPaint(series, item);
+                    outlineStroke = getItemOutlineStroke(series, item);
+                }
+            }
+            if (getSpriteRendering() && drawItemShapeSprite(g2, shape, xx,
+                    yy, fillPaint, outlinePaint, outlineStroke)) {
+                // the translated shape is only needed for the entity
+                if (entities != null) {
+                    entityArea = ShapeUtils.createTranslatedShape(shape, xx,
+                            yy);
+                }
+            }
+            else {
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    shape = ShapeUtils.createTranslatedShape(shape, transY1,
+                            transX1);
+                }
+                else if (orientation == PlotOrientation.VERTICAL) {
+                    shape = ShapeUtils.createTranslatedShape(shape, transX1,
+                            transY1);
+                }
+                entityArea = shape;
+                if (shape.intersects(dataArea)) {
+                    if (fillPaint != null) {
+                        g2.setPaint(fillPaint);
+                        g2.fill(shape);
                     }
-                    else {
-                        g2.setPaint(getItemPaint(series, item));
+                    if (outlinePaint != null) {
+                        g2.setPaint(outlinePaint);
+                        g2.setStroke(outlineStroke);
+                        g2.draw(shape);
                     }
-                    g2.setStroke(getItemOutlineStroke(series, item));
-                    g2.draw(shape);
                 }
             }
         }
 
-        double xx = transX1;
-        double yy = transY1;
-        if (orientation == PlotOrientation.HORIZONTAL) {
-            xx = transY1;
-            yy = transX1;
-        }
-
         // draw the item label if there is one...
-        if (isItemLabelVisible(series, item)) {
+        boolean labelVisible = style != null ? style.isItemLabelVisible()
+                : isItemLabelVisible(series, item);
+        if (labelVisible) {
             drawItemLabel(g2, orientation, dataset, series, item, xx, yy,
                     (y1 < 0.0));
         }
@@ -1000,6 +1150,19 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Creates the style for a series, including the flags that control
+     * whether lines and shapes are visible and whether shapes are filled.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The style.
+     */
+    @Override
+    protected SeriesStyle createSeriesStyle(int series) {
+        return new SeriesStyle(this, series, getItemLineVisible(series, 0),
+                getItemShapeVisible(series, 0), getItemShapeFilled(series, 0));
+    }
 
     /**
      * Returns a legend item for the specified series.
@@ -1135,6 +1298,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.itemDecimation != that.itemDecimation) {
+            return false;
+        }
         return true;
     }
 
@@ -62,6 +62,7 @@ import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.internal.PixelBuffer;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.internal.SerialUtils;
 import org.jfree.chart.internal.ShapeUtils;
@@ -119,6 +120,18 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
     /** The stroke used for drawing the guide lines (never null). */
     private transient Stroke guideLineStroke;
 
+    /**
+     * A flag that controls whether the shapes are written directly into an
+     * off-screen image.
+     */
+    private boolean rasterRendering;
+
+    /**
+     * A flag that controls whether alpha is accumulated in raster rendering
+     * mode.
+     */
+    private boolean accumulateAlpha;
+
     /**
      * Creates a new {@code XYShapeRenderer} instance with default
      * attributes.
@@ -189,6 +202,77 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether the shapes are written directly
+     * into an off-screen image, which is then drawn onto the target with a
+     * single call to {@code drawImage()} at the end of each series.  The
+     * default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setRasterRendering(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getRasterRendering() {
+        return this.rasterRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the shapes are written directly
+     * into an off-screen image and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  Each distinct shape is rasterised once, and
+     * is then copied into the image (at the nearest whole pixel) for each
+     * item.  This is used only for items with a {@link Color} paint when
+     * outlines are not drawn, and only when the target draws to a screen or
+     * an image with a transform that has no rotation or shear (so vector
+     * output is unchanged).
+     *
+     * @param raster  the new flag value.
+     *
+     * @see #getRasterRendering()
+     *
+     * @since 2.0.0
+     */
+    public void setRasterRendering(boolean raster) {
+        this.rasterRendering = raster;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the flag that controls whether shapes written to the
+     * off-screen image in raster rendering mode are composited over the
+     * shapes already written (rather than replacing them).  The default
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setAccumulateAlpha(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getAccumulateAlpha() {
+        return this.accumulateAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether shapes written to the off-screen
+     * image in raster rendering mode are composited over the shapes already
+     * written, and sends a {@link RendererChangeEvent} to all registered
+     * listeners.  This only makes a difference for translucent colors (the
+     * anti-aliased edges of shapes are always composited).
+     *
+     * @param accumulate  the new flag value.
+     *
+     * @see #getAccumulateAlpha()
+     *
+     * @since 2.0.0
+     */
+    public void setAccumulateAlpha(boolean accumulate) {
+        this.accumulateAlpha = accumulate;
+        fireChangeEvent();
+    }
+
     /**
      * Returns {@code true} if the renderer should use the fill paint
      * setting to fill shapes, and {@code false} if it should just
@@ -385,6 +469,30 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Initialises the renderer and returns a state object that should be
+     * passed to subsequent calls to the drawItem() method.  In raster
+     * rendering mode, the state holds the off-screen image for the shapes.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back to
+     *              the caller.
+     *
+     * @return The renderer state.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        if (this.rasterRendering && PixelBuffer.isSupported(g2)) {
+            return new RasterRendererState(info, g2, dataArea,
+                    this.accumulateAlpha);
+        }
+        return super.initialise(g2, dataArea, plot, dataset, info);
+    }
+
     /**
      * Returns the number of passes required by this renderer.
      *
@@ -454,6 +562,58 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
             }
         } else if (pass == 1) {
             Shape shape = getItemShape(series, item);
+            Paint paint = getPaint(dataset, series, item);
+            if (state instanceof RasterRendererState && paint instanceof Color
+                    && !this.drawOutlines) {
+                RasterRendererState rs = (RasterRendererState) state;
+                if (orientation == PlotOrientation.HORIZONTAL) {
+                    rs.getBuffer().fillStamp(rs.getStamp(shape), transY,
+                            transX, (Color) paint);
+                } else if (orientation == PlotOrientation.VERTICAL) {
+                    rs.getBuffer().fillStamp(rs.getStamp(shape), transX,
+                            transY, (Color) paint);
+                }
+                int datasetIndex = plot.indexOf(dataset);
+                updateCrosshairValues(crosshairState, x, y, datasetIndex,
+                        transX, transY, orientation);
+                if (entities != null) {
+                    hotspot = orientation == PlotOrientation.HORIZONTAL
+                            ? ShapeUtils.createTranslatedShape(shape, transY,
+                            transX) : ShapeUtils.createTranslatedShape(shape,
+                            transX, transY);
+                    addEntity(entities, hotspot, dataset, series, item, 0.0,
+                            0.0);
+                }
+                return;
+            }
+            if (state instanceof RasterRendererState) {
+                ((RasterRendererState) state).flush();
+            }
+            if (getSpriteRendering()) {
+                Paint outlinePaint = null;
+                if (this.drawOutlines) {
+                    outlinePaint = getUseOutlinePaint()
+                            ? getItemOutlinePaint(series, item)
+                            : getItemPaint(series, item);
+                }
+                double shapeX = orientation == PlotOrientation.HORIZONTAL
+                        ? transY : transX;
+                double shapeY = orientation == PlotOrientation.HORIZONTAL
+                        ? transX : transY;
+                if (drawItemShapeSprite(g2, shape, shapeX, shapeY, paint,
+                        outlinePaint, getItemOutlineStroke(series, item))) {
+                    int datasetIndex = plot.indexOf(dataset);
+                    updateCrosshairValues(crosshairState, x, y, datasetIndex,
+                            transX, transY, orientation);
+                    if (entities != null) {
+                        hotspot = ShapeUtils.createTranslatedShape(shape,
+                                shapeX, shapeY);
+                        addEntity(entities, hotspot, dataset, series, item,
+                                0.0, 0.0);
+                    }
+                    return;
+                }
+            }
             if (orientation == PlotOrientation.HORIZONTAL) {
                 shape = ShapeUtils.createTranslatedShape(shape, transY,
                         transX);
@@ -464,7 +624,7 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
             hotspot = shape;
             if (shape.intersects(dataArea)) {
                 //if (getItemShapeFilled(series, item)) {
-                    g2.setPaint(getPaint(dataset, series, item));
+                    g2.setPaint(paint);
                     g2.fill(shape);
                //}
                 if (this.drawOutlines) {
@@ -558,6 +718,12 @@ public class XYShapeRenderer extends AbstractXYItemRenderer
         if (!this.guideLineStroke.equals(that.guideLineStroke)) {
             return false;
         }
+        if (this.rasterRendering != that.rasterRendering) {
+            return false;
+        }
+        if (this.accumulateAlpha != that.accumulateAlpha) {
+            return false;
+        }
         return super.equals(obj);
     }
 
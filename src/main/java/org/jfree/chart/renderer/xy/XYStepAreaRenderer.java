@@ -110,6 +110,13 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
      */
     private double stepPoint;
 
+    /**
+     * A flag that controls whether or not the plot passes only the first,
+     * last, minimum and maximum items in each pixel column to the renderer,
+     * for series that have no visible shapes or item labels.
+     */
+    private boolean itemDecimation;
+
     /**
      * Constructs a new renderer.
      */
@@ -318,6 +325,43 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not series are decimated
+     * before rendering.  When this flag is set, for each series that has no
+     * visible shapes or item labels the plot passes only the first, last,
+     * minimum and maximum item in each pixel column to the renderer (see
+     * {@link org.jfree.chart.renderer.RendererUtils#findDecimatedItems}).
+     * Entities are only generated for the items drawn.  The default value
+     * is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setItemDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getItemDecimation() {
+        return this.itemDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not series are decimated before
+     * rendering and sends a {@link RendererChangeEvent} to all registered
+     * listeners.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getItemDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setItemDecimation(boolean flag) {
+        if (this.itemDecimation != flag) {
+            this.itemDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Initialises the renderer.  Here we calculate the Java2D y-coordinate for
      * zero, since all the bars have their bases fixed at zero.
@@ -340,6 +384,9 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         // disable visible items optimisation - it doesn't work for this
         // renderer...
         state.setProcessVisibleItemsOnly(false);
+        if (this.itemDecimation && !this.shapesVisible) {
+            state.setDecimatedSeries(series -> !isItemLabelVisible(series, 0));
+        }
         return state;
 
     }
@@ -420,8 +467,9 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         double y0;
         if (item > 0) {
             // get the previous data point...
-            x0 = dataset.getXValue(series, item - 1);
-            y0 = Double.isNaN(y1) ? y1 : dataset.getYValue(series, item - 1);
+            int previous = state.getPreviousItemIndex(item);
+            x0 = dataset.getXValue(series, previous);
+            y0 = Double.isNaN(y1) ? y1 : dataset.getYValue(series, previous);
 
             x = x0;
             y = Double.isNaN(y0) ? getRangeBase() : y0;
@@ -575,6 +623,9 @@ public class XYStepAreaRenderer extends AbstractXYItemRenderer
         if (this.stepPoint != that.stepPoint) {
             return false;
         }
+        if (this.itemDecimation != that.itemDecimation) {
+            return false;
+        }
         return super.equals(obj);
     }
 
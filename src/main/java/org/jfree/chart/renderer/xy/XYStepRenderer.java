@@ -193,8 +193,9 @@ public class XYStepRenderer extends XYLineAndShapeRenderer
 
         if (pass == 0 && item > 0) {
             // get the previous data point...
-            double x0 = dataset.getXValue(series, item - 1);
-            double y0 = dataset.getYValue(series, item - 1);
+            int previous = state.getPreviousItemIndex(item);
+            double x0 = dataset.getXValue(series, previous);
+            double y0 = dataset.getYValue(series, previous);
             double transX0 = domainAxis.valueToJava2D(x0, dataArea,
                     xAxisLocation);
             double transY0 = (Double.isNaN(y0) ? Double.NaN
@@ -89,11 +89,15 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.EventListener;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -105,25 +109,32 @@ import javax.swing.SwingUtilities;
 import javax.swing.ToolTipManager;
 import javax.swing.event.EventListenerList;
 import javax.swing.filechooser.FileNameExtensionFilter;
+import org.jfree.chart.ChartLayer;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.ChartTransferable;
 import org.jfree.chart.ChartUtils;
 import org.jfree.chart.JFreeChart;
 
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.swing.editor.ChartEditor;
 import org.jfree.chart.swing.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressEventType;
 import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.plot.Pannable;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.PlotState;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.plot.Zoomable;
 import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
 
 /**
  * A Swing GUI component for displaying a {@link JFreeChart} object.
@@ -166,6 +177,14 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The default limit above which chart scaling kicks in. */
     public static final int DEFAULT_MAXIMUM_DRAW_HEIGHT = 768;
 
+    /** 
+     * The default maximum frame delay (in milliseconds) for asynchronous
+     * rendering.
+     * 
+     * @since 2.0.0
+     */
+    public static final int DEFAULT_MAXIMUM_FRAME_DELAY = 200;
+
     /** Properties action command. */
     public static final String PROPERTIES_COMMAND = "PROPERTIES";
 
@@ -285,6 +304,78 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     protected int chartBufferWidth;
 
+    /** 
+     * A flag that controls whether the off-screen buffer is split into one
+     * image per {@link ChartLayer}.
+     */
+    private boolean layeredBuffer;
+
+    /** The layer buffers (indexed by layer ordinal, possibly {@code null}). */
+    private transient Image[] layerBuffers;
+
+    /** 
+     * The rendering info collected for each layer when it was last drawn 
+     * (indexed by layer ordinal, combined in {@link #info}).
+     */
+    private transient ChartRenderingInfo[] layerInfos;
+
+    /** The layers that need to be redrawn when the buffer is refreshed. */
+    private transient LayerBufferState layerState = new LayerBufferState();
+
+    /** 
+     * A flag that controls whether the data layer of a layered buffer is
+     * scrolled when the domain axis range moves.
+     */
+    private boolean bufferScrolling;
+
+    /** 
+     * The maximum number of times per second that the panel is repainted 
+     * in response to chart changes (zero for no limit).
+     */
+    private int maximumFrameRate;
+
+    /** The scheduler for repaints following chart changes. */
+    private transient RepaintScheduler repaintScheduler;
+
+    /** 
+     * A flag that controls whether the chart is drawn into the off-screen
+     * buffer on a background thread.
+     */
+    private boolean asyncRendering;
+
+    /** 
+     * The executor for background rendering ({@code null} for the default
+     * executor).
+     */
+    private transient Executor renderExecutor;
+
+    /** The background rendering in progress ({@code null} if none). */
+    private transient volatile FrameRenderer frameRenderer;
+
+    /** 
+     * The maximum time (in milliseconds) for which out-of-date frames drawn
+     * on a background thread are discarded.
+     */
+    private int maximumFrameDelay = DEFAULT_MAXIMUM_FRAME_DELAY;
+
+    /** 
+     * Tracks the chart changes, so that frames rendered before a change can
+     * be recognised.
+     */
+    private transient FrameTracker frameTracker;
+
+    /** The width (in device pixels) of the last frame requested. */
+    private transient int renderWidth;
+
+    /** The height (in device pixels) of the last frame requested. */
+    private transient int renderHeight;
+
+    /** Storage for registered progress listeners. */
+    private transient EventListenerList progressListeners;
+
+    /** The default executor for background rendering (created when needed). */
+    private static Executor defaultRenderExecutor;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -591,8 +682,11 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
            boolean copy, boolean save, boolean print, boolean zoom,
            boolean tooltips) {
 
+        this.repaintScheduler = new RepaintScheduler(this::repaint);
+        this.frameTracker = new FrameTracker(this.maximumFrameDelay);
         setChart(chart);
         this.chartMouseListeners = new EventListenerList();
+        this.progressListeners = new EventListenerList();
         this.info = new ChartRenderingInfo();
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
@@ -653,6 +747,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         // add the new chart
         this.chart = chart;
+        cancelRendering();
         if (chart != null) {
             this.chart.addChangeListener(this);
             this.chart.addProgressListener(this);
@@ -672,6 +767,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         }
         if (this.useBuffer) {
             this.refreshBuffer = true;
+            this.layerState.invalidateAll();
         }
         repaint();
 
@@ -1382,13 +1478,370 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
     /**
      * Sets the refresh buffer flag.  This flag is used to avoid unnecessary
-     * redrawing of the chart when the offscreen image buffer is used.
+     * redrawing of the chart when the offscreen image buffer is used.  
+     * Setting the flag to {@code true} causes all layers of a layered 
+     * buffer to be redrawn.
      *
      * @param flag  {@code true} indicates that the buffer should be
      *              refreshed.
      */
     public void setRefreshBuffer(boolean flag) {
         this.refreshBuffer = flag;
+        if (flag) {
+            this.layerState.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the off-screen buffer is split
+     * into layers.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     * 
+     * @see #setLayeredBuffer(boolean)
+     * @since 2.0.0
+     */
+    public boolean isLayeredBuffer() {
+        return this.layeredBuffer;
+    }
+
+    /**
+     * Sets the flag that controls whether the off-screen buffer is split
+     * into one image per {@link ChartLayer}, and triggers a repaint.  Each
+     * layer is redrawn only when a change affects it; in particular a 
+     * dataset update that leaves the axis ranges and legend unchanged
+     * redraws only the data layer (and the annotations layer when 
+     * crosshairs are visible).  The flag has no effect unless the panel
+     * uses an off-screen buffer and the plot supports layered drawing (see
+     * {@link Plot#isLayeredDrawingSupported()}).
+     *
+     * @param layered  the new flag value.
+     * 
+     * @see #isLayeredBuffer()
+     * @since 2.0.0
+     */
+    public void setLayeredBuffer(boolean layered) {
+        this.layeredBuffer = layered;
+        this.chartBuffer = null;
+        this.layerBuffers = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether the data layer of a layered
+     * buffer is scrolled when the domain axis range moves.  The default 
+     * value is {@code false}.
+     *
+     * @return A boolean.
+     * 
+     * @see #setBufferScrolling(boolean)
+     * @since 2.0.0
+     */
+    public boolean isBufferScrolling() {
+        return this.bufferScrolling;
+    }
+
+    /**
+     * Sets the flag that controls whether the data layer of a layered 
+     * buffer (see {@link #setLayeredBuffer(boolean)}) is scrolled when a 
+     * dataset update moves the range of the domain axis of an 
+     * {@link XYPlot} towards higher values without changing its length, as
+     * in a strip chart with a fixed auto-range.  The existing pixels of the
+     * data layer are moved by the elapsed distance (to the left for a 
+     * vertical plot, and down for a horizontal plot, or the other way if 
+     * the domain axis is inverted) and only the newly exposed strip (and 
+     * the new items) is drawn; the axes and annotations layers are redrawn
+     * in full.  Any other layout change, for example a change to the range
+     * axis range, still redraws every layer.
+     * <p>
+     * Scrolling assumes that new items are appended at the upper end of 
+     * the domain axis.  The scrolled pixels can be up to half a pixel from
+     * their exact position, and the rendering info does not include 
+     * entities for the data items after a scrolled update.
+     *
+     * @param scrolling  the new flag value.
+     * 
+     * @see #isBufferScrolling()
+     * @since 2.0.0
+     */
+    public void setBufferScrolling(boolean scrolling) {
+        this.bufferScrolling = scrolling;
+        this.refreshBuffer = true;
+        this.layerState.invalidateAll();
+        repaint();
+    }
+
+    /**
+     * Returns the maximum number of times per second that the panel is 
+     * repainted in response to chart changes.  The default value is zero
+     * (no limit).
+     *
+     * @return The maximum frame rate.
+     * 
+     * @see #setMaximumFrameRate(int)
+     * @since 2.0.0
+     */
+    public int getMaximumFrameRate() {
+        return this.maximumFrameRate;
+    }
+
+    /**
+     * Sets the maximum number of times per second that the panel is 
+     * repainted in response to chart changes.  When a chart changes less
+     * than one frame interval after the panel was last painted, the repaint
+     * is delayed until the interval has passed, and the changes received in
+     * the meantime are shown by that one repaint.  This keeps the cost of a
+     * chart with a fast data feed (or a burst of mouse wheel zooming) 
+     * bounded by the frame rate rather than the rate of changes.
+     *
+     * @param fps  the maximum frame rate (zero for no limit, negative 
+     *     values not permitted).
+     * 
+     * @see #getMaximumFrameRate()
+     * @see #getCoalescedRepaintCount()
+     * @since 2.0.0
+     */
+    public void setMaximumFrameRate(int fps) {
+        Args.requireNonNegative(fps, "fps");
+        this.maximumFrameRate = fps;
+        this.repaintScheduler.setMaximumFrameRate(fps);
+    }
+
+    /**
+     * Returns the number of repaints requested by chart changes since the
+     * panel was created (or the counts were reset).
+     *
+     * @return The number of repaint requests.
+     * 
+     * @see #getCoalescedRepaintCount()
+     * @see #resetRepaintCounts()
+     * @since 2.0.0
+     */
+    public long getRepaintRequestCount() {
+        return this.repaintScheduler.getRequestCount();
+    }
+
+    /**
+     * Returns the number of repaints requested by chart changes that were
+     * coalesced with an earlier request, because they arrived before the
+     * panel had been painted for that request.  The difference between the
+     * request count and this count is the number of frames actually drawn
+     * for chart changes.
+     *
+     * @return The number of coalesced repaint requests.
+     * 
+     * @see #getRepaintRequestCount()
+     * @see #resetRepaintCounts()
+     * @since 2.0.0
+     */
+    public long getCoalescedRepaintCount() {
+        return this.repaintScheduler.getCoalescedCount();
+    }
+
+    /**
+     * Resets the repaint request counts to zero.
+     * 
+     * @see #getRepaintRequestCount()
+     * @see #getCoalescedRepaintCount()
+     * @since 2.0.0
+     */
+    public void resetRepaintCounts() {
+        this.repaintScheduler.resetCounts();
+    }
+
+    /**
+     * Returns the flag that controls whether the chart is drawn into the 
+     * off-screen buffer on a background thread.  The default value is 
+     * {@code false}.
+     *
+     * @return A boolean.
+     * 
+     * @see #setAsyncRendering(boolean)
+     * @since 2.0.0
+     */
+    public boolean isAsyncRendering() {
+        return this.asyncRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the chart is drawn into the 
+     * off-screen buffer on a background thread (see 
+     * {@link #setRenderExecutor(Executor)}), so that drawing a large chart
+     * does not block the Event Dispatch Thread.  While a new frame is being
+     * drawn, the panel continues to show the previous frame; when it is 
+     * ready, the panel sends a {@link ChartProgressEvent} of type
+     * {@link ChartProgressEventType#FRAME_READY} to its progress listeners
+     * (on the Event Dispatch Thread) and repaints.  
+     * <p>
+     * A chart change that arrives while a frame is being drawn does not 
+     * stop that frame.  When it is done, one new frame is drawn that shows
+     * all the changes received in the meantime, so that frames are 
+     * completed even when the chart changes continuously.  The out-of-date
+     * frame is discarded, unless no frame has been shown for the maximum
+     * frame delay (see {@link #setMaximumFrameDelay(int)}).  Replacing the
+     * chart cancels the frame in progress: XY and category plots stop 
+     * drawing items as soon as the rendering info for the frame is 
+     * cancelled (see {@link ChartRenderingInfo#cancel()}), and the frame is
+     * discarded.
+     * <p>
+     * While a frame is drawn, the chart sends its 
+     * {@link ChartProgressEventType#DRAWING_STARTED} and
+     * {@link ChartProgressEventType#DRAWING_FINISHED} events to its progress
+     * listeners on the rendering thread, not on the Event Dispatch Thread.
+     * Listeners registered with the chart that update Swing components (for
+     * example, a display of the crosshair values) must pass the update to 
+     * the Event Dispatch Thread with 
+     * {@link SwingUtilities#invokeLater(Runnable)}, or listen to the 
+     * {@code FRAME_READY} events sent by the panel instead.
+     * <p>
+     * The flag has no effect unless the panel uses an off-screen buffer, 
+     * and is ignored when the buffer is layered (see 
+     * {@link #setLayeredBuffer(boolean)}).  The chart and its datasets are
+     * read by the rendering thread, so changes to them should be made on 
+     * one thread (usually the Event Dispatch Thread); a frame that overlaps
+     * a change is shown only when the maximum frame delay has passed, and 
+     * never if the drawing failed.
+     *
+     * @param async  the new flag value.
+     * 
+     * @see #isAsyncRendering()
+     * @since 2.0.0
+     */
+    public void setAsyncRendering(boolean async) {
+        this.asyncRendering = async;
+        cancelRendering();
+        this.refreshBuffer = true;
+        this.layerState.invalidateAll();
+        repaint();
+    }
+
+    /**
+     * Returns the maximum time (in milliseconds) for which frames that are
+     * out of date when they are finished are discarded.  The default value
+     * is {@link #DEFAULT_MAXIMUM_FRAME_DELAY}.
+     *
+     * @return The maximum frame delay.
+     * 
+     * @see #setMaximumFrameDelay(int)
+     * @since 2.0.0
+     */
+    public int getMaximumFrameDelay() {
+        return this.maximumFrameDelay;
+    }
+
+    /**
+     * Sets the maximum time (in milliseconds) for which frames that are 
+     * out of date when they are finished are discarded, when asynchronous
+     * rendering is enabled (see {@link #setAsyncRendering(boolean)}).  A 
+     * frame that was drawn while the chart changed is normally discarded in
+     * favour of the next frame, but if no frame has been shown for this 
+     * time it is shown anyway, so that a chart that changes faster than it
+     * can be drawn is still updated at least this often (plus the time to
+     * draw one frame).  A delay of zero shows every completed frame.
+     *
+     * @param millis  the delay (in milliseconds, negative values not 
+     *     permitted).
+     * 
+     * @see #getMaximumFrameDelay()
+     * @since 2.0.0
+     */
+    public void setMaximumFrameDelay(int millis) {
+        Args.requireNonNegative(millis, "millis");
+        this.maximumFrameDelay = millis;
+        this.frameTracker.setMaximumFrameDelay(millis);
+    }
+
+    /**
+     * Returns the executor for background rendering.
+     *
+     * @return The executor ({@code null} if the default executor is used).
+     * 
+     * @see #setRenderExecutor(Executor)
+     * @since 2.0.0
+     */
+    public Executor getRenderExecutor() {
+        return this.renderExecutor;
+    }
+
+    /**
+     * Sets the executor used to draw frames when asynchronous rendering is
+     * enabled (see {@link #setAsyncRendering(boolean)}).  The panel submits
+     * at most one frame at a time.  If the executor is {@code null}, a 
+     * shared default is used: a virtual thread per frame when the runtime
+     * supports virtual threads (JDK 21 or later), otherwise a pool of 
+     * daemon threads.
+     *
+     * @param executor  the executor ({@code null} permitted).
+     * 
+     * @see #getRenderExecutor()
+     * @since 2.0.0
+     */
+    public void setRenderExecutor(Executor executor) {
+        this.renderExecutor = executor;
+    }
+
+    /**
+     * Returns the default executor for background rendering, creating it 
+     * if necessary.
+     * 
+     * @return The executor (never {@code null}).
+     */
+    private static synchronized Executor getDefaultRenderExecutor() {
+        if (defaultRenderExecutor == null) {
+            try {
+                Method m = Executors.class.getMethod(
+                        "newVirtualThreadPerTaskExecutor");
+                defaultRenderExecutor = (Executor) m.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                defaultRenderExecutor = Executors.newCachedThreadPool(r -> {
+                    Thread t = new Thread(r, "JFreeChart-renderer");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+        }
+        return defaultRenderExecutor;
+    }
+
+    /**
+     * Adds a listener that receives a {@link ChartProgressEvent} of type
+     * {@link ChartProgressEventType#FRAME_READY} each time a frame drawn on
+     * a background thread is ready to be shown.
+     *
+     * @param listener  the listener ({@code null} not permitted).
+     * 
+     * @see #setAsyncRendering(boolean)
+     * @since 2.0.0
+     */
+    public void addChartProgressListener(ChartProgressListener listener) {
+        Args.nullNotPermitted(listener, "listener");
+        this.progressListeners.add(ChartProgressListener.class, listener);
+    }
+
+    /**
+     * Removes a progress listener from the panel.
+     *
+     * @param listener  the listener.
+     * 
+     * @since 2.0.0
+     */
+    public void removeChartProgressListener(ChartProgressListener listener) {
+        this.progressListeners.remove(ChartProgressListener.class, listener);
+    }
+
+    /**
+     * Sends a progress event to all registered progress listeners.
+     * 
+     * @param event  the event.
+     */
+    private void notifyProgressListeners(ChartProgressEvent event) {
+        Object[] listeners = this.progressListeners.getListenerList();
+        for (int i = listeners.length - 2; i >= 0; i -= 2) {
+            if (listeners[i] == ChartProgressListener.class) {
+                ((ChartProgressListener) listeners[i + 1]).chartProgress(event);
+            }
+        }
     }
 
     /**
@@ -1402,6 +1855,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
+        this.repaintScheduler.painted();
         if (this.chart == null) {
             return;
         }
@@ -1447,7 +1901,16 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 drawHeight);
 
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        if (this.useBuffer && this.layeredBuffer 
+                && this.chart.getPlot().isLayeredDrawingSupported()) {
+            paintLayerBuffers(g2, ((Graphics2D) g).getTransform(), insets, 
+                    available, chartArea, scale);
+        } else if (this.useBuffer && this.asyncRendering) {
+            this.layerBuffers = null;
+            paintAsyncBuffer(g2, ((Graphics2D) g).getTransform(), insets, 
+                    available, chartArea, scale);
+        } else if (this.useBuffer) {
+            this.layerBuffers = null;
 
             // for better rendering on the HiDPI monitors upscaling the buffer to the "native" resoution
             // instead of using logical one provided by Swing
@@ -1539,19 +2002,477 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     }
 
     /**
-     * Receives notification of changes to the chart, and redraws the chart.
+     * Starts drawing a new frame on a background thread (if a refresh is 
+     * required and no frame is being drawn) and then draws the last 
+     * completed frame onto the panel.
+     * 
+     * @param g2  the graphics target for the panel.
+     * @param globalTransform  the transform of the Swing graphics (used to
+     *     size the buffer for HiDPI monitors).
+     * @param insets  the panel insets.
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area (used when scaling).
+     * @param scale  a flag that indicates whether scaling is required.
+     */
+    private void paintAsyncBuffer(Graphics2D g2, 
+            AffineTransform globalTransform, Insets insets, 
+            Rectangle2D available, Rectangle2D chartArea, boolean scale) {
+        double globalScaleX = globalTransform.getScaleX();
+        double globalScaleY = globalTransform.getScaleY();
+        int scaledWidth = (int) (available.getWidth() * globalScaleX);
+        int scaledHeight = (int) (available.getHeight() * globalScaleY);
+        if (this.renderWidth != scaledWidth 
+                || this.renderHeight != scaledHeight) {
+            this.refreshBuffer = true;
+        }
+        if (this.refreshBuffer && this.frameRenderer == null 
+                && scaledWidth > 0 && scaledHeight > 0) {
+            this.refreshBuffer = false;
+            this.renderWidth = scaledWidth;
+            this.renderHeight = scaledHeight;
+            FrameRenderer renderer = new FrameRenderer(
+                    g2.getDeviceConfiguration(), scaledWidth, scaledHeight, 
+                    globalScaleX, globalScaleY, scale ? chartArea 
+                    : new Rectangle2D.Double(0, 0, available.getWidth(), 
+                    available.getHeight()), scale);
+            this.frameRenderer = renderer;
+            Executor executor = this.renderExecutor != null 
+                    ? this.renderExecutor : getDefaultRenderExecutor();
+            executor.execute(renderer);
+        }
+
+        // show the last frame (scaled if the panel size has changed)...
+        if (this.chartBuffer != null) {
+            g2.drawImage(this.chartBuffer, insets.left, insets.top, 
+                    (int) available.getWidth(), (int) available.getHeight(), 
+                    this);
+        }
+        g2.addRenderingHints(this.chart.getRenderingHints());
+    }
+
+    /**
+     * Cancels the frame being drawn on a background thread, if there is 
+     * one.  The frame is discarded when the rendering finishes.
+     */
+    private void cancelRendering() {
+        this.frameTracker.cancel();
+        FrameRenderer renderer = this.frameRenderer;
+        if (renderer != null) {
+            renderer.cancel();
+        }
+    }
+
+    /**
+     * Called on the Event Dispatch Thread when a background rendering 
+     * finishes.  If the frame is to be shown (see {@link FrameTracker}), it
+     * becomes the chart buffer and the progress listeners are notified; 
+     * otherwise it is discarded.  If the chart has changed since the 
+     * rendering started, the buffer is marked for refreshing.  In all cases
+     * the panel is repainted, which starts a new rendering if one is 
+     * required.
+     * 
+     * @param renderer  the renderer.
+     */
+    private void frameRendered(FrameRenderer renderer) {
+        if (this.frameRenderer != renderer) {
+            return;
+        }
+        this.frameRenderer = null;
+        boolean current = this.frameTracker.isCurrent(renderer.generation);
+        if (current) {
+            // an error in an out-of-date frame can be caused by a change
+            // made while it was drawn, so only errors in current frames are
+            // passed on
+            if (renderer.error instanceof RuntimeException) {
+                throw (RuntimeException) renderer.error;
+            } else if (renderer.error instanceof Error) {
+                throw (Error) renderer.error;
+            }
+        }
+        if (renderer.image != null && renderer.error == null 
+                && this.frameTracker.accept(renderer.generation)) {
+            this.chartBuffer = renderer.image;
+            this.chartBufferWidth = renderer.width;
+            this.chartBufferHeight = renderer.height;
+            if (this.info != null) {
+                this.info = renderer.info;
+            }
+            notifyProgressListeners(new ChartProgressEvent(this, this.chart, 
+                    ChartProgressEventType.FRAME_READY, 100));
+        }
+        if (!current) {
+            this.refreshBuffer = true;
+        }
+        repaint();
+    }
+
+    /**
+     * Draws one frame of the chart into a new image on a background thread.
+     */
+    private final class FrameRenderer implements Runnable {
+
+        /** The chart. */
+        private final JFreeChart chart;
+
+        /** The render generation when the frame was requested. */
+        final int generation;
+
+        /** The graphics configuration for the image. */
+        private final GraphicsConfiguration gc;
+
+        /** The image width (in device pixels). */
+        final int width;
+
+        /** The image height (in device pixels). */
+        final int height;
+
+        /** The scale factor from panel coordinates to device pixels. */
+        private final double globalScaleX;
+
+        /** The scale factor from panel coordinates to device pixels. */
+        private final double globalScaleY;
+
+        /** The area in which the chart is drawn. */
+        private final Rectangle2D area;
+
+        /** The scale factor for the minimum/maximum draw size. */
+        private final double drawScaleX;
+
+        /** The scale factor for the minimum/maximum draw size. */
+        private final double drawScaleY;
+
+        /** The anchor point ({@code null} permitted). */
+        private final Point2D drawAnchor;
+
+        /** 
+         * The rendering info for the frame (without entities if the panel 
+         * does not collect rendering info).
+         */
+        final ChartRenderingInfo info;
+
+        /** The rendered image (set when the rendering finishes). */
+        Image image;
+
+        /** An exception thrown by the rendering ({@code null} if none). */
+        Throwable error;
+
+        /** A flag that indicates the rendering has been cancelled. */
+        private boolean cancelled;
+
+        /**
+         * Creates a renderer for the current state of the panel.
+         * 
+         * @param gc  the graphics configuration for the image.
+         * @param width  the image width (in device pixels).
+         * @param height  the image height (in device pixels).
+         * @param globalScaleX  the horizontal scale to device pixels.
+         * @param globalScaleY  the vertical scale to device pixels.
+         * @param area  the area in which the chart is drawn.
+         * @param scale  a flag that indicates whether the minimum/maximum 
+         *     draw size scaling is required.
+         */
+        FrameRenderer(GraphicsConfiguration gc, int width, int height, 
+                double globalScaleX, double globalScaleY, Rectangle2D area, 
+                boolean scale) {
+            this.chart = ChartPanel.this.chart;
+            this.generation = ChartPanel.this.frameTracker.getGeneration();
+            this.gc = gc;
+            this.width = width;
+            this.height = height;
+            this.globalScaleX = globalScaleX;
+            this.globalScaleY = globalScaleY;
+            this.area = area;
+            this.drawScaleX = scale ? ChartPanel.this.scaleX : 1.0;
+            this.drawScaleY = scale ? ChartPanel.this.scaleY : 1.0;
+            this.drawAnchor = ChartPanel.this.anchor;
+            this.info = ChartPanel.this.info != null 
+                    ? new ChartRenderingInfo() : new ChartRenderingInfo(null);
+        }
+
+        /**
+         * Cancels the rendering, by cancelling the rendering info for the
+         * frame.
+         */
+        synchronized void cancel() {
+            this.cancelled = true;
+            this.info.cancel();
+        }
+
+        /**
+         * Draws the frame and then passes it to the panel on the Event 
+         * Dispatch Thread.
+         */
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (this.cancelled) {
+                    SwingUtilities.invokeLater(() -> frameRendered(this));
+                    return;
+                }
+            }
+            try {
+                Image frame = this.gc.createCompatibleImage(this.width, 
+                        this.height, Transparency.TRANSLUCENT);
+                Graphics2D g2 = (Graphics2D) frame.getGraphics();
+                g2.scale(this.globalScaleX, this.globalScaleY);
+                g2.scale(this.drawScaleX, this.drawScaleY);
+                this.chart.draw(g2, this.area, this.drawAnchor, this.info);
+                g2.dispose();
+                this.image = frame;
+            } catch (RuntimeException | Error e) {
+                this.error = e;
+            } finally {
+                SwingUtilities.invokeLater(() -> frameRendered(this));
+            }
+        }
+    }
+
+    /**
+     * Redraws the invalid layers of the layered buffer (if a refresh is 
+     * required) and then draws all the layers onto the panel.
+     * 
+     * @param g2  the graphics target for the panel.
+     * @param globalTransform  the transform of the Swing graphics (used to
+     *     size the buffers for HiDPI monitors).
+     * @param insets  the panel insets.
+     * @param available  the area available for the chart.
+     * @param chartArea  the chart area (used when scaling).
+     * @param scale  a flag that indicates whether scaling is required.
+     */
+    private void paintLayerBuffers(Graphics2D g2, 
+            AffineTransform globalTransform, Insets insets, 
+            Rectangle2D available, Rectangle2D chartArea, boolean scale) {
+        double globalScaleX = globalTransform.getScaleX();
+        double globalScaleY = globalTransform.getScaleY();
+        int scaledWidth = (int) (available.getWidth() * globalScaleX);
+        int scaledHeight = (int) (available.getHeight() * globalScaleY);
+        ChartLayer[] layers = ChartLayer.values();
+
+        // do we need to resize the buffers?
+        if ((this.layerBuffers == null)
+                || (this.chartBufferWidth != scaledWidth)
+                || (this.chartBufferHeight != scaledHeight)) {
+            this.chartBuffer = null;
+            this.chartBufferWidth = scaledWidth;
+            this.chartBufferHeight = scaledHeight;
+            GraphicsConfiguration gc = g2.getDeviceConfiguration();
+            this.layerBuffers = new Image[layers.length];
+            this.layerInfos = new ChartRenderingInfo[layers.length];
+            for (int i = 0; i < layers.length; i++) {
+                this.layerBuffers[i] = gc.createCompatibleImage(
+                        scaledWidth, scaledHeight, Transparency.TRANSLUCENT);
+                this.layerInfos[i] = new ChartRenderingInfo(
+                        new StandardEntityCollection());
+            }
+            this.layerState.invalidateAll();
+            this.refreshBuffer = true;
+        }
+
+        if (this.refreshBuffer) {
+            this.refreshBuffer = false;
+            Rectangle2D drawArea = scale ? chartArea : new Rectangle2D.Double(
+                    0, 0, available.getWidth(), available.getHeight());
+
+            // a dataset update can still change the axis ranges or the 
+            // legend, and then the layout of every layer changes (unless
+            // the data layer can be scrolled)
+            List<Object> layoutKey = createLayerLayoutKey();
+            Range redrawRange = null;
+            if (!layoutKey.equals(this.layerState.getLayoutKey())) {
+                redrawRange = scrollDataLayer(layoutKey, globalScaleX, 
+                        globalScaleY);
+                if (redrawRange == null) {
+                    this.layerState.invalidateAll();
+                }
+            }
+            drawLayerBuffers(redrawRange, globalScaleX, globalScaleY, 
+                    drawArea);
+            if (redrawRange != null && !this.info.getPlotInfo().getDataArea()
+                    .equals(this.layerState.getDataArea())) {
+                // the new tick labels changed the data area, so the 
+                // scrolled data layer is not usable
+                this.layerState.invalidateAll();
+                drawLayerBuffers(null, globalScaleX, globalScaleY, drawArea);
+            }
+            this.layerState.setLayoutKey(layoutKey);
+        }
+
+        // zap the buffers onto the panel...
+        for (Image layerBuffer : this.layerBuffers) {
+            g2.drawImage(layerBuffer, insets.left, insets.top, 
+                    (int) available.getWidth(), (int) available.getHeight(), 
+                    this);
+        }
+        g2.addRenderingHints(this.chart.getRenderingHints()); // bug#187
+    }
+
+    /**
+     * Draws the invalid layers of the chart into their buffers, laying out
+     * the chart once for all of them, and then combines the rendering info
+     * for all the layers in {@link #info}.
+     * 
+     * @param redrawRange  the range of x-values to redraw in the (scrolled)
+     *     data layer, or {@code null} to redraw the invalid layers in full.
+     * @param globalScaleX  the x-scale for HiDPI monitors.
+     * @param globalScaleY  the y-scale for HiDPI monitors.
+     * @param drawArea  the area for the chart.
+     */
+    private void drawLayerBuffers(Range redrawRange, double globalScaleX, 
+            double globalScaleY, Rectangle2D drawArea) {
+        Set<ChartLayer> invalidLayers = this.layerState.getInvalidLayers();
+        if (invalidLayers.isEmpty()) {
+            return;
+        }
+        Map<ChartLayer, Graphics2D> targets = new EnumMap<>(ChartLayer.class);
+        Map<ChartLayer, ChartRenderingInfo> infos 
+                = new EnumMap<>(ChartLayer.class);
+        for (ChartLayer layer : invalidLayers) {
+            Graphics2D bufferG2 = (Graphics2D) this.layerBuffers[
+                    layer.ordinal()].getGraphics();
+            boolean partial = (layer == ChartLayer.DATA 
+                    && redrawRange != null);
+            if (!partial) {
+                bufferG2.setComposite(AlphaComposite.getInstance(
+                        AlphaComposite.CLEAR, 0.0f));
+                bufferG2.fillRect(0, 0, this.chartBufferWidth, 
+                        this.chartBufferHeight);
+                bufferG2.setComposite(AlphaComposite.SrcOver);
+            }
+            bufferG2.scale(globalScaleX * this.scaleX, 
+                    globalScaleY * this.scaleY);
+            targets.put(layer, bufferG2);
+            ChartRenderingInfo layerInfo = this.layerInfos[layer.ordinal()];
+            if (partial) {
+                // the entities for the scrolled items are not collected
+                layerInfo.clear();
+            } else {
+                infos.put(layer, layerInfo);
+            }
+        }
+        PlotState plotState = new PlotState();
+        plotState.setDataRedrawRange(redrawRange);
+        this.chart.draw(targets, drawArea, this.anchor, infos, plotState);
+        for (Graphics2D bufferG2 : targets.values()) {
+            bufferG2.dispose();
+        }
+
+        // combine the rendering info for the layers (the entities are 
+        // added in layer order, as for a single pass)
+        ChartRenderingInfo source = infos.isEmpty() ? null 
+                : infos.values().iterator().next();
+        Rectangle2D chartArea = (Rectangle2D) this.info.getChartArea()
+                .clone();
+        Rectangle2D plotArea = this.info.getPlotInfo().getPlotArea();
+        Rectangle2D dataArea = this.info.getPlotInfo().getDataArea();
+        if (source != null) {
+            chartArea = source.getChartArea();
+            plotArea = source.getPlotInfo().getPlotArea();
+            dataArea = source.getPlotInfo().getDataArea();
+        }
+        this.info.clear();
+        this.info.setChartArea(chartArea);
+        this.info.getPlotInfo().setPlotArea(plotArea);
+        this.info.getPlotInfo().setDataArea(dataArea);
+        EntityCollection entities = this.info.getEntityCollection();
+        if (entities != null) {
+            for (ChartRenderingInfo layerInfo : this.layerInfos) {
+                entities.addAll(layerInfo.getEntityCollection());
+            }
+        }
+        if (invalidLayers.contains(ChartLayer.DATA) 
+                && redrawRange == null) {
+            this.layerState.dataLayerDrawn(
+                    this.info.getPlotInfo().getDataArea());
+        }
+        this.layerState.validate();
+    }
+
+    /**
+     * Scrolls the data layer to follow a change in the domain axis range,
+     * if possible, and returns the range of x-values that must be redrawn.
+     * This applies only when buffer scrolling is enabled and the change is
+     * a dataset update that moved the range of the (single) domain axis of
+     * an {@link XYPlot} towards higher values (see 
+     * {@link LayerBufferState#scroll(Plot, List, double, double)}).  The 
+     * data area is assumed to be unchanged (the caller checks this once the
+     * layers are drawn).  If the layer is scrolled, the axes and 
+     * annotations layers are marked for redrawing.
+     * 
+     * @param layoutKey  the layout key for the current chart state.
+     * @param globalScaleX  the x-scale for HiDPI monitors.
+     * @param globalScaleY  the y-scale for HiDPI monitors.
+     * 
+     * @return The range to redraw, or {@code null} if the data layer was
+     *     not scrolled.
+     */
+    private Range scrollDataLayer(List<Object> layoutKey, 
+            double globalScaleX, double globalScaleY) {
+        if (!this.bufferScrolling) {
+            return null;
+        }
+        LayerBufferState.Scroll scroll = this.layerState.scroll(
+                this.chart.getPlot(), layoutKey, globalScaleX * this.scaleX, 
+                globalScaleY * this.scaleY);
+        if (scroll == null) {
+            return null;
+        }
+        if (scroll.dx != 0 || scroll.dy != 0) {
+            Graphics2D g2 = (Graphics2D) this.layerBuffers[
+                    ChartLayer.DATA.ordinal()].getGraphics();
+            g2.setComposite(AlphaComposite.Src);
+            g2.copyArea(scroll.source.x, scroll.source.y, 
+                    scroll.source.width, scroll.source.height, scroll.dx, 
+                    scroll.dy);
+            g2.dispose();
+        }
+        return scroll.redrawRange;
+    }
+
+    /**
+     * Returns a list containing the axis ranges and legend items for the 
+     * chart's plot, used to detect dataset updates that change the layout.
+     * 
+     * @return A list.
+     */
+    private List<Object> createLayerLayoutKey() {
+        List<Object> result = new ArrayList<>();
+        Plot plot = this.chart.getPlot();
+        if (plot instanceof XYPlot) {
+            XYPlot<?> xyplot = (XYPlot<?>) plot;
+            for (int i = 0; i < xyplot.getDomainAxisCount(); i++) {
+                ValueAxis axis = xyplot.getDomainAxis(i);
+                result.add(axis != null ? axis.getRange() : null);
+            }
+            for (int i = 0; i < xyplot.getRangeAxisCount(); i++) {
+                ValueAxis axis = xyplot.getRangeAxis(i);
+                result.add(axis != null ? axis.getRange() : null);
+            }
+        }
+        result.add(plot.getLegendItems());
+        return result;
+    }
+
+    /**
+     * Receives notification of changes to the chart, and redraws the chart
+     * (no more often than the maximum frame rate, see 
+     * {@link #setMaximumFrameRate(int)}).
      *
      * @param event  details of the chart change event.
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
         this.refreshBuffer = true;
+        this.layerState.invalidate(event, this.chart.getPlot());
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
             this.orientation = z.getOrientation();
         }
-        repaint();
+        // a frame being drawn on a background thread is allowed to finish,
+        // and the next frame (which shows all the changes received in the
+        // meantime) is started when it is done
+        this.frameTracker.changed();
+        this.repaintScheduler.request();
     }
 
     /**
@@ -2771,6 +3692,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             // fetch listeners from local storage
             return this.chartMouseListeners.getListeners(listenerType);
         }
+        else if (listenerType == ChartProgressListener.class) {
+            return this.progressListeners.getListeners(listenerType);
+        }
         else {
             return super.getListeners(listenerType);
         }
@@ -3066,6 +3990,11 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         // we create a new but empty chartMouseListeners list
         this.chartMouseListeners = new EventListenerList();
+        this.progressListeners = new EventListenerList();
+        this.repaintScheduler = new RepaintScheduler(this::repaint);
+        this.repaintScheduler.setMaximumFrameRate(this.maximumFrameRate);
+        this.frameTracker = new FrameTracker(this.maximumFrameDelay);
+        this.layerState = new LayerBufferState();
 
         // register as a listener with sub-components...
         if (this.chart != null) {
@@ -0,0 +1,180 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * FrameTracker.java
+ * -----------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.jfree.chart.internal.Args;
+
+/**
+ * Decides which frames drawn on a background thread are shown (see
+ * {@link ChartPanel#setAsyncRendering(boolean)}).  Each frame records the
+ * generation of the chart state it was started for, and each chart change
+ * starts a new generation.  A frame for the current generation is always
+ * shown.  A frame that is out of date (because the chart changed while it
+ * was drawn) is discarded in favour of a new frame, unless no frame has been
+ * shown for longer than the maximum frame delay, so that a chart that
+ * changes faster than it can be drawn is still updated regularly.  A frame
+ * started before a cancellation is never shown.  The methods of this class
+ * can be called from any thread.
+ */
+final class FrameTracker {
+
+    /** The clock (in nanoseconds, as for {@code System.nanoTime()}). */
+    private final LongSupplier clock;
+
+    /** The maximum frame delay (in milliseconds). */
+    private int maximumFrameDelay;
+
+    /** The generation of the chart state. */
+    private int generation;
+
+    /** The first generation for which frames can be shown. */
+    private int firstShownGeneration;
+
+    /** A flag that indicates that a frame has been shown. */
+    private boolean shown;
+
+    /** The time the last frame was shown (from the clock). */
+    private long lastShownTime;
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param maximumFrameDelay  the maximum frame delay (in milliseconds,
+     *     negative not permitted).
+     */
+    FrameTracker(int maximumFrameDelay) {
+        this(maximumFrameDelay, System::nanoTime);
+    }
+
+    /**
+     * Creates a new tracker that reads the time from the specified clock
+     * (for testing).
+     *
+     * @param maximumFrameDelay  the maximum frame delay (in milliseconds,
+     *     negative not permitted).
+     * @param clock  the clock, in nanoseconds ({@code null} not permitted).
+     */
+    FrameTracker(int maximumFrameDelay, LongSupplier clock) {
+        Args.requireNonNegative(maximumFrameDelay, "maximumFrameDelay");
+        Args.nullNotPermitted(clock, "clock");
+        this.maximumFrameDelay = maximumFrameDelay;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the maximum frame delay.
+     *
+     * @return The maximum frame delay (in milliseconds).
+     */
+    synchronized int getMaximumFrameDelay() {
+        return this.maximumFrameDelay;
+    }
+
+    /**
+     * Sets the maximum time after a frame is shown for which out-of-date
+     * frames are discarded.
+     *
+     * @param millis  the delay (in milliseconds, negative not permitted).
+     */
+    synchronized void setMaximumFrameDelay(int millis) {
+        Args.requireNonNegative(millis, "millis");
+        this.maximumFrameDelay = millis;
+    }
+
+    /**
+     * Returns the current generation, which should be recorded for a frame
+     * when it is started.
+     *
+     * @return The generation.
+     */
+    synchronized int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Records a chart change, so that frames in progress are out of date.
+     */
+    synchronized void changed() {
+        this.generation++;
+    }
+
+    /**
+     * Records a cancellation, so that frames in progress are never shown.
+     */
+    synchronized void cancel() {
+        this.generation++;
+        this.firstShownGeneration = this.generation;
+    }
+
+    /**
+     * Returns {@code true} if a frame for the specified generation shows
+     * the current chart state.
+     *
+     * @param frameGeneration  the generation of the frame.
+     *
+     * @return A boolean.
+     */
+    synchronized boolean isCurrent(int frameGeneration) {
+        return frameGeneration == this.generation;
+    }
+
+    /**
+     * Decides whether a completed frame is shown, and if so records the time
+     * it is shown.
+     *
+     * @param frameGeneration  the generation of the frame.
+     *
+     * @return {@code true} if the frame should be shown.
+     */
+    synchronized boolean accept(int frameGeneration) {
+        if (frameGeneration - this.firstShownGeneration < 0) {
+            return false;
+        }
+        long now = this.clock.getAsLong();
+        boolean show = frameGeneration == this.generation || !this.shown
+                || now - this.lastShownTime >= TimeUnit.MILLISECONDS.toNanos(
+                this.maximumFrameDelay);
+        if (show) {
+            this.shown = true;
+            this.lastShownTime = now;
+        }
+        return show;
+    }
+
+}
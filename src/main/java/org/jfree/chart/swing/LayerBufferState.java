@@ -0,0 +1,314 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * LayerBufferState.java
+ * ---------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.Range;
+
+/**
+ * Records which layers of a layered chart buffer (see
+ * {@link ChartPanel#setLayeredBuffer(boolean)}) need to be redrawn, and 
+ * works out how the data layer can be scrolled (see 
+ * {@link ChartPanel#setBufferScrolling(boolean)}).  A new state has every 
+ * layer invalid.
+ */
+final class LayerBufferState {
+
+    /** The layers that need to be redrawn. */
+    private final Set<ChartLayer> invalidLayers
+            = EnumSet.allOf(ChartLayer.class);
+
+    /** The axis ranges and legend items when the layers were last drawn. */
+    private List<Object> layoutKey;
+
+    /** The data area when the data layer was last drawn in full. */
+    private Rectangle2D dataArea;
+
+    /** 
+     * The distance (in buffer pixels) that the scrolled data layer has been
+     * moved beyond the exact position.
+     */
+    private double scrollError;
+
+    /**
+     * Creates a new state with every layer invalid.
+     */
+    LayerBufferState() {
+    }
+
+    /**
+     * Returns the layers that need to be redrawn.
+     *
+     * @return An unmodifiable view of the invalid layers.
+     */
+    Set<ChartLayer> getInvalidLayers() {
+        return Collections.unmodifiableSet(this.invalidLayers);
+    }
+
+    /**
+     * Marks a layer for redrawing.
+     *
+     * @param layer  the layer ({@code null} not permitted).
+     */
+    void invalidate(ChartLayer layer) {
+        Args.nullNotPermitted(layer, "layer");
+        this.invalidLayers.add(layer);
+    }
+
+    /**
+     * Marks every layer for redrawing.
+     */
+    void invalidateAll() {
+        this.invalidLayers.addAll(EnumSet.allOf(ChartLayer.class));
+    }
+
+    /**
+     * Marks the layers affected by a chart change for redrawing (see
+     * {@link #getLayersAffectedBy(ChartChangeEvent, Plot)}).
+     *
+     * @param event  the event ({@code null} not permitted).
+     * @param plot  the chart's plot ({@code null} permitted).
+     */
+    void invalidate(ChartChangeEvent event, Plot plot) {
+        this.invalidLayers.addAll(getLayersAffectedBy(event, plot));
+    }
+
+    /**
+     * Records that every layer has been redrawn.
+     */
+    void validate() {
+        this.invalidLayers.clear();
+    }
+
+    /**
+     * Returns the layout key recorded when the layers were last drawn.
+     *
+     * @return The layout key (possibly {@code null}).
+     */
+    List<Object> getLayoutKey() {
+        return this.layoutKey;
+    }
+
+    /**
+     * Records the layout key (the axis ranges and legend items) for the 
+     * layers that have just been drawn.
+     *
+     * @param layoutKey  the layout key ({@code null} permitted).
+     */
+    void setLayoutKey(List<Object> layoutKey) {
+        this.layoutKey = layoutKey;
+    }
+
+    /**
+     * Returns the data area recorded when the data layer was last drawn in
+     * full.
+     *
+     * @return The data area (possibly {@code null}).
+     */
+    Rectangle2D getDataArea() {
+        return this.dataArea;
+    }
+
+    /**
+     * Records that the data layer has been drawn in full in the specified
+     * data area, which resets the scroll error.
+     *
+     * @param dataArea  the data area ({@code null} permitted).
+     */
+    void dataLayerDrawn(Rectangle2D dataArea) {
+        this.dataArea = (dataArea != null) 
+                ? (Rectangle2D) dataArea.clone() : null;
+        this.scrollError = 0.0;
+    }
+
+    /**
+     * Works out how to scroll the data layer to follow a change in the 
+     * domain axis range.  This applies only when the data layer is the only
+     * invalid layer, and the only layout change is that the range of the 
+     * (single) domain axis of an {@link XYPlot} has moved towards higher 
+     * values without changing its length.  The existing pixels are moved 
+     * by a whole number of buffer pixels, and the error is carried over to
+     * the next scroll so that it never exceeds half a pixel.  If a scroll 
+     * is returned, the axes and annotations layers are marked for redrawing
+     * and the caller must move the pixels.
+     * 
+     * @param plot  the plot ({@code null} permitted).
+     * @param layoutKey  the layout key for the current chart state 
+     *     ({@code null} not permitted).
+     * @param scaleX  the x-scale from chart coordinates to buffer pixels.
+     * @param scaleY  the y-scale from chart coordinates to buffer pixels.
+     * 
+     * @return The scroll, or {@code null} if the data layer cannot be 
+     *     scrolled.
+     */
+    Scroll scroll(Plot plot, List<Object> layoutKey, double scaleX, 
+            double scaleY) {
+        Args.nullNotPermitted(layoutKey, "layoutKey");
+        if (this.dataArea == null || this.layoutKey == null 
+                || !this.invalidLayers.equals(EnumSet.of(ChartLayer.DATA))
+                || !(plot instanceof XYPlot)) {
+            return null;
+        }
+        XYPlot<?> xyplot = (XYPlot<?>) plot;
+        ValueAxis xAxis = xyplot.getDomainAxis();
+        if (xyplot.getDomainAxisCount() != 1 || xAxis == null) {
+            return null;
+        }
+        // only the domain axis range (the first item in the key) may differ
+        int n = layoutKey.size();
+        if (n != this.layoutKey.size() || !layoutKey.subList(1, n)
+                .equals(this.layoutKey.subList(1, n))) {
+            return null;
+        }
+        Range previous = (Range) this.layoutKey.get(0);
+        Range current = xAxis.getRange();
+        double length = current.getLength();
+        double shift = current.getLowerBound() - previous.getLowerBound();
+        if (shift < 0.0 || Math.abs(previous.getLength() - length) 
+                > length * 1.0E-9) {
+            return null;
+        }
+
+        // the pixels move away from the end of the axis with the higher 
+        // values: left (or right if inverted) for a vertical plot, and
+        // down (or up if inverted) for a horizontal plot
+        boolean vertical = xyplot.getOrientation() == PlotOrientation.VERTICAL;
+        int x0 = (int) Math.floor(this.dataArea.getMinX() * scaleX);
+        int x1 = (int) Math.ceil(this.dataArea.getMaxX() * scaleX);
+        int y0 = (int) Math.floor(this.dataArea.getMinY() * scaleY);
+        int y1 = (int) Math.ceil(this.dataArea.getMaxY() * scaleY);
+        double extent = vertical ? this.dataArea.getWidth() * scaleX 
+                : this.dataArea.getHeight() * scaleY;
+        double exact = shift / length * extent;
+        int d = (int) Math.round(exact - this.scrollError);
+        if (d >= (vertical ? x1 - x0 : y1 - y0)) {
+            return null;
+        }
+        this.scrollError += d - exact;
+        int sign = (vertical == xAxis.isInverted()) ? 1 : -1;
+        Rectangle source;
+        if (vertical) {
+            source = new Rectangle(sign < 0 ? x0 + d : x0, y0, 
+                    x1 - x0 - d, y1 - y0);
+        } else {
+            source = new Rectangle(x0, sign < 0 ? y0 + d : y0, x1 - x0, 
+                    y1 - y0 - d);
+        }
+        this.invalidLayers.add(ChartLayer.AXES);
+        this.invalidLayers.add(ChartLayer.ANNOTATIONS);
+        return new Scroll(source, vertical ? sign * d : 0, 
+                vertical ? 0 : sign * d, new Range(Math.min(
+                previous.getUpperBound(), current.getUpperBound()), 
+                current.getUpperBound()));
+    }
+
+    /**
+     * Returns the layers that need to be redrawn following a chart change
+     * event.  A dataset update affects only the data layer, plus the
+     * annotations layer if the plot has visible crosshairs (which can be
+     * locked to the data); every other change affects all layers.
+     *
+     * @param event  the event ({@code null} not permitted).
+     * @param plot  the chart's plot ({@code null} permitted).
+     *
+     * @return The layers.
+     */
+    static Set<ChartLayer> getLayersAffectedBy(ChartChangeEvent event,
+            Plot plot) {
+        Args.nullNotPermitted(event, "event");
+        if (event.getType() != ChartChangeEventType.DATASET_UPDATED) {
+            return EnumSet.allOf(ChartLayer.class);
+        }
+        if (plot instanceof XYPlot) {
+            XYPlot<?> xyplot = (XYPlot<?>) plot;
+            if (xyplot.isDomainCrosshairVisible()
+                    || xyplot.isRangeCrosshairVisible()) {
+                return EnumSet.of(ChartLayer.DATA, ChartLayer.ANNOTATIONS);
+            }
+        }
+        return EnumSet.of(ChartLayer.DATA);
+    }
+
+    /**
+     * A scroll of the data layer: the pixels in the source rectangle move
+     * by (dx, dy), and the items in the redraw range must then be drawn.
+     */
+    static final class Scroll {
+
+        /** The pixels to move (in buffer pixels). */
+        final Rectangle source;
+
+        /** The horizontal distance to move the pixels. */
+        final int dx;
+
+        /** The vertical distance to move the pixels. */
+        final int dy;
+
+        /** The range of x-values to redraw. */
+        final Range redrawRange;
+
+        /**
+         * Creates a new scroll.
+         *
+         * @param source  the pixels to move.
+         * @param dx  the horizontal distance.
+         * @param dy  the vertical distance.
+         * @param redrawRange  the range of x-values to redraw.
+         */
+        Scroll(Rectangle source, int dx, int dy, Range redrawRange) {
+            this.source = source;
+            this.dx = dx;
+            this.dy = dy;
+            this.redrawRange = redrawRange;
+        }
+
+    }
+
+}
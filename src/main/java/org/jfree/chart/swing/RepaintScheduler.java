@@ -0,0 +1,217 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * RepaintScheduler.java
+ * ---------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import javax.swing.Timer;
+import org.jfree.chart.internal.Args;
+
+/**
+ * Limits the rate at which a component is repainted in response to change
+ * notifications.  A request made while an earlier one has not yet been 
+ * painted is coalesced with it, and when a maximum frame rate is set a
+ * request that arrives less than one frame interval after the last paint
+ * is held back (by a Swing timer) until the interval has passed, so that
+ * the number of paints depends on the frame rate rather than on the rate
+ * of changes.  The methods of this class can be called from any thread.
+ */
+final class RepaintScheduler {
+
+    /** The action that asks for a repaint (for example, by a component). */
+    private final Runnable repaint;
+
+    /** The clock (in nanoseconds, as for {@code System.nanoTime()}). */
+    private final LongSupplier clock;
+
+    /** The maximum frame rate (zero or less for no limit). */
+    private int maximumFrameRate;
+
+    /** The timer that issues deferred repaints (created when needed). */
+    private Timer timer;
+
+    /** A flag that indicates a repaint has been requested but not painted. */
+    private boolean pending;
+
+    /** The time of the last paint (from the clock). */
+    private long lastPaintTime;
+
+    /** A flag that indicates that the component has been painted. */
+    private boolean painted;
+
+    /** The number of repaint requests. */
+    private long requestCount;
+
+    /** The number of requests coalesced with an earlier request. */
+    private long coalescedCount;
+
+    /**
+     * Creates a new scheduler with no frame rate limit.
+     *
+     * @param repaint  the action that requests a repaint ({@code null} not
+     *     permitted).
+     */
+    RepaintScheduler(Runnable repaint) {
+        this(repaint, System::nanoTime);
+    }
+
+    /**
+     * Creates a new scheduler with no frame rate limit that reads the time
+     * from the specified clock (for testing).
+     *
+     * @param repaint  the action that requests a repaint ({@code null} not
+     *     permitted).
+     * @param clock  the clock, in nanoseconds ({@code null} not permitted).
+     */
+    RepaintScheduler(Runnable repaint, LongSupplier clock) {
+        Args.nullNotPermitted(repaint, "repaint");
+        Args.nullNotPermitted(clock, "clock");
+        this.repaint = repaint;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the maximum frame rate.
+     *
+     * @return The maximum frame rate (zero for no limit).
+     */
+    synchronized int getMaximumFrameRate() {
+        return this.maximumFrameRate;
+    }
+
+    /**
+     * Sets the maximum frame rate.
+     *
+     * @param fps  the maximum number of frames per second (zero for no 
+     *     limit, negative not permitted).
+     */
+    synchronized void setMaximumFrameRate(int fps) {
+        Args.requireNonNegative(fps, "fps");
+        this.maximumFrameRate = fps;
+    }
+
+    /**
+     * Requests a repaint.  The repaint is requested immediately unless the
+     * frame rate is limited and the last paint was less than one frame 
+     * interval ago, in which case it is requested when the interval ends.
+     * A request made while an earlier request has not been painted is 
+     * counted as coalesced.
+     */
+    void request() {
+        boolean now;
+        synchronized (this) {
+            this.requestCount++;
+            if (this.maximumFrameRate <= 0) {
+                if (this.pending) {
+                    this.coalescedCount++;
+                }
+                this.pending = true;
+                now = true;
+            } else if (this.pending) {
+                this.coalescedCount++;
+                return;
+            } else {
+                this.pending = true;
+                long wait = 0L;
+                if (this.painted) {
+                    long interval = TimeUnit.SECONDS.toNanos(1L) 
+                            / this.maximumFrameRate;
+                    wait = this.lastPaintTime + interval 
+                            - this.clock.getAsLong();
+                }
+                now = wait <= 0L;
+                if (!now) {
+                    if (this.timer == null) {
+                        this.timer = new Timer(0, e -> this.repaint.run());
+                        this.timer.setRepeats(false);
+                    }
+                    int delay = (int) Math.max(1L, 
+                            TimeUnit.NANOSECONDS.toMillis(wait));
+                    this.timer.setInitialDelay(delay);
+                    this.timer.restart();
+                }
+            }
+        }
+        if (now) {
+            this.repaint.run();
+        }
+    }
+
+    /**
+     * Records that the component has been painted, so that the pending 
+     * request (if any) is complete.  This method should be called each time
+     * the component is painted.
+     */
+    synchronized void painted() {
+        this.pending = false;
+        this.painted = true;
+        this.lastPaintTime = this.clock.getAsLong();
+        if (this.timer != null) {
+            this.timer.stop();
+        }
+    }
+
+    /**
+     * Returns the number of repaint requests since the counts were last 
+     * reset.
+     *
+     * @return The number of requests.
+     */
+    synchronized long getRequestCount() {
+        return this.requestCount;
+    }
+
+    /**
+     * Returns the number of repaint requests that were coalesced with an 
+     * earlier request (and so did not cause a paint of their own) since 
+     * the counts were last reset.
+     *
+     * @return The number of coalesced requests.
+     */
+    synchronized long getCoalescedCount() {
+        return this.coalescedCount;
+    }
+
+    /**
+     * Resets the request counts to zero.
+     */
+    synchronized void resetCounts() {
+        this.requestCount = 0L;
+        this.coalescedCount = 0L;
+    }
+
+}
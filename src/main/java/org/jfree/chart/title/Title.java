@@ -51,6 +51,7 @@ import org.jfree.chart.ChartElementVisitor;
 
 import org.jfree.chart.block.AbstractBlock;
 import org.jfree.chart.block.Block;
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.event.TitleChangeEvent;
 import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.api.HorizontalAlignment;
@@ -351,6 +352,10 @@ public abstract class Title extends AbstractBlock
      */
     protected void notifyListeners(TitleChangeEvent event) {
         if (this.notify) {
+            if (ChangeBatch.defer(this, TitleChangeListener.class, event,
+                    this::notifyListeners)) {
+                return;
+            }
             Object[] listeners = this.listenerList.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
                 if (listeners[i] == TitleChangeListener.class) {
@@ -43,6 +43,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.RingBufferList;
 
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -148,17 +149,22 @@ public class ComparableObjectSeries<K extends Comparable<K>> extends Series<K>
      * but if it is applied later, it may cause some items to be removed from
      * the series (in which case a {@link SeriesChangeEvent} will be sent to
      * all registered listeners.
+     * <p>
+     * Setting a maximum item count switches the series to a circular buffer
+     * for its item storage, so that adding an item at the end and evicting
+     * the first item are both constant time operations.
      *
      * @param maximum  the maximum number of items for the series.
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
-        boolean dataRemoved = false;
-        while (this.data.size() > maximum) {
-            this.data.remove(0);
-            dataRemoved = true;
+        if (maximum < Integer.MAX_VALUE
+                && this.data.getClass() == ArrayList.class) {
+            this.data = new RingBufferList<>(this.data);
         }
-        if (dataRemoved) {
+        int remove = this.data.size() - maximum;
+        if (remove > 0) {
+            this.data.subList(0, remove).clear();
             fireSeriesChanged();
         }
     }
@@ -332,8 +338,8 @@ public class ComparableObjectSeries<K extends Comparable<K>> extends Series<K>
      * @param end  the end index (zero-based).
      */
     protected void delete(int start, int end) {
-        for (int i = start; i <= end; i++) {
-            this.data.remove(start);
+        if (end >= start) {
+            this.data.subList(start, end + 1).clear();
         }
         fireSeriesChanged();
     }
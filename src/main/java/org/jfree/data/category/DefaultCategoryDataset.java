@@ -56,6 +56,8 @@ import org.jfree.data.DefaultKeyedValues2D;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
 
 /**
  * A default implementation of the {@link CategoryDataset} interface.
@@ -232,8 +234,10 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #removeValue(Comparable, Comparable)
      */
     public void addValue(Number value, R rowKey, C columnKey) {
+        Number old = getValueIfPresent(rowKey, columnKey);
+        boolean present = isPresent(rowKey, columnKey);
         this.data.addValue(value, rowKey, columnKey);
-        fireDatasetChanged();
+        fireValueChanged(present, old, value, rowKey, columnKey);
     }
 
     /**
@@ -260,8 +264,65 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #getValue(Comparable, Comparable)
      */
     public void setValue(Number value, R rowKey, C columnKey) {
+        Number old = getValueIfPresent(rowKey, columnKey);
+        boolean present = isPresent(rowKey, columnKey);
         this.data.setValue(value, rowKey, columnKey);
-        fireDatasetChanged();
+        fireValueChanged(present, old, value, rowKey, columnKey);
+    }
+
+    /**
+     * Returns {@code true} if the dataset has both the row key and the
+     * column key.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return A boolean.
+     */
+    private boolean isPresent(R rowKey, C columnKey) {
+        return this.data.getRowIndex(rowKey) >= 0
+                && this.data.getColumnIndex(columnKey) >= 0;
+    }
+
+    /**
+     * Returns the value for a pair of keys, or {@code null} if either key
+     * is not in the dataset.
+     *
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @return The value (possibly {@code null}).
+     */
+    private Number getValueIfPresent(R rowKey, C columnKey) {
+        int row = this.data.getRowIndex(rowKey);
+        int column = this.data.getColumnIndex(columnKey);
+        if (row < 0 || column < 0) {
+            return null;
+        }
+        return this.data.getValue(row, column);
+    }
+
+    /**
+     * Sends a {@link DatasetChangeEvent}, with details of the change, to all
+     * registered listeners after a value has been added or updated.
+     *
+     * @param present  did the row and column keys exist before the change?
+     * @param old  the old value ({@code null} permitted).
+     * @param value  the new value ({@code null} permitted).
+     * @param rowKey  the row key.
+     * @param columnKey  the column key.
+     */
+    private void fireValueChanged(boolean present, Number old, Number value,
+            R rowKey, C columnKey) {
+        int column = this.data.getColumnIndex(columnKey);
+        fireDatasetChanged(new DatasetChangeInfo(present
+                ? DatasetChangeType.ITEM_UPDATED
+                : DatasetChangeType.ITEMS_ADDED,
+                this.data.getRowIndex(rowKey), column, column, null,
+                value == null ? null
+                        : DatasetChangeInfo.rangeOf(value.doubleValue()),
+                null, old == null ? null
+                        : DatasetChangeInfo.rangeOf(old.doubleValue())));
     }
 
     /**
@@ -307,8 +368,18 @@ public class DefaultCategoryDataset<R extends Comparable<R>, C extends Comparabl
      * @see #addValue(Number, Comparable, Comparable)
      */
     public void removeValue(R rowKey, C columnKey) {
+        int row = this.data.getRowIndex(rowKey);
+        int column = this.data.getColumnIndex(columnKey);
+        Number old = getValueIfPresent(rowKey, columnKey);
         this.data.removeValue(rowKey, columnKey);
-        fireDatasetChanged();
+        if (row >= 0 && column >= 0) {
+            fireDatasetChanged(new DatasetChangeInfo(
+                    DatasetChangeType.ITEMS_REMOVED, row, column, column,
+                    null, null, null, old == null ? null
+                            : DatasetChangeInfo.rangeOf(old.doubleValue())));
+        } else {
+            fireDatasetChanged();
+        }
     }
 
     /**
@@ -48,6 +48,7 @@ import java.util.EventListener;
 import java.util.List;
 
 import javax.swing.event.EventListenerList;
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.internal.Args;
 
 /**
@@ -159,6 +160,22 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         }
     }
 
+    /**
+     * Notifies all registered listeners that the dataset has changed, with
+     * details of the change, provided that the {@code notify} flag has not
+     * been set to {@code false}.
+     *
+     * @param info  details of the change ({@code null} permitted, in which
+     *     case this is the same as {@link #fireDatasetChanged()}).
+     *
+     * @since 2.0.0
+     */
+    protected void fireDatasetChanged(DatasetChangeInfo info) {
+        if (this.notify) {
+            notifyListeners(new DatasetChangeEvent(this, this, info));
+        }
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed.
      *
@@ -169,6 +186,10 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        if (ChangeBatch.defer(this, DatasetChangeListener.class, event,
+                this::notifyListeners)) {
+            return;
+        }
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -57,6 +57,9 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private final Dataset dataset;
 
+    /** Details of an incremental change ({@code null} permitted). */
+    private final DatasetChangeInfo info;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +71,25 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, null);
+    }
+
+    /**
+     * Constructs a new event that describes an incremental change to the
+     * dataset.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event ({@code null}
+     *                 permitted).
+     * @param info  details of the change ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset,
+            DatasetChangeInfo info) {
         super(source);
         this.dataset = dataset;
+        this.info = info;
     }
 
     /**
@@ -83,4 +103,17 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns the details of the change, or {@code null} if the event does
+     * not describe the change (in which case anything in the dataset may
+     * have changed).
+     *
+     * @return The change details (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public DatasetChangeInfo getInfo() {
+        return this.info;
+    }
+
 }
@@ -0,0 +1,311 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * DatasetChangeInfo.java
+ * ----------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+import java.util.Objects;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+
+/**
+ * A description of an incremental change to a series or dataset, carried by
+ * {@link SeriesChangeEvent} and {@link DatasetChangeEvent} so that a listener
+ * (typically a plot recalculating its axis ranges) can update cached results
+ * without rescanning all the data.  An event without this information
+ * ({@code getInfo()} returns {@code null}) means "anything may have changed".
+ * <p>
+ * The item indices refer to the series after the change for
+ * {@link DatasetChangeType#ITEMS_ADDED} and
+ * {@link DatasetChangeType#ITEM_UPDATED}, and to the series before the change
+ * for {@link DatasetChangeType#ITEMS_REMOVED}.  The value ranges give the
+ * bounds of the values that are now present in the changed items (added
+ * ranges) and of the values that are no longer present (removed ranges, which
+ * include old values that have been overwritten and items that were dropped
+ * to respect a maximum item count).  A range is {@code null} when there are
+ * no such values (or all of them are {@code NaN}).  A removed range is
+ * allowed to be wider than the values it covers, so a listener can only rely
+ * on it being a container for those values.  For category datasets the
+ * x-ranges are always {@code null}, the series index is the row index and the
+ * item indices are column indices.
+ * <p>
+ * Instances of this class are immutable.
+ *
+ * @since 2.0.0
+ */
+public final class DatasetChangeInfo implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The type of change. */
+    private final DatasetChangeType type;
+
+    /** The series index (or -1 if not known). */
+    private final int series;
+
+    /** The index of the first item affected. */
+    private final int firstItem;
+
+    /** The index of the last item affected. */
+    private final int lastItem;
+
+    /** The bounds of the x-values added ({@code null} permitted). */
+    private final Range xRange;
+
+    /** The bounds of the y-values added ({@code null} permitted). */
+    private final Range yRange;
+
+    /** The bounds of the x-values removed ({@code null} permitted). */
+    private final Range removedXRange;
+
+    /** The bounds of the y-values removed ({@code null} permitted). */
+    private final Range removedYRange;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change ({@code null} not permitted).
+     * @param series  the series index (-1 if not known).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     * @param xRange  the bounds of the x-values added ({@code null}
+     *     permitted).
+     * @param yRange  the bounds of the y-values added ({@code null}
+     *     permitted).
+     * @param removedXRange  the bounds of the x-values removed ({@code null}
+     *     permitted).
+     * @param removedYRange  the bounds of the y-values removed ({@code null}
+     *     permitted).
+     */
+    public DatasetChangeInfo(DatasetChangeType type, int series,
+            int firstItem, int lastItem, Range xRange, Range yRange,
+            Range removedXRange, Range removedYRange) {
+        Args.nullNotPermitted(type, "type");
+        if (lastItem < firstItem) {
+            throw new IllegalArgumentException(
+                    "Requires firstItem <= lastItem.");
+        }
+        this.type = type;
+        this.series = series;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+        this.xRange = xRange;
+        this.yRange = yRange;
+        this.removedXRange = removedXRange;
+        this.removedYRange = removedYRange;
+    }
+
+    /**
+     * Returns a range containing the single value {@code v}, or
+     * {@code null} if {@code v} is {@code NaN}.
+     *
+     * @param v  the value.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public static Range rangeOf(double v) {
+        return Double.isNaN(v) ? null : new Range(v, v);
+    }
+
+    /**
+     * Returns the type of change.
+     *
+     * @return The type of change (never {@code null}).
+     */
+    public DatasetChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the series that changed, or -1 if it is not
+     * known (a {@link SeriesChangeEvent} does not know where its series is
+     * held, so the dataset fills this in).
+     *
+     * @return The series index.
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the index of the first item affected by the change.
+     *
+     * @return The item index.
+     */
+    public int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item affected by the change.
+     *
+     * @return The item index.
+     */
+    public int getLastItem() {
+        return this.lastItem;
+    }
+
+    /**
+     * Returns the bounds of the x-values added by the change.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public Range getXRange() {
+        return this.xRange;
+    }
+
+    /**
+     * Returns the bounds of the y-values added by the change.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public Range getYRange() {
+        return this.yRange;
+    }
+
+    /**
+     * Returns a range that contains the x-values removed by the change.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public Range getRemovedXRange() {
+        return this.removedXRange;
+    }
+
+    /**
+     * Returns a range that contains the y-values removed by the change.
+     *
+     * @return The range (possibly {@code null}).
+     */
+    public Range getRemovedYRange() {
+        return this.removedYRange;
+    }
+
+    /**
+     * Returns a copy of this instance with the specified series index.
+     *
+     * @param series  the series index.
+     *
+     * @return The new instance.
+     */
+    public DatasetChangeInfo withSeries(int series) {
+        return new DatasetChangeInfo(this.type, series, this.firstItem,
+                this.lastItem, this.xRange, this.yRange, this.removedXRange,
+                this.removedYRange);
+    }
+
+    /**
+     * Returns a copy of this instance with the specified bounds for the
+     * x-values added.
+     *
+     * @param xRange  the range ({@code null} permitted).
+     *
+     * @return The new instance.
+     */
+    public DatasetChangeInfo withXRange(Range xRange) {
+        return new DatasetChangeInfo(this.type, this.series, this.firstItem,
+                this.lastItem, xRange, this.yRange, this.removedXRange,
+                this.removedYRange);
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DatasetChangeInfo)) {
+            return false;
+        }
+        DatasetChangeInfo that = (DatasetChangeInfo) obj;
+        if (this.type != that.type) {
+            return false;
+        }
+        if (this.series != that.series) {
+            return false;
+        }
+        if (this.firstItem != that.firstItem) {
+            return false;
+        }
+        if (this.lastItem != that.lastItem) {
+            return false;
+        }
+        if (!Objects.equals(this.xRange, that.xRange)) {
+            return false;
+        }
+        if (!Objects.equals(this.yRange, that.yRange)) {
+            return false;
+        }
+        if (!Objects.equals(this.removedXRange, that.removedXRange)) {
+            return false;
+        }
+        return Objects.equals(this.removedYRange, that.removedYRange);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.type, this.series, this.firstItem,
+                this.lastItem, this.xRange, this.yRange, this.removedXRange,
+                this.removedYRange);
+    }
+
+    /**
+     * Returns a string representing this instance, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "DatasetChangeInfo[" + this.type + ", series=" + this.series
+                + ", items=" + this.firstItem + ".." + this.lastItem
+                + ", x=" + this.xRange + ", y=" + this.yRange
+                + ", removedX=" + this.removedXRange
+                + ", removedY=" + this.removedYRange + "]";
+    }
+
+}
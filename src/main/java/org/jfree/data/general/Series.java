@@ -46,6 +46,7 @@ import java.util.Objects;
 
 import javax.swing.event.EventListenerList;
 
+import org.jfree.chart.event.ChangeBatch;
 import org.jfree.chart.internal.Args;
 
 /**
@@ -82,6 +83,13 @@ public abstract class Series<K extends Comparable<K>>
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /**
+     * A flag that records a change to the series that has not been notified
+     * to the registered listeners, so that the next event sent cannot carry
+     * the details of a single change.
+     */
+    private transient boolean unnotifiedChange;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -313,9 +321,46 @@ public abstract class Series<K extends Comparable<K>>
      * has been changed.
      */
     public void fireSeriesChanged() {
-        if (this.notify) {
-            notifyListeners(new SeriesChangeEvent(this));
+        fireSeriesChanged(null);
+    }
+
+    /**
+     * Signals to registered listeners that the series has been changed,
+     * with details of the change so that listeners can update their state
+     * incrementally.  If the series has changed since the listeners were
+     * last notified (see {@link #seriesChangedWithoutNotification()}), the
+     * details only describe part of the change, so the event is sent
+     * without them.
+     *
+     * @param info  details of the change ({@code null} permitted, in which
+     *     case this is the same as {@link #fireSeriesChanged()}).
+     *
+     * @since 2.0.0
+     */
+    protected void fireSeriesChanged(DatasetChangeInfo info) {
+        if (!this.notify) {
+            this.unnotifiedChange = true;
+            return;
+        }
+        if (this.unnotifiedChange) {
+            this.unnotifiedChange = false;
+            info = null;
         }
+        notifyListeners(new SeriesChangeEvent(this, info));
+    }
+
+    /**
+     * Records a change to the series that is not notified to the registered
+     * listeners (for example, an item added with the {@code notify} flag set
+     * to {@code false}), so that the next change event is sent without 
+     * change details and listeners that update their state incrementally 
+     * examine all the data instead.  Subclasses must call this method after
+     * any such change.
+     *
+     * @since 2.0.0
+     */
+    protected void seriesChangedWithoutNotification() {
+        this.unnotifiedChange = true;
     }
 
     /**
@@ -326,6 +371,10 @@ public abstract class Series<K extends Comparable<K>>
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
+        if (ChangeBatch.defer(this, SeriesChangeListener.class, event,
+                this::notifyListeners)) {
+            return;
+        }
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
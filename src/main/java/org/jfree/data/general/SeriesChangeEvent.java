@@ -52,13 +52,41 @@ public class SeriesChangeEvent extends EventObject implements Serializable {
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /** Details of an incremental change ({@code null} permitted). */
+    private final DatasetChangeInfo info;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructs a new event that describes an incremental change.
+     *
+     * @param source  the source of the change event.
+     * @param info  details of the change ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public SeriesChangeEvent(Object source, DatasetChangeInfo info) {
         super(source);
+        this.info = info;
+    }
+
+    /**
+     * Returns the details of the change, or {@code null} if the event does
+     * not describe the change (in which case anything may have changed).
+     *
+     * @return The change details (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public DatasetChangeInfo getInfo() {
+        return this.info;
     }
 
 }
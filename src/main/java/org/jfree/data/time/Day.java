@@ -332,10 +332,8 @@ public class Day extends RegularTimePeriod implements Serializable {
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
-        calendar.clear();
-        calendar.set(year, month - 1, day, 0, 0, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, day, 0,
+                0, 0, 0);
     }
 
     /**
@@ -354,10 +352,8 @@ public class Day extends RegularTimePeriod implements Serializable {
         int year = this.serialDate.getYYYY();
         int month = this.serialDate.getMonth();
         int day = this.serialDate.getDayOfMonth();
-        calendar.clear();
-        calendar.set(year, month - 1, day, 23, 59, 59);
-        calendar.set(Calendar.MILLISECOND, 999);
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, day, 23,
+                59, 59, 999);
     }
 
     /**
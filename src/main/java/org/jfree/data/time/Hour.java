@@ -324,11 +324,10 @@ public class Hour extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
-        int month = this.day.getMonth() - 1;
+        int month = this.day.getMonth();
         int dom = this.day.getDayOfMonth();
-        calendar.set(year, month, dom, this.hour, 0, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, dom,
+                this.hour, 0, 0, 0);
     }
 
     /**
@@ -344,11 +343,10 @@ public class Hour extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int year = this.day.getYear();
-        int month = this.day.getMonth() - 1;
+        int month = this.day.getMonth();
         int dom = this.day.getDayOfMonth();
-        calendar.set(year, month, dom, this.hour, 59, 59);
-        calendar.set(Calendar.MILLISECOND, 999);
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, dom,
+                this.hour, 59, 59, 999);
     }
 
     /**
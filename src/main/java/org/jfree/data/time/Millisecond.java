@@ -425,12 +425,10 @@ public class Millisecond extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
-        int month = this.day.getMonth() - 1;
+        int month = this.day.getMonth();
         int d = this.day.getDayOfMonth();
-        calendar.clear();
-        calendar.set(year, month, d, this.hour, this.minute, this.second);
-        calendar.set(Calendar.MILLISECOND, this.millisecond);
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, d,
+                this.hour, this.minute, this.second, this.millisecond);
     }
 
     /**
@@ -329,14 +329,10 @@ public class Minute extends RegularTimePeriod implements Serializable {
     @Override
     public long getFirstMillisecond(Calendar calendar) {
         int year = this.day.getYear();
-        int month = this.day.getMonth() - 1;
+        int month = this.day.getMonth();
         int d = this.day.getDayOfMonth();
-
-        calendar.clear();
-        calendar.set(year, month, d, this.hour, this.minute, 0);
-        calendar.set(Calendar.MILLISECOND, 0);
-
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, d,
+                this.hour, this.minute, 0, 0);
     }
 
     /**
@@ -353,14 +349,10 @@ public class Minute extends RegularTimePeriod implements Serializable {
     @Override
     public long getLastMillisecond(Calendar calendar) {
         int year = this.day.getYear();
-        int month = this.day.getMonth() - 1;
+        int month = this.day.getMonth();
         int d = this.day.getDayOfMonth();
-
-        calendar.clear();
-        calendar.set(year, month, d, this.hour, this.minute, 59);
-        calendar.set(Calendar.MILLISECOND, 999);
-
-        return calendar.getTimeInMillis();
+        return ZoneOffsetTable.getMillisecond(calendar, year, month, d,
+                this.hour, this.minute, 59, 999);
     }
 
     /**
@@ -36,13 +36,21 @@
 
 package org.jfree.data.time;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.SlidingSum;
+import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * A utility class for calculating moving averages of time series data.
+ * Each method makes a single pass through the source data, maintaining a
+ * running sum for the values in the averaging window.  For a moving average
+ * that is updated as data is added to a time series, see
+ * {@link MovingAverageDataset}.
  */
 public class MovingAverage {
 
@@ -105,55 +113,38 @@ public class MovingAverage {
         }
 
         TimeSeries<S> result = new TimeSeries<>(name);
-        if (source.getItemCount() > 0) {
+        int count = source.getItemCount();
+        if (count > 0) {
+            long[] serials = new long[count];
+            for (int i = 0; i < count; i++) {
+                serials[i] = source.getTimePeriod(i).getSerialIndex();
+            }
 
             // if the initial averaging period is to be excluded, then
-            // calculate the index of the
-            // first data item to have an average calculated...
-            long firstSerial = source.getTimePeriod(0).getSerialIndex() + skip;
-
-            for (int i = source.getItemCount() - 1; i >= 0; i--) {
-
-                // get the current data item...
-                RegularTimePeriod period = source.getTimePeriod(i);
-                long serial = period.getSerialIndex();
-
-                if (serial >= firstSerial) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    long serialLimit = period.getSerialIndex() - periodCount;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while ((offset < periodCount) && (!finished)) {
-                        if ((i - offset) >= 0) {
-                            TimeSeriesDataItem item = source.getRawDataItem(
-                                    i - offset);
-                            RegularTimePeriod p = item.getPeriod();
-                            Number v = item.getValue();
-                            long currentIndex = p.getSerialIndex();
-                            if (currentIndex > serialLimit) {
-                                if (v != null) {
-                                    sum = sum + v.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(period, sum / n);
-                    }
-                    else {
-                        result.add(period, null);
-                    }
+            // calculate the serial index of the first data item to have an
+            // average calculated...
+            long firstSerial = serials[0] + skip;
+
+            // the window covers the items from 'start' to 'i' (inclusive)
+            // that are less than 'periodCount' periods before item 'i'
+            List<TimeSeriesDataItem> items = new ArrayList<>();
+            SlidingSum window = new SlidingSum();
+            int start = 0;
+            for (int i = 0; i < count; i++) {
+                TimeSeriesDataItem item = source.getRawDataItem(i);
+                window.add(item.getValue());
+                long serialLimit = serials[i] - periodCount;
+                while (i - start >= periodCount
+                        || serials[start] <= serialLimit) {
+                    window.removeFirst();
+                    start++;
+                }
+                if (serials[i] >= firstSerial) {
+                    items.add(new TimeSeriesDataItem(item.getPeriod(),
+                            mean(window)));
                 }
-
             }
+            result.addAll(items, false);
         }
         return result;
     }
@@ -162,7 +153,9 @@ public class MovingAverage {
      * Creates a new {@link TimeSeries} containing moving average values for
      * the given series, calculated by number of points (irrespective of the
      * 'age' of those points).  If the series is empty (contains zero items),
-     * the result is an empty series.
+     * the result is an empty series.  {@code null} values are not included
+     * in the average (and if all the values for a point are {@code null},
+     * the average is {@code null}).
      * <p>
      * Developed by Benoit Xhenseval (www.ObjectLab.co.uk).
      *
@@ -185,26 +178,21 @@ public class MovingAverage {
         }
 
         TimeSeries<S> result = new TimeSeries<>(name);
-        double rollingSumForPeriod = 0.0;
+        List<TimeSeriesDataItem> items = new ArrayList<>();
+        SlidingSum window = new SlidingSum();
         for (int i = 0; i < source.getItemCount(); i++) {
             // get the current data item...
             TimeSeriesDataItem current = source.getRawDataItem(i);
-            RegularTimePeriod period = current.getPeriod();
-            // FIXME: what if value is null on next line?
-            rollingSumForPeriod += current.getValue().doubleValue();
-
-            if (i > pointCount - 1) {
-                // remove the point i-periodCount out of the rolling sum.
-                TimeSeriesDataItem startOfMovingAvg = source.getRawDataItem(
-                        i - pointCount);
-                rollingSumForPeriod -= startOfMovingAvg.getValue()
-                        .doubleValue();
-                result.add(period, rollingSumForPeriod / pointCount);
+            window.add(current.getValue());
+            if (window.getSize() > pointCount) {
+                window.removeFirst();
             }
-            else if (i == pointCount - 1) {
-                result.add(period, rollingSumForPeriod / pointCount);
+            if (window.getSize() == pointCount) {
+                items.add(new TimeSeriesDataItem(current.getPeriod(),
+                        mean(window)));
             }
         }
+        result.addAll(items, false);
         return result;
     }
 
@@ -278,53 +266,34 @@ public class MovingAverage {
         }
 
         XYSeries result = new XYSeries(name);
-
-        if (source.getItemCount(series) > 0) {
+        int count = source.getItemCount(series);
+        if (count > 0) {
 
             // if the initial averaging period is to be excluded, then
             // calculate the lowest x-value to have an average calculated...
             double first = source.getXValue(series, 0) + skip;
 
-            for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
+            if (!isAscending(source, series)) {
+                addMovingAverageByIteration(source, series, result, period,
+                        first);
+                return result;
+            }
 
-                // get the current data item...
+            // the window covers the items from 'start' to 'i' (inclusive)
+            // with x-values greater than (x - period)
+            SlidingSum window = new SlidingSum();
+            int start = 0;
+            for (int i = 0; i < count; i++) {
                 double x = source.getXValue(series, i);
-
+                window.add(source.getY(series, i));
+                double limit = x - period;
+                while (source.getXValue(series, start) <= limit) {
+                    window.removeFirst();
+                    start++;
+                }
                 if (x >= first) {
-                    // work out the average for the earlier values...
-                    int n = 0;
-                    double sum = 0.0;
-                    double limit = x - period;
-                    int offset = 0;
-                    boolean finished = false;
-
-                    while (!finished) {
-                        if ((i - offset) >= 0) {
-                            double xx = source.getXValue(series, i - offset);
-                            Number yy = source.getY(series, i - offset);
-                            if (xx > limit) {
-                                if (yy != null) {
-                                    sum = sum + yy.doubleValue();
-                                    n = n + 1;
-                                }
-                            }
-                            else {
-                                finished = true;
-                            }
-                        }
-                        else {
-                            finished = true;
-                        }
-                        offset = offset + 1;
-                    }
-                    if (n > 0) {
-                        result.add(x, sum / n);
-                    }
-                    else {
-                        result.add(x, null);
-                    }
+                    result.add(x, mean(window), false);
                 }
-
             }
         }
 
@@ -332,4 +301,76 @@ public class MovingAverage {
 
     }
 
+    /**
+     * Returns {@code true} if the x-values in a series are in ascending
+     * order (duplicates permitted), which is required for the single pass
+     * calculation.
+     *
+     * @param source  the source dataset.
+     * @param series  the series index (zero based).
+     *
+     * @return A boolean.
+     */
+    private static boolean isAscending(XYDataset source, int series) {
+        if (source.getDomainOrder() == DomainOrder.ASCENDING) {
+            return true;
+        }
+        double previous = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < source.getItemCount(series); i++) {
+            double x = source.getXValue(series, i);
+            if (!(x >= previous)) {
+                return false;
+            }
+            previous = x;
+        }
+        return true;
+    }
+
+    /**
+     * Adds the moving averages for a series whose x-values are not in
+     * ascending order to {@code result}, by working back from each item
+     * until an x-value outside the averaging period is found.
+     *
+     * @param source  the source dataset.
+     * @param series  the series index (zero based).
+     * @param result  the series for the results.
+     * @param period  the averaging period.
+     * @param first  the lowest x-value to have an average calculated.
+     */
+    private static void addMovingAverageByIteration(XYDataset source,
+            int series, XYSeries result, double period, double first) {
+        for (int i = source.getItemCount(series) - 1; i >= 0; i--) {
+            double x = source.getXValue(series, i);
+            if (x >= first) {
+                // work out the average for the earlier values...
+                int n = 0;
+                double sum = 0.0;
+                double limit = x - period;
+                for (int j = i; j >= 0; j--) {
+                    if (source.getXValue(series, j) <= limit) {
+                        break;
+                    }
+                    Number yy = source.getY(series, j);
+                    if (yy != null) {
+                        sum = sum + yy.doubleValue();
+                        n = n + 1;
+                    }
+                }
+                result.add(x, n > 0 ? sum / n : null, false);
+            }
+        }
+    }
+
+    /**
+     * Returns the mean of the values in a window, or {@code null} if the
+     * window contains no (non-{@code null}) values.
+     *
+     * @param window  the window.
+     *
+     * @return The mean (possibly {@code null}).
+     */
+    private static Double mean(SlidingSum window) {
+        return window.getCount() > 0 ? window.getMean() : null;
+    }
+
 }
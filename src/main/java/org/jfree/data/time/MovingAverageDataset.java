@@ -0,0 +1,661 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * MovingAverageDataset.java
+ * -------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.SlidingSum;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * An {@link XYDataset} containing moving averages of one or more
+ * {@link TimeSeries}.  The dataset registers itself as a listener with each
+ * source series and, when data is appended to a series (or evicted from the
+ * start of a series with a maximum item count or age), updates only the
+ * averages that are affected rather than recalculating all of them.  This
+ * makes it suitable for charts that are updated frequently with live data.
+ * <p>
+ * The averages are the same as those calculated by
+ * {@link MovingAverage#createMovingAverage(TimeSeries, Comparable, int, int)}
+ * for the current content of each source series.
+ *
+ * @param <S>  the type for the series keys.
+ *
+ * @since 2.0.0
+ */
+public class MovingAverageDataset<S extends Comparable<S>>
+        extends AbstractXYDataset<S> implements XYDataset<S>,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1873516624376128476L;
+
+    /** The moving averages. */
+    private List<Average<S>> averages;
+
+    /**
+     * The point within each time period that is used for the x-value.
+     */
+    private TimePeriodAnchor xPosition;
+
+    /** A working calendar (to recycle). */
+    private Calendar workingCalendar;
+
+    /**
+     * Creates a new empty dataset, tied to the default timezone.
+     */
+    public MovingAverageDataset() {
+        this(TimeZone.getDefault());
+    }
+
+    /**
+     * Creates a new empty dataset, tied to a specific timezone.  The 
+     * timezone determines the x-values for the time periods.
+     *
+     * @param zone  the timezone ({@code null} permitted, will use
+     *              {@code TimeZone.getDefault()} in that case).
+     */
+    public MovingAverageDataset(TimeZone zone) {
+        if (zone == null) {
+            zone = TimeZone.getDefault();
+        }
+        this.workingCalendar = Calendar.getInstance(zone);
+        this.averages = new ArrayList<>();
+        this.xPosition = TimePeriodAnchor.START;
+    }
+
+    /**
+     * Returns the position within each time period that is used for the
+     * x-value.
+     *
+     * @return The anchor position (never {@code null}).
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position within each time period that is used for the
+     * x-value and sends a {@link DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param anchor  the anchor position ({@code null} not permitted).
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        Args.nullNotPermitted(anchor, "anchor");
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Adds a moving average of a time series to the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param source  the source series ({@code null} not permitted).
+     * @param key  the key for the moving average series ({@code null} not
+     *     permitted).
+     * @param periodCount  the number of periods used in the average
+     *     calculation.
+     * @param skip  the number of initial periods to skip.
+     */
+    public void addSeries(TimeSeries<S> source, S key, int periodCount,
+            int skip) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(key, "key");
+        if (periodCount < 1) {
+            throw new IllegalArgumentException("periodCount must be greater "
+                    + "than or equal to 1.");
+        }
+        Average<S> average = new Average<>(source, key, periodCount, skip);
+        average.update();
+        this.averages.add(average);
+        source.addChangeListener(this);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.averages.size() - 1);
+        Average<S> average = this.averages.remove(series);
+        if (!isSource(average.source)) {
+            average.source.removeChangeListener(this);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the source series for a moving average.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The source series.
+     */
+    public TimeSeries<S> getSourceSeries(int series) {
+        return getAverage(series).source;
+    }
+
+    /**
+     * Returns {@code true} if a series is the source for any of the moving
+     * averages in this dataset.
+     *
+     * @param source  the series.
+     *
+     * @return A boolean.
+     */
+    private boolean isSource(TimeSeries<S> source) {
+        for (Average<S> average : this.averages) {
+            if (average.source == source) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Receives notification that a source series has changed, updates the
+     * affected moving averages and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        for (Average<S> average : this.averages) {
+            if (average.source == event.getSource()) {
+                average.update();
+            }
+        }
+        super.seriesChanged(event);
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.averages.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return getAverage(series).key;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        Average<S> average = getAverage(series);
+        return average.count - average.first;
+    }
+
+    /**
+     * Returns the time period for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The time period.
+     */
+    public RegularTimePeriod getTimePeriod(int series, int item) {
+        Average<S> average = getAverage(series);
+        return average.source.getTimePeriod(average.index(item));
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return (long) getXValue(series, item);
+    }
+
+    /**
+     * Returns the x-value for an item, as specified by the x-position.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public synchronized double getXValue(int series, int item) {
+        RegularTimePeriod period = getTimePeriod(series, item);
+        if (this.xPosition == TimePeriodAnchor.START) {
+            return period.getFirstMillisecond(this.workingCalendar);
+        }
+        else if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+            return period.getMiddleMillisecond(this.workingCalendar);
+        }
+        return period.getLastMillisecond(this.workingCalendar);
+    }
+
+    /**
+     * Returns the moving average for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The moving average ({@code null} if there are no values in
+     *     the averaging period).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        Average<S> average = getAverage(series);
+        int i = average.offset + average.index(item);
+        return average.empty[i] ? null : average.values[i];
+    }
+
+    /**
+     * Returns the moving average for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The moving average ({@code Double.NaN} if there are no values
+     *     in the averaging period).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        Average<S> average = getAverage(series);
+        return average.values[average.offset + average.index(item)];
+    }
+
+    /**
+     * Returns the moving average with the specified index.
+     *
+     * @param series  the series index.
+     *
+     * @return The moving average.
+     */
+    private Average<S> getAverage(int series) {
+        Args.requireInRange(series, "series", 0, this.averages.size() - 1);
+        return this.averages.get(series);
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MovingAverageDataset)) {
+            return false;
+        }
+        MovingAverageDataset that = (MovingAverageDataset) obj;
+        if (this.xPosition != that.xPosition) {
+            return false;
+        }
+        return this.averages.equals(that.averages);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 43 * hash + Objects.hashCode(this.xPosition);
+        hash = 43 * hash + this.averages.size();
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this dataset.  The source series are cloned too,
+     * and the clone listens to the cloned series.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MovingAverageDataset<S> clone = (MovingAverageDataset<S>) super.clone();
+        clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.averages = new ArrayList<>(this.averages.size());
+        Map<TimeSeries<S>, TimeSeries<S>> clonedSources
+                = new IdentityHashMap<>();
+        for (Average<S> average : this.averages) {
+            TimeSeries<S> source = clonedSources.get(average.source);
+            if (source == null) {
+                source = (TimeSeries<S>) average.source.clone();
+                source.addChangeListener(clone);
+                clonedSources.put(average.source, source);
+            }
+            Average<S> copy = new Average<>(source, average.key,
+                    average.periodCount, average.skip);
+            copy.update();
+            clone.averages.add(copy);
+        }
+        return clone;
+    }
+
+    /**
+     * The moving average for one source series.  The averages are stored
+     * for every item in the source series (including the initial items
+     * that are skipped) in an array where items evicted from the start of
+     * the source just advance an offset.
+     */
+    private static class Average<S extends Comparable<S>>
+            implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 5096541372960341297L;
+
+        /** The source series. */
+        TimeSeries<S> source;
+
+        /** The key for the moving average. */
+        S key;
+
+        /** The number of periods in the average. */
+        int periodCount;
+
+        /** The number of initial periods to skip. */
+        int skip;
+
+        /** The averages. */
+        double[] values;
+
+        /** Flags the averages that are {@code null}. */
+        boolean[] empty;
+
+        /** The array index for the first item in the source series. */
+        int offset;
+
+        /** The number of items in the source series. */
+        int count;
+
+        /** The index of the first item that is not skipped. */
+        int first;
+
+        /** The evicted item count of the source when last updated. */
+        long evictedItemCount;
+
+        /** The structure version of the source when last updated. */
+        int structureVersion;
+
+        /** The value version of the source when last updated. */
+        int valueVersion;
+
+        /**
+         * The running sum for the items from {@code windowStart} to
+         * {@code windowEnd - 1}, or {@code null}.
+         */
+        transient SlidingSum window;
+
+        /** The index of the first item in the window. */
+        transient int windowStart;
+
+        /** The index after the last item in the window. */
+        transient int windowEnd;
+
+        Average(TimeSeries<S> source, S key, int periodCount, int skip) {
+            this.source = source;
+            this.key = key;
+            this.periodCount = periodCount;
+            this.skip = skip;
+            this.values = new double[0];
+            this.empty = new boolean[0];
+            this.structureVersion = source.getStructureVersion() - 1;
+        }
+
+        /**
+         * Returns the source index for an item, after checking the item
+         * index.
+         */
+        int index(int item) {
+            int n = this.count - this.first;
+            if (item < 0 || item >= n) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds for length " + n);
+            }
+            return this.first + item;
+        }
+
+        /**
+         * Brings the averages up to date with the source series.  Where
+         * items have only been appended or evicted, or a single value has
+         * been updated, only the affected averages are calculated.
+         */
+        void update() {
+            int newCount = this.source.getItemCount();
+            long evicted = this.source.getEvictedItemCount()
+                    - this.evictedItemCount;
+            int updates = this.source.getValueVersion() - this.valueVersion;
+            long from = this.count - evicted;  // the first appended item
+            if (this.source.getStructureVersion() != this.structureVersion
+                    || updates > 1 || from < 0 || from > newCount) {
+                this.count = 0;
+                this.offset = 0;
+                this.window = null;
+                evicted = 0;
+                from = 0;
+            }
+            else if (evicted > 0) {
+                this.offset += (int) evicted;
+                this.count -= (int) evicted;
+                this.windowStart -= (int) evicted;
+                this.windowEnd -= (int) evicted;
+                if (this.windowStart < 0) {
+                    this.window = null;
+                }
+            }
+            if (updates == 1 && from > 0) {
+                long updated = this.source.getUpdatedItem()
+                        - this.source.getEvictedItemCount();
+                if (updated >= 0) {
+                    from = Math.min(from, updated);
+                }
+            }
+            this.evictedItemCount = this.source.getEvictedItemCount();
+            this.structureVersion = this.source.getStructureVersion();
+            this.valueVersion = this.source.getValueVersion();
+
+            ensureCapacity(newCount);
+            this.count = newCount;
+            if (evicted > 0) {
+                // the averages for the first few items included values
+                // that have been evicted (these are calculated with a
+                // separate window, so that the window for the last item can
+                // still be used for the appended items)
+                SlidingSum w = this.window;
+                int ws = this.windowStart;
+                int we = this.windowEnd;
+                this.window = null;
+                calculate(0, (int) Math.min(this.periodCount - 1, from));
+                this.window = w;
+                this.windowStart = ws;
+                this.windowEnd = we;
+            }
+            calculate((int) from, newCount);
+
+            // find the first item that is not skipped
+            int i = evicted > 0 || from == 0 ? 0 : this.first;
+            if (newCount > 0) {
+                long firstSerial = serial(0) + this.skip;
+                while (i < newCount && serial(i) < firstSerial) {
+                    i++;
+                }
+            }
+            this.first = i;
+        }
+
+        /**
+         * Calculates the averages for the items from {@code start} to
+         * {@code end - 1}, continuing from the current window if possible.
+         */
+        void calculate(int start, int end) {
+            if (start >= end) {
+                return;
+            }
+            if (this.window == null || this.windowEnd != start) {
+                // build the window for the items before 'start' that are
+                // within the averaging period for item 'start'
+                long serialLimit = serial(start) - this.periodCount;
+                int i = start;
+                while (i > 0 && start - i < this.periodCount - 1
+                        && serial(i - 1) > serialLimit) {
+                    i--;
+                }
+                this.window = new SlidingSum();
+                this.windowStart = i;
+                while (i < start) {
+                    this.window.add(this.source.getRawDataItem(i++)
+                            .getValue());
+                }
+            }
+            for (int i = start; i < end; i++) {
+                this.window.add(this.source.getRawDataItem(i).getValue());
+                long serialLimit = serial(i) - this.periodCount;
+                while (i - this.windowStart >= this.periodCount
+                        || serial(this.windowStart) <= serialLimit) {
+                    this.window.removeFirst();
+                    this.windowStart++;
+                }
+                int j = this.offset + i;
+                this.empty[j] = this.window.getCount() == 0;
+                this.values[j] = this.window.getMean();
+            }
+            this.windowEnd = end;
+        }
+
+        long serial(int i) {
+            return this.source.getTimePeriod(i).getSerialIndex();
+        }
+
+        /**
+         * Ensures there is space for the specified number of items after
+         * the offset, compacting or growing the arrays as necessary.
+         */
+        void ensureCapacity(int capacity) {
+            int length = this.values.length;
+            if (this.offset + capacity <= length) {
+                return;
+            }
+            double[] v = this.values;
+            boolean[] e = this.empty;
+            if (capacity > length / 2) {
+                int n = Math.max(Math.max(capacity, 16),
+                        length + (length >> 1));
+                v = new double[n];
+                e = new boolean[n];
+            }
+            System.arraycopy(this.values, this.offset, v, 0, this.count);
+            System.arraycopy(this.empty, this.offset, e, 0, this.count);
+            this.values = v;
+            this.empty = e;
+            this.offset = 0;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Average)) {
+                return false;
+            }
+            Average that = (Average) obj;
+            return this.key.equals(that.key)
+                    && this.periodCount == that.periodCount
+                    && this.skip == that.skip
+                    && this.source.equals(that.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.key.hashCode();
+        }
+    }
+
+}
@@ -0,0 +1,824 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * RegularTimeSeriesCollection.java
+ * --------------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.xy.AbstractIntervalXYDataset;
+import org.jfree.data.xy.IntervalXYDataset;
+
+/**
+ * A compact dataset for time series sampled at a regular interval, such as
+ * sensor telemetry.  Item {@code i} of a series covers the interval that
+ * starts {@code i} steps after the start of the collection, so the time
+ * axis is fully determined by a start period, a step and the item index.
+ * Each series stores only a {@code double[]} of values, plus a bitmap
+ * marking any gaps (missing samples), which uses a small fraction of the
+ * memory needed for a {@link TimeSeries} with a {@link TimeSeriesDataItem}
+ * and a {@link RegularTimePeriod} for every sample.  Time periods are created
+ * on demand by {@link #getTimePeriod(int, int)}.
+ * <p>
+ * The interval between items is a fixed number of milliseconds (the
+ * duration of the start period multiplied by the step), so the start period
+ * must be one with a fixed duration: a {@link FixedMillisecond}, 
+ * {@link Millisecond}, {@link Second}, {@link Minute} or {@link Hour}.
+ * Periods such as {@link Day}, {@link Month} and {@link Year} are not 
+ * supported, because their duration varies (with daylight saving changes,
+ * the length of the month and leap years).
+ * <p>
+ * Setting a maximum item count turns each series into a rolling window:
+ * when a value is added to a full series the oldest value is discarded and
+ * the series starts one step later.
+ *
+ * @param <S>  the type for the series keys.
+ *
+ * @since 2.0.0
+ */
+public class RegularTimeSeriesCollection<S extends Comparable<S>>
+        extends AbstractIntervalXYDataset<S>
+        implements IntervalXYDataset<S>, DomainInfo, PublicCloneable,
+        Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2710465482741583816L;
+
+    /** The initial capacity for the value arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** The time period class (used to create time periods on demand). */
+    private Class periodClass;
+
+    /** The first millisecond of the start period. */
+    private long start;
+
+    /** The interval between items (in milliseconds). */
+    private long interval;
+
+    /** The time zone (used to create time periods on demand). */
+    private TimeZone timeZone;
+
+    /** The locale (used to create time periods on demand). */
+    private Locale locale;
+
+    /**
+     * The point within each interval that is used for the x-value.
+     */
+    private TimePeriodAnchor xPosition;
+
+    /** The maximum number of items in each series. */
+    private int maximumItemCount;
+
+    /** Storage for the series. */
+    private List<Sequence<S>> data;
+
+    /**
+     * Creates a new collection where the items are one period apart, with
+     * time periods interpreted in the default time zone.
+     *
+     * @param start  the time period for the first item in each series
+     *     ({@code null} not permitted).
+     */
+    public RegularTimeSeriesCollection(RegularTimePeriod start) {
+        this(start, 1, TimeZone.getDefault(), Locale.getDefault());
+    }
+
+    /**
+     * Creates a new collection.
+     *
+     * @param start  the time period for the first item in each series
+     *     ({@code null} not permitted).
+     * @param step  the number of periods between items (must be positive).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     *
+     * @throws IllegalArgumentException if {@code start} is not a 
+     *     {@link FixedMillisecond}, {@link Millisecond}, {@link Second}, 
+     *     {@link Minute} or {@link Hour}.
+     */
+    public RegularTimeSeriesCollection(RegularTimePeriod start, int step,
+            TimeZone zone, Locale locale) {
+        Args.nullNotPermitted(start, "start");
+        Args.nullNotPermitted(zone, "zone");
+        Args.nullNotPermitted(locale, "locale");
+        if (step <= 0) {
+            throw new IllegalArgumentException("Requires 'step' > 0.");
+        }
+        if (!isFixedDuration(start.getClass())) {
+            throw new IllegalArgumentException("The period class " 
+                    + start.getClass().getName() 
+                    + " does not have a fixed duration.");
+        }
+        Calendar calendar = Calendar.getInstance(zone, locale);
+        this.periodClass = start.getClass();
+        this.start = start.getFirstMillisecond(calendar);
+        this.interval = step * (start.getLastMillisecond(calendar)
+                - this.start + 1);
+        this.timeZone = zone;
+        this.locale = locale;
+        this.xPosition = TimePeriodAnchor.START;
+        this.maximumItemCount = Integer.MAX_VALUE;
+        this.data = new ArrayList<>();
+    }
+
+    /**
+     * Returns {@code true} if every time period of the specified class has
+     * the same duration.
+     *
+     * @param c  the time period class.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFixedDuration(Class<?> c) {
+        return c == FixedMillisecond.class || c == Millisecond.class 
+                || c == Second.class || c == Minute.class || c == Hour.class;
+    }
+
+    /**
+     * Returns the interval between items, in milliseconds.
+     *
+     * @return The interval.
+     */
+    public long getInterval() {
+        return this.interval;
+    }
+
+    /**
+     * Returns the position within each interval that is used for the
+     * x-value.
+     *
+     * @return The anchor position (never {@code null}).
+     */
+    public TimePeriodAnchor getXPosition() {
+        return this.xPosition;
+    }
+
+    /**
+     * Sets the position within each interval that is used for the x-value
+     * and sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param anchor  the anchor position ({@code null} not permitted).
+     */
+    public void setXPosition(TimePeriodAnchor anchor) {
+        Args.nullNotPermitted(anchor, "anchor");
+        this.xPosition = anchor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in each
+     * series.  The default value is {@code Integer.MAX_VALUE}.
+     *
+     * @return The maximum item count.
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in each series,
+     * discarding the oldest items from any series that is longer, and sends
+     * a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param maximum  the maximum item count (requires &gt;= 0).
+     */
+    public void setMaximumItemCount(int maximum) {
+        Args.requireNonNegative(maximum, "maximum");
+        this.maximumItemCount = maximum;
+        for (Sequence<S> sequence : this.data) {
+            sequence.trim(maximum);
+        }
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.
+     *
+     * @return {@link DomainOrder#ASCENDING}.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of series in the collection.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return getSequence(series).key;
+    }
+
+    /**
+     * Adds a new (empty) series to the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted, and must be
+     *     different to the keys of the existing series).
+     *
+     * @return The index of the new series.
+     */
+    public int addSeries(S key) {
+        Args.nullNotPermitted(key, "key");
+        if (indexOf(key) >= 0) {
+            throw new IllegalArgumentException(
+                    "This dataset already contains a series with the key "
+                    + key);
+        }
+        this.data.add(new Sequence<>(key));
+        fireDatasetChanged();
+        return this.data.size() - 1;
+    }
+
+    /**
+     * Removes a series from the collection and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void removeSeries(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        this.data.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return getSequence(series).count;
+    }
+
+    /**
+     * Appends a value to a series and sends a {@link DatasetChangeEvent} to
+     * all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     * @param value  the value ({@code Double.NaN} permitted).
+     */
+    public void add(int series, double value) {
+        Sequence<S> sequence = getSequence(series);
+        sequence.add(value, false);
+        sequence.trim(this.maximumItemCount);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Appends values to a series and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void add(int series, double[] values) {
+        Args.nullNotPermitted(values, "values");
+        Sequence<S> sequence = getSequence(series);
+        sequence.ensureCapacity(sequence.count + values.length);
+        for (double value : values) {
+            sequence.add(value, false);
+        }
+        sequence.trim(this.maximumItemCount);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Appends a gap (a missing value, for which {@link #getY(int, int)}
+     * returns {@code null}) to a series and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     */
+    public void addGap(int series) {
+        Sequence<S> sequence = getSequence(series);
+        sequence.add(Double.NaN, true);
+        sequence.trim(this.maximumItemCount);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Updates the value of an item and sends a {@link DatasetChangeEvent}
+     * to all registered listeners.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     * @param value  the new value ({@code null} for a gap).
+     */
+    public void update(int series, int item, Number value) {
+        Sequence<S> sequence = getSequence(series);
+        int i = sequence.index(item);
+        sequence.values[i] = value != null ? value.doubleValue() : Double.NaN;
+        sequence.setGap(i, value == null);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the time period for an item.  The period is created on demand
+     * and is the period (of the same class as the start period) that
+     * contains the first millisecond of the item's interval.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The time period.
+     */
+    public RegularTimePeriod getTimePeriod(int series, int item) {
+        Date date = new Date(getStartMillisecond(series, item));
+        if (this.periodClass == FixedMillisecond.class) {
+            return new FixedMillisecond(date);
+        }
+        return RegularTimePeriod.createInstance(this.periodClass, date,
+                this.timeZone, this.locale);
+    }
+
+    /**
+     * Returns the first millisecond of the interval for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The millisecond.
+     */
+    private long getStartMillisecond(int series, int item) {
+        Sequence<S> sequence = getSequence(series);
+        sequence.index(item);  // checks the item index
+        return this.start + (sequence.first + item) * this.interval;
+    }
+
+    /**
+     * Returns the x-value for an item, as specified by the x-position.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        long x = getStartMillisecond(series, item);
+        if (this.xPosition == TimePeriodAnchor.MIDDLE) {
+            x += (this.interval - 1) / 2;
+        }
+        else if (this.xPosition == TimePeriodAnchor.END) {
+            x += this.interval - 1;
+        }
+        return x;
+    }
+
+    /**
+     * Returns the x-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return (long) getXValue(series, item);
+    }
+
+    /**
+     * Returns the start x-value (the first millisecond of the interval) for
+     * an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The start x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartMillisecond(series, item);
+    }
+
+    /**
+     * Returns the end x-value (the last millisecond of the interval) for an
+     * item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The end x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getStartMillisecond(series, item) + this.interval - 1;
+    }
+
+    /**
+     * Returns the y-value for an item, or {@code Double.NaN} for a gap.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        Sequence<S> sequence = getSequence(series);
+        return sequence.values[sequence.index(item)];
+    }
+
+    /**
+     * Returns the y-value for an item.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value ({@code null} for a gap).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        Sequence<S> sequence = getSequence(series);
+        int i = sequence.index(item);
+        if (sequence.isGap(i)) {
+            return null;
+        }
+        return sequence.values[i];
+    }
+
+    /**
+     * Returns the start y-value for an item (the same as the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value ({@code null} for a gap).
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the end y-value for an item (the same as the y-value).
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value ({@code null} for a gap).
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if the dataset is
+     *     empty).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of x-values in the dataset.  Since the items are at
+     * a regular interval, this is calculated from the first and last item
+     * in each series without iterating.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range ({@code null} if the dataset is empty).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (int s = 0; s < this.data.size(); s++) {
+            int last = this.data.get(s).count - 1;
+            if (last < 0) {
+                continue;
+            }
+            Range r;
+            if (includeInterval) {
+                r = new Range(getStartXValue(s, 0), getEndXValue(s, last));
+            }
+            else {
+                r = new Range(getXValue(s, 0), getXValue(s, last));
+            }
+            result = Range.combine(result, r);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the series with the specified index.
+     *
+     * @param series  the series index.
+     *
+     * @return The series.
+     */
+    private Sequence<S> getSequence(int series) {
+        Args.requireInRange(series, "series", 0, this.data.size() - 1);
+        return this.data.get(series);
+    }
+
+    /**
+     * Tests this collection for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RegularTimeSeriesCollection)) {
+            return false;
+        }
+        RegularTimeSeriesCollection that = (RegularTimeSeriesCollection) obj;
+        if (!this.periodClass.equals(that.periodClass)) {
+            return false;
+        }
+        if (this.start != that.start || this.interval != that.interval) {
+            return false;
+        }
+        if (!this.timeZone.equals(that.timeZone)) {
+            return false;
+        }
+        if (!this.locale.equals(that.locale)) {
+            return false;
+        }
+        if (this.xPosition != that.xPosition) {
+            return false;
+        }
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        return this.data.equals(that.data);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        hash = 53 * hash + Long.hashCode(this.start);
+        hash = 53 * hash + Long.hashCode(this.interval);
+        hash = 53 * hash + Objects.hashCode(this.xPosition);
+        hash = 53 * hash + this.data.size();
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RegularTimeSeriesCollection<S> clone
+                = (RegularTimeSeriesCollection<S>) super.clone();
+        clone.timeZone = (TimeZone) this.timeZone.clone();
+        clone.data = new ArrayList<>(this.data.size());
+        for (Sequence<S> sequence : this.data) {
+            clone.data.add(sequence.copy());
+        }
+        return clone;
+    }
+
+    /**
+     * The values for one series, stored in an array where items evicted
+     * from the start just advance an offset.
+     */
+    private static class Sequence<S> implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -3818215409472935136L;
+
+        /** The series key. */
+        S key;
+
+        /** The values (a gap is stored as {@code Double.NaN}). */
+        double[] values;
+
+        /** The array index of the first item. */
+        int offset;
+
+        /** The number of items. */
+        int count;
+
+        /** The index of the first item, in steps from the start. */
+        long first;
+
+        /**
+         * Flags the array indices that are gaps ({@code null} until the
+         * first gap is added).
+         */
+        BitSet gaps;
+
+        Sequence(S key) {
+            this.key = key;
+            this.values = new double[INITIAL_CAPACITY];
+        }
+
+        /**
+         * Returns the array index for an item, after checking the item
+         * index.
+         */
+        int index(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds for length " + this.count);
+            }
+            return this.offset + item;
+        }
+
+        boolean isGap(int i) {
+            return this.gaps != null && this.gaps.get(i);
+        }
+
+        void setGap(int i, boolean gap) {
+            if (gap && this.gaps == null) {
+                this.gaps = new BitSet();
+            }
+            if (this.gaps != null) {
+                this.gaps.set(i, gap);
+            }
+        }
+
+        void add(double value, boolean gap) {
+            ensureCapacity(this.count + 1);
+            int i = this.offset + this.count;
+            this.values[i] = value;
+            setGap(i, gap);
+            this.count++;
+        }
+
+        /**
+         * Discards the oldest items so that there are at most
+         * {@code maximum} items.
+         */
+        void trim(int maximum) {
+            int remove = this.count - maximum;
+            if (remove > 0) {
+                this.offset += remove;
+                this.count -= remove;
+                this.first += remove;
+            }
+        }
+
+        /**
+         * Ensures there is space for the specified number of items after
+         * the offset, compacting or growing the array (and the gap bitmap)
+         * as necessary.
+         */
+        void ensureCapacity(int capacity) {
+            int length = this.values.length;
+            if (this.offset + capacity <= length) {
+                return;
+            }
+            double[] v = this.values;
+            if (capacity > length / 2) {
+                v = new double[Math.max(capacity, length + (length >> 1))];
+            }
+            System.arraycopy(this.values, this.offset, v, 0, this.count);
+            this.values = v;
+            if (this.gaps != null) {
+                this.gaps = this.gaps.get(this.offset,
+                        this.offset + this.count);
+            }
+            this.offset = 0;
+        }
+
+        Sequence<S> copy() {
+            Sequence<S> copy = new Sequence<>(this.key);
+            copy.values = Arrays.copyOfRange(this.values, this.offset,
+                    this.offset + Math.max(this.count, 1));
+            copy.count = this.count;
+            copy.first = this.first;
+            if (this.gaps != null) {
+                copy.gaps = this.gaps.get(this.offset,
+                        this.offset + this.count);
+            }
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Sequence)) {
+                return false;
+            }
+            Sequence that = (Sequence) obj;
+            if (!this.key.equals(that.key) || this.count != that.count
+                    || this.first != that.first) {
+                return false;
+            }
+            for (int i = 0; i < this.count; i++) {
+                int a = this.offset + i;
+                int b = that.offset + i;
+                if (Double.doubleToLongBits(this.values[a])
+                        != Double.doubleToLongBits(that.values[b])
+                        || isGap(a) != that.isGap(b)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.key.hashCode();
+        }
+    }
+
+}
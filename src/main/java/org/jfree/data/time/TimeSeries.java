@@ -52,6 +52,9 @@ import java.util.TimeZone;
 
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.internal.MinMaxIndex;
+import org.jfree.chart.internal.RingBufferList;
+import org.jfree.chart.internal.SlidingMinMax;
 import org.jfree.data.Range;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -113,6 +116,47 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     private double maxY;
 
+    /**
+     * Tracks the y-values when the series is a rolling window (that is, when
+     * a maximum item count or age is set) so that the bounds can be updated
+     * in constant time as the oldest items are evicted.  This is
+     * {@code null} when not in use or when it is out of step with the data.
+     */
+    private transient SlidingMinMax yWindow;
+
+    /**
+     * An index of the y-values, used to find the range of y-values for a
+     * range of x-values.  It is created on demand and discarded whenever
+     * the data changes.
+     */
+    private transient MinMaxIndex yIndex;
+
+    /**
+     * The number of items that have been evicted from the start of the
+     * series.  Together with {@code structureVersion} this lets a
+     * {@link TimeSeriesCollection} bring its cached x-values up to date
+     * without recalculating them for every item.
+     */
+    private transient long evictedItemCount;
+
+    /**
+     * Incremented whenever items are inserted or removed other than by
+     * appending at the end or evicting from the start of the series.
+     */
+    private transient int structureVersion;
+
+    /**
+     * Incremented whenever the value of an existing item is changed (other
+     * than by a change to the structure of the series).
+     */
+    private transient int valueVersion;
+
+    /**
+     * The position of the item most recently changed by a value update,
+     * counted from the first item ever added (including evicted items).
+     */
+    private transient long updatedItem;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -238,6 +282,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * exceed the maximum item count, then the FIRST element in the series is
      * automatically removed, ensuring that the maximum item count is not
      * exceeded.
+     * <p>
+     * When a maximum is set, the series switches to a circular buffer for
+     * its item storage, so that appending to a full series and evicting the
+     * first item are both constant time operations.
      *
      * @param maximum  the maximum (requires &gt;= 0).
      *
@@ -248,10 +296,16 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE) {
+            useRingBuffer();
+        }
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
         }
+        else {
+            updateMinMaxYByIteration();
+        }
     }
 
     /**
@@ -271,7 +325,9 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * time series. For example, if a series contains daily data, you might set
      * the history count to 30.  Then, when you add a new data item, all data
      * items more than 30 days older than the latest value are automatically
-     * dropped from the series.
+     * dropped from the series.  As with the maximum item count, setting a
+     * maximum age switches the series to a circular buffer for its item
+     * storage.
      *
      * @param periods  the number of time periods.
      *
@@ -282,9 +338,23 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        if (periods < Long.MAX_VALUE) {
+            useRingBuffer();
+        }
+        updateMinMaxYByIteration();
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
+    /**
+     * Switches the item storage to a circular buffer, unless the storage has
+     * already been replaced (for example by a subclass).
+     */
+    private void useRingBuffer() {
+        if (this.data.getClass() == ArrayList.class) {
+            this.data = new RingBufferList<>(this.data);
+        }
+    }
+
     /**
      * Returns the range of y-values in the time series.  Any {@code null} or 
      * {@code Double.NaN} data values in the series will be ignored (except for
@@ -351,6 +421,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * Finds the range of y-values that fall within the specified range of
      * x-values (where the x-values are interpreted as milliseconds since the
      * epoch and converted to time periods using the specified timezone).
+     * Since the items are ordered, the first and last items in the x-range
+     * are found by binary search, and the y-range is found using an index
+     * that is built on the first call after the data changes.  Repeated
+     * queries (for example, when auto-ranging to the visible part of a large
+     * series) therefore take logarithmic time.
      * 
      * @param xRange  the subset of x-values to use ({@code null} not
      *     permitted).
@@ -361,30 +436,51 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @return The range of y-values.
      */
     public Range findValueRange(Range xRange, TimePeriodAnchor xAnchor, Calendar calendar) {
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
-        double lowY = Double.POSITIVE_INFINITY;
-        double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
-            TimeSeriesDataItem item = this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = minIgnoreNaN(lowY, v);
-                    highY = maxIgnoreNaN(highY, v);
-                }
+        int start = firstIndexAfter(xRange.getLowerBound(), false, xAnchor,
+                calendar);
+        int end = firstIndexAfter(xRange.getUpperBound(), true, xAnchor,
+                calendar) - 1;
+        if (start > end) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        if (this.yIndex == null) {
+            this.yIndex = new MinMaxIndex(i -> {
+                Number n = this.data.get(i).getValue();
+                return n != null ? n.doubleValue() : Double.NaN;
+            }, this.data.size());
+        }
+        return new Range(this.yIndex.getMinimum(start, end),
+                this.yIndex.getMaximum(start, end));
+    }
+
+    /**
+     * Returns the index of the first item with an x-value (in milliseconds)
+     * greater than (or, if {@code inclusive} is {@code false}, greater than
+     * or equal to) the specified value.
+     *
+     * @param x  the x-value.
+     * @param inclusive  skip an item with an x-value equal to {@code x}?
+     * @param xAnchor  the anchor point for the x-values.
+     * @param calendar  the calendar.
+     *
+     * @return The index (equal to the item count if there is no such item).
+     */
+    private int firstIndexAfter(double x, boolean inclusive,
+            TimePeriodAnchor xAnchor, Calendar calendar) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long millis = this.data.get(mid).getPeriod().getMillisecond(
+                    xAnchor, calendar);
+            if (millis < x || (inclusive && millis == x)) {
+                low = mid + 1;
             }
-        }
-        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
-            if (lowY < highY) {
-                return new Range(lowY, highY);
-            } else {
-                return new Range(Double.NaN, Double.NaN);
+            else {
+                high = mid;
             }
         }
-        return new Range(lowY, highY);
+        return low;
     }
 
     /**
@@ -654,6 +750,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    this.structureVersion++;
                     added = true;
                 }
                 else {
@@ -669,11 +766,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         if (added) {
-            updateBoundsForAddedItem(item);
+            updateBoundsForInsertedItem(item);
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItems(1);
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
@@ -777,6 +873,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     public void update(int index, Number value) {
         TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(index);
+        this.yWindow = null;
+        this.yIndex = null;
         boolean iterate = false;
         Number oldYN = item.getValue();
         if (oldYN != null) {
@@ -786,6 +884,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         item.setValue(value);
+        valueUpdated(index);
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -818,6 +917,181 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         return overwritten;
     }
 
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The
+     * batch is sorted (a linear time operation if the items are already in
+     * order) and merged with the existing items in a single pass, and the
+     * maximum item count, maximum item age and cached bounds are applied
+     * once for the whole batch.  If an exception is thrown, the series is
+     * not changed.
+     *
+     * @param items  the items ({@code null} not permitted).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if the batch contains a time period that is
+     *     already present (in the series or in the batch), or a time period
+     *     of the wrong class.
+     *
+     * @since 2.0.0
+     */
+    public void addAll(List<TimeSeriesDataItem> items, boolean notify) {
+        if (addItems(items, false) && notify) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds or updates a batch of data items and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  An item in the
+     * batch with the same time period as an existing item (or a later item
+     * in the batch with the same time period) replaces that item's value.
+     *
+     * @param items  the items ({@code null} not permitted).
+     *
+     * @throws SeriesException if the batch contains a time period of the
+     *     wrong class.
+     *
+     * @since 2.0.0
+     */
+    public void addOrUpdateAll(List<TimeSeriesDataItem> items) {
+        if (addItems(items, true)) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds (or, if {@code update} is {@code true}, adds or updates) a batch
+     * of items, then applies the maximum item count and age and updates the
+     * cached bounds.  No change event is sent.
+     *
+     * @param items  the items ({@code null} not permitted).
+     * @param update  update the value of existing items with the same time
+     *     period?
+     *
+     * @return A boolean indicating whether or not the series was changed.
+     */
+    private boolean addItems(List<TimeSeriesDataItem> items, boolean update) {
+        Args.nullNotPermitted(items, "items");
+        if (items.isEmpty()) {
+            return false;
+        }
+        Class periodClass = this.timePeriodClass;
+        List<TimeSeriesDataItem> batch = new ArrayList<>(items.size());
+        for (TimeSeriesDataItem item : items) {
+            Args.nullNotPermitted(item, "item");
+            Class c = item.getPeriod().getClass();
+            if (periodClass == null) {
+                periodClass = c;
+            }
+            else if (!periodClass.equals(c)) {
+                throw new SeriesException("You are trying to add data where "
+                        + "the time period class is " + c.getName()
+                        + ", but the TimeSeries is expecting an instance of "
+                        + periodClass.getName() + ".");
+            }
+            batch.add((TimeSeriesDataItem) item.clone());
+        }
+        batch.sort(null);  // stable, so the last of any duplicates stays last
+
+        // remove duplicates within the batch
+        List<TimeSeriesDataItem> unique = new ArrayList<>(batch.size());
+        for (TimeSeriesDataItem item : batch) {
+            int last = unique.size() - 1;
+            if (last >= 0 && unique.get(last).compareTo(item) == 0) {
+                if (!update) {
+                    throw new SeriesException("The batch contains more than "
+                            + "one observation for the time period "
+                            + item.getPeriod() + ".");
+                }
+                unique.set(last, item);
+            }
+            else {
+                unique.add(item);
+            }
+        }
+
+        boolean rescan = mergeSorted(unique, update);
+        this.timePeriodClass = periodClass;
+        int remove = this.data.size() - this.maximumItemCount;
+        if (rescan) {
+            if (remove > 0) {
+                this.data.subList(0, remove).clear();
+            }
+            this.structureVersion++;
+            updateMinMaxYByIteration();
+        }
+        else {
+            // the batch items were all inserted, in order, so they are at
+            // the end of the list if the batch was appended
+            boolean appended = this.data.get(this.data.size()
+                    - unique.size()) == unique.get(0);
+            if (!appended) {
+                this.yWindow = null;
+            }
+            for (TimeSeriesDataItem item : unique) {
+                if (appended) {
+                    updateBoundsForAppendedItem(item);
+                }
+                else {
+                    updateBoundsForAddedItem(item);
+                }
+            }
+            if (remove > 0) {
+                removeFirstItems(remove);
+            }
+        }
+        removeAgedItems(false);
+        return true;
+    }
+
+    /**
+     * Merges a sorted batch (without duplicates) into the series data in a
+     * single pass.
+     *
+     * @param batch  the batch.
+     * @param update  update existing items with the same time period?
+     *
+     * @return A boolean indicating whether existing items were updated (in
+     *     which case the bounds must be recalculated).
+     */
+    private boolean mergeSorted(List<TimeSeriesDataItem> batch,
+            boolean update) {
+        int n = this.data.size();
+        if (n == 0 || batch.get(0).compareTo(this.data.get(n - 1)) > 0) {
+            // the common case, the batch follows the existing data
+            this.data.addAll(batch);
+            return false;
+        }
+        boolean updated = false;
+        List<TimeSeriesDataItem> merged = new ArrayList<>(n + batch.size());
+        int i = 0;
+        for (TimeSeriesDataItem item : batch) {
+            while (i < n && this.data.get(i).compareTo(item) < 0) {
+                merged.add(this.data.get(i++));
+            }
+            if (i < n && this.data.get(i).compareTo(item) == 0) {
+                if (!update) {
+                    throw new SeriesException("You are attempting to add an "
+                            + "observation for the time period "
+                            + item.getPeriod() + " but the series already "
+                            + "contains an observation for that time period.");
+                }
+                i++;
+                updated = true;
+            }
+            merged.add(item);
+        }
+        while (i < n) {
+            merged.add(this.data.get(i++));
+        }
+        // replace the contents rather than the list, to keep the list type
+        this.data.clear();
+        this.data.addAll(merged);
+        this.structureVersion++;
+        return updated;
+    }
+
     /**
      * Adds or updates an item in the times series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -881,6 +1155,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             TimeSeriesDataItem existing
                     = (TimeSeriesDataItem) this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
+            this.yWindow = null;
+            this.yIndex = null;
             // figure out if we need to iterate through all the y-values
             // to find the revised minY / maxY
             boolean iterate = false;
@@ -890,6 +1166,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
+            valueUpdated(index);
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -901,13 +1178,15 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
+            if (-index - 1 < this.data.size()) {
+                this.structureVersion++;
+            }
             this.data.add(-index - 1, item);
-            updateBoundsForAddedItem(item);
+            updateBoundsForInsertedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                removeFirstItems(1);
             }
         }
         removeAgedItems(false);  // remove old items if necessary, but
@@ -931,14 +1210,13 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
-            while ((latest - getTimePeriod(0).getSerialIndex())
+            int remove = 0;
+            while ((latest - getTimePeriod(remove).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
-                removed = true;
+                remove++;
             }
-            if (removed) {
-                updateMinMaxYByIteration();
+            if (remove > 0) {
+                removeFirstItems(remove);
                 if (notify) {
                     fireSeriesChanged();
                 }
@@ -983,14 +1261,14 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
-        while (getItemCount() > 0 && (index
-                - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
-            removed = true;
-        }
-        if (removed) {
-            updateMinMaxYByIteration();
+        int remove = 0;
+        while (remove < getItemCount() && (index
+                - getTimePeriod(remove).getSerialIndex())
+                > this.maximumItemAge) {
+            remove++;
+        }
+        if (remove > 0) {
+            removeFirstItems(remove);
             if (notify) {
                 fireSeriesChanged();
             }
@@ -1004,9 +1282,9 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.structureVersion++;
             this.timePeriodClass = null;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
+            updateMinMaxYByIteration();
             fireSeriesChanged();
         }
     }
@@ -1024,6 +1302,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (index >= 0) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
+            this.structureVersion++;
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -1055,9 +1334,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (end < start) {
             throw new IllegalArgumentException("Requires start <= end.");
         }
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
-        }
+        this.data.subList(start, end + 1).clear();
+        this.structureVersion++;
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1086,6 +1364,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public Object clone() throws CloneNotSupportedException {
         TimeSeries<S> clone = (TimeSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        if (this.data instanceof RingBufferList) {
+            clone.data = new RingBufferList<>(clone.data);
+        }
+        clone.yWindow = null;
+        clone.yIndex = null;
         return clone;
     }
 
@@ -1112,6 +1395,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         TimeSeries<S> copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
+        copy.yWindow = null;
+        copy.yIndex = null;
         copy.data = new java.util.ArrayList();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
@@ -1249,6 +1534,58 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         return result;
     }
 
+    /**
+     * Returns the number of items that have been evicted from the start of
+     * the series (because of the maximum item count or age).
+     *
+     * @return The number of items evicted.
+     */
+    long getEvictedItemCount() {
+        return this.evictedItemCount;
+    }
+
+    /**
+     * Returns a counter that changes whenever items are inserted or removed
+     * other than by appending at the end or evicting from the start of the
+     * series.
+     *
+     * @return The structure version.
+     */
+    int getStructureVersion() {
+        return this.structureVersion;
+    }
+
+    /**
+     * Returns a counter that changes whenever the value of an existing item
+     * is updated.
+     *
+     * @return The value version.
+     */
+    int getValueVersion() {
+        return this.valueVersion;
+    }
+
+    /**
+     * Returns the position of the item most recently changed by a value
+     * update, counted from the first item ever added (so subtract
+     * {@link #getEvictedItemCount()} to get the item index).
+     *
+     * @return The position.
+     */
+    long getUpdatedItem() {
+        return this.updatedItem;
+    }
+
+    /**
+     * Records that the value of an item has been updated.
+     *
+     * @param index  the item index.
+     */
+    private void valueUpdated(int index) {
+        this.valueVersion++;
+        this.updatedItem = this.evictedItemCount + index;
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -1257,6 +1594,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @since 1.0.14
      */
     private void updateBoundsForAddedItem(TimeSeriesDataItem item) {
+        this.yIndex = null;
         Number yN = item.getValue();
         if (item.getValue() != null) {
             double y = yN.doubleValue();
@@ -1274,6 +1612,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @since 1.0.14
      */
     private void updateBoundsForRemovedItem(TimeSeriesDataItem item) {
+        this.yWindow = null;
+        this.yIndex = null;
         Number yN = item.getValue();
         if (yN != null) {
             double y = yN.doubleValue();
@@ -1294,11 +1634,73 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     private void updateMinMaxYByIteration() {
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        this.yWindow = null;
+        this.yIndex = null;
+        if (this.maximumItemCount < Integer.MAX_VALUE
+                || this.maximumItemAge < Long.MAX_VALUE) {
+            this.yWindow = new SlidingMinMax();
+        }
         for (TimeSeriesDataItem item : this.data) {
+            updateBoundsForAppendedItem(item);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an item that has been added at the end
+     * of the series.
+     *
+     * @param item  the item ({@code null} not permitted).
+     */
+    private void updateBoundsForAppendedItem(TimeSeriesDataItem item) {
+        updateBoundsForAddedItem(item);
+        if (this.yWindow != null) {
+            Number yN = item.getValue();
+            this.yWindow.add(yN != null ? yN.doubleValue() : Double.NaN);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an item that has been inserted into the
+     * series.  If the item was not appended, the sliding window is
+     * discarded.
+     *
+     * @param item  the item ({@code null} not permitted).
+     */
+    private void updateBoundsForInsertedItem(TimeSeriesDataItem item) {
+        if (this.data.get(this.data.size() - 1) == item) {
+            updateBoundsForAppendedItem(item);
+        }
+        else {
+            this.yWindow = null;
             updateBoundsForAddedItem(item);
         }
     }
 
+    /**
+     * Removes items from the start of the series and updates the cached
+     * bounds, using the sliding window if it is available.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        this.yIndex = null;
+        this.evictedItemCount += count;
+        if (count == 1 && this.yWindow == null) {
+            updateBoundsForRemovedItem(this.data.remove(0));
+            return;
+        }
+        this.data.subList(0, count).clear();
+        if (this.yWindow == null) {
+            updateMinMaxYByIteration();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            this.yWindow.removeFirst();
+        }
+        this.minY = this.yWindow.getMinimum();
+        this.maxY = this.yWindow.getMaximum();
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -56,6 +56,7 @@ import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -89,6 +90,14 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     private TimePeriodAnchor xPosition;
 
+    /**
+     * Cached x-values (in milliseconds) for each series, in the same order
+     * as the series list.  The array is discarded when series are added or
+     * removed, and the entry for a series is brought up to date when the
+     * series changes.
+     */
+    private transient volatile MillisecondCache[] xCache;
+
     /**
      * Constructs an empty dataset, tied to the default timezone.
      */
@@ -282,6 +291,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     public void addSeries(TimeSeries<S> series) {
         Args.nullNotPermitted(series, "series");
         this.data.add(series);
+        this.xCache = null;
         series.addChangeListener(this);
         series.addVetoableChangeListener(this);
         fireDatasetChanged();
@@ -296,6 +306,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     public void removeSeries(TimeSeries<S> series) {
         Args.nullNotPermitted(series, "series");
         this.data.remove(series);
+        this.xCache = null;
         series.removeChangeListener(this);
         series.removeVetoableChangeListener(this);
         fireDatasetChanged();
@@ -328,6 +339,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
 
         // remove all the series from the collection and notify listeners.
         this.data.clear();
+        this.xCache = null;
         fireDatasetChanged();
     }
 
@@ -354,9 +366,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     @Override
     public double getXValue(int series, int item) {
-        TimeSeries<S> s = this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return getMillisecondCache(series).getX(item, this.xPosition);
     }
 
     /**
@@ -369,9 +379,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     @Override
     public Number getX(int series, int item) {
-        TimeSeries<S> ts = this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return getX(period);
+        return getMillisecondCache(series).getX(item, this.xPosition);
     }
 
     /**
@@ -404,9 +412,8 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
-        TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getFirstMillisecond(this.workingCalendar);
+    public Number getStartX(int series, int item) {
+        return getMillisecondCache(series).getX(item, TimePeriodAnchor.START);
     }
 
     /**
@@ -418,9 +425,62 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
+        return getMillisecondCache(series).getX(item, TimePeriodAnchor.END);
+    }
+
+    /**
+     * Returns the cached x-values for a series, bringing them up to date
+     * first if the series has changed.  When the cache is current (the
+     * usual case while a chart is being drawn) this only reads a volatile
+     * field, so the x-value accessors do not need to synchronize on the 
+     * working calendar.
+     *
+     * @param series  the series index.
+     *
+     * @return The current snapshot of the cache.
+     */
+    private Snapshot getMillisecondCache(int series) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getLastMillisecond(this.workingCalendar);
+        MillisecondCache[] caches = this.xCache;
+        if (caches != null && caches.length == this.data.size()) {
+            MillisecondCache cache = caches[series];
+            Snapshot snapshot = cache != null ? cache.getCurrent(ts) : null;
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        synchronized (this) {
+            caches = this.xCache;
+            if (caches == null || caches.length != this.data.size()) {
+                caches = new MillisecondCache[this.data.size()];
+                this.xCache = caches;
+            }
+            MillisecondCache cache = caches[series];
+            if (cache == null) {
+                cache = new MillisecondCache();
+                caches[series] = cache;
+            }
+            return cache.update(ts, this.workingCalendar);
+        }
+    }
+
+    /**
+     * Receives notification of a change to one of the series in the
+     * collection, brings the cached x-values for the series up to date and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == event.getSource()) {
+                getMillisecondCache(i);
+                break;
+            }
+        }
+        super.seriesChanged(event);
     }
 
     /**
@@ -722,7 +782,192 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         TimeSeriesCollection clone = (TimeSeriesCollection) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
         clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.xCache = null;
         return clone;
     }
 
+    /**
+     * The first, middle and last millisecond of each time period in a
+     * series.  Items evicted from the start of the series just advance an
+     * offset and appended items are calculated as they arrive, so a rolling
+     * series costs only the calendar arithmetic for its new items.  Any
+     * other change to the items in the series recalculates all the values.
+     * <p>
+     * The cache is updated while holding the lock on the collection, and 
+     * each update publishes an immutable {@link Snapshot} through a single
+     * volatile field, so a thread reading x-values without the lock always
+     * sees a consistent set of values.  An update never writes to an array
+     * element that an earlier snapshot can read: appended items go beyond
+     * the end of the earlier snapshot, and any other change writes to new
+     * arrays.
+     */
+    private static class MillisecondCache {
+
+        /** The first millisecond for each item. */
+        private long[] first = new long[0];
+
+        /** The middle millisecond for each item. */
+        private long[] middle = new long[0];
+
+        /** The last millisecond for each item. */
+        private long[] last = new long[0];
+
+        /** The latest snapshot ({@code null} before the first update). */
+        private volatile Snapshot snapshot;
+
+        /**
+         * Returns the latest snapshot if it matches the series, and 
+         * {@code null} otherwise.
+         *
+         * @param series  the series.
+         *
+         * @return The snapshot (possibly {@code null}).
+         */
+        Snapshot getCurrent(TimeSeries<?> series) {
+            Snapshot s = this.snapshot;
+            return s != null && s.isCurrent(series) ? s : null;
+        }
+
+        /**
+         * Brings the cache up to date for the series.  The caller must hold 
+         * the lock on the collection.
+         *
+         * @param series  the series.
+         * @param calendar  the calendar used to convert the time periods.
+         *
+         * @return The up-to-date snapshot.
+         */
+        Snapshot update(TimeSeries<?> series, Calendar calendar) {
+            Snapshot s = this.snapshot;
+            if (s != null && s.isCurrent(series)) {
+                return s;
+            }
+            int offset = 0;
+            int count = 0;
+            boolean reuse = false;
+            if (s != null && s.structureVersion == series.getStructureVersion()) {
+                long evicted = series.getEvictedItemCount() 
+                        - s.evictedItemCount;
+                if (evicted <= s.count) {
+                    offset = s.offset + (int) evicted;
+                    count = s.count - (int) evicted;
+                    reuse = true;
+                }
+            }
+            int itemCount = series.getItemCount();
+            if (!reuse || offset + itemCount > this.first.length) {
+                // copy the items still valid into new arrays
+                int length = Math.max(itemCount, count + (count >> 1));
+                this.first = copy(this.first, offset, count, length);
+                this.middle = copy(this.middle, offset, count, length);
+                this.last = copy(this.last, offset, count, length);
+                offset = 0;
+            }
+            for (int i = count; i < itemCount; i++) {
+                RegularTimePeriod period = series.getTimePeriod(i);
+                int j = offset + i;
+                this.first[j] = period.getFirstMillisecond(calendar);
+                this.middle[j] = period.getMiddleMillisecond(calendar);
+                this.last[j] = period.getLastMillisecond(calendar);
+            }
+            s = new Snapshot(this.first, this.middle, this.last, offset, 
+                    itemCount, series.getEvictedItemCount(), 
+                    series.getStructureVersion());
+            this.snapshot = s;
+            return s;
+        }
+
+        private static long[] copy(long[] values, int offset, int count, 
+                int length) {
+            long[] result = new long[length];
+            System.arraycopy(values, offset, result, 0, count);
+            return result;
+        }
+    }
+
+    /**
+     * An immutable view of the cached x-values for a series.
+     */
+    private static final class Snapshot {
+
+        /** The first millisecond for each item. */
+        private final long[] first;
+
+        /** The middle millisecond for each item. */
+        private final long[] middle;
+
+        /** The last millisecond for each item. */
+        private final long[] last;
+
+        /** The array index of the first item. */
+        final int offset;
+
+        /** The number of items. */
+        final int count;
+
+        /** The series' evicted item count when the snapshot was taken. */
+        final long evictedItemCount;
+
+        /** The series' structure version when the snapshot was taken. */
+        final int structureVersion;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param first  the first millisecond for each item.
+         * @param middle  the middle millisecond for each item.
+         * @param last  the last millisecond for each item.
+         * @param offset  the array index of the first item.
+         * @param count  the number of items.
+         * @param evictedItemCount  the series' evicted item count.
+         * @param structureVersion  the series' structure version.
+         */
+        Snapshot(long[] first, long[] middle, long[] last, int offset, 
+                int count, long evictedItemCount, int structureVersion) {
+            this.first = first;
+            this.middle = middle;
+            this.last = last;
+            this.offset = offset;
+            this.count = count;
+            this.evictedItemCount = evictedItemCount;
+            this.structureVersion = structureVersion;
+        }
+
+        /**
+         * Returns {@code true} if the snapshot matches the series.
+         *
+         * @param series  the series.
+         *
+         * @return A boolean.
+         */
+        boolean isCurrent(TimeSeries<?> series) {
+            return this.structureVersion == series.getStructureVersion()
+                    && this.evictedItemCount == series.getEvictedItemCount()
+                    && this.count == series.getItemCount();
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param item  the item index.
+         * @param anchor  the anchor point within the time period.
+         *
+         * @return The x-value (in milliseconds).
+         */
+        long getX(int item, TimePeriodAnchor anchor) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds for length " + this.count);
+            }
+            int i = this.offset + item;
+            if (anchor == TimePeriodAnchor.START) {
+                return this.first[i];
+            }
+            else if (anchor == TimePeriodAnchor.MIDDLE) {
+                return this.middle[i];
+            }
+            return this.last[i];
+        }
+    }
+
 }
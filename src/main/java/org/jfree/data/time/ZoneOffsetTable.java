@@ -0,0 +1,326 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ZoneOffsetTable.java
+ * --------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts local date-times to milliseconds since the epoch without going
+ * through {@link Calendar#getTimeInMillis()}, which is a hotspot when time
+ * periods are created in large numbers.  For each time zone, a table of the
+ * offset transitions is built once (from the {@code java.time} zone rules)
+ * and cached.  Local times that fall in a gap or an overlap at a transition
+ * are resolved in the same way as {@link GregorianCalendar}: a time in a gap
+ * uses the offset before the transition and a time in an overlap uses the
+ * offset after the transition (standard time, for a daylight saving
+ * transition).
+ * <p>
+ * The table is only used for a plain {@link GregorianCalendar} in one of
+ * the time zones provided by the JRE, and for years in the range covered by
+ * the JRE's own transition tables.  When a table is created it is checked
+ * against the calendar either side of every transition, and it is only used
+ * up to the first transition (if any) where the results differ.  In all
+ * other cases the calendar is used as before, so the results are always
+ * identical.
+ */
+final class ZoneOffsetTable {
+
+    /** The first year for which the table is used. */
+    private static final int FIRST_YEAR = 1900;
+
+    /** The last year for which the table is used. */
+    private static final int LAST_YEAR = 2037;
+
+    /** The number of milliseconds in a day. */
+    private static final long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    /** The first millisecond of the default Gregorian cutover. */
+    private static final long DEFAULT_GREGORIAN_CHANGE
+            = new GregorianCalendar().getGregorianChange().getTime();
+
+    /** The tables created so far, by time zone ID. */
+    private static final Map<String, ZoneOffsetTable> TABLES
+            = new ConcurrentHashMap<>();
+
+    /**
+     * The calendar most recently seen by the current thread, with its time
+     * zone and the table to use for it ({@code null} if the calendar must
+     * be used).
+     */
+    private static final ThreadLocal<Object[]> LAST_CALENDAR
+            = new ThreadLocal<>();
+
+    /** The time zone that the table was created for. */
+    private final TimeZone zone;
+
+    /** The offset before the first transition. */
+    private final int initialOffset;
+
+    /**
+     * The local (wall) time, as milliseconds since the epoch, from which
+     * each offset applies.
+     */
+    private final long[] localStarts;
+
+    /** The offsets. */
+    private final int[] offsets;
+
+    /** The local time up to which (exclusive) the table is used. */
+    private long limit;
+
+    /**
+     * Creates a table for a time zone.
+     *
+     * @param zone  the time zone.
+     * @param rules  the rules for the time zone.
+     */
+    private ZoneOffsetTable(TimeZone zone, ZoneRules rules) {
+        this.zone = zone;
+        long[] starts = new long[16];
+        int[] values = new int[16];
+        int count = 0;
+        Instant first = Instant.ofEpochMilli(toLocalMillis(FIRST_YEAR - 1,
+                12, 31, 0, 0, 0, 0) - MILLIS_PER_DAY);
+        long last = toLocalMillis(LAST_YEAR + 1, 1, 2, 0, 0, 0, 0);
+        this.initialOffset = rules.getOffset(first).getTotalSeconds() * 1000;
+        ZoneOffsetTransition t = rules.nextTransition(first);
+        while (t != null && t.toEpochSecond() * 1000L < last) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                values = Arrays.copyOf(values, count * 2);
+            }
+            int offset = t.getOffsetAfter().getTotalSeconds() * 1000;
+            starts[count] = t.toEpochSecond() * 1000L + offset;
+            values[count] = offset;
+            count++;
+            t = rules.nextTransition(t.getInstant());
+        }
+        this.localStarts = Arrays.copyOf(starts, count);
+        this.offsets = Arrays.copyOf(values, count);
+        this.limit = last;
+    }
+
+    /**
+     * Checks the table against a calendar at the local times either side of
+     * each transition, and reduces the limit to exclude the first
+     * transition where the results differ.
+     */
+    private void verify() {
+        Calendar calendar = new GregorianCalendar(this.zone);
+        Calendar utc = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        for (int i = 0; i < this.localStarts.length; i++) {
+            int before = i > 0 ? this.offsets[i - 1] : this.initialOffset;
+            long transition = this.localStarts[i] - this.offsets[i];
+            long[] locals = {transition + before - 1, transition + before,
+                    this.localStarts[i] - 1, this.localStarts[i]};
+            for (long local : locals) {
+                utc.setTimeInMillis(local);
+                calendar.clear();
+                calendar.set(utc.get(Calendar.YEAR), utc.get(Calendar.MONTH),
+                        utc.get(Calendar.DAY_OF_MONTH),
+                        utc.get(Calendar.HOUR_OF_DAY),
+                        utc.get(Calendar.MINUTE), utc.get(Calendar.SECOND));
+                calendar.set(Calendar.MILLISECOND,
+                        utc.get(Calendar.MILLISECOND));
+                if (calendar.getTimeInMillis() != local - getOffset(local)) {
+                    this.limit = Math.min(transition + before,
+                            this.localStarts[i]) - MILLIS_PER_DAY;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the local start times are strictly increasing
+     * (which is a requirement for the binary search).
+     *
+     * @return A boolean.
+     */
+    private boolean isOrdered() {
+        for (int i = 1; i < this.localStarts.length; i++) {
+            if (this.localStarts[i] <= this.localStarts[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the offset that applies at a local time.
+     *
+     * @param localMillis  the local time, as milliseconds since the epoch.
+     *
+     * @return The offset in milliseconds.
+     */
+    private int getOffset(long localMillis) {
+        int i = Arrays.binarySearch(this.localStarts, localMillis);
+        if (i < 0) {
+            i = -i - 2;
+        }
+        return i < 0 ? this.initialOffset : this.offsets[i];
+    }
+
+    /**
+     * Returns the number of milliseconds since the epoch for a date-time
+     * (as local time in the calendar's time zone).  The calendar may be
+     * updated by this method.
+     *
+     * @param calendar  the calendar ({@code null} not permitted).
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     * @param hour  the hour (0 to 23).
+     * @param minute  the minute (0 to 59).
+     * @param second  the second (0 to 59).
+     * @param millisecond  the millisecond (0 to 999).
+     *
+     * @return The milliseconds since the epoch.
+     */
+    static long getMillisecond(Calendar calendar, int year, int month,
+            int day, int hour, int minute, int second, int millisecond) {
+        if (year >= FIRST_YEAR && year <= LAST_YEAR) {
+            ZoneOffsetTable table = getTable(calendar);
+            long local = toLocalMillis(year, month, day, hour, minute,
+                    second, millisecond);
+            if (table != null && local < table.limit) {
+                return local - table.getOffset(local);
+            }
+        }
+        calendar.clear();
+        calendar.set(year, month - 1, day, hour, minute, second);
+        calendar.set(Calendar.MILLISECOND, millisecond);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * Returns the table to use for a calendar, or {@code null} if the
+     * calendar itself must be used.
+     *
+     * @param calendar  the calendar.
+     *
+     * @return The table (possibly {@code null}).
+     */
+    private static ZoneOffsetTable getTable(Calendar calendar) {
+        TimeZone zone = calendar.getTimeZone();
+        Object[] last = LAST_CALENDAR.get();
+        if (last != null && last[0] == calendar && last[1] == zone) {
+            ZoneOffsetTable table = (ZoneOffsetTable) last[2];
+            if (table == null
+                    || table.zone.getRawOffset() == zone.getRawOffset()) {
+                return table;
+            }
+        }
+        ZoneOffsetTable table = null;
+        if (calendar.getClass() == GregorianCalendar.class
+                && ((GregorianCalendar) calendar).getGregorianChange()
+                .getTime() == DEFAULT_GREGORIAN_CHANGE) {
+            table = TABLES.computeIfAbsent(zone.getID(),
+                    ZoneOffsetTable::create);
+            if (table != null && !table.zone.equals(zone)) {
+                table = null;
+            }
+        }
+        LAST_CALENDAR.set(new Object[] {calendar, zone, table});
+        return table;
+    }
+
+    /**
+     * Creates the table for a time zone ID, or returns {@code null} if the
+     * ID is not known to both {@link TimeZone} and {@link ZoneId}.
+     *
+     * @param id  the time zone ID.
+     *
+     * @return The table (possibly {@code null}).
+     */
+    private static ZoneOffsetTable create(String id) {
+        TimeZone zone = TimeZone.getTimeZone(id);
+        if (!zone.getID().equals(id)) {
+            return null;  // unknown IDs give GMT
+        }
+        ZoneRules rules;
+        try {
+            rules = zone.toZoneId().getRules();
+        } catch (RuntimeException e) {
+            return null;
+        }
+        ZoneOffsetTable table = new ZoneOffsetTable(zone, rules);
+        if (!table.isOrdered()) {
+            return null;
+        }
+        table.verify();
+        return table;
+    }
+
+    /**
+     * Returns a local date-time as milliseconds since the epoch (that is,
+     * as if the time zone were UTC), using the proleptic Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     * @param hour  the hour (0 to 23).
+     * @param minute  the minute (0 to 59).
+     * @param second  the second (0 to 59).
+     * @param millisecond  the millisecond (0 to 999).
+     *
+     * @return The milliseconds.
+     */
+    private static long toLocalMillis(int year, int month, int day,
+            int hour, int minute, int second, int millisecond) {
+        // days from 1970-01-01, counting years from March so that the leap
+        // day comes last
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yoe = y - era * 400;
+        long doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        long days = era * 146097 + doe - 719468;
+        return days * MILLIS_PER_DAY + ((hour * 60L + minute) * 60L + second)
+                * 1000L + millisecond;
+    }
+
+}
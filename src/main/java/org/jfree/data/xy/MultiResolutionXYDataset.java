@@ -0,0 +1,1007 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------
+ * MultiResolutionXYDataset.java
+ * ------------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetChangeType;
+
+/**
+ * A dataset wrapper that maintains summaries of an underlying
+ * {@link XYDataset} at several resolutions, so that a chart with many more
+ * items than pixels can be drawn from a small subset of the items.  Summary
+ * level {@code k} (for {@code k >= 1}) divides each series into blocks of
+ * {@code 2^(k+2)} consecutive items and keeps the first, minimum, maximum
+ * and last item in each block (in item order).  Level 0 is the underlying
+ * dataset itself.
+ * <p>
+ * The {@link org.jfree.chart.plot.XYPlot} recognises this dataset and
+ * draws the items from {@link #getDataset(Range, int)}, which selects for
+ * each series the coarsest level that still has at least one block per
+ * pixel across the visible range of the domain axis.  The data bounds are
+ * also found from the summaries, so the cost of zooming and panning
+ * depends on the width of the chart rather than the size of the dataset.
+ * <p>
+ * Summaries are only built for series where the x-values are in ascending
+ * order (other series are always drawn in full).  They are built when
+ * first required.  When items are appended to a series (the underlying
+ * dataset reports a {@link DatasetChangeType#ITEMS_ADDED} change at the
+ * end of the series, see {@link DatasetChangeInfo}), the summaries for the
+ * series are extended by updating the last block at each level, so the
+ * cost of appending does not depend on the size of the series.  After any
+ * other change, the summaries for the changed series (or for all series, if
+ * the change does not say which series changed) are rebuilt when next
+ * required.
+ *
+ * @since 2.0.0
+ */
+public class MultiResolutionXYDataset<S extends Comparable<S>>
+        extends AbstractXYDataset<S>
+        implements XYDataset<S>, DomainInfo, RangeInfo, XYRangeInfo,
+        DatasetChangeListener, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4129583517606421870L;
+
+    /** The underlying dataset. */
+    private XYDataset<S> underlying;
+
+    /**
+     * The summaries for each series ({@code null} until required, and
+     * after the underlying dataset changes).
+     */
+    private transient Summary[] summaries;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param underlying  the underlying dataset ({@code null} not
+     *     permitted).
+     */
+    public MultiResolutionXYDataset(XYDataset<S> underlying) {
+        Args.nullNotPermitted(underlying, "underlying");
+        this.underlying = underlying;
+        this.underlying.addChangeListener(this);
+    }
+
+    /**
+     * Returns the underlying dataset that was specified via the constructor.
+     *
+     * @return The underlying dataset (never {@code null}).
+     */
+    public XYDataset<S> getUnderlyingDataset() {
+        return this.underlying;
+    }
+
+    /**
+     * Returns the number of items in each block at the specified level.
+     *
+     * @param level  the level (zero or greater).
+     *
+     * @return The block size ({@code 1} for level 0).
+     */
+    public static int getBlockSize(int level) {
+        Args.requireNonNegative(level, "level");
+        return level == 0 ? 1 : 1 << (level + 2);
+    }
+
+    /**
+     * Returns the number of summary levels for a series (not counting level
+     * 0, so this is {@code 0} if the series is small or the x-values are not
+     * in ascending order).
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The number of summary levels.
+     */
+    public int getLevelCount(int series) {
+        return getSummary(series).levels;
+    }
+
+    /**
+     * Returns {@code true} if the specified dataset is a view returned by
+     * {@link #getDataset(int)} or {@link #getDataset(Range, int)} for this
+     * dataset.  The {@link org.jfree.chart.plot.XYPlot} uses this to find
+     * the index of this dataset when a renderer looks up the view it is
+     * drawing.
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    public boolean isView(XYDataset<?> dataset) {
+        return dataset instanceof MultiResolutionXYDataset.LevelDataset
+                && ((LevelDataset) dataset).getSource() == this;
+    }
+
+    /**
+     * Returns a dataset containing the items at the specified level for
+     * each series (or the coarsest level available, for series with fewer
+     * levels).  The returned dataset is a view that should be used only
+     * until the underlying dataset next changes.
+     *
+     * @param level  the level (zero or greater).
+     *
+     * @return A dataset.
+     */
+    public XYDataset<S> getDataset(int level) {
+        Args.requireNonNegative(level, "level");
+        int seriesCount = getSeriesCount();
+        int[] levels = new int[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            levels[s] = Math.min(level, getLevelCount(s));
+        }
+        return new LevelDataset(levels);
+    }
+
+    /**
+     * Returns a dataset that contains, for each series, the items at the
+     * coarsest level that has at least one block per pixel over the
+     * specified range of x-values.  The returned dataset is a view that
+     * should be used only until the underlying dataset next changes.
+     *
+     * @param xRange  the range of x-values ({@code null} not permitted).
+     * @param pixels  the number of pixels across the x-range.
+     *
+     * @return A dataset.
+     */
+    public XYDataset<S> getDataset(Range xRange, int pixels) {
+        Args.nullNotPermitted(xRange, "xRange");
+        int seriesCount = getSeriesCount();
+        int[] levels = new int[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            int level = getLevelCount(s);
+            if (level > 0) {
+                int visible = findLastItem(s, xRange.getUpperBound())
+                        - findFirstItem(s, xRange.getLowerBound()) + 1;
+                while (level > 0 && (visible >> (level + 2)) < pixels) {
+                    level--;
+                }
+            }
+            levels[s] = level;
+        }
+        return new LevelDataset(levels);
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.underlying.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range {@code 0} to
+     *     {@code getSeriesCount() - 1}).
+     *
+     * @return The series key.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.underlying.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain (x-) values in the dataset.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.underlying.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.underlying.getItemCount(series);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.underlying.getX(series, item);
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.underlying.getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.underlying.getY(series, item);
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.underlying.getYValue(series, item);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            Summary summary = getSummary(s);
+            minimum = Math.min(minimum, summary.minX);
+            maximum = Math.max(maximum, summary.maxX);
+        }
+        return minimum <= maximum ? new Range(minimum, maximum) : null;
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double minimum = Double.POSITIVE_INFINITY;
+        double maximum = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s < getSeriesCount(); s++) {
+            Summary summary = getSummary(s);
+            minimum = Math.min(minimum, summary.minY);
+            maximum = Math.max(maximum, summary.maxY);
+        }
+        return minimum <= maximum ? new Range(minimum, maximum) : null;
+    }
+
+    /**
+     * Returns the range of the y-values for the items in the specified
+     * series that have x-values within the specified range.  For series
+     * with summaries, the whole blocks within the range are taken from the
+     * coarsest level available, so the number of items examined does not
+     * depend on the size of the series.
+     *
+     * @param visibleSeriesKeys  the keys of the series to include
+     *     ({@code null} not permitted).
+     * @param xRange  the range of x-values ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The range ({@code null} if there is no data).
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        double[] bounds = {Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY};
+        for (Object key : visibleSeriesKeys) {
+            int series = indexOf((S) key);
+            if (series < 0) {
+                continue;
+            }
+            Summary summary = getSummary(series);
+            if (summary.ascending) {
+                int first = findFirstItem(series, xRange.getLowerBound());
+                int last = findLastItem(series, xRange.getUpperBound());
+                includeItems(series, summary, first, last, bounds);
+            } else {
+                int itemCount = this.underlying.getItemCount(series);
+                for (int item = 0; item < itemCount; item++) {
+                    if (xRange.contains(
+                            this.underlying.getXValue(series, item))) {
+                        include(series, item, bounds);
+                    }
+                }
+            }
+        }
+        return bounds[0] <= bounds[1] ? new Range(bounds[0], bounds[1])
+                : null;
+    }
+
+    /**
+     * Updates the bounds to include the y-values for a range of items,
+     * using the largest blocks that fit within the range.
+     *
+     * @param series  the series index.
+     * @param summary  the summary for the series.
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     * @param bounds  the minimum and maximum y-values found so far.
+     */
+    private void includeItems(int series, Summary summary, int first,
+            int last, double[] bounds) {
+        int item = first;
+        while (item <= last) {
+            int level = summary.levels;
+            while (level > 0 && ((item & (getBlockSize(level) - 1)) != 0
+                    || item + getBlockSize(level) - 1 > last)) {
+                level--;
+            }
+            if (level == 0) {
+                include(series, item, bounds);
+                item++;
+            } else {
+                int block = item >> (level + 2);
+                int min = summary.minima[level - 1][block];
+                if (min >= 0) {
+                    include(series, min, bounds);
+                    include(series, summary.maxima[level - 1][block],
+                            bounds);
+                }
+                item += getBlockSize(level);
+            }
+        }
+    }
+
+    /**
+     * Updates the bounds to include the y-value for an item.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param bounds  the minimum and maximum y-values found so far.
+     */
+    private void include(int series, int item, double[] bounds) {
+        double y = this.underlying.getYValue(series, item);
+        if (!Double.isNaN(y)) {
+            bounds[0] = Math.min(bounds[0], y);
+            bounds[1] = Math.max(bounds[1], y);
+        }
+    }
+
+    /**
+     * Returns the index of the first item in a series (with x-values in
+     * ascending order) with an x-value greater than or equal to the
+     * specified value.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     *
+     * @return The item index (the item count if there is no such item).
+     */
+    private int findFirstItem(int series, double x) {
+        int low = 0;
+        int high = this.underlying.getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.underlying.getXValue(series, mid) < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the last item in a series (with x-values in
+     * ascending order) with an x-value less than or equal to the specified
+     * value.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     *
+     * @return The item index ({@code -1} if there is no such item).
+     */
+    private int findLastItem(int series, double x) {
+        int low = 0;
+        int high = this.underlying.getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.underlying.getXValue(series, mid) <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * Returns the summary for a series, building it if necessary.
+     *
+     * @param series  the series index.
+     *
+     * @return The summary.
+     */
+    private Summary getSummary(int series) {
+        if (this.summaries == null) {
+            this.summaries = new Summary[this.underlying.getSeriesCount()];
+        }
+        Summary summary = this.summaries[series];
+        if (summary == null) {
+            summary = buildSummary(series);
+            this.summaries[series] = summary;
+        }
+        return summary;
+    }
+
+    /**
+     * Builds the summary for a series, by appending all the items in the
+     * series to an empty summary.
+     *
+     * @param series  the series index.
+     *
+     * @return The summary.
+     */
+    private Summary buildSummary(int series) {
+        Summary summary = new Summary();
+        appendItems(series, summary, this.underlying.getItemCount(series));
+        return summary;
+    }
+
+    /**
+     * Updates a summary for items appended to the end of a series, in a
+     * single pass through the new items for the first level and then by
+     * combining pairs of blocks for each coarser level.  Only the blocks
+     * that contain new items are updated.
+     *
+     * @param series  the series index.
+     * @param summary  the summary (covering the items before the append).
+     * @param itemCount  the number of items in the series after the append.
+     */
+    private void appendItems(int series, Summary summary, int itemCount) {
+        int start = summary.itemCount;
+        double previousX = start > 0
+                ? this.underlying.getXValue(series, start - 1)
+                : Double.NEGATIVE_INFINITY;
+        int[] minima = null;
+        int[] maxima = null;
+        if (summary.ascending) {
+            minima = summary.ensureBlocks(0, (itemCount + 7) >> 3);
+            maxima = summary.maxima[0];
+        }
+        int block = -1;
+        double blockMin = Double.NaN;
+        double blockMax = Double.NaN;
+        for (int item = start; item < itemCount; item++) {
+            double x = this.underlying.getXValue(series, item);
+            if (!(x >= previousX)) {
+                summary.ascending = false;
+            }
+            previousX = x;
+            if (!Double.isNaN(x)) {
+                summary.minX = Math.min(summary.minX, x);
+                summary.maxX = Math.max(summary.maxX, x);
+            }
+            double y = this.underlying.getYValue(series, item);
+            if (Double.isNaN(y)) {
+                continue;
+            }
+            summary.minY = Math.min(summary.minY, y);
+            summary.maxY = Math.max(summary.maxY, y);
+            if (!summary.ascending) {
+                continue;
+            }
+            if (item >> 3 != block) {
+                // a block continued from an earlier append
+                block = item >> 3;
+                blockMin = minima[block] < 0 ? Double.NaN
+                        : this.underlying.getYValue(series, minima[block]);
+                blockMax = maxima[block] < 0 ? Double.NaN
+                        : this.underlying.getYValue(series, maxima[block]);
+            }
+            if (minima[block] < 0 || y < blockMin) {
+                minima[block] = item;
+                blockMin = y;
+            }
+            if (maxima[block] < 0 || y > blockMax) {
+                maxima[block] = item;
+                blockMax = y;
+            }
+        }
+        summary.itemCount = itemCount;
+        int blocks = (itemCount + 7) >> 3;
+        if (!summary.ascending || blocks < 2) {
+            summary.levels = 0;
+            if (!summary.ascending) {
+                summary.minima = new int[1][0];
+                summary.maxima = new int[1][0];
+            }
+            return;
+        }
+        int levels = 1;
+        for (int b = blocks; b > 1; b = (b + 1) >> 1) {
+            levels++;
+        }
+        for (int level = 1; level < levels; level++) {
+            int[] finerMinima = minima;
+            int[] finerMaxima = maxima;
+            int finerBlocks = blocks;
+            blocks = (blocks + 1) >> 1;
+            // the blocks at a level that is new are all computed
+            int first = level < summary.levels ? (start >> (level + 3)) : 0;
+            minima = summary.ensureBlocks(level, blocks);
+            maxima = summary.maxima[level];
+            for (int b = first; b < blocks; b++) {
+                int i = 2 * b;
+                int j = Math.min(i + 1, finerBlocks - 1);
+                minima[b] = select(series, finerMinima[i], finerMinima[j],
+                        true);
+                maxima[b] = select(series, finerMaxima[i], finerMaxima[j],
+                        false);
+            }
+        }
+        summary.levels = levels;
+    }
+
+    /**
+     * Returns the item (of two) with the lower or higher y-value.
+     *
+     * @param series  the series index.
+     * @param item1  the first item ({@code -1} for none).
+     * @param item2  the second item ({@code -1} for none).
+     * @param lower  select the lower y-value?
+     *
+     * @return The selected item ({@code -1} if both items are {@code -1}).
+     */
+    private int select(int series, int item1, int item2, boolean lower) {
+        if (item1 < 0 || item1 == item2) {
+            return item2;
+        }
+        if (item2 < 0) {
+            return item1;
+        }
+        double y1 = this.underlying.getYValue(series, item1);
+        double y2 = this.underlying.getYValue(series, item2);
+        return (lower ? y2 < y1 : y2 > y1) ? item2 : item1;
+    }
+
+    /**
+     * Receives notification of a change to the underlying dataset, updates
+     * or discards the summaries and passes the event on to the listeners
+     * registered with this dataset.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        updateSummaries(event.getInfo());
+        notifyListeners(event);
+    }
+
+    /**
+     * Updates the summaries after a change to the underlying dataset.  The
+     * summary for a series is extended if items were appended to the end of
+     * the series and discarded after any other change to the series, and
+     * all the summaries are discarded if the change does not say which
+     * series changed.
+     *
+     * @param info  the details of the change ({@code null} permitted).
+     */
+    private void updateSummaries(DatasetChangeInfo info) {
+        if (this.summaries == null) {
+            return;
+        }
+        int series = info != null ? info.getSeries() : -1;
+        if (series < 0 || series >= this.summaries.length
+                || this.summaries.length != this.underlying.getSeriesCount()) {
+            this.summaries = null;
+            return;
+        }
+        Summary summary = this.summaries[series];
+        if (summary == null) {
+            return;
+        }
+        int itemCount = this.underlying.getItemCount(series);
+        if (info.getType() == DatasetChangeType.ITEMS_ADDED
+                && info.getRemovedXRange() == null
+                && info.getRemovedYRange() == null
+                && info.getFirstItem() == summary.itemCount
+                && info.getLastItem() == itemCount - 1) {
+            appendItems(series, summary, itemCount);
+        } else {
+            this.summaries[series] = null;
+        }
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MultiResolutionXYDataset)) {
+            return false;
+        }
+        MultiResolutionXYDataset<S> that = (MultiResolutionXYDataset) obj;
+        return this.underlying.equals(that.underlying);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.underlying.hashCode();
+    }
+
+    /**
+     * Returns an independent copy of the dataset.  Note that:
+     * <ul>
+     * <li>the underlying dataset is only cloned if it implements the
+     * {@link PublicCloneable} interface;</li>
+     * <li>the listeners registered with this dataset are not carried over to
+     * the cloned dataset.</li>
+     * </ul>
+     *
+     * @return An independent copy of the dataset.
+     *
+     * @throws CloneNotSupportedException if the dataset cannot be cloned for
+     *         any reason.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        MultiResolutionXYDataset<S> clone
+                = (MultiResolutionXYDataset) super.clone();
+        if (this.underlying instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.underlying;
+            clone.underlying = (XYDataset) pc.clone();
+        }
+        clone.summaries = null;
+        clone.underlying.addChangeListener(clone);
+        return clone;
+    }
+
+    /**
+     * The summary levels for a series.
+     */
+    private static class Summary {
+
+        /** The number of items in the series. */
+        int itemCount;
+
+        /** A flag that indicates whether the x-values are ascending. */
+        boolean ascending = true;
+
+        /** The minimum x-value. */
+        double minX = Double.POSITIVE_INFINITY;
+
+        /** The maximum x-value. */
+        double maxX = Double.NEGATIVE_INFINITY;
+
+        /** The minimum y-value. */
+        double minY = Double.POSITIVE_INFINITY;
+
+        /** The maximum y-value. */
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        /**
+         * The number of summary levels in use (the arrays can hold more, as
+         * the first level is kept while the series has fewer than two
+         * blocks).
+         */
+        int levels;
+
+        /**
+         * The item with the minimum y-value in each block, for each level
+         * from 1 ({@code -1} for a block with no y-values).  The arrays can
+         * be longer than the number of blocks, to leave room for appends.
+         */
+        int[][] minima = new int[1][0];
+
+        /**
+         * The item with the maximum y-value in each block, for each level
+         * from 1 ({@code -1} for a block with no y-values).  The arrays can
+         * be longer than the number of blocks, to leave room for appends.
+         */
+        int[][] maxima = new int[1][0];
+
+        /**
+         * Returns the number of blocks at a level.
+         *
+         * @param level  the level (1 or greater).
+         *
+         * @return The number of blocks.
+         */
+        int getBlockCount(int level) {
+            int shift = level + 2;
+            return (this.itemCount + (1 << shift) - 1) >> shift;
+        }
+
+        /**
+         * Makes sure that the arrays for a level can hold the specified
+         * number of blocks, growing them (and filling the new blocks with
+         * {@code -1}) if necessary.
+         *
+         * @param index  the array index (the level minus 1).
+         * @param blocks  the number of blocks required.
+         *
+         * @return The array of minima for the level.
+         */
+        int[] ensureBlocks(int index, int blocks) {
+            if (index >= this.minima.length) {
+                this.minima = Arrays.copyOf(this.minima, index + 1);
+                this.maxima = Arrays.copyOf(this.maxima, index + 1);
+                this.minima[index] = new int[0];
+                this.maxima[index] = new int[0];
+            }
+            int length = this.minima[index].length;
+            if (blocks > length) {
+                int capacity = Math.max(blocks, length + (length >> 1));
+                this.minima[index] = Arrays.copyOf(this.minima[index],
+                        capacity);
+                this.maxima[index] = Arrays.copyOf(this.maxima[index],
+                        capacity);
+                Arrays.fill(this.minima[index], length, capacity, -1);
+                Arrays.fill(this.maxima[index], length, capacity, -1);
+            }
+            return this.minima[index];
+        }
+
+    }
+
+    /**
+     * A view of the underlying dataset that contains the items from one
+     * level for each series, four items per block (some items may be
+     * repeated).
+     */
+    private class LevelDataset extends AbstractXYDataset<S> {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2376091884163930551L;
+
+        /** The level for each series. */
+        private final int[] levels;
+
+        /** The summaries for the series. */
+        private final Summary[] summaries;
+
+        /**
+         * Creates a new view.
+         *
+         * @param levels  the level for each series.
+         */
+        LevelDataset(int[] levels) {
+            this.levels = levels;
+            this.summaries = new Summary[levels.length];
+            for (int s = 0; s < levels.length; s++) {
+                this.summaries[s] = getSummary(s);
+            }
+        }
+
+        /**
+         * Returns the dataset that this is a view of.
+         *
+         * @return The dataset.
+         */
+        MultiResolutionXYDataset<S> getSource() {
+            return MultiResolutionXYDataset.this;
+        }
+
+        @Override
+        public int getSeriesCount() {
+            return this.levels.length;
+        }
+
+        @Override
+        public S getSeriesKey(int series) {
+            return underlying.getSeriesKey(series);
+        }
+
+        @Override
+        public DomainOrder getDomainOrder() {
+            for (Summary summary : this.summaries) {
+                if (!summary.ascending) {
+                    return underlying.getDomainOrder();
+                }
+            }
+            return DomainOrder.ASCENDING;
+        }
+
+        @Override
+        public int getItemCount(int series) {
+            int level = this.levels[series];
+            if (level == 0) {
+                return this.summaries[series].itemCount;
+            }
+            return 4 * this.summaries[series].getBlockCount(level);
+        }
+
+        @Override
+        public Number getX(int series, int item) {
+            return underlying.getX(series, getUnderlyingItem(series, item));
+        }
+
+        @Override
+        public double getXValue(int series, int item) {
+            return underlying.getXValue(series,
+                    getUnderlyingItem(series, item));
+        }
+
+        @Override
+        public Number getY(int series, int item) {
+            return underlying.getY(series, getUnderlyingItem(series, item));
+        }
+
+        @Override
+        public double getYValue(int series, int item) {
+            return underlying.getYValue(series,
+                    getUnderlyingItem(series, item));
+        }
+
+        /**
+         * Returns the index of the item in the underlying dataset for an
+         * item in this view.
+         *
+         * @param series  the series index.
+         * @param item  the item index in this view.
+         *
+         * @return The item index in the underlying dataset.
+         */
+        private int getUnderlyingItem(int series, int item) {
+            int level = this.levels[series];
+            if (level == 0) {
+                return item;
+            }
+            Summary summary = this.summaries[series];
+            int block = item >> 2;
+            int first = block << (level + 2);
+            int slot = item & 3;
+            if (slot == 0) {
+                return first;
+            }
+            if (slot == 3) {
+                return Math.min(first + getBlockSize(level),
+                        summary.itemCount) - 1;
+            }
+            int min = summary.minima[level - 1][block];
+            int max = summary.maxima[level - 1][block];
+            if (min < 0) {
+                return first;
+            }
+            return slot == 1 ? Math.min(min, max) : Math.max(min, max);
+        }
+    }
+
+}
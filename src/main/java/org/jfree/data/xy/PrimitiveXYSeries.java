@@ -0,0 +1,1287 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * PrimitiveXYSeries.java
+ * ----------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.chart.internal.MinMaxIndex;
+import org.jfree.chart.internal.SlidingMinMax;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its x and y-values in primitive
+ * {@code double} arrays rather than as a list of {@link XYDataItem}
+ * objects.  For large series this uses a fraction of the memory required by
+ * the standard implementation, and the {@link #getXValue(int)} and
+ * {@link #getYValue(int)} methods can be used without creating any objects.
+ * <P>
+ * The series can be used anywhere an {@code XYSeries} is expected (for
+ * example in an {@link XYSeriesCollection}).  Methods that return
+ * {@link XYDataItem} instances create new items on demand, so changes made
+ * to those items are not reflected in the series.  A {@code null} y-value is
+ * stored as {@code Double.NaN}, and {@link #getY(int)} returns {@code null}
+ * for any {@code Double.NaN} y-value.
+ *
+ * @since 2.0.0
+ */
+public class PrimitiveXYSeries<K extends Comparable<K>> extends XYSeries<K>
+        implements Cloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4183574519726035362L;
+
+    /** The initial capacity for the value arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values. */
+    private double[] yValues;
+
+    /**
+     * The array index of the first item.  Items evicted from the front of
+     * the series just advance this offset, the arrays are compacted later.
+     */
+    private int offset;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Tracks the y-values in a rolling window so that the bounds can be
+     * updated in constant time when the first item is evicted ({@code null}
+     * when not in use or out of step with the data).
+     */
+    private transient SlidingMinMax yWindow;
+
+    /** Tracks the x-values in the same way, for an unsorted series only. */
+    private transient SlidingMinMax xWindow;
+
+    /**
+     * An index of the y-values for a sorted series, created on demand and
+     * discarded whenever the data changes.
+     */
+    private transient MinMaxIndex yIndex;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public PrimitiveXYSeries(K key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.  You can specify
+     * whether or not duplicate x-values are allowed for the series.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public PrimitiveXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        super(key, autoSort, allowDuplicateXValues);
+        this.data = new ItemList();
+        this.xValues = new double[INITIAL_CAPACITY];
+        this.yValues = new double[INITIAL_CAPACITY];
+        this.itemCount = 0;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     */
+    @Override
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     */
+    @Override
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any null and
+     * Double.NaN values.  This method returns Double.NaN if there is no
+     * smallest y-value (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the range of y-values for the items with x-values that fall
+     * within the specified range, ignoring any {@code Double.NaN} y-values.
+     *
+     * @param xRange  the range of x-values ({@code null} not permitted).
+     *
+     * @return The range of y-values ({@code null} if the series is empty).
+     */
+    @Override
+    public Range findValueRange(Range xRange) {
+        Args.nullNotPermitted(xRange, "xRange");
+        if (this.itemCount == 0) {
+            return null;
+        }
+        if (!getAutoSort()) {
+            return super.findValueRange(xRange);
+        }
+        int start = lowerBound(xRange.getLowerBound());
+        int end = upperBound(xRange.getUpperBound()) - 1;
+        if (start > end) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        if (this.yIndex == null) {
+            this.yIndex = new MinMaxIndex(
+                    i -> this.yValues[this.offset + i], this.itemCount);
+        }
+        return new Range(this.yIndex.getMinimum(start, end),
+                this.yIndex.getMaximum(start, end));
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.yIndex = null;
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that an item with the specified values has just been removed.
+     *
+     * @param x  the x-value of the item removed.
+     * @param y  the y-value of the item removed.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        invalidateWindows();
+        boolean itemContributesToXBounds = !Double.isNaN(x)
+                && (x <= this.minX || x >= this.maxX);
+        boolean itemContributesToYBounds = !Double.isNaN(y)
+                && (y <= this.minY || y >= this.maxY);
+        if (itemContributesToYBounds) {
+            findBoundsByIteration();
+        }
+        else if (itemContributesToXBounds) {
+            if (getAutoSort() && this.itemCount > 0) {
+                this.minX = this.xValues[this.offset];
+                this.maxX = this.xValues[this.offset + this.itemCount - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.
+     */
+    private void findBoundsByIteration() {
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        invalidateWindows();
+        if (getMaximumItemCount() < Integer.MAX_VALUE) {
+            this.yWindow = new SlidingMinMax();
+            if (!getAutoSort()) {
+                this.xWindow = new SlidingMinMax();
+            }
+        }
+        int end = this.offset + this.itemCount;
+        for (int i = this.offset; i < end; i++) {
+            updateBoundsForAppendedItem(this.xValues[i], this.yValues[i]);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an item that has been added at the end
+     * of the series.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     */
+    private void updateBoundsForAppendedItem(double x, double y) {
+        updateBoundsForAddedItem(x, y);
+        if (this.yWindow != null) {
+            this.yWindow.add(y);
+            if (this.xWindow != null) {
+                this.xWindow.add(x);
+            }
+        }
+    }
+
+    /**
+     * Removes items from the start of the series and updates the cached
+     * bounds, using the sliding windows if they are available.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        this.yIndex = null;
+        if (count == 1 && this.yWindow == null) {
+            double x = this.xValues[this.offset];
+            double y = this.yValues[this.offset];
+            removeRange(0, 1);
+            updateBoundsForRemovedItem(x, y);
+            return;
+        }
+        removeRange(0, count);
+        if (this.yWindow == null) {
+            findBoundsByIteration();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            this.yWindow.removeFirst();
+            if (this.xWindow != null) {
+                this.xWindow.removeFirst();
+            }
+        }
+        this.minY = this.yWindow.getMinimum();
+        this.maxY = this.yWindow.getMaximum();
+        if (this.xWindow != null) {
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+        }
+        else if (this.itemCount == 0) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+        else {
+            this.minX = this.xValues[this.offset];
+            this.maxX = this.xValues[this.offset + this.itemCount - 1];
+        }
+    }
+
+    /**
+     * Discards the sliding windows, after a change that is not an append or
+     * an eviction of the first item.
+     */
+    private void invalidateWindows() {
+        this.xWindow = null;
+        this.yWindow = null;
+        this.yIndex = null;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If you add a new item to the series such that the number of items will
+     * exceed the maximum item count, then the first element in the series is
+     * automatically removed, ensuring that the maximum item count is not
+     * exceeded.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        // trim the arrays first, the superclass cannot modify the item view
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeRange(0, remove);
+        }
+        super.setMaximumItemCount(maximum);
+        findBoundsByIteration();
+        if (remove > 0) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(double x, double y, boolean notify) {
+        DatasetChangeInfo info = insert(x, y);
+        if (notify) {
+            fireSeriesChanged(info);
+        } else {
+            seriesChangedWithoutNotification();
+        }
+    }
+
+    /**
+     * Adds new data to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value ({@code null} not permitted).
+     * @param y  the y-value ({@code null} permitted).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(Number x, Number y, boolean notify) {
+        Args.nullNotPermitted(x, "x");
+        add(x.doubleValue(), toDouble(y), notify);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item ({@code null} not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(XYDataItem item, boolean notify) {
+        Args.nullNotPermitted(item, "item");
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Inserts an item in the series (in the correct position if the
+     * {@code autoSort} flag is set) and removes the first item if the
+     * maximum item count is exceeded.  No change event is sent.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The details of the change, for a change event (possibly
+     *     {@code null}).
+     */
+    private DatasetChangeInfo insert(double x, double y) {
+        int index;
+        if (getAutoSort()) {
+            index = upperBound(x);
+            if (!getAllowDuplicateXValues() && index > 0
+                    && this.xValues[this.offset + index - 1] == x) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        ensureCapacity(this.itemCount + 1);
+        int i = this.offset + index;
+        if (index < this.itemCount) {
+            System.arraycopy(this.xValues, i, this.xValues, i + 1,
+                    this.itemCount - index);
+            System.arraycopy(this.yValues, i, this.yValues, i + 1,
+                    this.itemCount - index);
+        }
+        this.xValues[i] = x;
+        this.yValues[i] = y;
+        this.itemCount++;
+        if (index == this.itemCount - 1) {
+            updateBoundsForAppendedItem(x, y);
+        }
+        else {
+            invalidateWindows();
+            updateBoundsForAddedItem(x, y);
+        }
+        Range removedX = null;
+        Range removedY = null;
+        if (this.itemCount > getMaximumItemCount()) {
+            removedX = DatasetChangeInfo.rangeOf(this.xValues[this.offset]);
+            removedY = DatasetChangeInfo.rangeOf(this.yValues[this.offset]);
+            removeFirstItems(1);
+            index--;
+        }
+        return createAddInfo(x, y, index, removedX, removedY);
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    @Override
+    public void delete(int start, int end) {
+        checkIndex(start);
+        checkIndex(end);
+        removeRange(start, end + 1);
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        checkIndex(index);
+        double x = this.xValues[this.offset + index];
+        double y = this.yValues[this.offset + index];
+        removeRange(index, index + 1);
+        updateBoundsForRemovedItem(x, y);
+        fireSeriesChanged();
+        return createItem(x, y);
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.itemCount = 0;
+            this.offset = 0;
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    public XYDataItem getDataItem(int index) {
+        return getRawDataItem(index);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    XYDataItem getRawDataItem(int index) {
+        checkIndex(index);
+        return createItem(this.xValues[this.offset + index],
+                this.yValues[this.offset + index]);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never {@code null}).
+     */
+    @Override
+    public Number getX(int index) {
+        return getXValue(index);
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.offset + index];
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly {@code Double.NaN}).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.offset + index];
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value ({@code null} permitted).
+     */
+    @Override
+    public void updateByIndex(int index, Number y) {
+        checkIndex(index);
+        setYValue(index, toDouble(y));
+        fireSeriesChanged();
+    }
+
+    /**
+     * Sets the y-value at the specified index and updates the cached bounds.
+     * No change event is sent.
+     *
+     * @param index  the index.
+     * @param y  the new y-value.
+     */
+    private void setYValue(int index, double y) {
+        double oldY = this.yValues[this.offset + index];
+        this.yValues[this.offset + index] = y;
+        invalidateWindows();
+        if (!Double.isNaN(oldY) && (oldY <= this.minY || oldY >= this.maxY)) {
+            findBoundsByIteration();
+        }
+        else {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item ({@code null} not permitted).
+     *
+     * @return A copy of the overwritten data item, or {@code null} if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(XYDataItem item) {
+        Args.nullNotPermitted(item, "item");
+        if (getAllowDuplicateXValues()) {
+            add(item);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(item.getXValue());
+        if (index >= 0) {
+            overwritten = createItem(this.xValues[this.offset + index],
+                    this.yValues[this.offset + index]);
+            setYValue(index, item.getYValue());
+        }
+        else {
+            insert(item.getXValue(), item.getYValue());
+        }
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The
+     * batch is merged with the existing items in a single pass over the
+     * arrays.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, same length as
+     *     {@code x}).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void addAll(double[] x, double[] y, boolean notify) {
+        if (addValues(x, y, false)) {
+            if (notify) {
+                fireSeriesChanged();
+            } else {
+                seriesChangedWithoutNotification();
+            }
+        }
+    }
+
+    /**
+     * Adds or updates a batch of data items and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, same length as
+     *     {@code x}).
+     */
+    @Override
+    public void addOrUpdateAll(double[] x, double[] y) {
+        if (addValues(x, y, !getAllowDuplicateXValues())) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds (or, if {@code update} is {@code true}, adds or updates) a batch
+     * of values, trims the series to the maximum item count and updates the
+     * cached bounds.  No change event is sent.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted).
+     * @param update  update the y-value of existing items with the same
+     *     x-value (only used when duplicates are not permitted)?
+     *
+     * @return A boolean indicating whether or not the series was changed.
+     */
+    private boolean addValues(double[] x, double[] y, boolean update) {
+        Args.nullNotPermitted(x, "x");
+        Args.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        if (x.length == 0) {
+            return false;
+        }
+        double[][] batch = new double[][] {x, y};
+        boolean rescan;
+        boolean appended = true;
+        if (getAutoSort()) {
+            batch = sortBatch(batch);
+            if (!getAllowDuplicateXValues()) {
+                batch = removeDuplicates(batch, update);
+            }
+            if (this.itemCount > 0) {
+                double last = this.xValues[this.offset + this.itemCount - 1];
+                appended = batch[0][0] > last || (getAllowDuplicateXValues()
+                        && batch[0][0] == last);
+            }
+            rescan = mergeSorted(batch[0], batch[1], update);
+        }
+        else {
+            rescan = appendUnsorted(x, y, update);
+        }
+        int remove = this.itemCount - getMaximumItemCount();
+        if (rescan) {
+            if (remove > 0) {
+                removeRange(0, remove);
+            }
+            findBoundsByIteration();
+            return true;
+        }
+        if (!appended) {
+            invalidateWindows();
+        }
+        for (int i = 0; i < batch[0].length; i++) {
+            if (appended) {
+                updateBoundsForAppendedItem(batch[0][i], batch[1][i]);
+            }
+            else {
+                updateBoundsForAddedItem(batch[0][i], batch[1][i]);
+            }
+        }
+        if (remove > 0) {
+            removeFirstItems(remove);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the batch sorted by x-value.  The sort is stable, and the
+     * arrays are returned unchanged if they are already in order.
+     *
+     * @param batch  the x and y-values.
+     *
+     * @return The sorted x and y-values.
+     */
+    private static double[][] sortBatch(double[][] batch) {
+        double[] x = batch[0];
+        boolean sorted = true;
+        for (int i = 1; i < x.length && sorted; i++) {
+            sorted = x[i - 1] <= x[i];
+        }
+        if (sorted) {
+            return batch;
+        }
+        Integer[] order = new Integer[x.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> Double.compare(x[i1], x[i2]));
+        double[][] result = new double[2][x.length];
+        for (int i = 0; i < order.length; i++) {
+            result[0][i] = x[order[i]];
+            result[1][i] = batch[1][order[i]];
+        }
+        return result;
+    }
+
+    /**
+     * Removes items with duplicate x-values from a sorted batch, keeping the
+     * last item for each x-value if {@code update} is {@code true} and
+     * otherwise throwing an exception.
+     *
+     * @param batch  the sorted x and y-values.
+     * @param update  keep the last of any duplicates?
+     *
+     * @return The x and y-values without duplicates.
+     */
+    private static double[][] removeDuplicates(double[][] batch,
+            boolean update) {
+        double[] x = batch[0];
+        double[] y = batch[1];
+        double[] rx = new double[x.length];
+        double[] ry = new double[y.length];
+        int count = 0;
+        for (int i = 0; i < x.length; i++) {
+            if (count > 0 && rx[count - 1] == x[i]) {
+                if (!update) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                ry[count - 1] = y[i];
+            }
+            else {
+                rx[count] = x[i];
+                ry[count] = y[i];
+                count++;
+            }
+        }
+        return new double[][] {Arrays.copyOf(rx, count),
+                Arrays.copyOf(ry, count)};
+    }
+
+    /**
+     * Merges a sorted batch into the series in a single pass.  New items are
+     * placed after existing items with the same x-value.
+     *
+     * @param x  the sorted x-values.
+     * @param y  the y-values.
+     * @param update  update existing items with the same x-value?
+     *
+     * @return A boolean indicating whether existing items were updated (in
+     *     which case the bounds must be recalculated).
+     */
+    private boolean mergeSorted(double[] x, double[] y, boolean update) {
+        int n = this.itemCount;
+        int k = x.length;
+        double last = n > 0 ? this.xValues[this.offset + n - 1] : Double.NaN;
+        if (n == 0 || x[0] > last
+                || (getAllowDuplicateXValues() && x[0] == last)) {
+            // the common case, the batch follows the existing data
+            ensureCapacity(n + k);
+            System.arraycopy(x, 0, this.xValues, this.offset + n, k);
+            System.arraycopy(y, 0, this.yValues, this.offset + n, k);
+            this.itemCount += k;
+            return false;
+        }
+        boolean allowDuplicates = getAllowDuplicateXValues();
+        int capacity = Math.max(INITIAL_CAPACITY, n + k);
+        double[] mx = new double[capacity];
+        double[] my = new double[capacity];
+        boolean updated = false;
+        int count = 0;
+        int i = this.offset;
+        int end = this.offset + n;
+        for (int j = 0; j < k; j++) {
+            while (i < end && (this.xValues[i] < x[j]
+                    || (allowDuplicates && this.xValues[i] == x[j]))) {
+                mx[count] = this.xValues[i];
+                my[count++] = this.yValues[i++];
+            }
+            if (!allowDuplicates && i < end && this.xValues[i] == x[j]) {
+                if (!update) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                i++;
+                updated = true;
+            }
+            mx[count] = x[j];
+            my[count++] = y[j];
+        }
+        System.arraycopy(this.xValues, i, mx, count, end - i);
+        System.arraycopy(this.yValues, i, my, count, end - i);
+        count += end - i;
+        this.xValues = mx;
+        this.yValues = my;
+        this.offset = 0;
+        this.itemCount = count;
+        return updated;
+    }
+
+    /**
+     * Appends a batch to an unsorted series, checking for duplicates with a
+     * hash lookup if necessary.
+     *
+     * @param x  the x-values.
+     * @param y  the y-values.
+     * @param update  update existing items with the same x-value?
+     *
+     * @return A boolean indicating whether existing items were updated (in
+     *     which case the bounds must be recalculated).
+     */
+    private boolean appendUnsorted(double[] x, double[] y, boolean update) {
+        if (!getAllowDuplicateXValues()) {
+            Map<Double, Integer> indices = new HashMap<>();
+            for (int i = 0; i < this.itemCount; i++) {
+                indices.put(this.xValues[this.offset + i], i);
+            }
+            if (update) {
+                boolean updated = false;
+                for (int i = 0; i < x.length; i++) {
+                    Integer index = indices.get(x[i]);
+                    if (index != null) {
+                        this.yValues[this.offset + index] = y[i];
+                        updated = true;
+                    }
+                    else {
+                        indices.put(x[i], this.itemCount);
+                        ensureCapacity(this.itemCount + 1);
+                        this.xValues[this.offset + this.itemCount] = x[i];
+                        this.yValues[this.offset + this.itemCount] = y[i];
+                        this.itemCount++;
+                    }
+                }
+                return updated;
+            }
+            Set<Double> seen = new HashSet<>();
+            for (double xx : x) {
+                if (indices.containsKey(xx) || !seen.add(xx)) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        ensureCapacity(this.itemCount + x.length);
+        System.arraycopy(x, 0, this.xValues, this.offset + this.itemCount,
+                x.length);
+        System.arraycopy(y, 0, this.yValues, this.offset + this.itemCount,
+                y.length);
+        this.itemCount += x.length;
+        return false;
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  Be
+     * aware that for an unsorted series, the index is found by iterating
+     * through all items in the series.
+     *
+     * @param x  the x-value ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Number x) {
+        Args.nullNotPermitted(x, "x");
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the negative index encodes the insertion point, in the
+     * same way as {@link Arrays#binarySearch(double[], double)}.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int indexOf(double x) {
+        if (getAutoSort()) {
+            int index = Arrays.binarySearch(this.xValues, this.offset,
+                    this.offset + this.itemCount, x);
+            return index >= 0 ? index - this.offset : index + this.offset;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.compare(this.xValues[this.offset + i], x) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than or
+     * equal to {@code x} (the series must be sorted).
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    private int lowerBound(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[this.offset + mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * {@code x} (the series must be sorted).
+     *
+     * @param x  the x-value.
+     *
+     * @return The insertion index.
+     */
+    private int upperBound(double x) {
+        int low = 0;
+        int high = this.itemCount;
+        // the common case is appending to the end of the series
+        if (high == 0 || this.xValues[this.offset + high - 1] <= x) {
+            return high;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[this.offset + mid] <= x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    @Override
+    public double[][] toArray() {
+        int end = this.offset + this.itemCount;
+        return new double[][] {
+                Arrays.copyOfRange(this.xValues, this.offset, end),
+                Arrays.copyOfRange(this.yValues, this.offset, end)};
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        PrimitiveXYSeries<K> clone = (PrimitiveXYSeries<K>) super.clone();
+        clone.data = clone.new ItemList();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        clone.invalidateWindows();
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public XYSeries<K> createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        PrimitiveXYSeries<K> copy = (PrimitiveXYSeries<K>) clone();
+        if (this.itemCount > 0) {
+            copy.xValues = Arrays.copyOfRange(this.xValues,
+                    this.offset + start, this.offset + end + 1);
+            copy.yValues = Arrays.copyOfRange(this.yValues,
+                    this.offset + start, this.offset + end + 1);
+            copy.offset = 0;
+            copy.itemCount = end - start + 1;
+        }
+        copy.findBoundsByIteration();
+        return copy;
+    }
+
+    /**
+     * Ensures the value arrays can hold at least the specified number of
+     * items after the current offset.  If the items occupy less than half of
+     * the arrays they are moved to the front, otherwise the arrays grow.
+     * In a rolling window the arrays therefore settle at around twice the
+     * window size, and each compaction is paid for by the appends since the
+     * last one.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int length = this.xValues.length;
+        if (this.offset + capacity <= length) {
+            return;
+        }
+        if (capacity > length / 2) {
+            int newLength = Math.max(capacity, length + (length >> 1));
+            double[] x = new double[newLength];
+            double[] y = new double[newLength];
+            System.arraycopy(this.xValues, this.offset, x, 0, this.itemCount);
+            System.arraycopy(this.yValues, this.offset, y, 0, this.itemCount);
+            this.xValues = x;
+            this.yValues = y;
+        }
+        else {
+            System.arraycopy(this.xValues, this.offset, this.xValues, 0,
+                    this.itemCount);
+            System.arraycopy(this.yValues, this.offset, this.yValues, 0,
+                    this.itemCount);
+        }
+        this.offset = 0;
+    }
+
+    /**
+     * Removes the items from {@code start} (inclusive) to {@code end}
+     * (exclusive).  Removing items from the front of the series just
+     * advances the offset.  Bounds are not updated and no event is sent.
+     *
+     * @param start  the start index.
+     * @param end  the end index.
+     */
+    private void removeRange(int start, int end) {
+        if (start == 0) {
+            this.offset += end;
+        }
+        else {
+            int tail = this.itemCount - end;
+            System.arraycopy(this.xValues, this.offset + end, this.xValues,
+                    this.offset + start, tail);
+            System.arraycopy(this.yValues, this.offset + end, this.yValues,
+                    this.offset + start, tail);
+        }
+        this.itemCount -= end - start;
+        if (this.itemCount == 0) {
+            this.offset = 0;
+        }
+    }
+
+    /**
+     * Checks that an index is in the range {@code 0} to
+     * {@code getItemCount() - 1}.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Creates a data item for the specified values, mapping
+     * {@code Double.NaN} y-values to {@code null}.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return A new data item.
+     */
+    private static XYDataItem createItem(double x, double y) {
+        return new XYDataItem(Double.valueOf(x),
+                Double.isNaN(y) ? null : Double.valueOf(y));
+    }
+
+    /**
+     * Returns the double value of a number, or {@code Double.NaN} for
+     * {@code null}.
+     *
+     * @param n  the number ({@code null} permitted).
+     *
+     * @return The value.
+     */
+    private static double toDouble(Number n) {
+        return n == null ? Double.NaN : n.doubleValue();
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * A read-only list view of the series data, installed as the inherited
+     * {@code data} field so that code written against the superclass still
+     * sees the items.  Data items are created on demand.
+     */
+    private class ItemList extends AbstractList<XYDataItem>
+            implements RandomAccess, Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = -2358420364152349516L;
+
+        @Override
+        public XYDataItem get(int index) {
+            return getRawDataItem(index);
+        }
+
+        @Override
+        public int size() {
+            return itemCount;
+        }
+    }
+
+}
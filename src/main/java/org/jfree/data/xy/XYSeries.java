@@ -43,12 +43,22 @@ package org.jfree.data.xy;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.internal.MinMaxIndex;
+import org.jfree.chart.internal.RingBufferList;
+import org.jfree.chart.internal.SlidingMinMax;
+import org.jfree.data.Range;
 
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -97,6 +107,29 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * Tracks the y-values when the series is a rolling window (that is, when
+     * a maximum item count is set) so that the bounds can be updated in
+     * constant time when the first item is evicted.  This is {@code null}
+     * when not in use or when it is out of step with the data (it is rebuilt
+     * the next time the bounds are found by iteration).
+     */
+    private transient SlidingMinMax yWindow;
+
+    /**
+     * Tracks the x-values in the same way as {@code yWindow}, but only for
+     * an unsorted series (for a sorted series the x-bounds are given by the
+     * first and last items).
+     */
+    private transient SlidingMinMax xWindow;
+
+    /**
+     * An index of the y-values for a sorted series, used to find the range
+     * of y-values for a range of x-values.  It is created on demand and
+     * discarded whenever the data changes.
+     */
+    private transient MinMaxIndex yIndex;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -201,6 +234,80 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         return this.maxY;
     }
 
+    /**
+     * Returns the range of y-values for the items with x-values that fall
+     * within the specified range, ignoring any {@code null} and
+     * {@code Double.NaN} y-values.  For a sorted series the items are
+     * located by binary search and the y-range is found using an index that
+     * is built on the first call after the data changes, so repeated queries
+     * (for example, when auto-ranging to the visible part of a large series)
+     * take logarithmic time.  For an unsorted series all items are checked.
+     *
+     * @param xRange  the range of x-values ({@code null} not permitted).
+     *
+     * @return The range of y-values ({@code null} if the series is empty,
+     *     and a range with {@code Double.NaN} bounds if there are no
+     *     y-values within the x-range).
+     *
+     * @since 2.0.0
+     */
+    public Range findValueRange(Range xRange) {
+        Args.nullNotPermitted(xRange, "xRange");
+        int count = getItemCount();
+        if (count == 0) {
+            return null;
+        }
+        if (!this.autoSort) {
+            double lowY = Double.NaN;
+            double highY = Double.NaN;
+            for (int i = 0; i < count; i++) {
+                if (xRange.contains(getXValue(i))) {
+                    double y = getYValue(i);
+                    lowY = minIgnoreNaN(lowY, y);
+                    highY = maxIgnoreNaN(highY, y);
+                }
+            }
+            return new Range(lowY, highY);
+        }
+        int start = firstIndexAfter(xRange.getLowerBound(), false);
+        int end = firstIndexAfter(xRange.getUpperBound(), true) - 1;
+        if (start > end) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        if (this.yIndex == null) {
+            this.yIndex = new MinMaxIndex(i -> this.data.get(i).getYValue(),
+                    count);
+        }
+        return new Range(this.yIndex.getMinimum(start, end),
+                this.yIndex.getMaximum(start, end));
+    }
+
+    /**
+     * Returns the index of the first item in a sorted series with an
+     * x-value greater than (or, if {@code inclusive} is {@code false},
+     * greater than or equal to) the specified value.
+     *
+     * @param x  the x-value.
+     * @param inclusive  skip items with an x-value equal to {@code x}?
+     *
+     * @return The index (equal to the item count if there is no such item).
+     */
+    private int firstIndexAfter(double x, boolean inclusive) {
+        int low = 0;
+        int high = this.data.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            double v = this.data.get(mid).getXValue();
+            if (v < x || (inclusive && v == x)) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -209,6 +316,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * @since 1.0.13
      */
     private void updateBoundsForAddedItem(XYDataItem item) {
+        this.yIndex = null;
         double x = item.getXValue();
         this.minX = minIgnoreNaN(this.minX, x);
         this.maxX = maxIgnoreNaN(this.maxX, x);
@@ -228,6 +336,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * @since 1.0.13
      */
     private void updateBoundsForRemovedItem(XYDataItem item) {
+        invalidateWindows();
         boolean itemContributesToXBounds = false;
         boolean itemContributesToYBounds = false;
         double x = item.getXValue();
@@ -269,11 +378,100 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         this.maxX = Double.NaN;
         this.minY = Double.NaN;
         this.maxY = Double.NaN;
+        invalidateWindows();
+        if (this.maximumItemCount < Integer.MAX_VALUE) {
+            this.yWindow = new SlidingMinMax();
+            if (!this.autoSort) {
+                this.xWindow = new SlidingMinMax();
+            }
+        }
         for (XYDataItem item : this.data) {
+            updateBoundsForAppendedItem(item);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an item that has been added at the end
+     * of the series.
+     *
+     * @param item  the item ({@code null} not permitted).
+     */
+    private void updateBoundsForAppendedItem(XYDataItem item) {
+        updateBoundsForAddedItem(item);
+        if (this.yWindow != null) {
+            this.yWindow.add(item.getYValue());
+            if (this.xWindow != null) {
+                this.xWindow.add(item.getXValue());
+            }
+        }
+    }
+
+    /**
+     * Updates the cached bounds for an item that has been inserted into the
+     * series.  If the item was not appended, the sliding windows are
+     * discarded.
+     *
+     * @param item  the item ({@code null} not permitted).
+     */
+    private void updateBoundsForInsertedItem(XYDataItem item) {
+        if (this.data.get(this.data.size() - 1) == item) {
+            updateBoundsForAppendedItem(item);
+        }
+        else {
+            invalidateWindows();
             updateBoundsForAddedItem(item);
         }
     }
 
+    /**
+     * Removes items from the start of the series and updates the cached
+     * bounds, using the sliding windows if they are available.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        this.yIndex = null;
+        if (count == 1 && this.yWindow == null) {
+            updateBoundsForRemovedItem(this.data.remove(0));
+            return;
+        }
+        this.data.subList(0, count).clear();
+        if (this.yWindow == null) {
+            findBoundsByIteration();
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            this.yWindow.removeFirst();
+            if (this.xWindow != null) {
+                this.xWindow.removeFirst();
+            }
+        }
+        this.minY = this.yWindow.getMinimum();
+        this.maxY = this.yWindow.getMaximum();
+        if (this.xWindow != null) {
+            this.minX = this.xWindow.getMinimum();
+            this.maxX = this.xWindow.getMaximum();
+        }
+        else if (this.data.isEmpty()) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+        }
+        else {
+            this.minX = this.data.get(0).getXValue();
+            this.maxX = this.data.get(this.data.size() - 1).getXValue();
+        }
+    }
+
+    /**
+     * Discards the sliding windows (and the y-value index), after a change
+     * that is not an append or an eviction of the first item.
+     */
+    private void invalidateWindows() {
+        this.xWindow = null;
+        this.yWindow = null;
+        this.yIndex = null;
+    }
+
     /**
      * Returns the flag that controls whether the items in the series are
      * automatically sorted.  There is no setter for this flag, it must be
@@ -340,15 +538,25 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * but if it is applied later, it may cause some items to be removed from
      * the series (in which case a {@link SeriesChangeEvent} will be sent to
      * all registered listeners).
+     * <p>
+     * When a maximum is set, the series switches to a circular buffer for
+     * its item storage, so that appending to a full series and evicting the
+     * first item are both constant time operations.
      *
      * @param maximum  the maximum number of items for the series.
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
+        if (maximum < Integer.MAX_VALUE
+                && this.data.getClass() == ArrayList.class) {
+            this.data = new RingBufferList<>(this.data);
+        }
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
-            findBoundsByIteration();
+        }
+        findBoundsByIteration();
+        if (remove > 0) {
             fireSeriesChanged();
         }
     }
@@ -466,10 +674,12 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public void add(XYDataItem item, boolean notify) {
         Args.nullNotPermitted(item, "item");
         item = (XYDataItem) item.clone();
+        int inserted;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
-                this.data.add(-index - 1, item);
+                inserted = -index - 1;
+                this.data.add(inserted, item);
             }
             else {
                 if (this.allowDuplicateXValues) {
@@ -485,6 +695,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
                     else {
                         this.data.add(item);
                     }
+                    inserted = index;
                 }
                 else {
                     throw new SeriesException("X-value already exists.");
@@ -501,15 +712,69 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
                 }
             }
             this.data.add(item);
+            inserted = this.data.size() - 1;
         }
-        updateBoundsForAddedItem(item);
+        updateBoundsForInsertedItem(item);
+        XYDataItem dropped = null;
         if (getItemCount() > this.maximumItemCount) {
-            XYDataItem removed = this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            dropped = this.data.get(0);
+            removeFirstItems(1);
+            inserted--;
         }
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(createAddInfo(item, inserted, dropped));
+        } else {
+            seriesChangedWithoutNotification();
+        }
+    }
+
+    /**
+     * Returns the details of an item addition for a change event, or
+     * {@code null} if the new item was itself dropped to respect the
+     * maximum item count.
+     *
+     * @param item  the item added.
+     * @param index  the index of the item after the change.
+     * @param dropped  the item dropped from the start of the series
+     *     ({@code null} permitted).
+     *
+     * @return The change details (possibly {@code null}).
+     */
+    private DatasetChangeInfo createAddInfo(XYDataItem item, int index,
+            XYDataItem dropped) {
+        Range removedX = null;
+        Range removedY = null;
+        if (dropped != null) {
+            removedX = DatasetChangeInfo.rangeOf(dropped.getXValue());
+            removedY = DatasetChangeInfo.rangeOf(dropped.getYValue());
         }
+        return createAddInfo(item.getXValue(), item.getYValue(), index,
+                removedX, removedY);
+    }
+
+    /**
+     * Returns the details of an item addition for a change event, or
+     * {@code null} if the new item was itself dropped to respect the
+     * maximum item count.
+     *
+     * @param x  the x-value of the item added.
+     * @param y  the y-value of the item added.
+     * @param index  the index of the item after the change.
+     * @param removedX  the x-value of the item dropped from the start of
+     *     the series ({@code null} if there is none).
+     * @param removedY  the y-value of the item dropped from the start of
+     *     the series ({@code null} if there is none).
+     *
+     * @return The change details (possibly {@code null}).
+     */
+    static DatasetChangeInfo createAddInfo(double x, double y, int index,
+            Range removedX, Range removedY) {
+        if (index < 0) {
+            return null;
+        }
+        return new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1, index,
+                index, DatasetChangeInfo.rangeOf(x),
+                DatasetChangeInfo.rangeOf(y), removedX, removedY);
     }
 
     /**
@@ -536,7 +801,10 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public XYDataItem remove(int index) {
         XYDataItem removed = this.data.remove(index);
         updateBoundsForRemovedItem(removed);
-        fireSeriesChanged();
+        fireSeriesChanged(new DatasetChangeInfo(DatasetChangeType.ITEMS_REMOVED,
+                -1, index, index, null, null,
+                DatasetChangeInfo.rangeOf(removed.getXValue()),
+                DatasetChangeInfo.rangeOf(removed.getYValue())));
         return removed;
     }
 
@@ -561,10 +829,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
-            this.minX = Double.NaN;
-            this.maxX = Double.NaN;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
+            findBoundsByIteration();
             fireSeriesChanged();
         }
     }
@@ -616,6 +881,34 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value (as a double primitive) at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @since 2.0.0
+     */
+    public double getXValue(int index) {
+        return getRawDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) at the specified index.
+     * If the y-value is {@code null}, this method returns
+     * {@code Double.NaN}.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @since 2.0.0
+     */
+    public double getYValue(int index) {
+        return getRawDataItem(index).getYValue();
+    }
+
     /**
      * A function to find the minimum of two values, but ignoring any
      * Double.NaN values.
@@ -665,6 +958,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void updateByIndex(int index, Number y) {
         XYDataItem item = getRawDataItem(index);
+        invalidateWindows();
 
         // figure out if we need to iterate through all the y-values
         boolean iterate = false;
@@ -682,7 +976,10 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             this.minY = minIgnoreNaN(this.minY, yy);
             this.maxY = maxIgnoreNaN(this.maxY, yy);
         }
-        fireSeriesChanged();
+        fireSeriesChanged(new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED,
+                -1, index, index, DatasetChangeInfo.rangeOf(item.getXValue()),
+                DatasetChangeInfo.rangeOf(item.getYValue()), null,
+                DatasetChangeInfo.rangeOf(oldY)));
     }
 
     /**
@@ -756,6 +1053,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         if (index >= 0) {
             XYDataItem existing = this.data.get(index);
             overwritten = (XYDataItem) existing.clone();
+            invalidateWindows();
             // figure out if we need to iterate through all the y-values
             boolean iterate = false;
             double oldY = existing.getYValue();
@@ -785,18 +1083,292 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             else {
                 this.data.add(item);
             }
-            updateBoundsForAddedItem(item);
+            updateBoundsForInsertedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
-                XYDataItem removed = this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                removeFirstItems(1);
             }
         }
         fireSeriesChanged();
         return overwritten;
     }
 
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, same length as
+     *     {@code x}).
+     *
+     * @throws SeriesException if the batch contains an x-value that is
+     *     already present (in the series or in the batch) and the
+     *     {@code allowDuplicateXValues} flag is not set for this series.
+     *
+     * @since 2.0.0
+     */
+    public void addAll(double[] x, double[] y) {
+        addAll(x, y, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  For a
+     * sorted series the batch is sorted (this is a linear time operation if
+     * the batch is already in order) and merged with the existing items in
+     * a single pass, and the cached bounds are updated once for the whole
+     * batch.  If the series is not changed because of an exception, no items
+     * are added.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, same length as
+     *     {@code x}).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the batch contains an x-value that is
+     *     already present (in the series or in the batch) and the
+     *     {@code allowDuplicateXValues} flag is not set for this series.
+     *
+     * @since 2.0.0
+     */
+    public void addAll(double[] x, double[] y, boolean notify) {
+        if (addItems(createBatch(x, y), false)) {
+            if (notify) {
+                fireSeriesChanged();
+            } else {
+                seriesChangedWithoutNotification();
+            }
+        }
+    }
+
+    /**
+     * Adds or updates a batch of data items and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.  Where the
+     * series does not permit duplicate x-values, an item in the batch that
+     * has the same x-value as an existing item (or a later item in the batch
+     * with the same x-value) replaces that item's y-value.  Where duplicates
+     * are permitted, this method is equivalent to
+     * {@link #addAll(double[], double[])}.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, same length as
+     *     {@code x}).
+     *
+     * @since 2.0.0
+     */
+    public void addOrUpdateAll(double[] x, double[] y) {
+        if (addItems(createBatch(x, y), !this.allowDuplicateXValues)) {
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Creates a list of data items from arrays of x and y-values.
+     *
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted).
+     *
+     * @return The list of items.
+     */
+    private List<XYDataItem> createBatch(double[] x, double[] y) {
+        Args.nullNotPermitted(x, "x");
+        Args.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        List<XYDataItem> batch = new ArrayList<>(x.length);
+        for (int i = 0; i < x.length; i++) {
+            batch.add(new XYDataItem(x[i], y[i]));
+        }
+        return batch;
+    }
+
+    /**
+     * Adds (or, if {@code update} is {@code true}, adds or updates) a batch
+     * of items, trims the series to the maximum item count and updates the
+     * cached bounds.  No change event is sent.
+     *
+     * @param batch  the items (will be sorted for a sorted series).
+     * @param update  update the y-value of existing items with the same
+     *     x-value (only used when duplicates are not permitted)?
+     *
+     * @return A boolean indicating whether or not the series was changed.
+     */
+    private boolean addItems(List<XYDataItem> batch, boolean update) {
+        if (batch.isEmpty()) {
+            return false;
+        }
+        boolean rescan;
+        if (this.autoSort) {
+            batch.sort(null); // stable, so duplicates keep their batch order
+            if (!this.allowDuplicateXValues) {
+                batch = removeDuplicates(batch, update);
+            }
+            rescan = mergeSorted(batch, update);
+        }
+        else {
+            rescan = appendUnsorted(batch, update);
+        }
+        int remove = this.data.size() - this.maximumItemCount;
+        if (rescan) {
+            if (remove > 0) {
+                this.data.subList(0, remove).clear();
+            }
+            findBoundsByIteration();
+            return true;
+        }
+        // the batch items were all inserted, in order, so they are at the
+        // end of the list if the batch was appended
+        boolean appended = this.data.get(this.data.size() - batch.size())
+                == batch.get(0);
+        if (!appended) {
+            invalidateWindows();
+        }
+        for (XYDataItem item : batch) {
+            if (appended) {
+                updateBoundsForAppendedItem(item);
+            }
+            else {
+                updateBoundsForAddedItem(item);
+            }
+        }
+        if (remove > 0) {
+            removeFirstItems(remove);
+        }
+        return true;
+    }
+
+    /**
+     * Removes items with duplicate x-values from a sorted batch, keeping the
+     * last item for each x-value if {@code update} is {@code true} and
+     * otherwise throwing an exception.
+     *
+     * @param batch  the sorted batch.
+     * @param update  keep the last of any duplicates?
+     *
+     * @return The batch without duplicates.
+     */
+    private List<XYDataItem> removeDuplicates(List<XYDataItem> batch,
+            boolean update) {
+        List<XYDataItem> result = new ArrayList<>(batch.size());
+        for (XYDataItem item : batch) {
+            int last = result.size() - 1;
+            if (last >= 0 && result.get(last).compareTo(item) == 0) {
+                if (!update) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                result.set(last, item);
+            }
+            else {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Merges a sorted batch into the (sorted) series data in a single pass.
+     * New items are placed after existing items with the same x-value.
+     *
+     * @param batch  the sorted batch (without duplicates if the series does
+     *     not permit them).
+     * @param update  update existing items with the same x-value?
+     *
+     * @return A boolean indicating whether existing items were updated (in
+     *     which case the bounds must be recalculated).
+     */
+    private boolean mergeSorted(List<XYDataItem> batch, boolean update) {
+        int n = this.data.size();
+        if (n == 0 || batch.get(0).compareTo(this.data.get(n - 1)) > 0
+                || (this.allowDuplicateXValues
+                && batch.get(0).compareTo(this.data.get(n - 1)) == 0)) {
+            // the common case, the batch follows the existing data
+            this.data.addAll(batch);
+            return false;
+        }
+        boolean updated = false;
+        List<XYDataItem> merged = new ArrayList<>(n + batch.size());
+        int i = 0;
+        for (XYDataItem item : batch) {
+            while (i < n && this.data.get(i).compareTo(item) < 0) {
+                merged.add(this.data.get(i++));
+            }
+            if (this.allowDuplicateXValues) {
+                while (i < n && this.data.get(i).compareTo(item) == 0) {
+                    merged.add(this.data.get(i++));
+                }
+                merged.add(item);
+            }
+            else if (i < n && this.data.get(i).compareTo(item) == 0) {
+                if (!update) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                merged.add(item);
+                i++;
+                updated = true;
+            }
+            else {
+                merged.add(item);
+            }
+        }
+        while (i < n) {
+            merged.add(this.data.get(i++));
+        }
+        // replace the contents rather than the list, to keep the list type
+        this.data.clear();
+        this.data.addAll(merged);
+        return updated;
+    }
+
+    /**
+     * Appends a batch to an unsorted series, checking for duplicates with a
+     * hash lookup if necessary.
+     *
+     * @param batch  the batch.
+     * @param update  update existing items with the same x-value?
+     *
+     * @return A boolean indicating whether existing items were updated (in
+     *     which case the bounds must be recalculated).
+     */
+    private boolean appendUnsorted(List<XYDataItem> batch, boolean update) {
+        if (this.allowDuplicateXValues) {
+            this.data.addAll(batch);
+            return false;
+        }
+        Map<Double, Integer> indices = new HashMap<>();
+        for (int i = 0; i < this.data.size(); i++) {
+            indices.put(this.data.get(i).getXValue(), i);
+        }
+        if (!update) {
+            Set<Double> seen = new HashSet<>();
+            for (XYDataItem item : batch) {
+                Double x = item.getXValue();
+                if (indices.containsKey(x) || !seen.add(x)) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+            this.data.addAll(batch);
+            return false;
+        }
+        boolean updated = false;
+        for (XYDataItem item : batch) {
+            Integer index = indices.get(item.getXValue());
+            if (index != null) {
+                this.data.get(index).setY(item.getY());
+                updated = true;
+            }
+            else {
+                indices.put(item.getXValue(), this.data.size());
+                this.data.add(item);
+            }
+        }
+        return updated;
+    }
+
     /**
      * Returns the index of the item with the specified x-value, or a negative
      * index if the series does not contain an item with that x-value.  Be
@@ -857,6 +1429,10 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public Object clone() throws CloneNotSupportedException {
         XYSeries<K> clone = (XYSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        if (this.data instanceof RingBufferList) {
+            clone.data = new RingBufferList<>(clone.data);
+        }
+        clone.invalidateWindows();
         return clone;
     }
 
@@ -876,6 +1452,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
 
         XYSeries<K> copy = (XYSeries) super.clone();
         copy.data = new ArrayList<>();
+        copy.invalidateWindows();
         if (!this.data.isEmpty()) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = this.data.get(index);
@@ -54,7 +54,9 @@ import org.jfree.data.Range;
 import org.jfree.data.RangeInfo;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeEvent;
 
 /**
  * Represents a collection of {@link XYSeries} objects that can be used as a
@@ -62,7 +64,7 @@ import org.jfree.data.general.Series;
  */
 public class XYSeriesCollection<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset<S>
-        implements IntervalXYDataset<S>, DomainInfo, RangeInfo, 
+        implements IntervalXYDataset<S>, DomainInfo, RangeInfo, XYRangeInfo,
         VetoableChangeListener, PublicCloneable, Serializable {
 
     /** For serialization. */
@@ -184,6 +186,28 @@ public class XYSeriesCollection<S extends Comparable<S>>
         fireDatasetChanged();
     }
 
+    /**
+     * Receives notification of a change to one of the series in the
+     * collection and sends a {@link DatasetChangeEvent} to all registered
+     * listeners.  If the series event carries details of the change, they
+     * are passed on with the index of the series filled in.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        DatasetChangeInfo info = event.getInfo();
+        if (info != null) {
+            for (int i = 0; i < this.data.size(); i++) {
+                if (this.data.get(i) == event.getSource()) {
+                    fireDatasetChanged(info.withSeries(i));
+                    return;
+                }
+            }
+        }
+        super.seriesChanged(event);
+    }
+
     /**
      * Returns the number of series in the collection.
      *
@@ -328,6 +352,21 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value (as a double primitive) for the specified series
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries s = this.data.get(series);
+        return s.getXValue(item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -368,6 +407,21 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return s.getY(index);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for the specified series
+     * and item.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value ({@code Double.NaN} for a {@code null} y-value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries s = this.data.get(series);
+        return s.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -642,6 +696,37 @@ public class XYSeriesCollection<S extends Comparable<S>>
         }
     }
 
+    /**
+     * Returns the bounds for the y-values of the items in the visible series
+     * that have x-values within the specified range.  Each series finds its
+     * own y-range (see {@link XYSeries#findValueRange(Range)}), which is
+     * much faster than iterating over all the items when the series are
+     * sorted.
+     *
+     * @param visibleSeriesKeys  the visible series keys ({@code null} not
+     *     permitted).
+     * @param xRange  the x-range ({@code null} not permitted).
+     * @param includeInterval  ignored.
+     *
+     * @return The bounds (or {@code null} if there are no y-values in the
+     *     x-range).
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        Args.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Args.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        for (Object visibleSeriesKey : visibleSeriesKeys) {
+            XYSeries<S> series = getSeries((S) visibleSeriesKey);
+            result = Range.combineIgnoringNaN(result,
+                    series.findValueRange(xRange));
+        }
+        return result;
+    }
+
     /**
      * Returns the minimum y-value in the dataset.
      *
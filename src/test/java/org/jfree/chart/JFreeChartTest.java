@@ -40,16 +40,27 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEventType;
 import org.jfree.chart.plot.pie.PiePlot;
 import org.jfree.chart.plot.RingPlot;
+import org.jfree.chart.plot.ValueMarker;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.legend.LegendTitle;
 import org.jfree.chart.title.TextTitle;
 import org.jfree.chart.title.Title;
+import org.jfree.chart.api.Layer;
 import org.jfree.chart.api.RectangleAlignment;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
@@ -59,6 +70,8 @@ import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -457,6 +470,140 @@ public class JFreeChartTest implements ChartChangeListener {
                 new DefaultPieDataset<String>()).getTitle().getText());
     }
 
+    /**
+     * Creates a line chart with gridlines, a marker, an annotation and a
+     * crosshair, for testing layered drawing.
+     * 
+     * @return A chart.
+     */
+    private static JFreeChart createLayeredTestChart() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 3.0);
+        s1.add(2.0, 7.0);
+        s1.add(3.0, 5.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection<>(s1));
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        plot.addRangeMarker(new ValueMarker(4.0), Layer.BACKGROUND);
+        plot.addAnnotation(new XYTextAnnotation("Note", 2.0, 6.0));
+        plot.setDomainCrosshairVisible(true);
+        plot.setDomainCrosshairValue(2.5);
+        return chart;
+    }
+
+    /**
+     * Drawing the layers of a chart one after the other should give the
+     * same result as drawing the chart in a single pass.
+     */
+    @Test
+    public void testDrawLayers() {
+        JFreeChart chart = createLayeredTestChart();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 300, 200);
+        BufferedImage expected = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = expected.createGraphics();
+        chart.draw(g2, area);
+        g2.dispose();
+
+        BufferedImage layered = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        g2 = layered.createGraphics();
+        int entityCount = 0;
+        for (ChartLayer layer : ChartLayer.values()) {
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            chart.draw(g2, area, null, info, layer);
+            entityCount += info.getEntityCollection().getEntityCount();
+        }
+        g2.dispose();
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), layered.getRGB(x, y));
+            }
+        }
+
+        // each entity is collected in the layer that draws it
+        ChartRenderingInfo expectedInfo = new ChartRenderingInfo();
+        chart.draw(new BufferedImage(300, 200, BufferedImage.TYPE_INT_ARGB)
+                .createGraphics(), area, expectedInfo);
+        assertEquals(expectedInfo.getEntityCollection().getEntityCount(),
+                entityCount);
+    }
+
+    /**
+     * Drawing all the layers in one frame should give the same result as 
+     * drawing the chart in a single pass, with one pair of progress events.
+     */
+    @Test
+    public void testDrawLayerFrame() {
+        JFreeChart chart = createLayeredTestChart();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 300, 200);
+        BufferedImage expected = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = expected.createGraphics();
+        ChartRenderingInfo expectedInfo = new ChartRenderingInfo();
+        chart.draw(g2, area, expectedInfo);
+        g2.dispose();
+
+        List<ChartProgressEventType> events = new ArrayList<>();
+        chart.addProgressListener(e -> events.add(e.getType()));
+        BufferedImage layered = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        g2 = layered.createGraphics();
+        Map<ChartLayer, Graphics2D> targets = new EnumMap<>(ChartLayer.class);
+        Map<ChartLayer, ChartRenderingInfo> infos 
+                = new EnumMap<>(ChartLayer.class);
+        for (ChartLayer layer : ChartLayer.values()) {
+            targets.put(layer, g2);
+            infos.put(layer, new ChartRenderingInfo());
+        }
+        chart.draw(targets, area, null, infos, null);
+        g2.dispose();
+        assertEquals(List.of(ChartProgressEventType.DRAWING_STARTED, 
+                ChartProgressEventType.DRAWING_FINISHED), events);
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(expected.getRGB(x, y), layered.getRGB(x, y));
+            }
+        }
+        int entityCount = 0;
+        for (ChartRenderingInfo info : infos.values()) {
+            entityCount += info.getEntityCollection().getEntityCount();
+        }
+        assertEquals(expectedInfo.getEntityCollection().getEntityCount(),
+                entityCount);
+        assertEquals(expectedInfo.getPlotInfo().getDataArea(), 
+                infos.get(ChartLayer.DATA).getPlotInfo().getDataArea());
+    }
+
+    /**
+     * The data layer should contain nothing outside the data area (the 
+     * background, titles and axes belong to other layers).
+     */
+    @Test
+    public void testDrawDataLayerOnly() {
+        JFreeChart chart = createLayeredTestChart();
+        BufferedImage image = new BufferedImage(300, 200, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info, 
+                ChartLayer.DATA);
+        g2.dispose();
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        boolean dataFound = false;
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                int alpha = image.getRGB(x, y) >>> 24;
+                if (!dataArea.contains(x, y)) {
+                    assertEquals(0, alpha);
+                } else if (alpha != 0) {
+                    dataFound = true;
+                }
+            }
+        }
+        assertTrue(dataFound);
+    }
+
     /** The last ChartChangeEvent received. */
     private ChartChangeEvent lastChartChangeEvent;
 
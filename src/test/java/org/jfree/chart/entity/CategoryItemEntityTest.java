@@ -45,6 +45,8 @@ import java.awt.geom.Rectangle2D;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 
+import org.jfree.chart.labels.StandardCategoryToolTipGenerator;
+import org.jfree.chart.urls.StandardCategoryURLGenerator;
 import org.jfree.data.category.DefaultCategoryDataset;
 import org.junit.jupiter.api.Test;
 
@@ -123,4 +125,33 @@ public class CategoryItemEntityTest {
         assertEquals(e1, e2);
     }
 
+    /**
+     * Text from generators should be created on first access.
+     */
+    @Test
+    public void testTextGenerators() {
+        DefaultCategoryDataset<String, String> d = new DefaultCategoryDataset<>();
+        d.addValue(1.0, "R1", "C1");
+        d.addValue(2.0, "R1", "C2");
+        d.addValue(3.0, "R2", "C1");
+        StandardCategoryToolTipGenerator ttg
+                = new StandardCategoryToolTipGenerator();
+        StandardCategoryURLGenerator ug = new StandardCategoryURLGenerator();
+        CategoryItemEntity<String, String> e1 = new CategoryItemEntity<>(
+                new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0), null, null, d,
+                "R2", "C1");
+        e1.setTextGenerators(ttg, ug);
+        assertEquals(ttg.generateToolTip(d, 1, 0), e1.getToolTipText());
+        assertEquals(ug.generateURL(d, 1, 0), e1.getURLText());
+
+        // the text is generated before serialization
+        CategoryItemEntity<String, String> e2 = new CategoryItemEntity<>(
+                new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0), null, null, d,
+                "R2", "C1");
+        e2.setTextGenerators(ttg, ug);
+        CategoryItemEntity<String, String> e3 = TestUtils.serialised(e2);
+        assertEquals(e1, e3);
+        assertEquals(e1.getToolTipText(), e3.getToolTipText());
+    }
+
 }
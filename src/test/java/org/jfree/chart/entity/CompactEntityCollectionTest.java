@@ -0,0 +1,213 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * CompactEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link CompactEntityCollection} class.
+ */
+public class CompactEntityCollectionTest {
+
+    /**
+     * Creates a dataset with one series of three items.
+     *
+     * @return A dataset.
+     */
+    private static XYSeriesCollection<String> createDataset() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        s.add(2.0, 3.0);
+        s.add(3.0, 1.0);
+        return new XYSeriesCollection<>(s);
+    }
+
+    /**
+     * The compact item entities should be created on request, with the
+     * generated text.
+     */
+    @Test
+    public void testGetEntity() {
+        XYSeriesCollection<String> dataset = createDataset();
+        StandardXYToolTipGenerator ttg = new StandardXYToolTipGenerator();
+        StandardXYURLGenerator urlg = new StandardXYURLGenerator();
+        CompactEntityCollection c = new CompactEntityCollection();
+        ChartEntity plot = new ChartEntity(new Rectangle2D.Double(0.0, 0.0,
+                100.0, 100.0));
+        c.add(plot);
+        c.addXYItem(dataset, 0, 1, 10.0, 20.0, 3.0, ttg, urlg);
+        assertEquals(2, c.getEntityCount());
+        assertSame(plot, c.getEntity(0));
+        XYItemEntity expected = new XYItemEntity(new Ellipse2D.Double(7.0,
+                17.0, 6.0, 6.0), dataset, 0, 1,
+                ttg.generateToolTip(dataset, 0, 1),
+                urlg.generateURL(dataset, 0, 1));
+        assertEquals(expected, c.getEntity(1));
+        assertNotSame(c.getEntity(1), c.getEntity(1));
+        XYItemEntity e = (XYItemEntity) c.getEntity(1);
+        assertSame(dataset, e.getDataset());
+
+        Iterator<ChartEntity> iterator = c.iterator();
+        assertSame(plot, iterator.next());
+        assertEquals(expected, iterator.next());
+        assertEquals(2, c.getEntities().size());
+
+        c.clear();
+        assertEquals(0, c.getEntityCount());
+    }
+
+    /**
+     * The results of getEntity(x, y) should match those of a
+     * {@link StandardEntityCollection} holding the same entities.
+     */
+    @Test
+    public void testGetEntityXY() {
+        XYSeriesCollection<String> dataset = createDataset();
+        CompactEntityCollection c = new CompactEntityCollection();
+        StandardEntityCollection s = new StandardEntityCollection();
+        Random random = new Random(42L);
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextDouble() * 200.0;
+            double y = random.nextDouble() * 100.0;
+            if (i % 50 == 0) {
+                ChartEntity entity = new ChartEntity(new Rectangle2D.Double(
+                        x, y, 20.0, 10.0));
+                c.add(entity);
+                s.add(entity);
+            } else {
+                c.addXYItem(dataset, 0, i, x, y, 3.0, null, null);
+                s.add(new XYItemEntity(new Ellipse2D.Double(x - 3.0, y - 3.0,
+                        6.0, 6.0), dataset, 0, i, null, null));
+            }
+        }
+        assertEquals(new ArrayList<>(s.getEntities()), c.getEntities());
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 220.0 - 10.0;
+            double y = random.nextDouble() * 120.0 - 10.0;
+            assertEquals(s.getEntity(x, y), c.getEntity(x, y));
+        }
+        assertNull(c.getEntity(-50.0, -50.0));
+    }
+
+    /**
+     * Entities added from another collection should keep their order.
+     */
+    @Test
+    public void testAddAll() {
+        XYSeriesCollection<String> dataset = createDataset();
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        c1.addXYItem(dataset, 0, 0, 1.0, 2.0, 3.0, null, null);
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        c1.addXYItem(dataset, 0, 1, 4.0, 5.0, 3.0, null, null);
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        c2.addAll(c1);
+        assertEquals(c1, c2);
+        StandardEntityCollection s = new StandardEntityCollection();
+        s.addAll(c1);
+        CompactEntityCollection c3 = new CompactEntityCollection();
+        c3.addAll(s);
+        assertEquals(c1, c3);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() {
+        XYSeriesCollection<String> dataset = createDataset();
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        CompactEntityCollection c2 = new CompactEntityCollection();
+        assertEquals(c1, c2);
+        c1.addXYItem(dataset, 0, 1, 1.0, 2.0, 3.0, null, null);
+        assertNotEquals(c1, c2);
+        c2.addXYItem(dataset, 0, 1, 1.0, 2.0, 3.0, null, null);
+        assertEquals(c1, c2);
+        c1.addXYItem(dataset, 0, 2, 1.0, 2.0, 3.0, null, null);
+        assertNotEquals(c1, c2);
+        c2.addXYItem(dataset, 0, 2, 1.0, 2.5, 3.0, null, null);
+        assertNotEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        c1.addXYItem(createDataset(), 0, 1, 1.0, 2.0, 3.0, null, null);
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        CompactEntityCollection c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertEquals(c1, c2);
+
+        // check independence
+        c1.clear();
+        assertNotEquals(c1, c2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        CompactEntityCollection c1 = new CompactEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "Tooltip"));
+        CompactEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+    }
+
+}
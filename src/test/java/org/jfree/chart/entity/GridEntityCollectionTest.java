@@ -0,0 +1,227 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * GridEntityCollectionTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link GridEntityCollection} class.
+ */
+public class GridEntityCollectionTest {
+
+    /**
+     * Creates an entity with a random area (mostly small rectangles and
+     * ellipses, with the occasional large rectangle).
+     *
+     * @param random  the random number generator.
+     *
+     * @return An entity.
+     */
+    private static ChartEntity createEntity(Random random) {
+        double x = random.nextDouble() * 500.0;
+        double y = random.nextDouble() * 300.0;
+        Shape area;
+        if (random.nextInt(100) == 0) {
+            area = new Rectangle2D.Double(x - 100.0, y - 100.0, 200.0, 150.0);
+        } else if (random.nextBoolean()) {
+            area = new Ellipse2D.Double(x, y, 6.0, 6.0);
+        } else {
+            area = new Rectangle2D.Double(x, y, random.nextDouble() * 10.0,
+                    random.nextDouble() * 10.0);
+        }
+        return new ChartEntity(area);
+    }
+
+    /**
+     * Checks that the entity found for a point matches the entity found
+     * by a {@link StandardEntityCollection}.
+     *
+     * @param expected  the standard collection.
+     * @param actual  the grid collection.
+     * @param random  the random number generator.
+     */
+    private static void checkGetEntity(StandardEntityCollection expected,
+            GridEntityCollection actual, Random random) {
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 700.0 - 100.0;
+            double y = random.nextDouble() * 500.0 - 100.0;
+            assertSame(expected.getEntity(x, y), actual.getEntity(x, y));
+        }
+    }
+
+    /**
+     * The grid collection should find the same entity as the standard
+     * collection (the last one added that contains the point).
+     */
+    @Test
+    public void testGetEntity() {
+        Random random = new Random(12345L);
+        StandardEntityCollection expected = new StandardEntityCollection();
+        GridEntityCollection actual = new GridEntityCollection();
+        expected.add(new ChartEntity(new Rectangle2D.Double(0, 0, 600, 400)));
+        actual.add(expected.getEntity(0));
+        for (int i = 0; i < 5000; i++) {
+            ChartEntity entity = createEntity(random);
+            expected.add(entity);
+            actual.add(entity);
+        }
+        checkGetEntity(expected, actual, random);
+
+        // add more entities, both inside and outside the current bounds
+        for (int i = 0; i < 500; i++) {
+            ChartEntity entity = createEntity(random);
+            expected.add(entity);
+            actual.add(entity);
+        }
+        checkGetEntity(expected, actual, random);
+        ChartEntity outside = new ChartEntity(new Rectangle2D.Double(
+                1000.0, 1000.0, 5.0, 5.0));
+        expected.add(outside);
+        actual.add(outside);
+        assertSame(outside, actual.getEntity(1002.0, 1002.0));
+        checkGetEntity(expected, actual, random);
+
+        actual.clear();
+        assertEquals(0, actual.getEntityCount());
+        assertNull(actual.getEntity(1002.0, 1002.0));
+    }
+
+    /**
+     * Many entities at the same location (a zero-size grid).
+     */
+    @Test
+    public void testGetEntitySameLocation() {
+        GridEntityCollection c = new GridEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c.add(new ChartEntity(new Rectangle2D.Double(5.0, 5.0, 0.0, 0.0)));
+        }
+        c.add(new ChartEntity(new Rectangle2D.Double(5.0, 5.0, 1.0, 1.0)));
+        assertSame(c.getEntity(100), c.getEntity(5.5, 5.5));
+        assertNull(c.getEntity(6.5, 5.5));
+    }
+
+    /**
+     * An entity with an infinite bounding box should not break the index.
+     */
+    @Test
+    public void testGetEntityInfiniteBounds() {
+        StandardEntityCollection expected = new StandardEntityCollection();
+        GridEntityCollection actual = new GridEntityCollection();
+        ChartEntity infinite = new ChartEntity(new Rectangle2D.Double(0, 5,
+                Double.POSITIVE_INFINITY, 2));
+        expected.add(infinite);
+        actual.add(infinite);
+        for (int i = 0; i < 100; i++) {
+            ChartEntity entity = new ChartEntity(new Rectangle2D.Double(
+                    i, 50.0, 1.0, 1.0));
+            expected.add(entity);
+            actual.add(entity);
+        }
+        assertSame(expected.getEntity(50.5, 50.5), actual.getEntity(50.5, 50.5));
+        assertSame(infinite, actual.getEntity(5000.0, 6.0));
+
+        // and when added after the index is built
+        ChartEntity tall = new ChartEntity(new Rectangle2D.Double(200, 0,
+                2, Double.POSITIVE_INFINITY));
+        expected.add(tall);
+        actual.add(tall);
+        assertSame(tall, actual.getEntity(201.0, 5000.0));
+        checkGetEntity(expected, actual, new Random(3L));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        Random random = new Random(1L);
+        GridEntityCollection c1 = new GridEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c1.add(createEntity(random));
+        }
+        c1.getEntity(10.0, 10.0);
+        GridEntityCollection c2 = CloneUtils.clone(c1);
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertEquals(101, c1.getEntityCount());
+        assertEquals(100, c2.getEntityCount());
+        StandardEntityCollection expected = new StandardEntityCollection();
+        for (ChartEntity entity : c2.getEntities()) {
+            expected.add(entity);
+        }
+        checkGetEntity(expected, c2, random);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        Random random = new Random(2L);
+        GridEntityCollection c1 = new GridEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c1.add(createEntity(random));
+        }
+        c1.getEntity(10.0, 10.0);
+        GridEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        StandardEntityCollection expected = new StandardEntityCollection();
+        for (ChartEntity entity : c2.getEntities()) {
+            expected.add(entity);
+        }
+        checkGetEntity(expected, c2, random);
+    }
+
+}
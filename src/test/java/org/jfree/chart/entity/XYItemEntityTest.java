@@ -38,6 +38,7 @@ package org.jfree.chart.entity;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.geom.Rectangle2D;
@@ -45,7 +46,11 @@ import java.awt.geom.Rectangle2D;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.urls.StandardXYURLGenerator;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -119,4 +124,64 @@ public class XYItemEntityTest {
         assertEquals(e1, e2);
     }
 
+    /**
+     * Text from generators should be created on first access.
+     */
+    @Test
+    public void testTextGenerators() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        StandardXYToolTipGenerator ttg = new StandardXYToolTipGenerator();
+        StandardXYURLGenerator ug = new StandardXYURLGenerator();
+        XYItemEntity e1 = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0,
+                3.0, 4.0), dataset, 0, 1, null, null);
+        e1.setTextGenerators(ttg, ug);
+        assertEquals(ttg.generateToolTip(dataset, 0, 1), e1.getToolTipText());
+        assertEquals(ug.generateURL(dataset, 0, 1), e1.getURLText());
+
+        // the text is generated before serialization
+        XYItemEntity e2 = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0,
+                3.0, 4.0), dataset, 0, 1, null, null);
+        e2.setTextGenerators(ttg, ug);
+        XYItemEntity e3 = TestUtils.serialised(e2);
+        assertEquals(e1.getToolTipText(), e3.getToolTipText());
+        assertEquals(e1.getURLText(), e3.getURLText());
+
+        // setting the text replaces the generator
+        e2 = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                dataset, 0, 1, null, null);
+        e2.setTextGenerators(ttg, ug);
+        e2.setToolTipText("ToolTip");
+        e2.setURLText("URL");
+        assertEquals("ToolTip", e2.getToolTipText());
+        assertEquals("URL", e2.getURLText());
+    }
+
+    /**
+     * No text is generated for an item that has been removed from the
+     * dataset since the entity was created.
+     */
+    @Test
+    public void testTextGeneratorsItemRemoved() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.add(1.0, 2.0);
+        s.add(3.0, 4.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        StandardXYToolTipGenerator ttg = new StandardXYToolTipGenerator();
+        StandardXYURLGenerator ug = new StandardXYURLGenerator();
+        XYItemEntity e1 = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0,
+                3.0, 4.0), dataset, 0, 1, null, null);
+        e1.setTextGenerators(ttg, ug);
+        XYItemEntity e2 = new XYItemEntity(new Rectangle2D.Double(1.0, 2.0,
+                3.0, 4.0), dataset, 1, 0, null, null);
+        e2.setTextGenerators(ttg, ug);
+        s.remove(1);
+        assertNull(e1.getToolTipText());
+        assertNull(e1.getURLText());
+        assertNull(e2.getToolTipText());
+        assertNull(e2.getURLText());
+    }
+
 }
@@ -0,0 +1,336 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ChangeBatchTest.java
+ * --------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link ChangeBatch} class.
+ */
+public class ChangeBatchTest {
+
+    /**
+     * A listener that records the chart change events it receives.
+     */
+    static class EventRecorder implements ChartChangeListener {
+
+        /** The events received. */
+        final List<ChartChangeEvent> events = new ArrayList<>();
+
+        @Override
+        public void chartChanged(ChartChangeEvent event) {
+            this.events.add(event);
+        }
+    }
+
+    /**
+     * Creates a chart with the specified number of series.
+     *
+     * @param dataset  the dataset.
+     * @param seriesCount  the number of series.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createChart(
+            XYSeriesCollection<String> dataset, int seriesCount) {
+        for (int s = 0; s < seriesCount; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s);
+            series.add(0.0, s);
+            dataset.addSeries(series);
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y", dataset);
+    }
+
+    /**
+     * Changes to many series, an axis and a renderer made inside a batch
+     * reach a chart listener as one event, after the commit.
+     */
+    @Test
+    public void testChangesCoalesced() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        JFreeChart chart = createChart(dataset, 50);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        EventRecorder recorder = new EventRecorder();
+        chart.addChangeListener(recorder);
+
+        try (ChangeBatch batch = ChangeBatch.begin()) {
+            assertTrue(ChangeBatch.isActive());
+            for (int s = 0; s < 50; s++) {
+                dataset.getSeries(s).add(1.0, 100.0 + s);
+            }
+            plot.getRangeAxis().setLabel("New label");
+            plot.getRenderer().setSeriesPaint(0, Color.RED);
+            assertTrue(recorder.events.isEmpty());
+        }
+        assertFalse(ChangeBatch.isActive());
+        assertEquals(1, recorder.events.size());
+        assertEquals(ChartChangeEventType.GENERAL, 
+                recorder.events.get(0).getType());
+        assertEquals("New label", plot.getRangeAxis().getLabel());
+        assertTrue(plot.getRangeAxis().getRange().contains(149.0));
+
+        // outside a batch, each change is notified
+        recorder.events.clear();
+        dataset.getSeries(0).add(2.0, 1.0);
+        dataset.getSeries(1).add(2.0, 1.0);
+        assertEquals(2, recorder.events.size());
+    }
+
+    /**
+     * Nothing is delivered until the outermost batch is committed.
+     */
+    @Test
+    public void testNested() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        JFreeChart chart = createChart(dataset, 2);
+        EventRecorder recorder = new EventRecorder();
+        chart.addChangeListener(recorder);
+
+        ChangeBatch outer = ChangeBatch.begin();
+        try (ChangeBatch inner = ChangeBatch.begin()) {
+            dataset.getSeries(0).add(1.0, 1.0);
+        }
+        assertTrue(ChangeBatch.isActive());
+        assertTrue(recorder.events.isEmpty());
+        dataset.getSeries(1).add(1.0, 1.0);
+        outer.commit();
+        assertEquals(1, recorder.events.size());
+
+        // committing again has no effect
+        outer.commit();
+        assertEquals(1, recorder.events.size());
+        assertFalse(ChangeBatch.isActive());
+    }
+
+    /**
+     * A batch can only be committed on the thread that began it, and a
+     * failed attempt on another thread leaves both threads' batches intact.
+     */
+    @Test
+    public void testCommitOnOtherThread() throws InterruptedException {
+        ChangeBatch batch = ChangeBatch.begin();
+        List<Throwable> thrown = new ArrayList<>();
+        List<Boolean> active = new ArrayList<>();
+        Thread t = new Thread(() -> {
+            try {
+                batch.commit();
+            } catch (IllegalStateException e) {
+                thrown.add(e);
+            }
+            try (ChangeBatch other = ChangeBatch.begin()) {
+                try {
+                    batch.commit();
+                } catch (IllegalStateException e) {
+                    thrown.add(e);
+                }
+                active.add(ChangeBatch.isActive());
+            }
+            active.add(ChangeBatch.isActive());
+        });
+        t.start();
+        t.join();
+        assertEquals(2, thrown.size());
+        assertEquals(Arrays.asList(true, false), active);
+        assertTrue(ChangeBatch.isActive());
+        batch.commit();
+        assertFalse(ChangeBatch.isActive());
+    }
+
+    /**
+     * If a listener throws an exception during the commit, the remaining
+     * notifications are delivered, the first exception is rethrown and the
+     * batch state is reset.
+     */
+    @Test
+    public void testListenerException() {
+        XYSeries<String> series1 = new XYSeries<>("S1");
+        XYSeries<String> series2 = new XYSeries<>("S2");
+        XYSeries<String> series3 = new XYSeries<>("S3");
+        IllegalStateException failure1 
+                = new IllegalStateException("Listener 1 failed.");
+        IllegalArgumentException failure3 
+                = new IllegalArgumentException("Listener 3 failed.");
+        List<SeriesChangeEvent> received = new ArrayList<>();
+        series1.addChangeListener(e -> {
+            throw failure1;
+        });
+        series2.addChangeListener(received::add);
+        series3.addChangeListener(e -> {
+            throw failure3;
+        });
+        ChangeBatch batch = ChangeBatch.begin();
+        series1.add(1.0, 1.0);
+        series2.add(1.0, 1.0);
+        series3.add(1.0, 1.0);
+        IllegalStateException e = assertThrows(IllegalStateException.class, 
+                batch::commit);
+        assertSame(failure1, e);
+        assertEquals(1, e.getSuppressed().length);
+        assertSame(failure3, e.getSuppressed()[0]);
+        assertEquals(1, received.size());
+        assertFalse(ChangeBatch.isActive());
+    }
+
+    /**
+     * The change details of several updates to one series inside a batch 
+     * are merged, so that the plot can still update its axes incrementally.
+     */
+    @Test
+    public void testChangeDetailsMerged() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        createChart(dataset, 2);
+        List<DatasetChangeEvent> received = new ArrayList<>();
+        dataset.addChangeListener(received::add);
+        try (ChangeBatch batch = ChangeBatch.begin()) {
+            dataset.getSeries(1).add(1.0, 10.0);
+            dataset.getSeries(1).add(2.0, -5.0);
+        }
+        assertEquals(1, received.size());
+        DatasetChangeInfo info = received.get(0).getInfo();
+        assertEquals(DatasetChangeType.ITEMS_ADDED, info.getType());
+        assertEquals(1, info.getSeries());
+        assertEquals(1, info.getFirstItem());
+        assertEquals(2, info.getLastItem());
+        assertEquals(new Range(1.0, 2.0), info.getXRange());
+        assertEquals(new Range(-5.0, 10.0), info.getYRange());
+
+        // changes to different series are not tied to one series
+        received.clear();
+        try (ChangeBatch batch = ChangeBatch.begin()) {
+            dataset.getSeries(0).add(3.0, 1.0);
+            dataset.getSeries(1).add(3.0, 2.0);
+        }
+        assertEquals(1, received.size());
+        assertEquals(-1, received.get(0).getInfo().getSeries());
+    }
+
+    /**
+     * Check the way events from the same source are combined.
+     */
+    @Test
+    public void testCombine() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        DatasetChangeInfo info1 = new DatasetChangeInfo(
+                DatasetChangeType.ITEMS_ADDED, 0, 1, 1, new Range(1.0, 1.0),
+                new Range(2.0, 2.0), null, null);
+        DatasetChangeInfo info2 = new DatasetChangeInfo(
+                DatasetChangeType.ITEMS_ADDED, 0, 2, 2, new Range(3.0, 3.0),
+                new Range(4.0, 4.0), null, null);
+        DatasetChangeEvent e1 = new DatasetChangeEvent(dataset, dataset, 
+                info1);
+        DatasetChangeEvent e2 = new DatasetChangeEvent(dataset, dataset, 
+                info1);
+        DatasetChangeEvent e3 = new DatasetChangeEvent(dataset, dataset, 
+                info2);
+        assertSame(e2, ChangeBatch.combine(dataset, e1, e2));
+        DatasetChangeEvent e = (DatasetChangeEvent) ChangeBatch.combine(
+                dataset, e1, e3);
+        assertSame(dataset, e.getDataset());
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, 0,
+                1, 2, new Range(1.0, 3.0), new Range(2.0, 4.0), null, null),
+                e.getInfo());
+        e = (DatasetChangeEvent) ChangeBatch.combine(dataset, e1, 
+                new DatasetChangeEvent(dataset, dataset));
+        assertNull(e.getInfo());
+
+        // a removal keeps the removed ranges, and a different series is
+        // not known
+        DatasetChangeInfo info3 = new DatasetChangeInfo(
+                DatasetChangeType.ITEMS_REMOVED, 1, 0, 0, null, null,
+                new Range(5.0, 5.0), new Range(6.0, 6.0));
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_REMOVED,
+                -1, 0, 1, new Range(1.0, 1.0), new Range(2.0, 2.0),
+                new Range(5.0, 5.0), new Range(6.0, 6.0)),
+                ChangeBatch.combine(info1, info3));
+        DatasetChangeInfo info4 = new DatasetChangeInfo(
+                DatasetChangeType.ITEM_UPDATED, 0, 0, 0, new Range(0.0, 0.0),
+                new Range(7.0, 7.0), new Range(0.0, 0.0), 
+                new Range(3.0, 3.0));
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED,
+                0, 0, 1, new Range(0.0, 1.0), new Range(2.0, 7.0),
+                new Range(0.0, 0.0), new Range(3.0, 3.0)),
+                ChangeBatch.combine(info1, info4));
+
+        XYSeries<String> series = new XYSeries<>("S");
+        SeriesChangeEvent s = (SeriesChangeEvent) ChangeBatch.combine(series,
+                new SeriesChangeEvent(series, info1.withSeries(-1)),
+                new SeriesChangeEvent(series, info2.withSeries(-1)));
+        assertSame(series, s.getSource());
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                1, 2, new Range(1.0, 3.0), new Range(2.0, 4.0), null, null),
+                s.getInfo());
+
+        Object renderer = new Object();
+        RendererChangeEvent r = (RendererChangeEvent) ChangeBatch.combine(
+                renderer, new RendererChangeEvent(renderer, true), 
+                new RendererChangeEvent(renderer, false));
+        assertTrue(r.getSeriesVisibilityChanged());
+
+        JFreeChart chart = createChart(dataset, 1);
+        ChartChangeEvent c1 = new ChartChangeEvent(chart, chart, 
+                ChartChangeEventType.DATASET_UPDATED);
+        ChartChangeEvent c2 = new TitleChangeEvent(chart.getTitle());
+        ChartChangeEvent c = (ChartChangeEvent) ChangeBatch.combine(chart, 
+                c1, c2);
+        assertSame(chart, c.getSource());
+        assertEquals(ChartChangeEvent.class, c.getClass());
+        assertEquals(ChartChangeEventType.GENERAL, c.getType());
+    }
+
+}
@@ -0,0 +1,100 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MinMaxIndexTest.java
+ * --------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link MinMaxIndex} class.
+ */
+public class MinMaxIndexTest {
+
+    /**
+     * Compare the index against a brute force calculation for random
+     * subranges, for a variety of sizes around the block boundaries.
+     */
+    @Test
+    public void testRandomQueries() {
+        Random random = new Random(321L);
+        int[] sizes = new int[] {1, 2, 63, 64, 65, 127, 128, 129, 1000, 5000};
+        for (int size : sizes) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = random.nextInt(10) == 0 ? Double.NaN
+                        : random.nextInt(10000);
+            }
+            MinMaxIndex index = new MinMaxIndex(i -> values[i], size);
+            assertEquals(size, index.getCount());
+            for (int q = 0; q < 200; q++) {
+                int start = random.nextInt(size);
+                int end = start + random.nextInt(size - start);
+                double min = Double.NaN;
+                double max = Double.NaN;
+                for (int i = start; i <= end; i++) {
+                    if (!Double.isNaN(values[i])) {
+                        min = Double.isNaN(min) ? values[i]
+                                : Math.min(min, values[i]);
+                        max = Double.isNaN(max) ? values[i]
+                                : Math.max(max, values[i]);
+                    }
+                }
+                assertEquals(min, index.getMinimum(start, end));
+                assertEquals(max, index.getMaximum(start, end));
+            }
+        }
+    }
+
+    /**
+     * Some checks for empty subranges and invalid indices.
+     */
+    @Test
+    public void testBounds() {
+        MinMaxIndex index = new MinMaxIndex(i -> Double.NaN, 100);
+        assertEquals(Double.NaN, index.getMinimum(0, 99));
+        assertEquals(Double.NaN, index.getMaximum(5, 4));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> index.getMinimum(-1, 5));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> index.getMaximum(0, 100));
+        MinMaxIndex empty = new MinMaxIndex(i -> 1.0, 0);
+        assertEquals(0, empty.getCount());
+    }
+
+}
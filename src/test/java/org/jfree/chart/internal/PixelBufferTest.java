@@ -0,0 +1,260 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * PixelBufferTest.java
+ * --------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link PixelBuffer} class.
+ */
+public class PixelBufferTest {
+
+    /**
+     * Creates a white image with a graphics device that does not use
+     * anti-aliasing.
+     *
+     * @return An image.
+     */
+    private static BufferedImage createImage() {
+        BufferedImage image = new BufferedImage(60, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(Color.WHITE);
+        g2.fillRect(0, 0, 60, 40);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that two images have the same pixels.
+     *
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     */
+    private static void assertSamePixels(BufferedImage expected,
+            BufferedImage actual) {
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y),
+                        "Pixel (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Rectangles written to the buffer should cover the same pixels as
+     * rectangles filled with Java2D, including with a scaling transform.
+     */
+    @Test
+    public void testFillRect() {
+        for (double scale : new double[] {1.0, 1.5, 2.0}) {
+            BufferedImage expected = createImage();
+            Graphics2D g1 = expected.createGraphics();
+            g1.scale(scale, scale);
+            g1.setPaint(Color.RED);
+            g1.fill(new Rectangle2D.Double(3, 4, 2, 3));
+            g1.fill(new Rectangle2D.Double(-2, 10, 5, 1));
+            g1.fill(new Rectangle2D.Double(30, 20, 1, 1));
+            g1.setPaint(Color.BLUE);
+            g1.fill(new Rectangle2D.Double(4, 5, 3, 3));
+            g1.dispose();
+
+            BufferedImage actual = createImage();
+            Graphics2D g2 = actual.createGraphics();
+            g2.scale(scale, scale);
+            PixelBuffer buffer = new PixelBuffer(g2,
+                    new Rectangle2D.Double(0, 0, 60 / scale, 40 / scale));
+            assertTrue(buffer.isEmpty());
+            buffer.fillRect(3, 4, 2, 3, Color.RED);
+            buffer.fillRect(-2, 10, 5, 1, Color.RED);
+            buffer.fillRect(30, 20, 1, 1, Color.RED);
+            buffer.fillRect(4, 5, 3, 3, Color.BLUE);
+            buffer.fillRect(Double.NaN, 5, 3, 3, Color.BLUE);
+            assertFalse(buffer.isEmpty());
+            buffer.drawTo(g2);
+            assertTrue(buffer.isEmpty());
+            g2.dispose();
+            assertSamePixels(expected, actual);
+        }
+    }
+
+    /**
+     * A stamp written at a whole pixel position should cover the same
+     * pixels as the shape filled with Java2D (without anti-aliasing).
+     */
+    @Test
+    public void testFillStamp() {
+        Ellipse2D shape = new Ellipse2D.Double(-3.0, -3.0, 6.0, 6.0);
+        BufferedImage expected = createImage();
+        Graphics2D g1 = expected.createGraphics();
+        g1.setPaint(Color.GREEN);
+        g1.translate(10, 10);
+        g1.fill(shape);
+        g1.translate(48, 5);
+        g1.fill(shape);  // partly outside the image
+        g1.dispose();
+
+        BufferedImage actual = createImage();
+        Graphics2D g2 = actual.createGraphics();
+        PixelBuffer buffer = new PixelBuffer(g2,
+                new Rectangle2D.Double(0, 0, 60, 40));
+        PixelBuffer.Stamp stamp = buffer.createStamp(shape, false);
+        buffer.fillStamp(stamp, 10, 10, Color.GREEN);
+        buffer.fillStamp(stamp, 58, 15, Color.GREEN);
+        buffer.fillStamp(stamp, Double.NaN, 15, Color.GREEN);
+        buffer.drawTo(g2);
+        g2.dispose();
+        assertSamePixels(expected, actual);
+    }
+
+    /**
+     * Translucent points replace each other unless alpha accumulation is
+     * enabled.
+     */
+    @Test
+    public void testAlphaAccumulation() {
+        Color c = new Color(0, 0, 0, 128);
+        BufferedImage image = createImage();
+        Graphics2D g2 = image.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_OFF);
+        PixelBuffer buffer = new PixelBuffer(g2,
+                new Rectangle2D.Double(0, 0, 60, 40));
+        buffer.fillRect(1, 1, 1, 1, c);
+        buffer.fillRect(1, 1, 1, 1, c);
+        buffer.setAlphaAccumulation(true);
+        buffer.fillRect(2, 1, 1, 1, c);
+        buffer.fillRect(2, 1, 1, 1, c);
+        buffer.drawTo(g2);
+        g2.dispose();
+        int single = image.getRGB(1, 1) & 0xFF;
+        int accumulated = image.getRGB(2, 1) & 0xFF;
+        assertEquals(127.0, single, 1.0);
+        assertEquals(63.0, accumulated, 1.0);
+    }
+
+    /**
+     * Creates a device configuration for a device of the specified type.
+     *
+     * @param type  the device type.
+     *
+     * @return A device configuration.
+     */
+    private static GraphicsConfiguration createConfiguration(int type) {
+        return new GraphicsConfiguration() {
+            private final GraphicsConfiguration gc = this;
+            @Override
+            public GraphicsDevice getDevice() {
+                return new GraphicsDevice() {
+                    @Override
+                    public int getType() {
+                        return type;
+                    }
+                    @Override
+                    public String getIDstring() {
+                        return "Test";
+                    }
+                    @Override
+                    public GraphicsConfiguration[] getConfigurations() {
+                        return new GraphicsConfiguration[] {gc};
+                    }
+                    @Override
+                    public GraphicsConfiguration getDefaultConfiguration() {
+                        return gc;
+                    }
+                };
+            }
+            @Override
+            public ColorModel getColorModel() {
+                return ColorModel.getRGBdefault();
+            }
+            @Override
+            public ColorModel getColorModel(int transparency) {
+                return ColorModel.getRGBdefault();
+            }
+            @Override
+            public AffineTransform getDefaultTransform() {
+                return new AffineTransform();
+            }
+            @Override
+            public AffineTransform getNormalizingTransform() {
+                return new AffineTransform();
+            }
+            @Override
+            public Rectangle getBounds() {
+                return new Rectangle(0, 0, 60, 40);
+            }
+        };
+    }
+
+    /**
+     * Only targets that draw to a screen or an image are supported.
+     */
+    @Test
+    public void testIsSupported() {
+        Graphics2D g2 = createImage().createGraphics();
+        assertTrue(PixelBuffer.isSupported(g2));
+        g2.rotate(0.5);
+        assertFalse(PixelBuffer.isSupported(g2));
+        g2.dispose();
+        assertTrue(PixelBuffer.isRasterDevice(createConfiguration(
+                GraphicsDevice.TYPE_RASTER_SCREEN)));
+        assertTrue(PixelBuffer.isRasterDevice(createConfiguration(
+                GraphicsDevice.TYPE_IMAGE_BUFFER)));
+        assertFalse(PixelBuffer.isRasterDevice(createConfiguration(
+                GraphicsDevice.TYPE_PRINTER)));
+        assertFalse(PixelBuffer.isRasterDevice(createConfiguration(-1)));
+        assertFalse(PixelBuffer.isRasterDevice(null));
+    }
+
+}
@@ -0,0 +1,124 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * RingBufferListTest.java
+ * -----------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for the {@link RingBufferList} class.
+ */
+public class RingBufferListTest {
+
+    /**
+     * A rolling window keeps the items in order.
+     */
+    @Test
+    public void testRollingWindow() {
+        RingBufferList<Integer> list = new RingBufferList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+            if (list.size() > 10) {
+                list.remove(0);
+            }
+        }
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(90 + i, list.get(i));
+        }
+    }
+
+    /**
+     * Apply a random sequence of operations to a ring buffer list and an
+     * array list, and check that the results match.
+     */
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(123L);
+        List<Integer> expected = new ArrayList<>();
+        RingBufferList<Integer> list = new RingBufferList<>();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(6);
+            int size = expected.size();
+            if (op == 0 || size == 0) {
+                expected.add(i);
+                list.add(i);
+            } else if (op == 1) {
+                int index = random.nextInt(size + 1);
+                expected.add(index, i);
+                list.add(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(size);
+                assertEquals(expected.remove(index), list.remove(index));
+            } else if (op == 3) {
+                expected.remove(0);
+                list.remove(0);
+            } else if (op == 4) {
+                int index = random.nextInt(size);
+                expected.set(index, -i);
+                list.set(index, -i);
+            } else {
+                int from = random.nextInt(size);
+                int to = from + random.nextInt(Math.min(3, size - from) + 1);
+                expected.subList(from, to).clear();
+                list.subList(from, to).clear();
+            }
+            assertEquals(expected, list);
+        }
+        list.clear();
+        assertEquals(0, list.size());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RingBufferList<String> l1 = new RingBufferList<>();
+        l1.add("A");
+        l1.add("B");
+        l1.remove(0);
+        l1.add("C");
+        RingBufferList<String> l2 = TestUtils.serialised(l1);
+        assertEquals(l1, l2);
+    }
+
+}
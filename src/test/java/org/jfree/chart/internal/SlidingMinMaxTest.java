@@ -0,0 +1,116 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * SlidingMinMaxTest.java
+ * ----------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link SlidingMinMax} class.
+ */
+public class SlidingMinMaxTest {
+
+    /**
+     * Some checks for an empty window.
+     */
+    @Test
+    public void testEmpty() {
+        SlidingMinMax w = new SlidingMinMax();
+        assertEquals(0, w.getCount());
+        assertEquals(Double.NaN, w.getMinimum());
+        assertEquals(Double.NaN, w.getMaximum());
+        assertThrows(IllegalStateException.class, () -> w.removeFirst());
+    }
+
+    /**
+     * NaN values take a position in the window but are otherwise ignored.
+     */
+    @Test
+    public void testNaN() {
+        SlidingMinMax w = new SlidingMinMax();
+        w.add(Double.NaN);
+        w.add(2.0);
+        w.add(Double.NaN);
+        assertEquals(3, w.getCount());
+        assertEquals(2.0, w.getMinimum());
+        assertEquals(2.0, w.getMaximum());
+        w.removeFirst();
+        w.removeFirst();
+        assertEquals(Double.NaN, w.getMinimum());
+        assertEquals(Double.NaN, w.getMaximum());
+        w.clear();
+        assertEquals(0, w.getCount());
+    }
+
+    /**
+     * Compare the window against a brute force calculation for random
+     * values.
+     */
+    @Test
+    public void testRandomValues() {
+        Random random = new Random(456L);
+        SlidingMinMax w = new SlidingMinMax();
+        Deque<Double> values = new ArrayDeque<>();
+        for (int i = 0; i < 5000; i++) {
+            double v = random.nextInt(10) == 0 ? Double.NaN
+                    : random.nextInt(100);
+            w.add(v);
+            values.addLast(v);
+            int remove = values.size() > 50 ? random.nextInt(3) : 0;
+            for (int j = 0; j < remove; j++) {
+                w.removeFirst();
+                values.removeFirst();
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (double d : values) {
+                if (!Double.isNaN(d)) {
+                    min = Double.isNaN(min) ? d : Math.min(min, d);
+                    max = Double.isNaN(max) ? d : Math.max(max, d);
+                }
+            }
+            assertEquals(values.size(), w.getCount());
+            assertEquals(min, w.getMinimum());
+            assertEquals(max, w.getMaximum());
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * SlidingSumTest.java
+ * -------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link SlidingSum} class.
+ */
+public class SlidingSumTest {
+
+    /**
+     * Some checks for an empty window.
+     */
+    @Test
+    public void testEmpty() {
+        SlidingSum w = new SlidingSum();
+        assertEquals(0, w.getSize());
+        assertEquals(0, w.getCount());
+        assertEquals(Double.NaN, w.getMean());
+        assertThrows(IllegalStateException.class, () -> w.removeFirst());
+    }
+
+    /**
+     * Null values take a position in the window but are not counted.
+     */
+    @Test
+    public void testNull() {
+        SlidingSum w = new SlidingSum();
+        w.add(null);
+        w.add(2.0);
+        w.add(4.0);
+        assertEquals(3, w.getSize());
+        assertEquals(2, w.getCount());
+        assertEquals(3.0, w.getMean());
+        w.removeFirst();
+        assertEquals(3.0, w.getMean());
+        w.removeFirst();
+        assertEquals(4.0, w.getMean());
+        w.clear();
+        assertEquals(0, w.getSize());
+        assertEquals(Double.NaN, w.getMean());
+    }
+
+    /**
+     * NaN and infinite values give the same mean as simple summation, and
+     * stop affecting the mean once they leave the window.
+     */
+    @Test
+    public void testNonFinite() {
+        SlidingSum w = new SlidingSum();
+        w.add(1.0);
+        w.add(Double.POSITIVE_INFINITY);
+        assertEquals(Double.POSITIVE_INFINITY, w.getMean());
+        w.add(Double.NEGATIVE_INFINITY);
+        assertEquals(Double.NaN, w.getMean());
+        w.removeFirst();
+        w.removeFirst();
+        assertEquals(Double.NEGATIVE_INFINITY, w.getMean());
+        w.add(Double.NaN);
+        assertEquals(Double.NaN, w.getMean());
+        w.removeFirst();
+        w.removeFirst();
+        w.add(5.0);
+        assertEquals(5.0, w.getMean());
+    }
+
+    /**
+     * Compares the mean against a simple calculation for random windows.
+     */
+    @Test
+    public void testRandom() {
+        Random random = new Random(42L);
+        SlidingSum w = new SlidingSum();
+        Deque<Double> expected = new ArrayDeque<>();
+        for (int i = 0; i < 10000; i++) {
+            if (expected.isEmpty() || random.nextInt(3) > 0) {
+                double v = 1.0e6 + random.nextDouble() * 100.0;
+                w.add(v);
+                expected.addLast(v);
+            }
+            else {
+                w.removeFirst();
+                expected.removeFirst();
+            }
+            double sum = 0.0;
+            for (double v : expected) {
+                sum += v;
+            }
+            assertEquals(expected.size(), w.getSize());
+            assertEquals(expected.isEmpty() ? Double.NaN
+                    : sum / expected.size(), w.getMean(), 1.0e-6);
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * SpriteCacheTest.java
+ * --------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SpriteCache} class.
+ */
+public class SpriteCacheTest {
+
+    /** The positions used for drawing (at the centres of sub-pixel steps). */
+    private static final double[][] POSITIONS = {{10.125, 10.125},
+            {20.375, 12.625}, {31.875, 25.375}, {45.625, 30.875}};
+
+    /**
+     * Creates a white image.
+     *
+     * @return An image.
+     */
+    private static BufferedImage createImage() {
+        BufferedImage image = new BufferedImage(60, 40,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.setPaint(Color.WHITE);
+        g2.fillRect(0, 0, 60, 40);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that two images have the same pixels.
+     *
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     */
+    private static void assertSamePixels(BufferedImage expected,
+            BufferedImage actual) {
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int y = 0; y < expected.getHeight(); y++) {
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y),
+                        "Pixel (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Draws a shape at each position, directly and with sprites, and checks
+     * that the results are the same.
+     *
+     * @param shape  the shape.
+     * @param antialias  use anti-aliasing?
+     */
+    private static void checkSameAsDirect(Shape shape, boolean antialias) {
+        Object hint = antialias ? RenderingHints.VALUE_ANTIALIAS_ON
+                : RenderingHints.VALUE_ANTIALIAS_OFF;
+        BasicStroke stroke = new BasicStroke(1.0f);
+        BufferedImage expected = createImage();
+        Graphics2D g2 = expected.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, hint);
+        for (double[] p : POSITIONS) {
+            Shape s = ShapeUtils.createTranslatedShape(shape, p[0], p[1]);
+            g2.setPaint(Color.RED);
+            g2.fill(s);
+            g2.setPaint(Color.BLUE);
+            g2.setStroke(stroke);
+            g2.draw(s);
+        }
+        g2.dispose();
+        BufferedImage actual = createImage();
+        g2 = actual.createGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, hint);
+        SpriteCache cache = new SpriteCache();
+        for (double[] p : POSITIONS) {
+            assertTrue(cache.draw(g2, shape, p[0], p[1], Color.RED,
+                    Color.BLUE, stroke));
+        }
+        g2.dispose();
+        assertSamePixels(expected, actual);
+    }
+
+    /**
+     * Sprites drawn without anti-aliasing should match the shapes drawn
+     * directly.
+     */
+    @Test
+    public void testSameAsDirect() {
+        checkSameAsDirect(new Rectangle2D.Double(-3.0, -3.0, 6.0, 6.0),
+                false);
+        checkSameAsDirect(new Ellipse2D.Double(-4.0, -4.0, 8.0, 8.0), false);
+    }
+
+    /**
+     * Sprites drawn with anti-aliasing should match the shapes drawn
+     * directly, when the shapes are positioned at the centre of a sub-pixel
+     * step.
+     */
+    @Test
+    public void testSameAsDirectAntialiased() {
+        checkSameAsDirect(new Rectangle2D.Double(-3.0, -3.0, 6.0, 6.0), true);
+        checkSameAsDirect(new Ellipse2D.Double(-4.0, -4.0, 8.0, 8.0), true);
+    }
+
+    /**
+     * A sprite is created for each distinct combination of attributes and
+     * sub-pixel step, and is then reused.
+     */
+    @Test
+    public void testReuse() {
+        BufferedImage image = createImage();
+        Graphics2D g2 = image.createGraphics();
+        Shape shape = new Rectangle2D.Double(-3.0, -3.0, 6.0, 6.0);
+        SpriteCache cache = new SpriteCache();
+        cache.draw(g2, shape, 10.1, 10.1, Color.RED, null, null);
+        cache.draw(g2, shape, 20.2, 15.1, Color.RED, null, null);
+        assertEquals(1, cache.getSize());
+        cache.draw(g2, shape, 20.6, 15.1, Color.RED, null, null);
+        assertEquals(2, cache.getSize());
+        cache.draw(g2, shape, 20.6, 15.1, Color.GREEN, null, null);
+        assertEquals(3, cache.getSize());
+        cache.draw(g2, shape, 20.6, 15.1, Color.GREEN, Color.BLACK,
+                new BasicStroke(1.0f));
+        assertEquals(4, cache.getSize());
+        cache.draw(g2, new Ellipse2D.Double(-3.0, -3.0, 6.0, 6.0), 20.6,
+                15.1, Color.GREEN, null, null);
+        assertEquals(5, cache.getSize());
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        cache.draw(g2, shape, 10.1, 10.1, Color.RED, null, null);
+        assertEquals(6, cache.getSize());
+        g2.dispose();
+        cache.clear();
+        assertEquals(0, cache.getSize());
+    }
+
+    /**
+     * The least recently used sprite is discarded when the cache is full.
+     */
+    @Test
+    public void testMaxSize() {
+        BufferedImage image = createImage();
+        Graphics2D g2 = image.createGraphics();
+        Shape shape = new Rectangle2D.Double(-3.0, -3.0, 6.0, 6.0);
+        SpriteCache cache = new SpriteCache(2);
+        cache.draw(g2, shape, 10.0, 10.0, Color.RED, null, null);
+        cache.draw(g2, shape, 10.0, 10.0, Color.GREEN, null, null);
+        cache.draw(g2, shape, 10.0, 10.0, Color.BLUE, null, null);
+        assertEquals(2, cache.getSize());
+        g2.dispose();
+    }
+
+    /**
+     * Paints other than colors, and transforms with rotation, are not
+     * supported.
+     */
+    @Test
+    public void testUnsupported() {
+        BufferedImage image = createImage();
+        Graphics2D g2 = image.createGraphics();
+        Shape shape = new Rectangle2D.Double(-3.0, -3.0, 6.0, 6.0);
+        SpriteCache cache = new SpriteCache();
+        assertFalse(cache.draw(g2, shape, 10.0, 10.0, new GradientPaint(
+                0f, 0f, Color.RED, 10f, 10f, Color.BLUE), null, null));
+        g2.transform(AffineTransform.getRotateInstance(0.5));
+        assertFalse(cache.draw(g2, shape, 10.0, 10.0, Color.RED, null,
+                null));
+        assertEquals(0, cache.getSize());
+        g2.dispose();
+    }
+
+    /**
+     * Sprites are scaled with the target transform.
+     */
+    @Test
+    public void testScaledTransform() {
+        Shape shape = new Rectangle2D.Double(-2.0, -2.0, 4.0, 4.0);
+        BufferedImage expected = createImage();
+        Graphics2D g2 = expected.createGraphics();
+        g2.scale(2.0, 2.0);
+        g2.setPaint(Color.RED);
+        g2.fill(ShapeUtils.createTranslatedShape(shape, 10.0, 10.0));
+        g2.dispose();
+        BufferedImage actual = createImage();
+        g2 = actual.createGraphics();
+        g2.scale(2.0, 2.0);
+        assertTrue(new SpriteCache().draw(g2, shape, 10.0, 10.0, Color.RED,
+                null, null));
+        g2.dispose();
+        assertSamePixels(expected, actual);
+    }
+
+}
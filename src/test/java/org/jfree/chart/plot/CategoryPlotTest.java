@@ -55,8 +55,10 @@ import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.EventListener;
 import java.util.List;
+import java.util.Random;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.legend.LegendItemCollection;
@@ -68,6 +70,8 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.CategoryAnchor;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.CategoryItemEntity;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.renderer.category.AreaRenderer;
 import org.jfree.chart.renderer.category.BarRenderer;
@@ -1267,4 +1271,74 @@ public class CategoryPlotTest {
                 yMarker1));
     }
 
+    /**
+     * The range axis range after changes that carry details of the change
+     * must be the same as the range found by scanning the data.
+     */
+    @Test
+    public void testIncrementalAutoRange() {
+        DefaultCategoryDataset<String, String> dataset 
+                = new DefaultCategoryDataset<>();
+        NumberAxis yAxis = new NumberAxis("Y");
+        LineAndShapeRenderer renderer = new LineAndShapeRenderer();
+        CategoryPlot<String, String> plot = new CategoryPlot<>(dataset, 
+                new CategoryAxis("X"), yAxis, renderer);
+        Random random = new Random(123);
+        for (int i = 0; i < 200; i++) {
+            String row = "R" + random.nextInt(3);
+            String column = "C" + random.nextInt(10);
+            if (i % 5 == 4 && dataset.getRowIndex(row) >= 0 
+                    && dataset.getColumnIndex(column) >= 0) {
+                dataset.removeValue(row, column);
+            } else {
+                dataset.setValue(random.nextGaussian() * 10.0, row, column);
+            }
+            if (i == 100) {
+                renderer.setSeriesVisible(0, false);
+            }
+            Range y = yAxis.getRange();
+            plot.configureRangeAxes();
+            assertEquals(yAxis.getRange(), y);
+        }
+    }
+
+    /**
+     * The rendering stops drawing items when the rendering info is 
+     * cancelled, but not when the drawing thread is interrupted.
+     */
+    @Test
+    public void testDrawCancelled() {
+        DefaultCategoryDataset<String, String> dataset 
+                = new DefaultCategoryDataset<>();
+        for (int c = 0; c < 20; c++) {
+            dataset.addValue(c, "R1", "C" + c);
+        }
+        JFreeChart chart = new JFreeChart(new CategoryPlot<>(dataset, 
+                new CategoryAxis("Category"), new NumberAxis("Value"), 
+                new BarRenderer()));
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        info.cancel();
+        chart.createBufferedImage(500, 300, info);
+        assertEquals(0, countItemEntities(info));
+
+        info = new ChartRenderingInfo();
+        Thread.currentThread().interrupt();
+        try {
+            chart.createBufferedImage(500, 300, info);
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(20, countItemEntities(info));
+    }
+
+    private static int countItemEntities(ChartRenderingInfo info) {
+        EntityCollection entities = info.getEntityCollection();
+        int count = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            if (entities.getEntity(i) instanceof CategoryItemEntity) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
@@ -45,6 +45,7 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Stroke;
+import java.awt.image.BufferedImage;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
@@ -122,6 +123,16 @@ public class FastScatterPlotTest {
         plot2.setRangePannable(true);
         assertTrue(plot1.equals(plot2));
 
+        plot1.setRasterRendering(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setRasterRendering(true);
+        assertTrue(plot1.equals(plot2));
+
+        plot1.setAccumulateAlpha(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setAccumulateAlpha(true);
+        assertTrue(plot1.equals(plot2));
+
     }
 
     /**
@@ -215,6 +226,25 @@ public class FastScatterPlotTest {
         }
     }
 
+    /**
+     * Drawing in raster rendering mode should give the same image as filling
+     * a rectangle for each point.
+     */
+    @Test
+    public void testRasterRendering() {
+        FastScatterPlot plot = new FastScatterPlot(createData(),
+                new NumberAxis("X"), new NumberAxis("Y"));
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image1 = chart.createBufferedImage(300, 200, null);
+        plot.setRasterRendering(true);
+        BufferedImage image2 = chart.createBufferedImage(300, 200, null);
+        for (int x = 0; x < 300; x++) {
+            for (int y = 0; y < 200; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+    }
+
     /**
      * Populates the data array with random values.
      *
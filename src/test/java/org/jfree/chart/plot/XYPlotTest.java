@@ -44,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import org.junit.jupiter.api.Test;
 
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.GradientPaint;
@@ -55,8 +56,12 @@ import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.EventListener;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.legend.LegendItemCollection;
@@ -66,9 +71,13 @@ import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
+import org.jfree.chart.renderer.xy.StackedXYAreaRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
@@ -81,8 +90,10 @@ import org.jfree.data.Range;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.MultiResolutionXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -412,6 +423,12 @@ public class XYPlotTest {
         plot2.setShadowGenerator(null);
         assertTrue(plot1.equals(plot2));
 
+        // parallelRendering
+        plot1.setParallelRendering(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setParallelRendering(true);
+        assertTrue(plot1.equals(plot2));
+
         LegendItemCollection lic1 = new LegendItemCollection();
         lic1.add(new LegendItem("XYZ", Color.RED));
         plot1.setFixedLegendItems(lic1);
@@ -1052,6 +1069,237 @@ public class XYPlotTest {
         }
     }
 
+    /**
+     * A large {@link MultiResolutionXYDataset} should be drawn from a
+     * summary level, so far fewer items are drawn than the dataset holds.
+     */
+    @Test
+    public void testDrawMultiResolutionDataset() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 100000; i++) {
+            s.add(i, Math.sin(i / 1000.0));
+        }
+        MultiResolutionXYDataset<String> dataset
+                = new MultiResolutionXYDataset<>(new XYSeriesCollection<>(s));
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.createBufferedImage(400, 300, info);
+        int count = info.getEntityCollection().getEntityCount();
+        assertTrue(count > 400);
+        assertTrue(count < 10000);
+
+        // zoom in to the point where every item is drawn
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(1000.0, 1099.0);
+        info = new ChartRenderingInfo();
+        chart.createBufferedImage(400, 300, info);
+        count = info.getEntityCollection().getEntityCount();
+        assertTrue(count >= 100);
+        assertTrue(count < 110);
+    }
+
+    /**
+     * The renderers draw a view of a {@link MultiResolutionXYDataset}, which
+     * has the index of the dataset, so that drawing with an anchor point 
+     * (as for a mouse click in a chart panel) and with crosshairs locked on
+     * the data works.
+     */
+    @Test
+    public void testDrawMultiResolutionDatasetWithAnchor() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 200000; i++) {
+            s.add(i, Math.sin(i / 1000.0));
+        }
+        MultiResolutionXYDataset<String> dataset
+                = new MultiResolutionXYDataset<>(new XYSeriesCollection<>(s));
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset, PlotOrientation.VERTICAL, false, true, false);
+        XYPlot<String> plot = (XYPlot) chart.getPlot();
+        assertEquals(0, plot.indexOf(dataset.getDataset(3)));
+        assertEquals(-1, plot.indexOf(new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(s)).getDataset(3)));
+
+        BufferedImage image = new BufferedImage(600, 400,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        Rectangle2D area = new Rectangle2D.Double(0, 0, 600, 400);
+        chart.draw(g2, area, new Point2D.Double(300, 200),
+                new ChartRenderingInfo());
+
+        plot.setDomainCrosshairVisible(true);
+        plot.setRangeCrosshairVisible(true);
+        assertTrue(plot.isDomainCrosshairLockedOnData());
+        assertTrue(plot.isRangeCrosshairLockedOnData());
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, area, new Point2D.Double(300, 200), info);
+        g2.dispose();
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        double anchorX = plot.getDomainAxis().java2DToValue(300, dataArea,
+                plot.getDomainAxisEdge());
+        double x = plot.getDomainCrosshairValue();
+        assertEquals(anchorX, x, 1000.0);
+        assertEquals(Math.sin(Math.rint(x) / 1000.0), 
+                plot.getRangeCrosshairValue(), 1.0E-9);
+    }
+
+    /**
+     * Rendering in parallel should give the same image and entities as
+     * rendering sequentially.
+     */
+    @Test
+    public void testDrawParallel() {
+        XYSeriesCollection<String> dataset1 = new XYSeriesCollection<>();
+        for (int s = 0; s < 6; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s);
+            for (int i = 0; i < 200; i++) {
+                series.add(i, Math.sin((i + 10 * s) / 20.0) * (s + 1));
+            }
+            dataset1.addSeries(series);
+        }
+        DefaultTableXYDataset<String> dataset2 = new DefaultTableXYDataset<>();
+        for (int s = 0; s < 2; s++) {
+            XYSeries<String> series = new XYSeries<>("T" + s, true, false);
+            for (int i = 0; i < 200; i += 10) {
+                series.add(i, s + 1.0);
+            }
+            dataset2.addSeries(series);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                dataset1, PlotOrientation.VERTICAL, true, true, false);
+        chart.setAntiAlias(false);
+        XYPlot<String> plot = (XYPlot) chart.getPlot();
+        plot.setDataset(1, dataset2);
+        plot.setRenderer(1, new StackedXYAreaRenderer());
+        ((XYLineAndShapeRenderer) plot.getRenderer()).setDefaultShapesVisible(
+                true);
+
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image1 = chart.createBufferedImage(500, 300, info1);
+        plot.setParallelRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage image2 = chart.createBufferedImage(500, 300, info2);
+        for (int x = 0; x < 500; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+        // the entity areas are not all shapes that implement equals(), so
+        // compare the bounds
+        EntityCollection entities1 = info1.getEntityCollection();
+        EntityCollection entities2 = info2.getEntityCollection();
+        assertEquals(entities1.getEntityCount(), entities2.getEntityCount());
+        for (int i = 0; i < entities1.getEntityCount(); i++) {
+            ChartEntity e1 = entities1.getEntity(i);
+            ChartEntity e2 = entities2.getEntity(i);
+            assertEquals(e1.toString(), e2.toString());
+            assertEquals(e1.getArea().getBounds2D(),
+                    e2.getArea().getBounds2D());
+            assertEquals(e1.getToolTipText(), e2.getToolTipText());
+        }
+    }
+
+    /**
+     * A renderer that counts the number of times it is cloned (the count is
+     * shared with the clones).
+     */
+    private static class CountingRenderer extends XYLineAndShapeRenderer {
+
+        AtomicInteger cloneCount = new AtomicInteger();
+
+        @Override
+        public Object clone() throws CloneNotSupportedException {
+            this.cloneCount.incrementAndGet();
+            return super.clone();
+        }
+    }
+
+    /**
+     * Creates a chart with six series for the parallel rendering tests.
+     *
+     * @param renderer  the renderer.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createParallelChart(XYItemRenderer renderer) {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        for (int s = 0; s < 6; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s);
+            for (int i = 0; i < 200; i++) {
+                series.add(i, Math.sin((i + 10 * s) / 20.0) * (s + 1));
+            }
+            dataset.addSeries(series);
+        }
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        plot.setParallelRendering(true);
+        return new JFreeChart(plot);
+    }
+
+    /**
+     * The copies of the renderer made for parallel rendering are reused
+     * until the renderer changes.
+     */
+    @Test
+    public void testDrawParallelRendererCopies() {
+        CountingRenderer renderer = new CountingRenderer();
+        JFreeChart chart = createParallelChart(renderer);
+        chart.createBufferedImage(500, 300);
+        int count = renderer.cloneCount.get();
+        assertTrue(count > 0);
+        chart.createBufferedImage(500, 300);
+        assertEquals(count, renderer.cloneCount.get());
+        renderer.setSeriesPaint(0, Color.RED);
+        chart.createBufferedImage(500, 300);
+        assertEquals(2 * count, renderer.cloneCount.get());
+    }
+
+    /**
+     * The rendering stops drawing items when the rendering info is
+     * cancelled, with or without parallel rendering.
+     */
+    @Test
+    public void testDrawCancelled() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            JFreeChart chart = createParallelChart(
+                    new XYLineAndShapeRenderer());
+            ((XYPlot<?>) chart.getPlot()).setParallelRendering(parallel);
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            info.cancel();
+            chart.createBufferedImage(500, 300, info);
+            EntityCollection entities = info.getEntityCollection();
+            for (int i = 0; i < entities.getEntityCount(); i++) {
+                assertFalse(entities.getEntity(i) instanceof XYItemEntity);
+            }
+        }
+    }
+
+    /**
+     * An interrupt of the thread that draws the chart does not stop the
+     * rendering (only cancelling the rendering info does).
+     */
+    @Test
+    public void testDrawInterrupted() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            JFreeChart chart = createParallelChart(
+                    new XYLineAndShapeRenderer());
+            ((XYPlot<?>) chart.getPlot()).setParallelRendering(parallel);
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            chart.createBufferedImage(500, 300, info);
+            int count = info.getEntityCollection().getEntityCount();
+            assertTrue(count > 1200);
+            info = new ChartRenderingInfo();
+            Thread.currentThread().interrupt();
+            try {
+                chart.createBufferedImage(500, 300, info);
+                assertTrue(Thread.currentThread().isInterrupted());
+            } finally {
+                Thread.interrupted();
+            }
+            assertEquals(count, info.getEntityCollection().getEntityCount());
+        }
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
@@ -1418,4 +1666,261 @@ public class XYPlotTest {
         assertEquals(new Range(1.0, 6.0), plot.getDataRange(xAxis));
         assertEquals(new Range(2.0, 10.0), plot.getDataRange(yAxis)); // only y-values for items in the x-range        
     }    
+
+    /**
+     * Draws the data layer of the plot into a new image.
+     * 
+     * @param plot  the plot.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage drawDataLayer(XYPlot<?> plot) {
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        PlotState state = new PlotState();
+        state.setLayer(ChartLayer.DATA);
+        plot.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, state, 
+                null);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * A data layer that is scrolled and then partially redrawn should match
+     * the data layer drawn in full from the last item before the new items,
+     * and be untouched to the left of that.
+     */
+    @Test
+    public void testDataRedrawRange() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i <= 100; i++) {
+            series.add(i, i % 7 + 1);
+        }
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 100.0);
+        xAxis.setVisible(false);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 10.0);
+        yAxis.setVisible(false);
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                xAxis, yAxis, new XYLineAndShapeRenderer());
+        plot.setInsets(RectangleInsets.ZERO_INSETS);
+        plot.setAxisOffset(RectangleInsets.ZERO_INSETS);
+        BufferedImage image = drawDataLayer(plot);
+
+        // append five items and move the axis range by five (20 pixels)
+        for (int i = 101; i <= 105; i++) {
+            series.add(i, i % 7 + 1);
+        }
+        xAxis.setRange(5.0, 105.0);
+        Graphics2D g2 = image.createGraphics();
+        g2.setComposite(AlphaComposite.Src);
+        g2.copyArea(20, 0, 380, 300, -20, 0);
+        g2.setComposite(AlphaComposite.SrcOver);
+        BufferedImage scrolled = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        scrolled.setData(image.getData());
+        PlotState state = new PlotState();
+        state.setLayer(ChartLayer.DATA);
+        state.setDataRedrawRange(new Range(100.0, 105.0));
+        plot.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, state, 
+                null);
+        g2.dispose();
+
+        BufferedImage expected = drawDataLayer(plot);
+        // the redraw area starts at the last existing item (x = 99)
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                if (x < 376) {
+                    assertEquals(scrolled.getRGB(x, y), image.getRGB(x, y));
+                } else {
+                    assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * For a horizontal plot, the new items are at the top of the data area,
+     * so a data layer scrolled down and then partially redrawn should match
+     * the data layer drawn in full above the last item before the new 
+     * items, and be untouched below that.
+     */
+    @Test
+    public void testDataRedrawRangeHorizontal() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i <= 100; i++) {
+            series.add(i, i % 7 + 1);
+        }
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 100.0);
+        xAxis.setVisible(false);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 10.0);
+        yAxis.setVisible(false);
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                xAxis, yAxis, new XYLineAndShapeRenderer());
+        plot.setOrientation(PlotOrientation.HORIZONTAL);
+        plot.setInsets(RectangleInsets.ZERO_INSETS);
+        plot.setAxisOffset(RectangleInsets.ZERO_INSETS);
+        BufferedImage image = drawDataLayer(plot);
+
+        // append five items and move the axis range by five (15 pixels)
+        for (int i = 101; i <= 105; i++) {
+            series.add(i, i % 7 + 1);
+        }
+        xAxis.setRange(5.0, 105.0);
+        Graphics2D g2 = image.createGraphics();
+        g2.setComposite(AlphaComposite.Src);
+        g2.copyArea(0, 0, 400, 285, 0, 15);
+        g2.setComposite(AlphaComposite.SrcOver);
+        BufferedImage scrolled = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        scrolled.setData(image.getData());
+        PlotState state = new PlotState();
+        state.setLayer(ChartLayer.DATA);
+        state.setDataRedrawRange(new Range(100.0, 105.0));
+        plot.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, state, 
+                null);
+        g2.dispose();
+
+        BufferedImage expected = drawDataLayer(plot);
+        // the redraw area ends at the last existing item (x = 99)
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                if (y >= 18) {
+                    assertEquals(scrolled.getRGB(x, y), image.getRGB(x, y));
+                } else {
+                    assertEquals(expected.getRGB(x, y), image.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the axes of a plot from scratch and checks that the ranges
+     * are the same as those found incrementally.
+     * 
+     * @param plot  the plot.
+     */
+    private static void checkAxisRanges(XYPlot<String> plot) {
+        Range x = plot.getDomainAxis().getRange();
+        Range y = plot.getRangeAxis().getRange();
+        plot.configureDomainAxes();
+        plot.configureRangeAxes();
+        assertEquals(plot.getDomainAxis().getRange(), x);
+        assertEquals(plot.getRangeAxis().getRange(), y);
+    }
+
+    /**
+     * The axis ranges after changes that carry details of the change must
+     * be the same as the ranges found by scanning the data.
+     */
+    @Test
+    public void testIncrementalAutoRange() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.setMaximumItemCount(40);
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+        Random random = new Random(123);
+        for (int i = 0; i < 300; i++) {
+            if (i == 150) {
+                // the renderer now only counts the items in a window
+                xAxis.setFixedAutoRange(25.0);
+            }
+            s1.add(i, random.nextGaussian() * 10.0);
+            checkAxisRanges(plot);
+            if (i % 3 == 0) {
+                s2.add(i * 0.5, random.nextGaussian() * 5.0 + 20.0);
+                checkAxisRanges(plot);
+            }
+            if (i % 7 == 0) {
+                s1.updateByIndex(s1.getItemCount() / 2, 
+                        random.nextGaussian() * 15.0);
+                checkAxisRanges(plot);
+            }
+            if (i % 11 == 0 && s2.getItemCount() > 1) {
+                s2.remove(random.nextInt(s2.getItemCount()));
+                checkAxisRanges(plot);
+            }
+            if (i == 200) {
+                renderer.setSeriesVisible(1, false);
+                checkAxisRanges(plot);
+            }
+        }
+    }
+
+    /**
+     * Items added without notification are included in the axis ranges
+     * when the next change is notified ("add quietly, notify once").
+     */
+    @Test
+    public void testIncrementalAutoRangeAfterUnnotifiedChange() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                yAxis, new XYLineAndShapeRenderer());
+        s1.add(3.0, 100.0, false);
+        s1.add(4.0, 3.0, true);
+        assertTrue(yAxis.getRange().contains(100.0));
+        checkAxisRanges(plot);
+
+        // an eviction without notification
+        s1.setMaximumItemCount(4);
+        s1.add(5.0, 4.0, false);
+        s1.add(6.0, 5.0, false);
+        s1.add(7.0, 6.0);
+        assertFalse(yAxis.getRange().contains(100.0));
+        checkAxisRanges(plot);
+    }
+
+    /**
+     * Appending an item within the current bounds does not rescan the data.
+     */
+    @Test
+    public void testIncrementalAutoRangeAvoidsRescan() {
+        int[] scans = new int[1];
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<String>() {
+            @Override
+            public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+                    boolean includeInterval) {
+                scans[0]++;
+                return super.getRangeBounds(visibleSeriesKeys, xRange, 
+                        includeInterval);
+            }
+        };
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 5.0);
+        dataset.addSeries(s1);
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                yAxis, new XYLineAndShapeRenderer());
+        scans[0] = 0;
+        s1.add(3.0, 2.0);
+        s1.add(4.0, 9.0);
+        assertEquals(0, scans[0]);
+        assertEquals(9.0, yAxis.getRange().getUpperBound(), 0.5);
+
+        // removing the item with the largest y-value needs a rescan
+        s1.remove(3);
+        assertEquals(1, scans[0]);
+        checkAxisRanges(plot);
+
+        // a renderer that includes the intervals in the bounds needs a rescan
+        plot.setRenderer(new XYBarRenderer());
+        scans[0] = 0;
+        s1.add(5.0, 3.0);
+        assertEquals(1, scans[0]);
+    }
 }
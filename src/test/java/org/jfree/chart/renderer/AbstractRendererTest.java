@@ -322,6 +322,18 @@ public class AbstractRendererTest {
         r2.setDefaultCreateEntities(false);
         assertTrue(r1.equals(r2));
 
+        // lazyEntityText
+        r1.setLazyEntityText(true);
+        assertFalse(r1.equals(r2));
+        r2.setLazyEntityText(true);
+        assertTrue(r1.equals(r2));
+
+        // spriteRendering
+        r1.setSpriteRendering(true);
+        assertFalse(r1.equals(r2));
+        r2.setSpriteRendering(true);
+        assertTrue(r1.equals(r2));
+
         // legendShape
         r1.setLegendShape(0, new Ellipse2D.Double(1.0, 2.0, 3.0, 4.0));
         assertFalse(r1.equals(r2));
@@ -37,7 +37,15 @@
 package org.jfree.chart.renderer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -384,4 +392,98 @@ public class RendererUtilsTest {
         assertEquals(2, bounds[1]);
     }
 
+    /**
+     * With two device pixels per Java2D unit, the items are decimated in
+     * columns half as wide.
+     */
+    @Test
+    public void testFindDecimatedItemsScaled() {
+        double[][] data = new double[2][1000];
+        for (int i = 0; i < 1000; i++) {
+            data[0][i] = i + 0.5;
+            data[1][i] = (i % 50 == 17) ? 100.0 : (i % 50 == 31)
+                    ? -100.0 : i % 7;
+        }
+        DefaultXYDataset<String> d = new DefaultXYDataset<>();
+        d.addSeries("S1", data);
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 1000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 10.0, 50.0);
+
+        // at scale 1, each column holds two peaks and keeps only the first
+        int[] items = RendererUtils.findDecimatedItems(d, 0, 0, 999, axis,
+                area, RectangleEdge.BOTTOM);
+        assertTrue(Arrays.binarySearch(items, 17) >= 0);
+        assertTrue(Arrays.binarySearch(items, 67) < 0);
+
+        // at scale 2, each peak has a column of its own
+        items = RendererUtils.findDecimatedItems(d, 0, 0, 999, axis, area,
+                RectangleEdge.BOTTOM, 2.0);
+        assertTrue(items.length <= 8 * 20 + 1);
+        for (int k = 0; k < 20; k++) {
+            assertTrue(Arrays.binarySearch(items, 50 * k + 17) >= 0);
+            assertTrue(Arrays.binarySearch(items, 50 * k + 31) >= 0);
+        }
+        assertThrows(IllegalArgumentException.class, 
+                () -> RendererUtils.findDecimatedItems(d, 0, 0, 999, axis, 
+                area, RectangleEdge.BOTTOM, 0.0));
+    }
+
+    /**
+     * Some checks for the findDecimatedItems() method.
+     */
+    @Test
+    public void testFindDecimatedItems() {
+        // 1000 items over 10 pixel columns, with a peak and a trough in
+        // each block of 100 items
+        double[][] data = new double[2][1000];
+        for (int i = 0; i < 1000; i++) {
+            data[0][i] = i + 0.5;
+            data[1][i] = (i % 100 == 37) ? 100.0 : (i % 100 == 61)
+                    ? -100.0 : i % 7;
+        }
+        data[1][550] = Double.NaN;
+        DefaultXYDataset<String> d = new DefaultXYDataset<>();
+        d.addSeries("S1", data);
+        NumberAxis axis = new NumberAxis();
+        axis.setRange(0.0, 1000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 10.0, 50.0);
+
+        int[] items = RendererUtils.findDecimatedItems(d, 0, 0, 999, axis,
+                area, RectangleEdge.BOTTOM);
+        assertTrue(items.length <= 8 * 10 + 1);
+        for (int i = 1; i < items.length; i++) {
+            assertTrue(items[i] > items[i - 1]);
+        }
+        assertEquals(0, items[0]);
+        assertEquals(999, items[items.length - 1]);
+        for (int k = 0; k < 10; k++) {
+            assertTrue(Arrays.binarySearch(items, 100 * k + 37) >= 0);
+            assertTrue(Arrays.binarySearch(items, 100 * k + 61) >= 0);
+        }
+        // the gap is kept, and so are the items either side of it
+        assertTrue(Arrays.binarySearch(items, 549) >= 0);
+        assertTrue(Arrays.binarySearch(items, 550) >= 0);
+        assertTrue(Arrays.binarySearch(items, 551) >= 0);
+
+        // a sub-range
+        items = RendererUtils.findDecimatedItems(d, 0, 100, 899, axis,
+                area, RectangleEdge.BOTTOM);
+        assertEquals(100, items[0]);
+        assertEquals(899, items[items.length - 1]);
+
+        // not enough items to be worth decimating
+        assertNull(RendererUtils.findDecimatedItems(d, 0, 0, 40, axis, area,
+                RectangleEdge.BOTTOM));
+        area = new Rectangle2D.Double(0.0, 0.0, 500.0, 50.0);
+        assertNull(RendererUtils.findDecimatedItems(d, 0, 0, 999, axis,
+                area, RectangleEdge.BOTTOM));
+
+        // x-values not in ascending order
+        area = new Rectangle2D.Double(0.0, 0.0, 10.0, 50.0);
+        data[0][500] = 1.0;
+        assertNull(RendererUtils.findDecimatedItems(d, 0, 0, 999, axis,
+                area, RectangleEdge.BOTTOM));
+    }
+
 }
@@ -0,0 +1,189 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * SeriesStyleTest.java
+ * --------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Paint;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYSplineRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SeriesStyle} class.
+ */
+public class SeriesStyleTest {
+
+    /**
+     * A renderer that returns a different paint for odd and even items.
+     */
+    static class AlternatingRenderer extends XYLineAndShapeRenderer {
+        @Override
+        public Paint getItemPaint(int row, int column) {
+            return column % 2 == 0 ? Color.RED : Color.BLUE;
+        }
+    }
+
+    /**
+     * A renderer that overrides an item method, but also overrides
+     * {@code createSeriesStyle()}.
+     */
+    static class SeriesPaintRenderer extends XYLineAndShapeRenderer {
+        @Override
+        public Paint getItemPaint(int row, int column) {
+            return Color.GREEN;
+        }
+        @Override
+        protected SeriesStyle createSeriesStyle(int series) {
+            return super.createSeriesStyle(series);
+        }
+    }
+
+    /**
+     * Series styles are supported only when the item methods are not
+     * overridden.
+     */
+    @Test
+    public void testIsSupported() {
+        assertTrue(SeriesStyle.isSupported(XYLineAndShapeRenderer.class));
+        assertTrue(SeriesStyle.isSupported(XYSplineRenderer.class));
+        assertTrue(SeriesStyle.isSupported(LineAndShapeRenderer.class));
+        assertFalse(SeriesStyle.isSupported(AlternatingRenderer.class));
+        assertTrue(SeriesStyle.isSupported(SeriesPaintRenderer.class));
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer() {
+            @Override
+            public boolean getItemShapeVisible(int series, int item) {
+                return item > 0;
+            }
+        };
+        assertFalse(SeriesStyle.isSupported(r.getClass()));
+    }
+
+    /**
+     * The style holds the attributes for the series.
+     */
+    @Test
+    public void testAttributes() {
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false);
+        r.setSeriesPaint(1, Color.RED);
+        r.setSeriesFillPaint(1, Color.GREEN);
+        r.setSeriesOutlinePaint(1, Color.BLUE);
+        r.setSeriesStroke(1, new BasicStroke(2.0f));
+        r.setSeriesOutlineStroke(1, new BasicStroke(3.0f));
+        r.setSeriesItemLabelsVisible(1, true);
+        r.setSeriesVisible(2, false);
+        SeriesStyle style = new SeriesStyle(r, 1, true, true, false);
+        assertTrue(style.isVisible());
+        assertEquals(Color.RED, style.getPaint());
+        assertEquals(Color.GREEN, style.getFillPaint());
+        assertEquals(Color.BLUE, style.getOutlinePaint());
+        assertEquals(new BasicStroke(2.0f), style.getStroke());
+        assertEquals(new BasicStroke(3.0f), style.getOutlineStroke());
+        assertEquals(r.getItemShape(1, 0), style.getShape());
+        assertTrue(style.isItemLabelVisible());
+        assertTrue(style.isLineVisible());
+        assertTrue(style.isShapeVisible());
+        assertFalse(style.isShapeFilled());
+
+        style = new SeriesStyle(r, 2, true, false, false);
+        assertFalse(style.isVisible());
+        assertNull(style.getShape());
+    }
+
+    /**
+     * The style for a series is created once for each renderer state, and
+     * not at all if the renderer overrides the item methods.
+     */
+    @Test
+    public void testLookupSeriesStyle() {
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+        RendererState state = new RendererState(null);
+        SeriesStyle style = r.lookupSeriesStyle(state, 12);
+        assertSame(style, r.lookupSeriesStyle(state, 12));
+        assertSame(style, state.getSeriesStyle(12));
+        assertNull(state.getSeriesStyle(3));
+        assertNull(new AlternatingRenderer().lookupSeriesStyle(state, 0));
+    }
+
+    /**
+     * A renderer that overrides an item method should still be drawn with
+     * the attributes it returns for each item.
+     */
+    @Test
+    public void testOverriddenItemPaint() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 20; i++) {
+            s.add(i, i % 3);
+        }
+        AlternatingRenderer r = new AlternatingRenderer();
+        r.setDefaultShapesVisible(false);
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(s),
+                new NumberAxis("X"), new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        BufferedImage image = chart.createBufferedImage(400, 300);
+        int red = 0;
+        int blue = 0;
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                if (image.getRGB(x, y) == Color.RED.getRGB()) {
+                    red++;
+                }
+                else if (image.getRGB(x, y) == Color.BLUE.getRGB()) {
+                    blue++;
+                }
+            }
+        }
+        assertTrue(red > 100);
+        assertTrue(blue > 100);
+    }
+
+}
@@ -41,6 +41,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.TestUtils;
@@ -285,4 +289,44 @@ public class LineAndShapeRendererTest {
         assertEquals(new Range(-2.0, 1.0), r.findRangeBounds(dataset));
     }
 
+    /**
+     * Drawing the shapes as sprites should place the shapes in the same
+     * positions, and create the same entities, as drawing them directly.
+     */
+    @Test
+    public void testSpriteRendering() {
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        for (int i = 0; i < 10; i++) {
+            dataset.addValue(i % 3, "R1", "C" + i);
+        }
+        LineAndShapeRenderer r = new LineAndShapeRenderer(false, true);
+        r.setSeriesPaint(0, Color.RED);
+        CategoryPlot<String, String> plot = new CategoryPlot<>(dataset,
+                new CategoryAxis("Category"), new NumberAxis("Value"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage expected = chart.createBufferedImage(400, 300, info1);
+        r.setSpriteRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage actual = chart.createBufferedImage(400, 300, info2);
+        int shapePixels = 0;
+        int differences = 0;
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                if (expected.getRGB(x, y) == Color.RED.getRGB()) {
+                    shapePixels++;
+                }
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    differences++;
+                }
+            }
+        }
+        assertTrue(shapePixels > 100);
+        assertTrue(differences < shapePixels / 10);
+        assertEquals(info1.getEntityCollection().getEntityCount(),
+                info2.getEntityCollection().getEntityCount());
+    }
+
 }
@@ -40,12 +40,24 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.Test;
 
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.CompactEntityCollection;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.labels.StandardXYSeriesLabelGenerator;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.labels.StandardXYItemLabelGenerator;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.Range;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -182,4 +194,64 @@ public class AbstractXYItemRendererTest {
         assertNotEquals(r1, r2);
     }
 
+    /**
+     * The entities created with the lazyEntityText flag set should have the
+     * same text as the entities created without it.
+     */
+    @Test
+    public void testLazyEntityText() {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                createDataset1(), PlotOrientation.VERTICAL, false, true, true);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        chart.createBufferedImage(300, 200, info1);
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        AbstractXYItemRenderer r = (AbstractXYItemRenderer) plot.getRenderer();
+        r.setLazyEntityText(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        chart.createBufferedImage(300, 200, info2);
+        EntityCollection entities1 = info1.getEntityCollection();
+        EntityCollection entities2 = info2.getEntityCollection();
+        assertEquals(entities1.getEntityCount(), entities2.getEntityCount());
+        int itemEntities = 0;
+        for (int i = 0; i < entities1.getEntityCount(); i++) {
+            if (entities1.getEntity(i) instanceof XYItemEntity) {
+                itemEntities++;
+                assertTrue(entities1.getEntity(i).getToolTipText() != null);
+                assertTrue(entities1.getEntity(i).getURLText() != null);
+            }
+            assertEquals(entities1.getEntity(i).getToolTipText(),
+                    entities2.getEntity(i).getToolTipText());
+            assertEquals(entities1.getEntity(i).getURLText(),
+                    entities2.getEntity(i).getURLText());
+        }
+        assertEquals(3, itemEntities);
+    }
+
+    /**
+     * A {@link CompactEntityCollection} should end up with the same entities
+     * as a {@link StandardEntityCollection}.
+     */
+    @Test
+    public void testCompactEntityCollection() {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                createDataset1(), PlotOrientation.VERTICAL, false, true, true);
+        ChartRenderingInfo info1 = new ChartRenderingInfo(
+                new StandardEntityCollection());
+        chart.createBufferedImage(300, 200, info1);
+        ChartRenderingInfo info2 = new ChartRenderingInfo(
+                new CompactEntityCollection());
+        chart.createBufferedImage(300, 200, info2);
+        EntityCollection entities1 = info1.getEntityCollection();
+        EntityCollection entities2 = info2.getEntityCollection();
+        assertEquals(new ArrayList<>(entities1.getEntities()),
+                entities2.getEntities());
+        int itemEntities = 0;
+        for (ChartEntity entity : entities2.getEntities()) {
+            if (entity instanceof XYItemEntity) {
+                itemEntities++;
+            }
+        }
+        assertEquals(3, itemEntities);
+    }
+
 }
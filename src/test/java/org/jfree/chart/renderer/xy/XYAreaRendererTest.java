@@ -111,6 +111,11 @@ public class XYAreaRendererTest {
         r2.setUseFillPaint(true);
         assertTrue(r1.equals(r2));
 
+        r1.setItemDecimation(true);
+        assertFalse(r1.equals(r2));
+        r2.setItemDecimation(true);
+        assertTrue(r1.equals(r2));
+
         r1.setGradientTransformer(new StandardGradientPaintTransformer(
                 GradientPaintTransformType.CENTER_VERTICAL));
         assertFalse(r1.equals(r2));
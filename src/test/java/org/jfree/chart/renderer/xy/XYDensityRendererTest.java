@@ -0,0 +1,249 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYDensityRendererTest.java
+ * --------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.legend.PaintScaleLegend;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.GrayPaintScale;
+import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link XYDensityRenderer} class.
+ */
+public class XYDensityRendererTest {
+
+    /**
+     * Check that the equals() method distinguishes all fields.
+     */
+    @Test
+    public void testEquals() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        XYDensityRenderer r2 = new XYDensityRenderer();
+        assertEquals(r1, r2);
+
+        r1.setCellSize(7.0);
+        assertFalse(r1.equals(r2));
+        r2.setCellSize(7.0);
+        assertTrue(r1.equals(r2));
+
+        r1.setCellShape(XYDensityRenderer.CellShape.HEXAGON);
+        assertFalse(r1.equals(r2));
+        r2.setCellShape(XYDensityRenderer.CellShape.HEXAGON);
+        assertTrue(r1.equals(r2));
+
+        r1.setPaintScale(new GrayPaintScale(0.0, 50.0));
+        assertFalse(r1.equals(r2));
+        r2.setPaintScale(new GrayPaintScale(0.0, 50.0));
+        assertTrue(r1.equals(r2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        r1.setPaintScale(new LookupPaintScale(0.0, 10.0, Color.RED));
+        XYDensityRenderer r2 = CloneUtils.clone(r1);
+        assertTrue(r1 != r2);
+        assertTrue(r1.getClass() == r2.getClass());
+        assertTrue(r1.equals(r2));
+        assertTrue(r1.getPaintScale() != r2.getPaintScale());
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        assertTrue(r1 instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        XYDensityRenderer r1 = new XYDensityRenderer();
+        r1.setCellShape(XYDensityRenderer.CellShape.HEXAGON);
+        XYDensityRenderer r2 = TestUtils.serialised(r1);
+        assertEquals(r1, r2);
+    }
+
+    /**
+     * Creates a chart with three points at (25, 25), one in each of the
+     * first two series and one in the third, and a single point at (75, 75).
+     *
+     * @param renderer  the renderer.
+     *
+     * @return The chart.
+     */
+    private JFreeChart createChart(XYDensityRenderer renderer) {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(25.0, 25.0);
+        s1.add(25.0, 25.0);
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        s2.add(75.0, 75.0);
+        XYSeries<String> s3 = new XYSeries<>("S3");
+        s3.add(25.0, 25.0);
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        dataset.addSeries(s3);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 100.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 100.0);
+        LookupPaintScale scale = new LookupPaintScale(0.0, 10.0, Color.BLACK);
+        scale.add(1.0, Color.BLUE);
+        scale.add(2.0, Color.RED);
+        renderer.setPaintScale(scale);
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis, renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        chart.removeLegend();
+        return chart;
+    }
+
+    /**
+     * The points are counted across all series, and each cell is filled with
+     * the color for its count.
+     */
+    @Test
+    public void testRectangleCells() {
+        XYDensityRenderer r = new XYDensityRenderer();
+        r.setCellSize(20.0);
+        JFreeChart chart = createChart(r);
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = chart.createBufferedImage(400, 300, info);
+        Rectangle2D area = info.getPlotInfo().getDataArea();
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        assertEquals(Color.RED.getRGB(), cellCenterRGB(image, area, plot,
+                r.getCellSize(), 25.0, 25.0));
+        assertEquals(Color.BLUE.getRGB(), cellCenterRGB(image, area, plot,
+                r.getCellSize(), 75.0, 75.0));
+        assertEquals(400, countPixels(image, Color.RED));
+        assertEquals(400, countPixels(image, Color.BLUE));
+    }
+
+    /**
+     * Returns the RGB value at the center of the rectangular cell containing
+     * a data point.
+     */
+    private int cellCenterRGB(BufferedImage image, Rectangle2D area,
+            XYPlot<?> plot, double cellSize, double x, double y) {
+        double px = plot.getDomainAxis().valueToJava2D(x, area,
+                plot.getDomainAxisEdge());
+        double py = plot.getRangeAxis().valueToJava2D(y, area,
+                plot.getRangeAxisEdge());
+        int column = (int) ((px - area.getMinX()) / cellSize);
+        int row = (int) ((py - area.getMinY()) / cellSize);
+        return image.getRGB(
+                (int) (area.getMinX() + (column + 0.5) * cellSize),
+                (int) (area.getMinY() + (row + 0.5) * cellSize));
+    }
+
+    /**
+     * Returns the number of pixels in an image with the specified color.
+     */
+    private int countPixels(BufferedImage image, Color color) {
+        int count = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) == color.getRGB()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Each hexagonal cell should cover close to the area of a hexagon with
+     * the cell size as its width.
+     */
+    @Test
+    public void testHexagonCells() {
+        XYDensityRenderer r = new XYDensityRenderer();
+        r.setCellSize(30.0);
+        r.setCellShape(XYDensityRenderer.CellShape.HEXAGON);
+        JFreeChart chart = createChart(r);
+        BufferedImage image = chart.createBufferedImage(400, 300, null);
+        double radius = 30.0 / Math.sqrt(3.0);
+        double hexArea = 1.5 * Math.sqrt(3.0) * radius * radius;
+        assertEquals(hexArea, countPixels(image, Color.RED), hexArea * 0.05);
+        assertEquals(hexArea, countPixels(image, Color.BLUE), hexArea * 0.05);
+    }
+
+    /**
+     * A paint scale legend can be created from the renderer's paint scale.
+     */
+    @Test
+    public void testPaintScaleLegend() {
+        XYDensityRenderer r = new XYDensityRenderer();
+        JFreeChart chart = createChart(r);
+        PaintScaleLegend legend = new PaintScaleLegend(r.getPaintScale(),
+                new NumberAxis("Count"));
+        chart.addSubtitle(legend);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, null);
+        g2.dispose();
+        assertTrue(countPixels(image, Color.RED) > 0);
+    }
+
+}
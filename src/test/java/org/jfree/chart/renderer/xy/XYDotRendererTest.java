@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
@@ -81,6 +82,16 @@ public class XYDotRendererTest {
         assertFalse(r1.equals(r2));
         r2.setLegendShape(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0));
         assertTrue(r1.equals(r2));
+
+        r1.setRasterRendering(true);
+        assertFalse(r1.equals(r2));
+        r2.setRasterRendering(true);
+        assertTrue(r1.equals(r2));
+
+        r1.setAccumulateAlpha(true);
+        assertFalse(r1.equals(r2));
+        r2.setAccumulateAlpha(true);
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -170,4 +181,35 @@ public class XYDotRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+
+    /**
+     * Drawing in raster rendering mode should give the same image as filling
+     * a rectangle for each dot.
+     */
+    @Test
+    public void testRasterRendering() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        for (int s = 0; s < 3; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s);
+            for (int i = 0; i < 500; i++) {
+                series.add(i, Math.sin(i / 10.0 + s) * 100.0);
+            }
+            dataset.addSeries(series);
+        }
+        XYDotRenderer r = new XYDotRenderer();
+        r.setDotWidth(2);
+        r.setDotHeight(3);
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("x"),
+                new NumberAxis("y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image1 = chart.createBufferedImage(400, 300, null);
+        r.setRasterRendering(true);
+        BufferedImage image2 = chart.createBufferedImage(400, 300, null);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+            }
+        }
+    }
+
 }
@@ -36,7 +36,11 @@
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.awt.geom.Ellipse2D;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,8 +48,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.util.Random;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.TestUtils;
@@ -131,6 +137,11 @@ public class XYLineAndShapeRendererTest {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertTrue(r1.equals(r2));
+
+        r1.setItemDecimation(true);
+        assertFalse(r1.equals(r2));
+        r2.setItemDecimation(true);
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -220,6 +231,117 @@ public class XYLineAndShapeRendererTest {
         assertEquals(r1, r2);
     }
 
+    /**
+     * Decimating the items in a large series should not change the lines
+     * that are drawn, apart from a few isolated pixels where the line
+     * rasterizer rounds the end of a (shorter) segment differently.  Every
+     * pixel that differs must touch (horizontally, vertically or 
+     * diagonally) a line pixel drawn in both images, so the line is never
+     * moved or broken, and there must be fewer differences than 1% of the
+     * line pixels.  This holds on a device with several pixels per Java2D
+     * unit (a HiDPI screen) too.
+     */
+    @Test
+    public void testItemDecimationDrawing() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        Random random = new Random(123L);
+        double y = 0.0;
+        for (int i = 0; i < 50000; i++) {
+            y += random.nextGaussian();
+            s.add(i, (i % 9000 == 4500) ? null : y);
+        }
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        JFreeChart chart = ChartFactory.createXYLineChart("Test Chart", "X",
+                "Y", dataset, PlotOrientation.VERTICAL, false, false, false);
+        chart.setAntiAlias(false);
+        checkItemDecimationDrawing(chart, 1.0);
+        checkItemDecimationDrawing(chart, 2.0);
+    }
+
+    /**
+     * Draws a chart (400 x 300) without and with item decimation, with the
+     * specified number of device pixels per Java2D unit and a line one 
+     * device pixel wide, and checks that the images differ only in 
+     * isolated pixels next to the line.
+     * 
+     * @param chart  the chart.
+     * @param scale  the scale.
+     */
+    private static void checkItemDecimationDrawing(JFreeChart chart, 
+            double scale) {
+        XYPlot<?> plot = (XYPlot) chart.getPlot();
+        XYLineAndShapeRenderer r = (XYLineAndShapeRenderer)
+                plot.getRenderer();
+        r.setSeriesStroke(0, new BasicStroke((float) (1.0 / scale)));
+        r.setItemDecimation(false);
+        BufferedImage expected = drawChart(chart, 400, 300, scale);
+        r.setItemDecimation(true);
+        BufferedImage actual = drawChart(chart, 400, 300, scale);
+        int linePixels = 0;
+        int differences = 0;
+        int rgb = ((Color) r.lookupSeriesPaint(0)).getRGB();
+        for (int x = 0; x < expected.getWidth(); x++) {
+            for (int yy = 0; yy < expected.getHeight(); yy++) {
+                if (expected.getRGB(x, yy) == rgb) {
+                    linePixels++;
+                }
+                if (expected.getRGB(x, yy) != actual.getRGB(x, yy)) {
+                    differences++;
+                    assertTrue(touchesCommonPixel(expected, actual, x, yy, 
+                            rgb), "Pixel (" + x + ", " + yy + ") at scale "
+                            + scale);
+                }
+            }
+        }
+        assertTrue(linePixels > 2000 * scale);
+        assertTrue(differences < linePixels / 100, differences 
+                + " differences in " + linePixels + " pixels at scale " 
+                + scale);
+    }
+
+    /**
+     * Draws a chart to an image with the specified number of pixels per 
+     * Java2D unit.
+     * 
+     * @param chart  the chart.
+     * @param width  the chart width.
+     * @param height  the chart height.
+     * @param scale  the scale.
+     * 
+     * @return The image.
+     */
+    private static BufferedImage drawChart(JFreeChart chart, int width, 
+            int height, double scale) {
+        BufferedImage image = new BufferedImage((int) (width * scale), 
+                (int) (height * scale), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.scale(scale, scale);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, width, height));
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Returns {@code true} if one of the eight neighbours of a pixel has the
+     * specified colour in both images.
+     */
+    private static boolean touchesCommonPixel(BufferedImage image1, 
+            BufferedImage image2, int x, int y, int rgb) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                int xx = x + dx;
+                int yy = y + dy;
+                if ((dx != 0 || dy != 0) && xx >= 0 && yy >= 0 
+                        && xx < image1.getWidth() && yy < image1.getHeight()
+                        && image1.getRGB(xx, yy) == rgb 
+                        && image2.getRGB(xx, yy) == rgb) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Check that the renderer is calculating the domain bounds correctly.
      */
@@ -296,4 +418,63 @@ public class XYLineAndShapeRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Drawing the shapes as sprites should give almost the same image as
+     * drawing them directly (the sprites are placed to the nearest quarter
+     * pixel), and the same entities.
+     */
+    @Test
+    public void testSpriteRendering() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        Random random = new Random(123L);
+        for (int i = 0; i < 200; i++) {
+            s.add(random.nextDouble(), random.nextDouble());
+        }
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(false, true);
+        r.setDrawOutlines(true);
+        r.setUseOutlinePaint(true);
+        r.setSeriesPaint(0, Color.RED);
+        r.setSeriesOutlinePaint(0, Color.BLUE);
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.removeLegend();
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage expected = chart.createBufferedImage(400, 300, info1);
+        r.setSpriteRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        BufferedImage actual = chart.createBufferedImage(400, 300, info2);
+        int shapePixels = 0;
+        int differences = 0;
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                int rgb = expected.getRGB(x, y);
+                if (rgb == Color.RED.getRGB() || rgb == Color.BLUE.getRGB()) {
+                    shapePixels++;
+                }
+                if (colorDistance(rgb, actual.getRGB(x, y)) > 64) {
+                    differences++;
+                }
+            }
+        }
+        assertTrue(shapePixels > 2000);
+        assertTrue(differences < shapePixels / 20, "" + differences);
+        assertEquals(info1.getEntityCollection().getEntityCount(),
+                info2.getEntityCollection().getEntityCount());
+    }
+
+    /**
+     * Returns the largest difference between the color components of two
+     * RGB values.
+     */
+    private static int colorDistance(int rgb1, int rgb2) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 8) {
+            result = Math.max(result, Math.abs(((rgb1 >> shift) & 0xFF)
+                    - ((rgb2 >> shift) & 0xFF)));
+        }
+        return result;
+    }
+
 }
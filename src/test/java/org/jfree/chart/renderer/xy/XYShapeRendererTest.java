@@ -43,8 +43,12 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.awt.Color;
+import java.awt.image.BufferedImage;
 
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
 
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.internal.CloneUtils;
@@ -99,6 +103,16 @@ public class XYShapeRendererTest {
         r2.setGuideLinePaint(Color.RED);
         assertTrue(r1.equals(r2));
 
+        r1.setRasterRendering(true);
+        assertFalse(r1.equals(r2));
+        r2.setRasterRendering(true);
+        assertTrue(r1.equals(r2));
+
+        r1.setAccumulateAlpha(true);
+        assertFalse(r1.equals(r2));
+        r2.setAccumulateAlpha(true);
+        assertTrue(r1.equals(r2));
+
     }
 
     /**
@@ -187,4 +201,51 @@ public class XYShapeRendererTest {
         assertNull(r);
     }
 
+
+    /**
+     * Counts the pixels in an image with the specified color.
+     *
+     * @param image  the image.
+     * @param color  the color.
+     *
+     * @return The pixel count.
+     */
+    private static int countPixels(BufferedImage image, Color color) {
+        int count = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) == color.getRGB()) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drawing in raster rendering mode should give nearly the same image as
+     * filling each shape with Java2D (the shapes are placed at whole
+     * pixels).
+     */
+    @Test
+    public void testRasterRendering() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 40; i++) {
+            series.add(i, i % 7);
+        }
+        XYShapeRenderer r = new XYShapeRenderer();
+        r.setSeriesPaint(0, Color.RED);
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("x"), new NumberAxis("y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+        int expected = countPixels(chart.createBufferedImage(400, 300, null),
+                Color.RED);
+        assertTrue(expected > 1000);
+        r.setRasterRendering(true);
+        int actual = countPixels(chart.createBufferedImage(400, 300, null),
+                Color.RED);
+        assertEquals(expected, actual, expected / 20.0);
+    }
+
 }
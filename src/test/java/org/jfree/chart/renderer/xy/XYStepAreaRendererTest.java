@@ -95,6 +95,11 @@ public class XYStepAreaRendererTest {
         r2.setStepPoint(0.33);
         assertTrue(r1.equals(r2));
 
+        r1.setItemDecimation(true);
+        assertFalse(r1.equals(r2));
+        r2.setItemDecimation(true);
+        assertTrue(r1.equals(r2));
+
     }
 
     /**
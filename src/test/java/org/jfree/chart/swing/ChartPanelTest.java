@@ -39,12 +39,15 @@ package org.jfree.chart.swing;
 import java.awt.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -54,18 +57,30 @@ import java.util.ArrayList;
 import java.util.EventListener;
 import java.util.List;
 
+import javax.swing.SwingUtilities;
 import javax.swing.event.CaretListener;
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.JFreeChart;
 
+import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressEventType;
+import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.data.general.DefaultPieDataset;
 import org.jfree.data.general.PieDataset;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -367,5 +382,264 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         assertEquals(Color.MAGENTA, readPanel.getZoomFillPaint());
         assertEquals(Color.CYAN, readPanel.getZoomOutlinePaint());
     }
+
+    /**
+     * A dataset update should redraw only the data layer of a layered 
+     * buffer, while other changes redraw every layer.
+     */
+    @Test
+    public void testLayeredBuffer() {
+        final int[] itemCount = new int[1];
+        final int[] annotationCount = new int[1];
+        XYSeries<String> series = new XYSeries<>("S1");
+        series.add(1.0, 1.0);
+        series.add(2.0, 2.0);
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"), 
+                new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                    ValueAxis domainAxis, ValueAxis rangeAxis, 
+                    XYDataset dataset, int series, int item, 
+                    CrosshairState crosshairState, int pass) {
+                itemCount[0]++;
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, 
+                        rangeAxis, dataset, series, item, crosshairState, 
+                        pass);
+            }
+        });
+        plot.getDomainAxis().setRange(0.0, 10.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        plot.addAnnotation(new XYTextAnnotation("A", 5.0, 5.0) {
+            @Override
+            public void draw(Graphics2D g2, XYPlot plot, Rectangle2D dataArea,
+                    ValueAxis domainAxis, ValueAxis rangeAxis, 
+                    int rendererIndex, PlotRenderingInfo info) {
+                annotationCount[0]++;
+                super.draw(g2, plot, dataArea, domainAxis, rangeAxis, 
+                        rendererIndex, info);
+            }
+        });
+        ChartPanel panel = new ChartPanel(new JFreeChart(plot));
+        assertFalse(panel.isLayeredBuffer());
+        panel.setLayeredBuffer(true);
+        assertTrue(panel.isLayeredBuffer());
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        assertEquals(1, annotationCount[0]);
+        int items = itemCount[0];
+        assertTrue(items > 0);
+
+        // a dataset update within the axis ranges
+        series.updateByIndex(0, 3.0);
+        panel.paintComponent(g2);
+        assertEquals(1, annotationCount[0]);
+        assertEquals(2 * items, itemCount[0]);
+
+        // nothing changed
+        panel.paintComponent(g2);
+        assertEquals(1, annotationCount[0]);
+        assertEquals(2 * items, itemCount[0]);
+
+        // a general change
+        plot.setBackgroundPaint(Color.YELLOW);
+        panel.paintComponent(g2);
+        assertEquals(2, annotationCount[0]);
+        assertEquals(3 * items, itemCount[0]);
+        g2.dispose();
+    }
+
+    /**
+     * With buffer scrolling, appending an item to a strip chart should draw
+     * only the newest items, while a change to the range axis range redraws
+     * all of them.
+     */
+    @Test
+    public void testBufferScrolling() {
+        final int[] itemCount = new int[1];
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i <= 100; i++) {
+            series.add(i, i % 7);
+        }
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setAutoRangeIncludesZero(false);
+        xAxis.setFixedAutoRange(50.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 10.0);
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                xAxis, yAxis, new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                    ValueAxis domainAxis, ValueAxis rangeAxis, 
+                    XYDataset dataset, int series, int item, 
+                    CrosshairState crosshairState, int pass) {
+                itemCount[0]++;
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, 
+                        rangeAxis, dataset, series, item, crosshairState, 
+                        pass);
+            }
+        });
+        ChartPanel panel = new ChartPanel(new JFreeChart(plot));
+        panel.setLayeredBuffer(true);
+        assertFalse(panel.isBufferScrolling());
+        panel.setBufferScrolling(true);
+        assertTrue(panel.isBufferScrolling());
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        int fullCount = itemCount[0];
+
+        // append an item, which moves the domain axis range
+        itemCount[0] = 0;
+        series.add(101, 3.0);
+        panel.paintComponent(g2);
+        assertTrue(itemCount[0] > 0);
+        assertTrue(itemCount[0] < fullCount / 2);
+
+        // rescale the range axis
+        itemCount[0] = 0;
+        yAxis.setRange(0.0, 20.0);
+        panel.paintComponent(g2);
+        assertEquals(fullCount, itemCount[0]);
+        g2.dispose();
+    }
+
+    /**
+     * Chart changes that arrive before the panel is painted, or within a 
+     * frame interval of the last paint, are coalesced into one repaint.
+     */
+    @Test
+    public void testMaximumFrameRate() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        ChartPanel panel = new ChartPanel(ChartFactory.createXYLineChart(
+                "Title", "X", "Y", new XYSeriesCollection<>(series)));
+        assertEquals(0, panel.getMaximumFrameRate());
+        assertThrows(IllegalArgumentException.class, 
+                () -> panel.setMaximumFrameRate(-1));
+        panel.setMaximumFrameRate(1);
+        assertEquals(1, panel.getMaximumFrameRate());
+        panel.resetRepaintCounts();
+        for (int i = 0; i < 2000; i++) {
+            series.add(i, i);
+        }
+        long requests = panel.getRepaintRequestCount();
+        assertTrue(requests >= 2000);
+        assertEquals(requests - 1, panel.getCoalescedRepaintCount());
+
+        // a change within one second of a paint waits for the timer
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+        panel.resetRepaintCounts();
+        series.add(2000, 2000);
+        series.add(2001, 2001);
+        requests = panel.getRepaintRequestCount();
+        assertTrue(requests >= 2);
+        assertEquals(requests - 1, panel.getCoalescedRepaintCount());
+    }
+
+    /**
+     * With asynchronous rendering, the frame is drawn by the render 
+     * executor, and a chart change during the drawing lets it finish and 
+     * then starts one new frame.
+     */
+    @Test
+    public void testAsyncRendering() throws Exception {
+        final int[] itemCount = new int[1];
+        final ChartPanel[] panelRef = new ChartPanel[1];
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 100; i++) {
+            series.add(i, i);
+        }
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"), 
+                new XYLineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                    ValueAxis domainAxis, ValueAxis rangeAxis, 
+                    XYDataset dataset, int series, int item, 
+                    CrosshairState crosshairState, int pass) {
+                itemCount[0]++;
+                if (panelRef[0] != null) {
+                    // a change arrives while the frame is being drawn
+                    panelRef[0].chartChanged(new ChartChangeEvent(this));
+                    panelRef[0] = null;
+                }
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis, 
+                        rangeAxis, dataset, series, item, crosshairState, 
+                        pass);
+            }
+        });
+        ChartPanel panel = new ChartPanel(new JFreeChart(plot));
+        List<ChartProgressEvent> events = new ArrayList<>();
+        panel.addChartProgressListener(events::add);
+        List<Runnable> tasks = new ArrayList<>();
+        panel.setRenderExecutor(tasks::add);
+        assertFalse(panel.isAsyncRendering());
+        panel.setAsyncRendering(true);
+        assertTrue(panel.isAsyncRendering());
+        panel.setSize(400, 300);
+        BufferedImage image = new BufferedImage(400, 300, 
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+
+        // the paint only starts the rendering, and one frame at a time
+        panel.paintComponent(g2);
+        panel.paintComponent(g2);
+        assertEquals(1, tasks.size());
+        assertEquals(0, itemCount[0]);
+        assertNull(panel.chartBuffer);
+        tasks.get(0).run();
+        assertTrue(itemCount[0] > 0);
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(1, events.size());
+        assertEquals(ChartProgressEventType.FRAME_READY, 
+                events.get(0).getType());
+        assertTrue(panel.chartBuffer != null);
+
+        // a change during the rendering does not stop it, but the frame is
+        // out of date and is dropped within the maximum frame delay
+        assertEquals(ChartPanel.DEFAULT_MAXIMUM_FRAME_DELAY, 
+                panel.getMaximumFrameDelay());
+        panel.setMaximumFrameDelay(60000);
+        Image frame = panel.chartBuffer;
+        panel.chartChanged(new ChartChangeEvent(plot));
+        panel.paintComponent(g2);
+        assertEquals(2, tasks.size());
+        int fullCount = itemCount[0];
+        itemCount[0] = 0;
+        panelRef[0] = panel;
+        tasks.get(1).run();
+        assertEquals(fullCount, itemCount[0]);
+        assertFalse(Thread.currentThread().isInterrupted());
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(1, events.size());
+        assertSame(frame, panel.chartBuffer);
+
+        // the next paint starts a new rendering, and without a delay an 
+        // out-of-date frame is shown
+        panel.setMaximumFrameDelay(0);
+        panel.paintComponent(g2);
+        assertEquals(3, tasks.size());
+        panelRef[0] = panel;
+        tasks.get(2).run();
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(2, events.size());
+        assertNotSame(frame, panel.chartBuffer);
+        panel.paintComponent(g2);
+        assertEquals(4, tasks.size());
+        g2.dispose();
+    }
 }
 
@@ -0,0 +1,142 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * FrameTrackerTest.java
+ * ---------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link FrameTracker} class.
+ */
+public class FrameTrackerTest {
+
+    /**
+     * Sets the time of a test clock.
+     *
+     * @param clock  the clock.
+     * @param millis  the time in milliseconds.
+     */
+    private static void setTime(AtomicLong clock, long millis) {
+        clock.set(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * A current frame is always shown, and an out-of-date frame only when
+     * no frame has been shown for the maximum frame delay.
+     */
+    @Test
+    public void testAccept() {
+        AtomicLong clock = new AtomicLong();
+        FrameTracker tracker = new FrameTracker(200, clock::get);
+        assertEquals(200, tracker.getMaximumFrameDelay());
+        assertThrows(IllegalArgumentException.class,
+                () -> tracker.setMaximumFrameDelay(-1));
+
+        // the first frame is shown even if it is out of date
+        int frame = tracker.getGeneration();
+        tracker.changed();
+        assertFalse(tracker.isCurrent(frame));
+        assertTrue(tracker.accept(frame));
+
+        setTime(clock, 100L);
+        frame = tracker.getGeneration();
+        assertTrue(tracker.isCurrent(frame));
+        assertTrue(tracker.accept(frame));
+
+        setTime(clock, 250L);
+        frame = tracker.getGeneration();
+        tracker.changed();
+        assertFalse(tracker.accept(frame));
+
+        setTime(clock, 300L);
+        frame = tracker.getGeneration();
+        tracker.changed();
+        assertTrue(tracker.accept(frame));
+
+        tracker.setMaximumFrameDelay(0);
+        frame = tracker.getGeneration();
+        tracker.changed();
+        assertTrue(tracker.accept(frame));
+    }
+
+    /**
+     * A frame started before a cancellation is never shown.
+     */
+    @Test
+    public void testCancel() {
+        AtomicLong clock = new AtomicLong();
+        FrameTracker tracker = new FrameTracker(0, clock::get);
+        int frame = tracker.getGeneration();
+        tracker.cancel();
+        setTime(clock, 1000L);
+        assertFalse(tracker.isCurrent(frame));
+        assertFalse(tracker.accept(frame));
+        frame = tracker.getGeneration();
+        assertTrue(tracker.accept(frame));
+    }
+
+    /**
+     * When the chart changes during every frame, frames are still shown at
+     * least once per maximum frame delay (plus the time to draw a frame).
+     */
+    @Test
+    public void testContinuousChanges() {
+        AtomicLong clock = new AtomicLong();
+        FrameTracker tracker = new FrameTracker(200, clock::get);
+        long lastShown = 0L;
+        int shown = 0;
+        for (long t = 30L; t <= 3000L; t += 30L) {
+            int frame = tracker.getGeneration();
+            tracker.changed();
+            setTime(clock, t);
+            if (tracker.accept(frame)) {
+                assertTrue(t - lastShown <= 230L);
+                lastShown = t;
+                shown++;
+            }
+        }
+        assertTrue(3000L - lastShown <= 230L);
+        assertTrue(shown >= 13);
+    }
+
+}
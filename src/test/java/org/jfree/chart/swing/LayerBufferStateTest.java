@@ -0,0 +1,255 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * LayerBufferStateTest.java
+ * -------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Rectangle;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import org.jfree.chart.ChartLayer;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link LayerBufferState} class.
+ */
+public class LayerBufferStateTest {
+
+    /**
+     * A dataset update invalidates only the data layer (plus the
+     * annotations layer when crosshairs are visible), and any other change
+     * invalidates every layer.
+     */
+    @Test
+    public void testGetLayersAffectedBy() {
+        XYPlot<String> plot = new XYPlot<>();
+        ChartChangeEvent update = new ChartChangeEvent(this, null,
+                ChartChangeEventType.DATASET_UPDATED);
+        ChartChangeEvent general = new ChartChangeEvent(this);
+        assertEquals(EnumSet.of(ChartLayer.DATA),
+                LayerBufferState.getLayersAffectedBy(update, plot));
+        assertEquals(EnumSet.of(ChartLayer.DATA),
+                LayerBufferState.getLayersAffectedBy(update, null));
+        assertEquals(EnumSet.allOf(ChartLayer.class),
+                LayerBufferState.getLayersAffectedBy(general, plot));
+        plot.setRangeCrosshairVisible(true);
+        assertEquals(EnumSet.of(ChartLayer.DATA, ChartLayer.ANNOTATIONS),
+                LayerBufferState.getLayersAffectedBy(update, plot));
+    }
+
+    /**
+     * The invalid layers accumulate until they are validated.
+     */
+    @Test
+    public void testInvalidate() {
+        LayerBufferState state = new LayerBufferState();
+        assertEquals(EnumSet.allOf(ChartLayer.class),
+                state.getInvalidLayers());
+        state.validate();
+        assertTrue(state.getInvalidLayers().isEmpty());
+
+        XYPlot<String> plot = new XYPlot<>();
+        state.invalidate(new ChartChangeEvent(this, null,
+                ChartChangeEventType.DATASET_UPDATED), plot);
+        assertEquals(EnumSet.of(ChartLayer.DATA), state.getInvalidLayers());
+        state.invalidate(ChartLayer.AXES);
+        assertEquals(EnumSet.of(ChartLayer.AXES, ChartLayer.DATA),
+                state.getInvalidLayers());
+        state.invalidate(new ChartChangeEvent(this), plot);
+        assertEquals(EnumSet.allOf(ChartLayer.class),
+                state.getInvalidLayers());
+        state.validate();
+        state.invalidateAll();
+        assertEquals(EnumSet.allOf(ChartLayer.class),
+                state.getInvalidLayers());
+    }
+
+    /**
+     * Creates a plot with a domain axis range from 0 to 100.
+     *
+     * @param orientation  the plot orientation.
+     * @param inverted  invert the domain axis?
+     *
+     * @return The plot.
+     */
+    private static XYPlot<String> createPlot(PlotOrientation orientation,
+            boolean inverted) {
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 100.0);
+        xAxis.setInverted(inverted);
+        XYPlot<String> plot = new XYPlot<>(null, xAxis, new NumberAxis("Y"),
+                null);
+        plot.setOrientation(orientation);
+        return plot;
+    }
+
+    /**
+     * Creates a state for layers drawn with the current axis range of the
+     * plot and a data area of 400 x 300 at (10, 20), followed by a dataset
+     * update.
+     *
+     * @param plot  the plot.
+     *
+     * @return The state.
+     */
+    private static LayerBufferState createDrawnState(XYPlot<String> plot) {
+        LayerBufferState state = new LayerBufferState();
+        state.dataLayerDrawn(new Rectangle2D.Double(10, 20, 400, 300));
+        state.setLayoutKey(createLayoutKey(plot));
+        state.validate();
+        state.invalidate(ChartLayer.DATA);
+        return state;
+    }
+
+    /**
+     * Returns a layout key with the domain axis range first.
+     *
+     * @param plot  the plot.
+     *
+     * @return The layout key.
+     */
+    private static List<Object> createLayoutKey(XYPlot<String> plot) {
+        return Arrays.asList(plot.getDomainAxis().getRange(), "legend");
+    }
+
+    /**
+     * The pixels of the data layer move away from the end of the domain 
+     * axis with the higher values, in both orientations.
+     */
+    @Test
+    public void testScroll() {
+        XYPlot<String> plot = createPlot(PlotOrientation.VERTICAL, false);
+        LayerBufferState state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(5.0, 105.0);
+        LayerBufferState.Scroll scroll = state.scroll(plot, 
+                createLayoutKey(plot), 1.0, 1.0);
+        assertEquals(new Rectangle(30, 20, 380, 300), scroll.source);
+        assertEquals(-20, scroll.dx);
+        assertEquals(0, scroll.dy);
+        assertEquals(new Range(100.0, 105.0), scroll.redrawRange);
+        assertEquals(EnumSet.of(ChartLayer.AXES, ChartLayer.DATA, 
+                ChartLayer.ANNOTATIONS), state.getInvalidLayers());
+
+        plot = createPlot(PlotOrientation.VERTICAL, true);
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(5.0, 105.0);
+        scroll = state.scroll(plot, createLayoutKey(plot), 1.0, 1.0);
+        assertEquals(new Rectangle(10, 20, 380, 300), scroll.source);
+        assertEquals(20, scroll.dx);
+        assertEquals(0, scroll.dy);
+
+        plot = createPlot(PlotOrientation.HORIZONTAL, false);
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(5.0, 105.0);
+        scroll = state.scroll(plot, createLayoutKey(plot), 1.0, 1.0);
+        assertEquals(new Rectangle(10, 20, 400, 285), scroll.source);
+        assertEquals(0, scroll.dx);
+        assertEquals(15, scroll.dy);
+
+        plot = createPlot(PlotOrientation.HORIZONTAL, true);
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(5.0, 105.0);
+        scroll = state.scroll(plot, createLayoutKey(plot), 2.0, 2.0);
+        assertEquals(new Rectangle(20, 70, 800, 570), scroll.source);
+        assertEquals(0, scroll.dx);
+        assertEquals(-30, scroll.dy);
+    }
+
+    /**
+     * Scrolls by fractions of a pixel are carried over, so that the layer
+     * is never more than half a pixel from its exact position.
+     */
+    @Test
+    public void testScrollError() {
+        XYPlot<String> plot = createPlot(PlotOrientation.VERTICAL, false);
+        LayerBufferState state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(0.1, 100.1);  // 0.4 pixels
+        LayerBufferState.Scroll scroll = state.scroll(plot, 
+                createLayoutKey(plot), 1.0, 1.0);
+        assertEquals(0, scroll.dx);
+        state.setLayoutKey(createLayoutKey(plot));
+        state.validate();
+        state.invalidate(ChartLayer.DATA);
+        plot.getDomainAxis().setRange(0.2, 100.2);
+        scroll = state.scroll(plot, createLayoutKey(plot), 1.0, 1.0);
+        assertEquals(-1, scroll.dx);
+    }
+
+    /**
+     * The data layer is not scrolled when other layers are invalid, the
+     * axis range moves backwards or changes length, or another part of the
+     * layout changes.
+     */
+    @Test
+    public void testScrollNotPossible() {
+        XYPlot<String> plot = createPlot(PlotOrientation.VERTICAL, false);
+        LayerBufferState state = createDrawnState(plot);
+        state.invalidate(ChartLayer.AXES);
+        plot.getDomainAxis().setRange(5.0, 105.0);
+        assertNull(state.scroll(plot, createLayoutKey(plot), 1.0, 1.0));
+
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(0.0, 100.0);
+        assertNull(state.scroll(plot, createLayoutKey(plot), 1.0, 1.0));
+
+        plot.getDomainAxis().setRange(5.0, 105.0);
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(10.0, 120.0);
+        assertNull(state.scroll(plot, createLayoutKey(plot), 1.0, 1.0));
+
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(20.0, 130.0);
+        assertNull(state.scroll(plot, Arrays.asList(
+                plot.getDomainAxis().getRange(), "other"), 1.0, 1.0));
+
+        // a shift of the whole data area
+        state = createDrawnState(plot);
+        plot.getDomainAxis().setRange(200.0, 310.0);
+        assertNull(state.scroll(plot, createLayoutKey(plot), 1.0, 1.0));
+    }
+
+}
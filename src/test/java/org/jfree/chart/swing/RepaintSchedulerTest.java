@@ -0,0 +1,121 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * RepaintSchedulerTest.java
+ * -------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link RepaintScheduler} class.
+ */
+public class RepaintSchedulerTest {
+
+    /**
+     * Without a frame rate limit, every request asks for a repaint at once,
+     * and requests made before the next paint are counted as coalesced.
+     */
+    @Test
+    public void testNoLimit() {
+        AtomicInteger repaints = new AtomicInteger();
+        RepaintScheduler scheduler = new RepaintScheduler(
+                repaints::incrementAndGet);
+        assertEquals(0, scheduler.getMaximumFrameRate());
+        scheduler.request();
+        scheduler.request();
+        assertEquals(2, repaints.get());
+        assertEquals(2, scheduler.getRequestCount());
+        assertEquals(1, scheduler.getCoalescedCount());
+        scheduler.painted();
+        scheduler.request();
+        assertEquals(3, repaints.get());
+        assertEquals(1, scheduler.getCoalescedCount());
+        scheduler.resetCounts();
+        assertEquals(0, scheduler.getRequestCount());
+        assertEquals(0, scheduler.getCoalescedCount());
+    }
+
+    /**
+     * With a frame rate limit, requests are coalesced until the next paint,
+     * and a request within one frame interval of the last paint waits for
+     * the interval to end.
+     */
+    @Test
+    public void testMaximumFrameRate() throws InterruptedException {
+        Semaphore repaints = new Semaphore(0);
+        AtomicLong now = new AtomicLong();
+        RepaintScheduler scheduler = new RepaintScheduler(repaints::release,
+                now::get);
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.setMaximumFrameRate(-1));
+        scheduler.setMaximumFrameRate(10);
+        assertEquals(10, scheduler.getMaximumFrameRate());
+
+        // before the first paint there is nothing to wait for
+        for (int i = 0; i < 100; i++) {
+            scheduler.request();
+        }
+        assertEquals(1, repaints.drainPermits());
+        assertEquals(100, scheduler.getRequestCount());
+        assertEquals(99, scheduler.getCoalescedCount());
+
+        // 50ms into the 100ms frame interval, the repaint is deferred
+        scheduler.painted();
+        scheduler.resetCounts();
+        now.set(TimeUnit.MILLISECONDS.toNanos(50L));
+        scheduler.request();
+        scheduler.request();
+        assertEquals(0, repaints.availablePermits());
+        assertEquals(1, scheduler.getCoalescedCount());
+        assertTrue(repaints.tryAcquire(5L, TimeUnit.SECONDS));
+        assertEquals(0, repaints.availablePermits());
+
+        // after the frame interval, the repaint is immediate
+        now.set(TimeUnit.MILLISECONDS.toNanos(200L));
+        scheduler.painted();
+        now.set(TimeUnit.MILLISECONDS.toNanos(300L));
+        scheduler.request();
+        assertEquals(1, repaints.drainPermits());
+    }
+
+}
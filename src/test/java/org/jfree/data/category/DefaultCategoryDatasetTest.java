@@ -39,7 +39,11 @@ package org.jfree.data.category;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
+import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -381,4 +385,36 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * Check the details of the change carried by the events from the 
+     * setValue() and removeValue() methods.
+     */
+    @Test
+    public void testChangeInfo() {
+        DefaultCategoryDataset<String,String> d = new DefaultCategoryDataset<>();
+        DatasetChangeEvent[] last = new DatasetChangeEvent[1];
+        d.addChangeListener(e -> last[0] = e);
+        d.addValue(1.0, "R1", "C1");
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, 0,
+                0, 0, null, new Range(1.0, 1.0), null, null),
+                last[0].getInfo());
+        d.setValue(2.0, "R2", "C2");
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, 1,
+                1, 1, null, new Range(2.0, 2.0), null, null),
+                last[0].getInfo());
+        d.setValue(3.0, "R1", "C1");
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 0,
+                0, 0, null, new Range(3.0, 3.0), null, new Range(1.0, 1.0)),
+                last[0].getInfo());
+        d.setValue(null, "R1", "C2");
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 0,
+                1, 1, null, null, null, null), last[0].getInfo());
+        d.removeValue("R2", "C2");
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_REMOVED, 1,
+                1, 1, null, null, null, new Range(2.0, 2.0)),
+                last[0].getInfo());
+        d.removeRow("R1");
+        assertNull(last[0].getInfo());
+    }
+
 }
@@ -0,0 +1,144 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * DatasetChangeInfoTest.java
+ * --------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link DatasetChangeInfo} class.
+ */
+public class DatasetChangeInfoTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        DatasetChangeInfo i1 = new DatasetChangeInfo(
+                DatasetChangeType.ITEMS_ADDED, 1, 2, 3, new Range(1, 2),
+                new Range(3, 4), new Range(5, 6), new Range(7, 8));
+        DatasetChangeInfo i2 = new DatasetChangeInfo(
+                DatasetChangeType.ITEMS_ADDED, 1, 2, 3, new Range(1, 2),
+                new Range(3, 4), new Range(5, 6), new Range(7, 8));
+        assertEquals(i1, i2);
+        assertEquals(i1.hashCode(), i2.hashCode());
+
+        i1 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 1, 2, 3,
+                new Range(1, 2), new Range(3, 4), new Range(5, 6),
+                new Range(7, 8));
+        assertNotEquals(i1, i2);
+        i2 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 1, 2, 3,
+                new Range(1, 2), new Range(3, 4), new Range(5, 6),
+                new Range(7, 8));
+        assertEquals(i1, i2);
+
+        i1 = i1.withSeries(9);
+        assertNotEquals(i1, i2);
+        i2 = i2.withSeries(9);
+        assertEquals(i1, i2);
+
+        i1 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                new Range(1, 2), new Range(3, 4), new Range(5, 6),
+                new Range(7, 8));
+        assertNotEquals(i1, i2);
+        i2 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                new Range(1, 2), new Range(3, 4), new Range(5, 6),
+                new Range(7, 8));
+        assertEquals(i1, i2);
+
+        i1 = i1.withXRange(null);
+        assertNotEquals(i1, i2);
+        i2 = i2.withXRange(null);
+        assertEquals(i1, i2);
+
+        i1 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                null, new Range(3, 4), null, new Range(7, 8));
+        assertNotEquals(i1, i2);
+        i2 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                null, new Range(3, 4), null, new Range(7, 8));
+        assertEquals(i1, i2);
+
+        i1 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                null, null, null, new Range(7, 8));
+        assertNotEquals(i1, i2);
+        i2 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                null, null, null, new Range(7, 8));
+        assertEquals(i1, i2);
+
+        i1 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                null, null, null, null);
+        assertNotEquals(i1, i2);
+        i2 = new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, 9, 3, 3,
+                null, null, null, null);
+        assertEquals(i1, i2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DatasetChangeInfo i1 = new DatasetChangeInfo(
+                DatasetChangeType.ITEMS_REMOVED, 1, 2, 3, null, null,
+                new Range(5, 6), new Range(7, 8));
+        DatasetChangeInfo i2 = TestUtils.serialised(i1);
+        assertEquals(i1, i2);
+    }
+
+    /**
+     * Some checks for the constructor and the rangeOf() method.
+     */
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetChangeInfo(null, 0, 0, 0, null, null, null,
+                null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, 0,
+                2, 1, null, null, null, null));
+        assertEquals(new Range(2.0, 2.0), DatasetChangeInfo.rangeOf(2.0));
+        assertNull(DatasetChangeInfo.rangeOf(Double.NaN));
+    }
+
+}
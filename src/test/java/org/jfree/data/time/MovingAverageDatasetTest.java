@@ -0,0 +1,227 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * MovingAverageDatasetTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link MovingAverageDataset} class.
+ */
+public class MovingAverageDatasetTest {
+
+    private static final double EPSILON = 0.0000001;
+
+    /**
+     * Checks that the dataset matches the moving average calculated from
+     * scratch by {@link MovingAverage}.
+     */
+    private static void check(MovingAverageDataset<String> d, int series) {
+        TimeSeries<String> source = d.getSourceSeries(series);
+        int[] params = PARAMS[series];
+        TimeSeries<String> expected = MovingAverage.createMovingAverage(
+                source, "MA", params[0], params[1]);
+        assertEquals(expected.getItemCount(), d.getItemCount(series));
+        for (int i = 0; i < expected.getItemCount(); i++) {
+            assertEquals(expected.getTimePeriod(i), d.getTimePeriod(series, i));
+            assertEquals(expected.getTimePeriod(i).getFirstMillisecond(),
+                    d.getXValue(series, i), EPSILON);
+            Number y = expected.getValue(i);
+            if (y == null) {
+                assertNull(d.getY(series, i));
+            }
+            else {
+                assertEquals(y.doubleValue(), d.getYValue(series, i),
+                        EPSILON);
+            }
+        }
+    }
+
+    /** The period count and skip for each series in the tests. */
+    private static final int[][] PARAMS = {{5, 0}, {3, 4}};
+
+    private static MovingAverageDataset<String> createDataset(
+            TimeSeries<String> source) {
+        MovingAverageDataset<String> d = new MovingAverageDataset<>();
+        d.addSeries(source, "MA5", PARAMS[0][0], PARAMS[0][1]);
+        d.addSeries(source, "MA3", PARAMS[1][0], PARAMS[1][1]);
+        return d;
+    }
+
+    /**
+     * The x-values are calculated in the dataset's timezone.
+     */
+    @Test
+    public void testTimeZone() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        source.add(new Day(1, 1, 2021), 1.0);
+        MovingAverageDataset<String> d1 = new MovingAverageDataset<>(
+                TimeZone.getTimeZone("UTC"));
+        d1.addSeries(source, "MA", 1, 0);
+        assertEquals(1609459200000.0, d1.getXValue(0, 0));
+        MovingAverageDataset<String> d2 = new MovingAverageDataset<>(
+                TimeZone.getTimeZone("GMT+09:00"));
+        d2.addSeries(source, "MA", 1, 0);
+        assertEquals(1609459200000.0 - 9 * 3600000.0, d2.getXValue(0, 0));
+    }
+
+    /**
+     * The averages are updated as items are appended, evicted and updated.
+     */
+    @Test
+    public void testLiveUpdates() {
+        Random random = new Random(7L);
+        TimeSeries<String> source = new TimeSeries<>("S");
+        MovingAverageDataset<String> d = createDataset(source);
+        RegularTimePeriod p = new Hour(0, new Day(1, 1, 2021));
+        for (int i = 0; i < 400; i++) {
+            if (i == 200) {
+                source.setMaximumItemCount(20);
+            }
+            int action = random.nextInt(10);
+            if (action == 0 && source.getItemCount() > 0) {
+                // update the value of a random item
+                int item = random.nextInt(source.getItemCount());
+                source.update(item, random.nextBoolean() ? null
+                        : random.nextDouble());
+            }
+            else if (action == 1) {
+                // add or update the current period
+                source.addOrUpdate(p, random.nextDouble());
+            }
+            else if (action == 2) {
+                // add a batch of items (with a gap)
+                List<TimeSeriesDataItem> items = new ArrayList<>();
+                for (int j = 0; j < 5; j++) {
+                    p = p.next().next();
+                    items.add(new TimeSeriesDataItem(p, random.nextDouble()));
+                }
+                source.addAll(items, true);
+            }
+            else if (action == 3 && source.getItemCount() > 2) {
+                // insert an item between existing items
+                RegularTimePeriod q = source.getTimePeriod(1).previous();
+                if (source.getIndex(q) < 0) {
+                    source.add(q, 1.0);
+                }
+            }
+            else {
+                p = p.next();
+                source.add(p, random.nextInt(20) == 0 ? null
+                        : random.nextDouble() * 100.0);
+            }
+            check(d, 0);
+            check(d, 1);
+        }
+        source.clear();
+        assertEquals(0, d.getItemCount(0));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() {
+        TimeSeries<String> s = new TimeSeries<>("S");
+        s.add(new Day(1, 1, 2021), 1.0);
+        MovingAverageDataset<String> d1 = new MovingAverageDataset<>();
+        MovingAverageDataset<String> d2 = new MovingAverageDataset<>();
+        assertEquals(d1, d2);
+        d1.addSeries(s, "MA", 3, 0);
+        assertFalse(d1.equals(d2));
+        d2.addSeries(s, "MA", 3, 0);
+        assertEquals(d1, d2);
+        d1.setXPosition(TimePeriodAnchor.END);
+        assertFalse(d1.equals(d2));
+        d2.setXPosition(TimePeriodAnchor.END);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works, and that the clone listens to its own
+     * copies of the source series.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        source.add(new Day(1, 1, 2021), 1.0);
+        source.add(new Day(2, 1, 2021), 2.0);
+        MovingAverageDataset<String> d1 = createDataset(source);
+        MovingAverageDataset<String> d2 = CloneUtils.clone(d1);
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertEquals(d1, d2);
+        assertTrue(d2.getSourceSeries(0) == d2.getSourceSeries(1));
+
+        source.add(new Day(3, 1, 2021), 3.0);
+        assertFalse(d1.equals(d2));
+        d2.getSourceSeries(0).add(new Day(3, 1, 2021), 3.0);
+        assertEquals(d1, d2);
+        check(d2, 0);
+        check(d2, 1);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.  The
+     * restored dataset must still be updated by its source series.
+     */
+    @Test
+    public void testSerialization() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        source.add(new Day(1, 1, 2021), 1.0);
+        source.add(new Day(2, 1, 2021), 2.0);
+        MovingAverageDataset<String> d1 = createDataset(source);
+        MovingAverageDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        d2.getSourceSeries(0).add(new Day(3, 1, 2021), 3.0);
+        check(d2, 0);
+        check(d2, 1);
+    }
+
+}
@@ -38,7 +38,11 @@ package org.jfree.data.time;
 
 import org.jfree.chart.date.MonthConstants;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.Random;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -76,6 +80,90 @@ public class MovingAverageTest {
         assertEquals(12.5, value, EPSILON);
     }
 
+    /**
+     * Compares the moving averages of a random series (with gaps and
+     * {@code null} values) against a simple calculation.
+     */
+    @Test
+    public void testRandomSeries() {
+        Random random = new Random(11L);
+        TimeSeries<String> source = new TimeSeries<>("S");
+        XYSeries xySource = new XYSeries("S");
+        RegularTimePeriod p = new Day(1, 1, 2020);
+        for (int i = 0; i < 500; i++) {
+            p = random.nextInt(4) == 0 ? p.next().next() : p.next();
+            Double v = random.nextInt(10) == 0 ? null
+                    : random.nextDouble() * 100.0;
+            source.add(p, v);
+            xySource.add(p.getSerialIndex(), v);
+        }
+        for (int periodCount = 1; periodCount < 12; periodCount += 5) {
+            TimeSeries<String> ma = MovingAverage.createMovingAverage(source,
+                    "MA", periodCount, 3);
+            int n = 0;
+            for (int i = 0; i < source.getItemCount(); i++) {
+                long serial = source.getTimePeriod(i).getSerialIndex();
+                if (serial < source.getTimePeriod(0).getSerialIndex() + 3) {
+                    continue;
+                }
+                double sum = 0.0;
+                int count = 0;
+                for (int j = i; j >= 0 && j > i - periodCount; j--) {
+                    if (source.getTimePeriod(j).getSerialIndex()
+                            <= serial - periodCount) {
+                        break;
+                    }
+                    if (source.getValue(j) != null) {
+                        sum += source.getValue(j).doubleValue();
+                        count++;
+                    }
+                }
+                assertEquals(source.getTimePeriod(i), ma.getTimePeriod(n));
+                checkAverage(count > 0 ? sum / count : null, ma.getValue(n));
+                n++;
+            }
+            assertEquals(n, ma.getItemCount());
+
+            XYSeries xyma = MovingAverage.createMovingAverage(
+                    new XYSeriesCollection(xySource), 0, "MA", periodCount,
+                    3.0);
+            assertEquals(ma.getItemCount(), xyma.getItemCount());
+            for (int i = 0; i < ma.getItemCount(); i++) {
+                checkAverage(ma.getValue(i), xyma.getY(i));
+            }
+        }
+    }
+
+    /**
+     * Null values are not included in a point moving average.
+     */
+    @Test
+    public void testPointMovingAverageWithNull() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        source.add(new Day(1, 1, 2020), 1.0);
+        source.add(new Day(2, 1, 2020), null);
+        source.add(new Day(3, 1, 2020), 3.0);
+        source.add(new Day(4, 1, 2020), null);
+        source.add(new Day(5, 1, 2020), null);
+        TimeSeries<String> ma = MovingAverage.createPointMovingAverage(source,
+                "MA", 2);
+        assertEquals(4, ma.getItemCount());
+        assertEquals(1.0, ma.getValue(0).doubleValue(), EPSILON);
+        assertEquals(3.0, ma.getValue(1).doubleValue(), EPSILON);
+        assertEquals(3.0, ma.getValue(2).doubleValue(), EPSILON);
+        assertNull(ma.getValue(3));
+    }
+
+    private static void checkAverage(Number expected, Number actual) {
+        if (expected == null) {
+            assertNull(actual);
+        }
+        else {
+            assertEquals(expected.doubleValue(), actual.doubleValue(),
+                    EPSILON);
+        }
+    }
+
     /**
      * Creates a sample series.
      *
@@ -0,0 +1,228 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------
+ * RegularTimeSeriesCollectionTest.java
+ * ------------------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link RegularTimeSeriesCollection} class.
+ */
+public class RegularTimeSeriesCollectionTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static RegularTimeSeriesCollection<String> createDataset() {
+        return new RegularTimeSeriesCollection<>(
+                new Second(0, 0, 0, 1, 1, 2021), 1, UTC, Locale.UK);
+    }
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        RegularTimeSeriesCollection<String> d1 = createDataset();
+        RegularTimeSeriesCollection<String> d2 = createDataset();
+        assertEquals(d1, d2);
+
+        d1.addSeries("S1");
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S1");
+        assertEquals(d1, d2);
+
+        d1.add(0, 1.0);
+        assertFalse(d1.equals(d2));
+        d2.add(0, 1.0);
+        assertEquals(d1, d2);
+
+        d1.addGap(0);
+        assertFalse(d1.equals(d2));
+        d2.addGap(0);
+        assertEquals(d1, d2);
+
+        d1.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertFalse(d1.equals(d2));
+        d2.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(d1, d2);
+
+        d1.setMaximumItemCount(1);
+        assertFalse(d1.equals(d2));
+        d2.setMaximumItemCount(1);
+        assertEquals(d1, d2);
+        assertEquals(d1.hashCode(), d2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RegularTimeSeriesCollection<String> d1 = createDataset();
+        d1.addSeries("S1");
+        d1.add(0, new double[] {1.0, 2.0});
+        d1.addGap(0);
+        RegularTimeSeriesCollection<String> d2 = CloneUtils.clone(d1);
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertEquals(d1, d2);
+
+        // check independence
+        d1.update(0, 0, 9.0);
+        assertFalse(d1.equals(d2));
+        d2.update(0, 0, 9.0);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RegularTimeSeriesCollection<String> d1 = createDataset();
+        d1.addSeries("S1");
+        d1.add(0, new double[] {1.0, 2.0});
+        d1.addGap(0);
+        RegularTimeSeriesCollection<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * Time periods with a variable duration are rejected.
+     */
+    @Test
+    public void testVariableDurationRejected() {
+        assertThrows(IllegalArgumentException.class, 
+                () -> new RegularTimeSeriesCollection<>(new Day(1, 1, 2021), 
+                1, UTC, Locale.UK));
+        assertThrows(IllegalArgumentException.class, 
+                () -> new RegularTimeSeriesCollection<>(new Month(1, 2021), 
+                1, UTC, Locale.UK));
+        assertThrows(IllegalArgumentException.class, 
+                () -> new RegularTimeSeriesCollection<>(new Year(2021), 
+                1, UTC, Locale.UK));
+        RegularTimeSeriesCollection<String> d 
+                = new RegularTimeSeriesCollection<>(new Hour(0, 1, 1, 2021), 
+                2, UTC, Locale.UK);
+        assertEquals(7200000L, d.getInterval());
+    }
+
+    /**
+     * Checks the x- and y-values, including gaps.
+     */
+    @Test
+    public void testValues() {
+        RegularTimeSeriesCollection<String> d = new RegularTimeSeriesCollection<>(
+                new Second(0, 0, 0, 1, 1, 2021), 5, UTC, Locale.UK);
+        assertEquals(5000L, d.getInterval());
+        assertNull(d.getDomainBounds(true));
+        d.addSeries("S1");
+        d.add(0, 1.0);
+        d.addGap(0);
+        d.add(0, new double[] {3.0, 4.0});
+        assertEquals(4, d.getItemCount(0));
+
+        long start = new Second(0, 0, 0, 1, 1, 2021).getFirstMillisecond(
+                Calendar.getInstance(UTC));
+        assertEquals(start + 5000L, d.getXValue(0, 1), EPSILON);
+        assertEquals(start + 5000L, d.getStartX(0, 1));
+        assertEquals(start + 9999L, d.getEndX(0, 1));
+        assertNull(d.getY(0, 1));
+        assertTrue(Double.isNaN(d.getYValue(0, 1)));
+        assertEquals(3.0, d.getY(0, 2));
+        assertEquals(new Second(10, 0, 0, 1, 1, 2021), d.getTimePeriod(0, 2));
+
+        d.setXPosition(TimePeriodAnchor.END);
+        assertEquals(start + 19999L, d.getXValue(0, 3), EPSILON);
+        assertEquals(new Range(start + 4999L, start + 19999L),
+                d.getDomainBounds(false));
+        assertEquals(new Range(start, start + 19999L),
+                d.getDomainBounds(true));
+    }
+
+    /**
+     * When a maximum item count is set, the oldest items are discarded and
+     * the series moves forward in time.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        RegularTimeSeriesCollection<String> d = createDataset();
+        d.addSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            if (i % 7 == 0) {
+                d.addGap(0);
+            } else {
+                d.add(0, i);
+            }
+        }
+        d.setMaximumItemCount(10);
+        assertEquals(10, d.getItemCount(0));
+        for (int i = 0; i < 1000; i++) {
+            int sample = 100 + i;
+            if (sample % 7 == 0) {
+                d.addGap(0);
+            } else {
+                d.add(0, sample);
+            }
+            assertEquals(10, d.getItemCount(0));
+            for (int item = 0; item < 10; item++) {
+                int s = sample - 9 + item;
+                assertEquals(new Second(s % 60, s / 60 % 60, s / 3600, 1, 1,
+                        2021), d.getTimePeriod(0, item));
+                if (s % 7 == 0) {
+                    assertNull(d.getY(0, item));
+                } else {
+                    assertEquals(s, d.getYValue(0, item), EPSILON);
+                }
+            }
+        }
+    }
+
+}
@@ -467,4 +467,56 @@ public class TimeSeriesCollectionTest {
         collection.setXPosition(TimePeriodAnchor.END);
         assertNull(collection.getRangeBounds(Arrays.asList("S1"), range, true));
     }
+
+    /**
+     * The cached x-values follow appends, evictions and other changes to
+     * the series.
+     */
+    @Test
+    public void testCachedXValues() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        Calendar calendar = Calendar.getInstance(zone);
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setMaximumItemCount(50);
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(
+                s1, zone);
+        Hour hour = new Hour(0, new Day(25, 3, 2017));
+        for (int i = 0; i < 200; i++) {
+            s1.add(hour, i);
+            hour = (Hour) hour.next();
+            if (i % 30 == 0) {
+                // delete an item in the middle of the series
+                s1.delete(s1.getTimePeriod(s1.getItemCount() / 2));
+            }
+            checkXValues(dataset, calendar);
+        }
+        dataset.setXPosition(TimePeriodAnchor.MIDDLE);
+        checkXValues(dataset, calendar);
+        s1.clear();
+        s1.add(hour, 1.0);
+        checkXValues(dataset, calendar);
+        dataset.addSeries(new TimeSeries<>("S2"));
+        dataset.getSeries(1).add(new Hour(1, new Day(1, 1, 2020)), 2.0);
+        checkXValues(dataset, calendar);
+    }
+
+    private void checkXValues(TimeSeriesCollection<String> dataset,
+            Calendar calendar) {
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            TimeSeries<String> series = dataset.getSeries(s);
+            assertEquals(series.getItemCount(), dataset.getItemCount(s));
+            for (int i = 0; i < series.getItemCount(); i++) {
+                RegularTimePeriod p = series.getTimePeriod(i);
+                assertEquals(p.getFirstMillisecond(calendar),
+                        dataset.getStartX(s, i).longValue());
+                assertEquals(p.getLastMillisecond(calendar),
+                        dataset.getEndX(s, i).longValue());
+                long x = dataset.getXPosition() == TimePeriodAnchor.START
+                        ? p.getFirstMillisecond(calendar)
+                        : p.getMiddleMillisecond(calendar);
+                assertEquals(x, dataset.getX(s, i).longValue());
+                assertEquals(x, dataset.getXValue(s, i));
+            }
+        }
+    }
 }
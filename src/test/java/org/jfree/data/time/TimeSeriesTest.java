@@ -42,9 +42,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import org.jfree.chart.TestUtils;
@@ -537,6 +539,151 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertEquals(19.32, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * A series with a maximum item count behaves as a rolling window, and
+     * clones keep the rolling behaviour.
+     */
+    @Test
+    public void testRollingWindow() throws CloneNotSupportedException {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setMaximumItemCount(10);
+        for (int i = 0; i < 100; i++) {
+            s1.add(new Year(2000 + i), i);
+        }
+        assertEquals(10, s1.getItemCount());
+        assertEquals(new Year(2090), s1.getTimePeriod(0));
+        assertEquals(new Year(2099), s1.getTimePeriod(9));
+        assertEquals(90.0, s1.getMinY(), EPSILON);
+        assertEquals(99.0, s1.getMaxY(), EPSILON);
+
+        TimeSeries<String> s2 = CloneUtils.clone(s1);
+        s2.add(new Year(2100), 100.0);
+        assertEquals(10, s2.getItemCount());
+        assertEquals(new Year(2091), s2.getTimePeriod(0));
+        assertEquals(new Year(2090), s1.getTimePeriod(0));
+    }
+
+    /**
+     * Check the cached bounds of a rolling window against a brute force
+     * calculation, for a mix of appends, updates and evictions.
+     */
+    @Test
+    public void testRollingWindowBounds() {
+        Random random = new Random(789L);
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setMaximumItemAge(30);
+        s1.setMaximumItemCount(20);
+        Day day = new Day(1, 1, 2000);
+        for (int i = 0; i < 2000; i++) {
+            Double y = random.nextInt(8) == 0 ? null
+                    : Double.valueOf(random.nextInt(100));
+            day = random.nextInt(4) == 0 ? (Day) day.next().next()
+                    : (Day) day.next();
+            s1.add(day, y);
+            if (random.nextInt(20) == 0) {
+                s1.addOrUpdate(s1.getTimePeriod(random.nextInt(
+                        s1.getItemCount())), random.nextInt(100));
+            }
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int j = 0; j < s1.getItemCount(); j++) {
+                Number n = s1.getValue(j);
+                if (n != null) {
+                    double v = n.doubleValue();
+                    min = Double.isNaN(min) ? v : Math.min(min, v);
+                    max = Double.isNaN(max) ? v : Math.max(max, v);
+                }
+            }
+            assertEquals(min, s1.getMinY());
+            assertEquals(max, s1.getMaxY());
+        }
+    }
+
+    /**
+     * Check findValueRange() against a brute force calculation as the series
+     * changes.
+     */
+    @Test
+    public void testFindValueRange4() {
+        Random random = new Random(654L);
+        Calendar calendar = new GregorianCalendar(
+                TimeZone.getTimeZone("Europe/London"), Locale.UK);
+        TimeSeries<String> ts = new TimeSeries<>("Time Series");
+        Day first = new Day(1, 1, 2020);
+        Day day = first;
+        for (int i = 0; i < 400; i++) {
+            ts.add(day, random.nextInt(10) == 0 ? null
+                    : Double.valueOf(random.nextInt(100)));
+            day = (Day) day.next();
+            if (i % 25 == 0) {
+                ts.update(random.nextInt(i + 1), -i);
+            }
+            for (int q = 0; q < 5; q++) {
+                long x0 = first.getFirstMillisecond(calendar)
+                        + random.nextInt(420) * 86400000L;
+                Range xRange = new Range(x0, x0 + random.nextInt(60)
+                        * 86400000L);
+                double low = Double.NaN;
+                double high = Double.NaN;
+                for (int j = 0; j < ts.getItemCount(); j++) {
+                    long millis = ts.getTimePeriod(j).getMillisecond(
+                            TimePeriodAnchor.MIDDLE, calendar);
+                    Number n = ts.getValue(j);
+                    if (xRange.contains(millis) && n != null) {
+                        double v = n.doubleValue();
+                        low = Double.isNaN(low) ? v : Math.min(low, v);
+                        high = Double.isNaN(high) ? v : Math.max(high, v);
+                    }
+                }
+                Range r = ts.findValueRange(xRange, TimePeriodAnchor.MIDDLE,
+                        calendar);
+                assertEquals(low, r.getLowerBound());
+                assertEquals(high, r.getUpperBound());
+            }
+        }
+    }
+
+    /**
+     * Some checks for the addAll() and addOrUpdateAll() methods.
+     */
+    @Test
+    public void testAddAll() {
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.add(new Year(2002), 2.0);
+        s1.addChangeListener(this);
+        this.gotSeriesChangeEvent = false;
+        s1.addAll(Arrays.asList(new TimeSeriesDataItem(new Year(2003), 3.0),
+                new TimeSeriesDataItem(new Year(2001), 1.0),
+                new TimeSeriesDataItem(new Year(2004), 4.0)), true);
+        assertTrue(this.gotSeriesChangeEvent);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(new Year(2001), s1.getTimePeriod(0));
+        assertEquals(new Year(2004), s1.getTimePeriod(3));
+        assertEquals(1.0, s1.getMinY(), EPSILON);
+        assertEquals(4.0, s1.getMaxY(), EPSILON);
+
+        // a duplicate leaves the series unchanged
+        try {
+            s1.addAll(Arrays.asList(new TimeSeriesDataItem(new Year(2005),
+                    5.0), new TimeSeriesDataItem(new Year(2002), 9.0)), true);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(4, s1.getItemCount());
+
+        s1.setMaximumItemCount(4);
+        s1.addOrUpdateAll(Arrays.asList(
+                new TimeSeriesDataItem(new Year(2005), 5.0),
+                new TimeSeriesDataItem(new Year(2002), 9.0)));
+        assertEquals(4, s1.getItemCount());
+        assertEquals(new Year(2002), s1.getTimePeriod(0));
+        assertEquals(9.0, s1.getValue(0).doubleValue(), EPSILON);
+        assertEquals(3.0, s1.getMinY(), EPSILON);
+        assertEquals(9.0, s1.getMaxY(), EPSILON);
+    }
+
     /**
      * Some checks for the addOrUpdate() method.
      */
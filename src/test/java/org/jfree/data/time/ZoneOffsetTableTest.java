@@ -0,0 +1,163 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2020, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ZoneOffsetTableTest.java
+ * ------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link ZoneOffsetTable} class.
+ */
+public class ZoneOffsetTableTest {
+
+    /**
+     * Returns the milliseconds for a local date-time, computed by the
+     * calendar.
+     */
+    private static long calendarMillis(Calendar calendar, int year,
+            int month, int day, int hour, int minute, int second,
+            int millisecond) {
+        calendar.clear();
+        calendar.set(year, month - 1, day, hour, minute, second);
+        calendar.set(Calendar.MILLISECOND, millisecond);
+        return calendar.getTimeInMillis();
+    }
+
+    /**
+     * Checks a local date-time against the calendar result.
+     */
+    private static void check(Calendar fast, Calendar slow, int year,
+            int month, int day, int hour, int minute, int second,
+            int millisecond) {
+        long expected = calendarMillis(slow, year, month, day, hour, minute,
+                second, millisecond);
+        long actual = ZoneOffsetTable.getMillisecond(fast, year, month, day,
+                hour, minute, second, millisecond);
+        assertEquals(expected, actual, slow.getTimeZone().getID() + " "
+                + year + "-" + month + "-" + day + " " + hour + ":" + minute
+                + ":" + second + "." + millisecond);
+    }
+
+    /**
+     * The results must match the calendar for every available time zone,
+     * including local times in the gaps and overlaps at each transition.
+     */
+    @Test
+    public void testAllZones() {
+        Random random = new Random(123L);
+        for (String id : TimeZone.getAvailableIDs()) {
+            TimeZone zone = TimeZone.getTimeZone(id);
+            Calendar fast = Calendar.getInstance(zone, Locale.UK);
+            Calendar slow = new GregorianCalendar(zone, Locale.UK);
+
+            // local times either side of each transition
+            ZoneRules rules = zone.toZoneId().getRules();
+            ZoneOffsetTransition t = rules.nextTransition(
+                    Instant.parse("1900-01-01T00:00:00Z"));
+            while (t != null && t.getInstant().isBefore(
+                    Instant.parse("2040-01-01T00:00:00Z"))) {
+                Calendar c = new GregorianCalendar(
+                        TimeZone.getTimeZone("UTC"), Locale.UK);
+                long local = t.toEpochSecond() * 1000L
+                        + t.getOffsetBefore().getTotalSeconds() * 1000L;
+                for (int m = -90; m <= 90; m += 15) {
+                    c.setTimeInMillis(local + m * 60000L);
+                    check(fast, slow, c.get(Calendar.YEAR),
+                            c.get(Calendar.MONTH) + 1,
+                            c.get(Calendar.DAY_OF_MONTH),
+                            c.get(Calendar.HOUR_OF_DAY),
+                            c.get(Calendar.MINUTE), c.get(Calendar.SECOND),
+                            999);
+                }
+                t = rules.nextTransition(t.getInstant());
+            }
+
+            // random local times, including years outside the table
+            for (int i = 0; i < 50; i++) {
+                check(fast, slow, 1800 + random.nextInt(400),
+                        1 + random.nextInt(12), 1 + random.nextInt(28),
+                        random.nextInt(24), random.nextInt(60),
+                        random.nextInt(60), random.nextInt(1000));
+            }
+        }
+    }
+
+    /**
+     * A calendar with a custom time zone is handled by the calendar.
+     */
+    @Test
+    public void testCustomZone() {
+        TimeZone zone = new SimpleTimeZone(3600000, "Europe/Paris");
+        Calendar fast = new GregorianCalendar(zone, Locale.UK);
+        Calendar slow = new GregorianCalendar(zone, Locale.UK);
+        check(fast, slow, 2021, 7, 1, 12, 0, 0, 0);
+        check(fast, slow, 2021, 1, 1, 12, 0, 0, 0);
+    }
+
+    /**
+     * Time periods give the same results as before for a daylight saving
+     * time zone.
+     */
+    @Test
+    public void testTimePeriods() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        Calendar calendar = new GregorianCalendar(zone, Locale.US);
+        Calendar slow = new GregorianCalendar(zone, Locale.US);
+        Hour h = new Hour(2, 14, 3, 2021);  // in the gap
+        assertEquals(calendarMillis(slow, 2021, 3, 14, 2, 0, 0, 0),
+                h.getFirstMillisecond(calendar));
+        h = new Hour(1, 7, 11, 2021);  // in the overlap
+        assertEquals(calendarMillis(slow, 2021, 11, 7, 1, 0, 0, 0),
+                h.getFirstMillisecond(calendar));
+        assertEquals(calendarMillis(slow, 2021, 11, 7, 1, 59, 59, 999),
+                h.getLastMillisecond(calendar));
+        Day d = new Day(7, 11, 2021);
+        assertEquals(calendarMillis(slow, 2021, 11, 7, 23, 59, 59, 999),
+                d.getLastMillisecond(calendar));
+    }
+
+}
@@ -0,0 +1,393 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates. 
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------------
+ * MultiResolutionXYDatasetTest.java
+ * ----------------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Some tests for the {@link MultiResolutionXYDataset} class.
+ */
+public class MultiResolutionXYDatasetTest {
+
+    /**
+     * Creates a series with the specified number of items (with x-values
+     * 0, 1, 2, ... and random y-values, some of which are {@code null}).
+     *
+     * @param key  the series key.
+     * @param itemCount  the item count.
+     *
+     * @return A series.
+     */
+    private static XYSeries<String> createSeries(String key, int itemCount) {
+        XYSeries<String> s = new XYSeries<>(key);
+        Random random = new Random(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            s.add(i, random.nextInt(50) == 0 ? null : random.nextGaussian());
+        }
+        return s;
+    }
+
+    /**
+     * Checks the items at each level against the first, minimum, maximum
+     * and last items of each block.
+     */
+    @Test
+    public void testLevels() {
+        XYSeries<String> s = createSeries("S1", 1000);
+        MultiResolutionXYDataset<String> d = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(s));
+        // 125 blocks of 8, 63 blocks of 16, ... 1 block of 1024
+        assertEquals(8, d.getLevelCount(0));
+        assertEquals(s.getItemCount(), d.getDataset(0).getItemCount(0));
+        for (int level = 1; level <= d.getLevelCount(0); level++) {
+            XYDataset<String> view = d.getDataset(level);
+            assertEquals(DomainOrder.ASCENDING, view.getDomainOrder());
+            int size = MultiResolutionXYDataset.getBlockSize(level);
+            int blocks = (1000 + size - 1) / size;
+            assertEquals(4 * blocks, view.getItemCount(0));
+            for (int b = 0; b < blocks; b++) {
+                int first = b * size;
+                int last = Math.min(first + size, 1000) - 1;
+                double min = Double.NaN;
+                double max = Double.NaN;
+                for (int i = first; i <= last; i++) {
+                    double y = s.getY(i) == null ? Double.NaN
+                            : s.getY(i).doubleValue();
+                    if (!(y >= min)) {
+                        min = Double.isNaN(min) || y < min ? y : min;
+                    }
+                    if (!(y <= max)) {
+                        max = Double.isNaN(max) || y > max ? y : max;
+                    }
+                }
+                assertEquals(first, view.getXValue(0, 4 * b), 0.0);
+                assertEquals(last, view.getXValue(0, 4 * b + 3), 0.0);
+                double y1 = view.getYValue(0, 4 * b + 1);
+                double y2 = view.getYValue(0, 4 * b + 2);
+                assertEquals(min, Math.min(y1, y2), 0.0);
+                assertEquals(max, Math.max(y1, y2), 0.0);
+                assertTrue(view.getXValue(0, 4 * b + 1)
+                        <= view.getXValue(0, 4 * b + 2));
+            }
+        }
+        // a level beyond the coarsest gives the coarsest
+        assertEquals(4, d.getDataset(99).getItemCount(0));
+    }
+
+    /**
+     * Checks the selection of a level for a range of x-values.
+     */
+    @Test
+    public void testGetDatasetForRange() {
+        MultiResolutionXYDataset<String> d = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 10000)));
+        // 10000 items over 100 pixels: blocks of 64 give 157 blocks
+        XYDataset<String> view = d.getDataset(new Range(0.0, 9999.0), 100);
+        assertEquals(4 * 157, view.getItemCount(0));
+
+        // 1000 items over 100 pixels: blocks of 8
+        view = d.getDataset(new Range(1000.0, 1999.0), 100);
+        assertEquals(4 * 1250, view.getItemCount(0));
+
+        // 100 items over 100 pixels: all items
+        view = d.getDataset(new Range(1000.0, 1099.0), 100);
+        assertEquals(10000, view.getItemCount(0));
+    }
+
+    /**
+     * The range bounds found from the summaries should match the bounds
+     * found by iterating over the items.
+     */
+    @Test
+    public void testGetRangeBounds() {
+        XYSeriesCollection<String> c = new XYSeriesCollection<>();
+        c.addSeries(createSeries("S1", 5000));
+        c.addSeries(createSeries("S2", 777));
+        MultiResolutionXYDataset<String> d
+                = new MultiResolutionXYDataset<>(c);
+        assertEquals(DatasetUtils.iterateRangeBounds(c, false),
+                d.getRangeBounds(false));
+        assertEquals(DatasetUtils.iterateDomainBounds(c, false),
+                d.getDomainBounds(false));
+        Random random = new Random(1L);
+        List<String> keys = Arrays.asList("S1", "S2");
+        for (int i = 0; i < 200; i++) {
+            double x0 = random.nextDouble() * 5200.0 - 100.0;
+            double x1 = x0 + random.nextDouble() * 3000.0;
+            Range xRange = new Range(x0, x1);
+            assertEquals(DatasetUtils.iterateToFindRangeBounds(c, keys,
+                    xRange, false), d.getRangeBounds(keys, xRange, false));
+        }
+    }
+
+    /**
+     * A series with x-values that are not in ascending order has no
+     * summaries, but the bounds are still correct.
+     */
+    @Test
+    public void testUnsortedSeries() {
+        XYSeries<String> s = new XYSeries<>("S1", false);
+        for (int i = 0; i < 100; i++) {
+            s.add(i % 10 * 10 + i / 10, i);
+        }
+        XYSeriesCollection<String> c = new XYSeriesCollection<>(s);
+        MultiResolutionXYDataset<String> d
+                = new MultiResolutionXYDataset<>(c);
+        assertEquals(0, d.getLevelCount(0));
+        assertEquals(100, d.getDataset(new Range(0, 100), 2).getItemCount(0));
+        Range xRange = new Range(5.0, 20.0);
+        List<String> keys = Arrays.asList("S1");
+        assertEquals(DatasetUtils.iterateToFindRangeBounds(c, keys, xRange,
+                false), d.getRangeBounds(keys, xRange, false));
+    }
+
+    /**
+     * A change to the underlying dataset is passed on to listeners and the
+     * summaries are rebuilt.
+     */
+    @Test
+    public void testUnderlyingChange() {
+        XYSeries<String> s = createSeries("S1", 100);
+        MultiResolutionXYDataset<String> d = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(s));
+        assertEquals(5, d.getLevelCount(0));
+        boolean[] notified = new boolean[1];
+        d.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                notified[0] = true;
+            }
+        });
+        for (int i = 100; i < 200; i++) {
+            s.add(i, 1000.0);
+        }
+        assertTrue(notified[0]);
+        assertEquals(6, d.getLevelCount(0));
+        assertEquals(1000.0, d.getRangeUpperBound(false), 0.0);
+        assertEquals(1000.0, d.getDataset(new Range(0, 200), 10)
+                .getYValue(0, 30), 0.0);
+    }
+
+    /**
+     * Checks that two datasets have the same items at every level.
+     *
+     * @param expected  the expected dataset.
+     * @param actual  the actual dataset.
+     */
+    private static void assertSameLevels(
+            MultiResolutionXYDataset<String> expected,
+            MultiResolutionXYDataset<String> actual) {
+        assertEquals(expected.getLevelCount(0), actual.getLevelCount(0));
+        for (int level = 0; level <= expected.getLevelCount(0); level++) {
+            XYDataset<String> v1 = expected.getDataset(level);
+            XYDataset<String> v2 = actual.getDataset(level);
+            assertEquals(v1.getItemCount(0), v2.getItemCount(0));
+            for (int item = 0; item < v1.getItemCount(0); item++) {
+                assertEquals(v1.getXValue(0, item), v2.getXValue(0, item),
+                        0.0, "Level " + level + ", item " + item);
+            }
+        }
+        assertEquals(expected.getRangeBounds(false),
+                actual.getRangeBounds(false));
+        assertEquals(expected.getDomainBounds(false),
+                actual.getDomainBounds(false));
+    }
+
+    /**
+     * Appending items to a series extends the summaries, which match the
+     * summaries built from scratch, without reading all the items again.
+     */
+    @Test
+    public void testAppend() {
+        XYSeries<String> source = createSeries("S1", 3000);
+        XYSeries<String> s = new XYSeries<>("S1");
+        int[] reads = new int[1];
+        XYSeriesCollection<String> c = new XYSeriesCollection<String>(s) {
+            @Override
+            public double getYValue(int series, int item) {
+                reads[0]++;
+                return super.getYValue(series, item);
+            }
+        };
+        MultiResolutionXYDataset<String> d
+                = new MultiResolutionXYDataset<>(c);
+        int item = 0;
+        for (int count : new int[] {1, 7, 9, 16, 100, 1023, 1025, 3000}) {
+            while (item < count) {
+                s.add(source.getDataItem(item));
+                item++;
+            }
+            assertSameLevels(new MultiResolutionXYDataset<>(
+                    new XYSeriesCollection<>(s)), d);
+        }
+
+        // appending one item reads only a few items
+        reads[0] = 0;
+        s.add(3000.0, 1.0);
+        d.getRangeBounds(false);
+        d.getDataset(5);
+        assertTrue(reads[0] < 50, reads[0] + " reads");
+        assertSameLevels(new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(s)), d);
+
+        // other changes rebuild the summaries
+        s.remove(10);
+        s.updateByIndex(100, 99.0);
+        assertSameLevels(new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(s)), d);
+    }
+
+    /**
+     * An append that puts the x-values out of order leaves the series 
+     * without summaries.
+     */
+    @Test
+    public void testAppendUnsorted() {
+        XYSeries<String> s = new XYSeries<>("S1", false);
+        for (int i = 0; i < 100; i++) {
+            s.add(i, i);
+        }
+        MultiResolutionXYDataset<String> d = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(s));
+        assertEquals(5, d.getLevelCount(0));
+        s.add(50.5, 500.0);
+        assertEquals(0, d.getLevelCount(0));
+        assertEquals(new Range(0.0, 500.0), d.getRangeBounds(false));
+        s.add(200.0, -1.0);
+        assertEquals(0, d.getLevelCount(0));
+        assertEquals(new Range(-1.0, 500.0), d.getRangeBounds(false));
+        assertEquals(102, d.getDataset(new Range(0, 200), 2).getItemCount(0));
+    }
+
+    /**
+     * A view belongs to the dataset that created it.
+     */
+    @Test
+    public void testIsView() {
+        MultiResolutionXYDataset<String> d1 = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 1000)));
+        MultiResolutionXYDataset<String> d2 = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 1000)));
+        assertTrue(d1.isView(d1.getDataset(2)));
+        assertTrue(d1.isView(d1.getDataset(new Range(0, 999), 10)));
+        assertFalse(d1.isView(d2.getDataset(2)));
+        assertFalse(d1.isView(d1));
+        assertFalse(d1.isView(null));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        MultiResolutionXYDataset<String> d1 = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 100)));
+        MultiResolutionXYDataset<String> d2 = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 100)));
+        assertTrue(d1.equals(d2));
+        assertTrue(d2.equals(d1));
+        assertEquals(d1.hashCode(), d2.hashCode());
+        ((XYSeriesCollection<String>) d1.getUnderlyingDataset()).getSeries(0)
+                .add(100.0, 1.0);
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws java.lang.CloneNotSupportedException
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        MultiResolutionXYDataset<String> d1 = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 100)));
+        d1.getLevelCount(0);
+        MultiResolutionXYDataset<String> d2 = CloneUtils.clone(d1);
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        ((XYSeriesCollection<String>) d1.getUnderlyingDataset()).getSeries(0)
+                .add(100.0, 1.0);
+        assertFalse(d1.equals(d2));
+        assertEquals(5, d2.getLevelCount(0));
+        ((XYSeriesCollection<String>) d2.getUnderlyingDataset()).getSeries(0)
+                .add(100.0, 1.0);
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Verify that this class implements {@link PublicCloneable}.
+     */
+    @Test
+    public void testPublicCloneable() {
+        MultiResolutionXYDataset<String> d = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<String>());
+        assertTrue(d instanceof PublicCloneable);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MultiResolutionXYDataset<String> d1 = new MultiResolutionXYDataset<>(
+                new XYSeriesCollection<>(createSeries("S1", 100)));
+        d1.getLevelCount(0);
+        MultiResolutionXYDataset<String> d2 = TestUtils.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(5, d2.getLevelCount(0));
+    }
+
+}
@@ -0,0 +1,403 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2021, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * PrimitiveXYSeriesTest.java
+ * --------------------------
+ * (C) Copyright 2026, by agent and Contributors.
+ *
+ * Original Author:  agent;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link PrimitiveXYSeries} class.
+ */
+public class PrimitiveXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * The series should be equal to a standard series with the same data.
+     */
+    @Test
+    public void testEquals() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        XYSeries<String> s2 = new XYSeries<>("Series");
+        s2.add(1.0, 1.1);
+        s2.add(2.0, null);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+
+        s1.add(3.0, 3.3);
+        assertFalse(s1.equals(s2));
+        s2.add(3.0, 3.3);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        PrimitiveXYSeries<String> s2 = CloneUtils.clone(s1);
+        assertTrue(s1 != s2);
+        assertTrue(s1.getClass() == s2.getClass());
+        assertTrue(s1.equals(s2));
+
+        // check independence
+        s2.add(4.0, 300.0);
+        assertFalse(s1.equals(s2));
+        s1.add(4.0, 300.0);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        PrimitiveXYSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items are inserted in order, after any existing duplicates.
+     */
+    @Test
+    public void testAddSorted() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        for (int i = 0; i < 100; i++) {
+            s1.add(99 - i, i);
+        }
+        s1.add(50.0, -1.0);
+        assertEquals(101, s1.getItemCount());
+        for (int i = 1; i < s1.getItemCount(); i++) {
+            assertTrue(s1.getXValue(i - 1) <= s1.getXValue(i));
+        }
+        assertEquals(50.0, s1.getXValue(51), EPSILON);
+        assertEquals(-1.0, s1.getYValue(51), EPSILON);
+        assertEquals(-1.0, s1.getMinY(), EPSILON);
+        assertEquals(99.0, s1.getMaxY(), EPSILON);
+        assertEquals(0.0, s1.getMinX(), EPSILON);
+        assertEquals(99.0, s1.getMaxX(), EPSILON);
+    }
+
+    /**
+     * Duplicates are rejected when the series is configured that way.
+     */
+    @Test
+    public void testAddDuplicate() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1", true,
+                false);
+        s1.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s1.add(1.0, 2.0));
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("S2", false,
+                false);
+        s2.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s2.add(1.0, 2.0));
+    }
+
+    /**
+     * Some checks for the indexOf() method.
+     */
+    @Test
+    public void testIndexOf() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(3.0, 3.0);
+        assertEquals(0, s1.indexOf(1.0));
+        assertEquals(2, s1.indexOf(3.0));
+        assertEquals(-4, s1.indexOf(99.9));
+
+        PrimitiveXYSeries<String> s2 = new PrimitiveXYSeries<>("S2", false);
+        s2.add(1.0, 1.0);
+        s2.add(3.0, 3.0);
+        s2.add(2.0, 2.0);
+        assertEquals(1, s2.indexOf(3.0));
+        assertEquals(2, s2.indexOf(2.0));
+    }
+
+    /**
+     * Null y-values are reported as {@code null} and {@code Double.NaN}.
+     */
+    @Test
+    public void testNullY() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, null);
+        assertNull(s1.getY(0));
+        assertTrue(Double.isNaN(s1.getYValue(0)));
+        assertTrue(Double.isNaN(s1.getMinY()));
+        s1.updateByIndex(0, 5.0);
+        assertEquals(5.0, s1.getMinY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the remove(), delete() and addOrUpdate() methods.
+     */
+    @Test
+    public void testRemoveAndUpdate() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1", true,
+                false);
+        for (int i = 1; i <= 6; i++) {
+            s1.add(i, i * 1.1);
+        }
+        XYDataItem removed = s1.remove(5);
+        assertEquals(6.0, removed.getXValue(), EPSILON);
+        assertEquals(5.0, s1.getMaxX(), EPSILON);
+        assertEquals(5.5, s1.getMaxY(), EPSILON);
+
+        s1.delete(0, 1);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(3.0, s1.getMinX(), EPSILON);
+        assertEquals(3.3, s1.getMinY(), EPSILON);
+
+        XYDataItem old = s1.addOrUpdate(4.0, 40.0);
+        assertEquals(4.4, old.getYValue(), EPSILON);
+        assertEquals(40.0, s1.getMaxY(), EPSILON);
+        assertNull(s1.addOrUpdate(3.5, 1.0));
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1, s1.indexOf(3.5));
+    }
+
+    /**
+     * The maximum item count is respected.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, 10 - i);
+        }
+        s1.setMaximumItemCount(4);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(6.0, s1.getMinX(), EPSILON);
+        assertEquals(4.0, s1.getMaxY(), EPSILON);
+        s1.add(10.0, 0.0);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(7.0, s1.getXValue(0), EPSILON);
+        assertEquals(3.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * A long run of appends to a series with a maximum item count keeps the
+     * most recent items in order.
+     */
+    @Test
+    public void testRollingWindow() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.setMaximumItemCount(100);
+        for (int i = 0; i < 10000; i++) {
+            s1.add(i, -i);
+        }
+        assertEquals(100, s1.getItemCount());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(9900.0 + i, s1.getXValue(i), EPSILON);
+        }
+        assertEquals(9900.0, s1.getMinX(), EPSILON);
+        assertEquals(-9900.0, s1.getMaxY(), EPSILON);
+        assertEquals(50, s1.indexOf(9950.0));
+        assertEquals(-1, s1.indexOf(9000.0));
+        s1.add(9950.5, 1.0);
+        assertEquals(100, s1.getItemCount());
+        assertEquals(9901.0, s1.getXValue(0), EPSILON);
+        assertEquals(9950.5, s1.getXValue(50), EPSILON);
+        assertEquals(9951.0, s1.getXValue(51), EPSILON);
+    }
+
+    /**
+     * Check the cached bounds of a rolling window against a brute force
+     * calculation, for a mix of appends, updates and evictions.
+     */
+    @Test
+    public void testRollingWindowBounds() {
+        Random random = new Random(789L);
+        PrimitiveXYSeries<String> sorted = new PrimitiveXYSeries<>("S1");
+        PrimitiveXYSeries<String> unsorted = new PrimitiveXYSeries<>("S2",
+                false);
+        sorted.setMaximumItemCount(20);
+        unsorted.setMaximumItemCount(20);
+        for (int i = 0; i < 2000; i++) {
+            double y = random.nextInt(8) == 0 ? Double.NaN
+                    : random.nextInt(100);
+            sorted.add(i, y);
+            unsorted.add(random.nextInt(1000), y);
+            if (random.nextInt(20) == 0) {
+                sorted.updateByIndex(random.nextInt(
+                        sorted.getItemCount()), random.nextInt(100));
+                sorted.add(i - 10.5, 1.0);
+            }
+            if (random.nextInt(50) == 0) {
+                sorted.addAll(new double[] {i + 0.2, i + 0.4, i + 0.6},
+                        new double[] {random.nextInt(100), -1.0, 200.0});
+            }
+            XYSeriesTest.checkBounds(sorted);
+            XYSeriesTest.checkBounds(unsorted);
+        }
+    }
+
+    /**
+     * The findValueRange() method gives the same result as a brute force
+     * calculation, including for a rolling window.
+     */
+    @Test
+    public void testFindValueRange() {
+        Random random = new Random(654L);
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.setMaximumItemCount(300);
+        assertNull(s1.findValueRange(new Range(0.0, 1.0)));
+        for (int i = 0; i < 1000; i++) {
+            s1.add(i / 10.0, random.nextInt(8) == 0 ? Double.NaN
+                    : random.nextInt(100));
+            if (i % 50 == 0) {
+                s1.updateByIndex(random.nextInt(s1.getItemCount()), -i);
+            }
+            for (int q = 0; q < 5; q++) {
+                double x0 = random.nextInt(1100) / 10.0 - 5.0;
+                Range xRange = new Range(x0, x0 + random.nextInt(300) / 10.0);
+                XYSeriesTest.assertRangeEquals(XYSeriesTest
+                        .findValueRangeByIteration(s1, xRange),
+                        s1.findValueRange(xRange));
+            }
+        }
+    }
+
+    /**
+     * An item added with notification sends the details of the change, as
+     * for an {@link XYSeries}.
+     */
+    @Test
+    public void testChangeInfo() {
+        PrimitiveXYSeries<String> s = new PrimitiveXYSeries<>("S1");
+        s.setMaximumItemCount(2);
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        s.addChangeListener(e -> last[0] = e);
+        s.add(1.0, 10.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                0, 0, new Range(1.0, 1.0), new Range(10.0, 10.0), null, null),
+                last[0].getInfo());
+        s.add(3.0, 30.0);
+        s.add(2.0, 20.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                0, 0, new Range(2.0, 2.0), new Range(20.0, 20.0), 
+                new Range(1.0, 1.0), new Range(10.0, 10.0)),
+                last[0].getInfo());
+
+        // an item that is dropped as soon as it is added
+        s.add(0.5, 5.0);
+        assertNull(last[0].getInfo());
+
+        // a change without notification
+        s.add(4.0, 40.0, false);
+        s.add(5.0, 50.0);
+        assertNull(last[0].getInfo());
+    }
+
+    /**
+     * Bulk additions give the same result as the standard series.
+     */
+    @Test
+    public void testAddAll() {
+        double[] x = new double[] {5.0, 1.0, 4.0, 3.0, 4.0};
+        double[] y = new double[] {50.0, 10.0, 41.0, 30.0, 42.0};
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        XYSeries<String> s2 = new XYSeries<>("S1");
+        s1.add(2.0, 20.0);
+        s1.add(4.0, 40.0);
+        s2.add(2.0, 20.0);
+        s2.add(4.0, 40.0);
+        s1.addAll(x, y);
+        s2.addAll(x, y);
+        assertEquals(s2, s1);
+        assertEquals(50.0, s1.getMaxY(), EPSILON);
+
+        s1.addAll(new double[] {6.0, 7.0}, new double[] {-1.0, 1.0});
+        assertEquals(9, s1.getItemCount());
+        assertEquals(-1.0, s1.getMinY(), EPSILON);
+        assertEquals(7.0, s1.getMaxX(), EPSILON);
+
+        PrimitiveXYSeries<String> s3 = new PrimitiveXYSeries<>("S3", true,
+                false);
+        s3.add(1.0, 1.0);
+        s3.add(3.0, 3.0);
+        assertThrows(SeriesException.class, () -> s3.addAll(
+                new double[] {2.0, 3.0}, new double[] {2.0, 3.0}));
+        assertEquals(2, s3.getItemCount());
+        s3.addOrUpdateAll(new double[] {3.0, 2.0}, new double[] {-3.0, 2.0});
+        assertEquals(3, s3.getItemCount());
+        assertEquals(-3.0, s3.getYValue(2), EPSILON);
+        assertEquals(-3.0, s3.getMinY(), EPSILON);
+        assertEquals(2.0, s3.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The series can be used in an {@link XYSeriesCollection}.
+     */
+    @Test
+    public void testCollection() {
+        PrimitiveXYSeries<String> s1 = new PrimitiveXYSeries<>("S1");
+        s1.add(1.0, 2.0);
+        s1.add(3.0, 4.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(3.0, dataset.getXValue(0, 1), EPSILON);
+        assertEquals(4.0, dataset.getYValue(0, 1), EPSILON);
+        assertEquals(4.0, dataset.getRangeUpperBound(false), EPSILON);
+        assertEquals(1.0, dataset.getDomainLowerBound(false), EPSILON);
+    }
+
+}
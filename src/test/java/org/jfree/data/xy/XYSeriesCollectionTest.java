@@ -36,6 +36,9 @@
 
 package org.jfree.data.xy;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -49,6 +52,10 @@ import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
+import org.jfree.data.general.DatasetUtils;
 
 import org.junit.jupiter.api.Test;
 
@@ -495,6 +502,31 @@ public class XYSeriesCollectionTest {
         assertEquals(6.0, r.getUpperBound(), EPSILON);
     }
  
+    /**
+     * Some checks for the getRangeBounds() method that takes an x-range.
+     */
+    @Test
+    public void testGetRangeBoundsForXRange() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 20.0);
+        s1.add(3.0, 30.0);
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        s2.add(2.5, 5.0);
+        s2.add(9.0, 90.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        List<String> keys = Arrays.asList("S1", "S2");
+        assertEquals(new Range(5.0, 30.0), dataset.getRangeBounds(keys,
+                new Range(1.5, 3.0), false));
+        assertEquals(new Range(10.0, 10.0), dataset.getRangeBounds(
+                Arrays.asList("S1"), new Range(0.0, 1.0), false));
+        assertNull(dataset.getRangeBounds(keys, new Range(4.0, 8.0), false));
+        assertEquals(new Range(20.0, 20.0), DatasetUtils.findRangeBounds(
+                dataset, Arrays.asList("S1"), new Range(1.5, 2.5), false));
+    }
+
     /**
      * Test that a series belonging to a collection can be renamed (in fact, 
      * because of a bug this was not possible in JFreeChart 1.0.14).
@@ -522,4 +554,25 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * A change to a series that carries details of the change is passed on
+     * with the series index filled in.
+     */
+    @Test
+    public void testSeriesChangeInfo() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        XYSeriesCollection<String> c = new XYSeriesCollection<>();
+        c.addSeries(s1);
+        c.addSeries(s2);
+        DatasetChangeEvent[] last = new DatasetChangeEvent[1];
+        c.addChangeListener(e -> last[0] = e);
+        s2.add(1.0, 2.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, 1,
+                0, 0, new Range(1.0, 1.0), new Range(2.0, 2.0), null, null),
+                last[0].getInfo());
+        s2.clear();
+        assertNull(last[0].getInfo());
+    }
 }
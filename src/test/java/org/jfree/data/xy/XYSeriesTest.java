@@ -36,12 +36,22 @@
 
 package org.jfree.data.xy;
 
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetChangeInfo;
+import org.jfree.data.general.DatasetChangeType;
 
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
 import org.jfree.data.general.SeriesException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -457,6 +467,217 @@ public class XYSeriesTest {
         assertEquals(3.3, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * A series with a maximum item count behaves as a rolling window.
+     */
+    @Test
+    public void testRollingWindow() throws CloneNotSupportedException {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.setMaximumItemCount(10);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, i);
+        }
+        assertEquals(10, s1.getItemCount());
+        assertEquals(90.0, s1.getX(0).doubleValue(), EPSILON);
+        assertEquals(99.0, s1.getX(9).doubleValue(), EPSILON);
+        assertEquals(90.0, s1.getMinY(), EPSILON);
+
+        XYSeries<String> s2 = CloneUtils.clone(s1);
+        assertEquals(s1, s2);
+        s2.add(100.0, 100.0);
+        assertEquals(91.0, s2.getX(0).doubleValue(), EPSILON);
+        assertEquals(90.0, s1.getX(0).doubleValue(), EPSILON);
+    }
+
+    /**
+     * Check the cached bounds of a rolling window against a brute force
+     * calculation, for a mix of appends, updates and evictions.
+     */
+    @Test
+    public void testRollingWindowBounds() {
+        Random random = new Random(789L);
+        XYSeries<String> sorted = new XYSeries<>("S1");
+        XYSeries<String> unsorted = new XYSeries<>("S2", false);
+        sorted.setMaximumItemCount(20);
+        unsorted.setMaximumItemCount(20);
+        for (int i = 0; i < 2000; i++) {
+            double y = random.nextInt(8) == 0 ? Double.NaN
+                    : random.nextInt(100);
+            sorted.add(i, y);
+            unsorted.add(random.nextInt(1000), y);
+            if (random.nextInt(20) == 0) {
+                sorted.updateByIndex(random.nextInt(
+                        sorted.getItemCount()), random.nextInt(100));
+                sorted.add(i - 10.5, 1.0);
+            }
+            if (random.nextInt(50) == 0) {
+                sorted.addAll(new double[] {i + 0.2, i + 0.4, i + 0.6},
+                        new double[] {random.nextInt(100), -1.0, 200.0});
+            }
+            checkBounds(sorted);
+            checkBounds(unsorted);
+        }
+    }
+
+    /**
+     * Checks the cached bounds for a series against the data items.
+     *
+     * @param s  the series.
+     */
+    static void checkBounds(XYSeries<?> s) {
+        double minX = Double.NaN;
+        double maxX = Double.NaN;
+        double minY = Double.NaN;
+        double maxY = Double.NaN;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            double x = s.getXValue(i);
+            double y = s.getYValue(i);
+            minX = Double.isNaN(minX) ? x : Math.min(minX, x);
+            maxX = Double.isNaN(maxX) ? x : Math.max(maxX, x);
+            if (!Double.isNaN(y)) {
+                minY = Double.isNaN(minY) ? y : Math.min(minY, y);
+                maxY = Double.isNaN(maxY) ? y : Math.max(maxY, y);
+            }
+        }
+        assertEquals(minX, s.getMinX());
+        assertEquals(maxX, s.getMaxX());
+        assertEquals(minY, s.getMinY());
+        assertEquals(maxY, s.getMaxY());
+    }
+
+    /**
+     * Some checks for the findValueRange() method, comparing the result
+     * against a brute force calculation as the series changes.
+     */
+    @Test
+    public void testFindValueRange() {
+        Random random = new Random(654L);
+        XYSeries<String> sorted = new XYSeries<>("S1");
+        XYSeries<String> unsorted = new XYSeries<>("S2", false);
+        assertNull(sorted.findValueRange(new Range(0.0, 1.0)));
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextInt(1000) / 10.0;
+            Double y = random.nextInt(10) == 0 ? null
+                    : Double.valueOf(random.nextInt(100));
+            sorted.add(x, y);
+            unsorted.add(x, y);
+            if (i % 25 == 0) {
+                sorted.updateByIndex(random.nextInt(i + 1), -i);
+                unsorted.updateByIndex(random.nextInt(i + 1), -i);
+            }
+            for (int q = 0; q < 5; q++) {
+                double x0 = random.nextInt(1100) / 10.0 - 5.0;
+                Range xRange = new Range(x0, x0 + random.nextInt(300) / 10.0);
+                assertRangeEquals(findValueRangeByIteration(sorted, xRange),
+                        sorted.findValueRange(xRange));
+                assertRangeEquals(findValueRangeByIteration(unsorted, xRange),
+                        unsorted.findValueRange(xRange));
+            }
+        }
+    }
+
+    /**
+     * Finds the range of y-values for an x-range by iterating over all the
+     * items in a series.
+     *
+     * @param s  the series.
+     * @param xRange  the x-range.
+     *
+     * @return The range of y-values.
+     */
+    static Range findValueRangeByIteration(XYSeries<?> s, Range xRange) {
+        double low = Double.NaN;
+        double high = Double.NaN;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            double y = s.getYValue(i);
+            if (xRange.contains(s.getXValue(i)) && !Double.isNaN(y)) {
+                low = Double.isNaN(low) ? y : Math.min(low, y);
+                high = Double.isNaN(high) ? y : Math.max(high, y);
+            }
+        }
+        return new Range(low, high);
+    }
+
+    /**
+     * Checks that two ranges have the same bounds (treating
+     * {@code Double.NaN} bounds as equal, unlike {@link Range#equals}).
+     *
+     * @param expected  the expected range.
+     * @param actual  the actual range.
+     */
+    static void assertRangeEquals(Range expected, Range actual) {
+        assertEquals(expected.getLowerBound(), actual.getLowerBound());
+        assertEquals(expected.getUpperBound(), actual.getUpperBound());
+    }
+
+    /**
+     * Some checks for the addAll() method.
+     */
+    @Test
+    public void testAddAll() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(2.0, 20.0);
+        s1.add(4.0, 40.0);
+        SeriesChangeCounter counter = new SeriesChangeCounter();
+        s1.addChangeListener(counter);
+        s1.addAll(new double[] {5.0, 1.0, 4.0, 3.0},
+                new double[] {50.0, 10.0, 41.0, 30.0});
+        assertEquals(1, counter.count);
+        assertEquals(6, s1.getItemCount());
+        double[][] expected = new double[][] {{1.0, 2.0, 3.0, 4.0, 4.0, 5.0},
+                {10.0, 20.0, 30.0, 40.0, 41.0, 50.0}};
+        double[][] actual = s1.toArray();
+        assertArrayEquals(expected[0], actual[0], EPSILON);
+        assertArrayEquals(expected[1], actual[1], EPSILON);
+        assertEquals(1.0, s1.getMinX(), EPSILON);
+        assertEquals(50.0, s1.getMaxY(), EPSILON);
+
+        // a series without duplicates is unchanged by a failed batch
+        XYSeries<String> s2 = new XYSeries<>("S2", true, false);
+        s2.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s2.addAll(
+                new double[] {2.0, 1.0}, new double[] {2.0, 3.0}));
+        assertEquals(1, s2.getItemCount());
+    }
+
+    /**
+     * Some checks for the addOrUpdateAll() method.
+     */
+    @Test
+    public void testAddOrUpdateAll() {
+        XYSeries<String> s1 = new XYSeries<>("S1", true, false);
+        s1.add(1.0, 100.0);
+        s1.add(3.0, 300.0);
+        s1.addOrUpdateAll(new double[] {3.0, 2.0, 2.0},
+                new double[] {3.0, 2.0, 2.5});
+        assertEquals(3, s1.getItemCount());
+        assertEquals(2.5, s1.getY(1).doubleValue(), EPSILON);
+        assertEquals(3.0, s1.getY(2).doubleValue(), EPSILON);
+        assertEquals(100.0, s1.getMaxY(), EPSILON);
+        assertEquals(2.5, s1.getMinY(), EPSILON);
+
+        XYSeries<String> s2 = new XYSeries<>("S2", false, false);
+        s2.add(3.0, 300.0);
+        s2.add(1.0, 100.0);
+        s2.addOrUpdateAll(new double[] {1.0, 2.0}, new double[] {1.0, 2.0});
+        assertEquals(3, s2.getItemCount());
+        assertEquals(1.0, s2.getY(1).doubleValue(), EPSILON);
+        assertEquals(2.0, s2.getX(2).doubleValue(), EPSILON);
+        assertEquals(300.0, s2.getMaxY(), EPSILON);
+    }
+
+    /**
+     * A listener that counts change events.
+     */
+    static class SeriesChangeCounter implements SeriesChangeListener {
+        int count;
+
+        @Override
+        public void seriesChanged(SeriesChangeEvent event) {
+            this.count++;
+        }
+    }
+
     /**
      * Some checks for the toArray() method.
      */
@@ -800,4 +1021,85 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * Check the details of the change carried by the events from the add(),
+     * updateByIndex() and remove() methods.
+     */
+    @Test
+    public void testChangeInfo() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        s.setMaximumItemCount(3);
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        s.addChangeListener(e -> last[0] = e);
+        s.add(1.0, 10.0);
+        s.add(3.0, 30.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                1, 1, new Range(3.0, 3.0), new Range(30.0, 30.0), null, null),
+                last[0].getInfo());
+
+        // an insertion
+        s.add(2.0, null);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                1, 1, new Range(2.0, 2.0), null, null, null),
+                last[0].getInfo());
+
+        // an append that drops the first item
+        s.add(4.0, 40.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                2, 2, new Range(4.0, 4.0), new Range(40.0, 40.0),
+                new Range(1.0, 1.0), new Range(10.0, 10.0)),
+                last[0].getInfo());
+
+        // an item that is dropped as soon as it is added
+        s.add(0.5, 5.0);
+        assertNull(last[0].getInfo());
+        assertEquals(3, s.getItemCount());
+
+        s.updateByIndex(1, 35.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEM_UPDATED, -1,
+                1, 1, new Range(3.0, 3.0), new Range(35.0, 35.0), null,
+                new Range(30.0, 30.0)), last[0].getInfo());
+
+        s.remove(0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_REMOVED, -1,
+                0, 0, null, null, new Range(2.0, 2.0), null),
+                last[0].getInfo());
+
+        s.clear();
+        assertNull(last[0].getInfo());
+    }
+
+    /**
+     * After a change that is not notified, the next event carries no 
+     * details, since they would only describe part of the change.
+     */
+    @Test
+    public void testChangeInfoAfterUnnotifiedChange() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        s.addChangeListener(e -> last[0] = e);
+        s.add(1.0, 1.0);
+        s.add(2.0, 2.0, false);
+        s.add(3.0, 3.0);
+        assertNull(last[0].getInfo());
+        s.add(4.0, 4.0);
+        assertEquals(new DatasetChangeInfo(DatasetChangeType.ITEMS_ADDED, -1,
+                3, 3, new Range(4.0, 4.0), new Range(4.0, 4.0), null, null),
+                last[0].getInfo());
+
+        s.addAll(new double[] {5.0}, new double[] {5.0}, false);
+        s.remove(0);
+        assertNull(last[0].getInfo());
+
+        // changes made while the notify flag is off
+        s.setNotify(false);
+        s.add(6.0, 6.0);
+        last[0] = null;
+        s.setNotify(true);
+        assertNull(last[0].getInfo());
+        s.updateByIndex(0, 20.0);
+        assertEquals(DatasetChangeType.ITEM_UPDATED, 
+                last[0].getInfo().getType());
+    }
 }